@@ -5,29 +5,38 @@ import inter.sdk.billing.BillingSdk;
 import inter.sdk.commons.enums.EnvironmentEnum;
 import inter.sdk.commons.exceptions.SdkException;
 import inter.sdk.commons.models.Config;
+import inter.sdk.commons.models.ConnectionPoolConfig;
+import inter.sdk.commons.models.RateLimit;
+import inter.sdk.commons.models.RetryPolicy;
+import inter.sdk.commons.utils.HttpClientManager;
 import inter.sdk.commons.utils.SslUtils;
+import inter.sdk.commons.utils.TokenUtils;
 import inter.sdk.pix.PixSdk;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.Closeable;
 import java.io.File;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static inter.sdk.commons.structures.Constants.DAYS_TO_EXPIRE;
 
 
 @Slf4j
-public class InterSdk {
+public class InterSdk implements Closeable {
     @Getter
     private final Config config;
     private BankingSdk bankingSdk;
     private PixSdk pixSdk;
     private BillingSdk billingSdk;
     private final List<String> warnings;
+    private boolean closed;
     public static final String VERSION = "inter-sdk-java v1.0.2";
 
     /**
@@ -60,6 +69,29 @@ public class InterSdk {
         if (notAfter != null) {
             warnings.add(String.format("Certificate nearing expiration. Less than %d days left. Expires on %s.", DAYS_TO_EXPIRE, notAfter));
         }
+        HttpClientManager.register(config);
+    }
+
+    /**
+     * SDK for accessing Inter's PJ APIs, using a single token for all the given scopes.
+     * The token is requested during construction, so the first calls do not wait for it.
+     * @param clientId          application identifier
+     * @param clientSecret      application secret
+     * @param certificate       certificate file, e.g., certs/inter.pfx
+     * @param certificatePassword  certificate password
+     * @param scopes            scopes covered by the token, e.g., Constants.PIX_READ_SCOPE, Constants.READ_BALANCE_SCOPE
+     */
+    public InterSdk(String environment, String clientId, String clientSecret, String certificate, String certificatePassword,
+                    List<String> scopes) throws SdkException {
+        this(environment, clientId, clientSecret, certificate, certificatePassword);
+        config.setScopes(scopes);
+        try {
+            TokenUtils.preload(config);
+        } catch (SdkException | RuntimeException e) {
+            // the caller never gets the instance to close
+            close();
+            throw e;
+        }
     }
 
     /**
@@ -118,6 +150,55 @@ public class InterSdk {
         config.setRateLimitControl(control);
     }
 
+    /**
+     * Configures how failed calls are retried: number of attempts, backoff and which errors are retried.
+     * @param retryPolicy retry policy
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        config.setRetryPolicy(retryPolicy);
+    }
+
+    /**
+     * Paces the calls to a family of endpoints, so bulk jobs never exceed its quota.
+     * The limit is shared by all threads using this SDK.
+     * @param urlFamily endpoint family, e.g., Constants.URL_BANKING_PAYMENT_PIX
+     * @param rateLimit calls per second and burst, or null to remove the limit
+     */
+    public void setRateLimit(String urlFamily, RateLimit rateLimit) {
+        Map<String, RateLimit> rateLimits = new ConcurrentHashMap<>();
+        if (config.getRateLimits() != null) {
+            rateLimits.putAll(config.getRateLimits());
+        }
+        if (rateLimit != null) {
+            rateLimits.put(urlFamily, rateLimit);
+        } else {
+            rateLimits.remove(urlFamily);
+        }
+        config.setRateLimits(rateLimits);
+    }
+
+    /**
+     * Configures the pooled HTTP transport used by this SDK.
+     * The next call uses a pool with the new settings, shared with the SDKs using the same certificate,
+     * environment and settings; the previous pool is closed once no SDK uses it.
+     * @param connectionPool pool settings: max connections per route and total, keep-alive and idle eviction
+     */
+    public synchronized void setConnectionPool(ConnectionPoolConfig connectionPool) {
+        if (closed) {
+            config.setConnectionPool(connectionPool);
+            return;
+        }
+        HttpClientManager.reconfigure(config, connectionPool);
+    }
+
+    /**
+     * Configures how long before expiration the access tokens in use are refreshed in background.
+     * @param seconds refresh margin in seconds - default=300
+     */
+    public void setTokenRefreshMargin(int seconds) {
+        config.setTokenRefreshMargin(seconds);
+    }
+
     /**
      * Selects the current account.
      * Necessary only if the application is configured with multiple accounts.
@@ -134,4 +215,16 @@ public class InterSdk {
     public String getAccount() {
         return config.getAccount();
     }
+
+    /**
+     * Releases the pooled HTTP transport of this SDK.
+     * The connections are closed once every SDK sharing the same certificate, environment and pool settings is closed.
+     */
+    @Override
+    public synchronized void close() {
+        if (!closed) {
+            closed = true;
+            HttpClientManager.release(config);
+        }
+    }
 }
@@ -0,0 +1,402 @@
+package inter.sdk.banking;
+
+import inter.sdk.banking.balance.BalanceClient;
+import inter.sdk.banking.bankstatement.BankStatementClient;
+import inter.sdk.banking.models.Balance;
+import inter.sdk.banking.models.BankStatement;
+import inter.sdk.banking.models.BatchItem;
+import inter.sdk.banking.models.BatchProcessing;
+import inter.sdk.banking.models.BilletPayment;
+import inter.sdk.banking.models.CallbackPage;
+import inter.sdk.banking.models.CallbackRetrieveFilter;
+import inter.sdk.banking.models.DarfPayment;
+import inter.sdk.banking.models.DarfPaymentResponse;
+import inter.sdk.banking.models.DarfPaymentSearchFilter;
+import inter.sdk.banking.models.EnrichedBankStatementPage;
+import inter.sdk.banking.models.EnrichedTransaction;
+import inter.sdk.banking.models.FilterRetrieveEnrichedStatement;
+import inter.sdk.banking.models.IncludeBatchPaymentResponse;
+import inter.sdk.banking.models.IncludeDarfPaymentResponse;
+import inter.sdk.banking.models.IncludePaymentResponse;
+import inter.sdk.banking.models.IncludePixResponse;
+import inter.sdk.banking.models.Payment;
+import inter.sdk.banking.models.PaymentSearchFilter;
+import inter.sdk.banking.models.Pix;
+import inter.sdk.banking.models.RetrieveCallbackResponse;
+import inter.sdk.banking.models.RetrievePixResponse;
+import inter.sdk.banking.payments.BankingPaymentClient;
+import inter.sdk.banking.pix.BankingPixClient;
+import inter.sdk.banking.webhooks.BankingWebhookClient;
+import inter.sdk.commons.exceptions.SdkException;
+import inter.sdk.commons.models.BatchPolicy;
+import inter.sdk.commons.models.Config;
+import inter.sdk.commons.models.Webhook;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The asynchronous version of {@link BankingSdk}, obtained with {@link BankingSdk#async()}.
+ * <p>
+ * Methods return immediately with a {@link CompletableFuture}, which is completed with the result of the call,
+ * or exceptionally with a {@link SdkException}. Calls are made through the non-blocking transport of the SDK,
+ * so no thread is held while waiting for the API.
+ * </p>
+ */
+public class BankingAsyncSdk {
+    private final Config config;
+    private BankStatementClient bankStatementClient;
+    private BalanceClient balanceClient;
+    private BankingPaymentClient bankingPaymentClient;
+    private BankingPixClient bankingPixClient;
+    private BankingWebhookClient bankingWebhookClient;
+
+    public BankingAsyncSdk(Config config) {
+        this.config = config;
+    }
+
+    /**
+     * Retrieves the statement for a specific period. The maximum period between the dates is 90 days.
+     *
+     * @param initialDate Starting date for the statement query. Format: YYYY-MM-DD.
+     * @param finalDate   Ending date for the statement query. Format: YYYY-MM-DD.
+     * @return A {@link CompletableFuture} completed with the list of transactions
+     * @see <a href="https://developers.bancointer.com.br/v4/reference/extrato-1">Consult Statement</a>
+     */
+    public CompletableFuture<BankStatement> retrieveStatement(String initialDate, String finalDate) {
+        if (bankStatementClient == null) {
+            bankStatementClient = new BankStatementClient();
+        }
+
+        return bankStatementClient.retrieveStatementAsync(config, initialDate, finalDate);
+    }
+
+    /**
+     * Retrieves the statement in PDF format for a specific period. The maximum period between the dates is 90 days.
+     *
+     * @param initialDate Starting date for the statement export. Format: YYYY-MM-DD.
+     * @param finalDate   Ending date for the statement export. Format: YYYY-MM-DD.
+     * @param file       PDF file that will be saved.
+     * @return A {@link CompletableFuture} completed with {@code null} when the operation finishes.
+     * @see <a href="https://developers.bancointer.com.br/v4/reference/extratoexport">Retrieve Statement in PDF</a>
+     */
+    public CompletableFuture<Void> retrieveStatementInPdf(String initialDate, String finalDate, String file) {
+        if (bankStatementClient == null) {
+            bankStatementClient = new BankStatementClient();
+        }
+
+        return bankStatementClient.retrieveStatementInPdfAsync(config, initialDate, finalDate, file);
+    }
+
+    /**
+     * Retrieves enriched statements within a date range using the specified filters.
+     *
+     * @param initialDate Starting date for the query. Format: YYYY-MM-DD.
+     * @param finalDate   Ending date for the query. Format: YYYY-MM-DD.
+     * @param filter      Filters for the query (optional, can be null).
+     * @return A {@link CompletableFuture} completed with the list of enriched transactions.
+     * @see <a href="https://developers.bancointer.com.br/v4/reference/extratocomplete">Query Enriched Statement</a>
+     */
+    public CompletableFuture<List<EnrichedTransaction>> retrieveEnrichedStatement(String initialDate, String finalDate, FilterRetrieveEnrichedStatement filter) {
+        if (bankStatementClient == null) {
+            bankStatementClient = new BankStatementClient();
+        }
+
+        return bankStatementClient.retrieveStatementInRangeAsync(config, initialDate, finalDate, filter);
+    }
+
+    /**
+     * Retrieves enriched statements with detailed information about each transaction for a specific period. The maximum period between the dates is 90 days.
+     *
+     * @param initialDate Starting date for the statement export. Format: YYYY-MM-DD.
+     * @param finalDate   Ending date for the statement export. Format: YYYY-MM-DD.
+     * @param filter      Filters for the query (optional, can be null).
+     * @param page        Page number starting from 0.
+     * @return A {@link CompletableFuture} completed with the list of enriched transactions.
+     * @see <a href="https://developers.bancointer.com.br/v4/reference/extratocomplete-1">Query Enriched Statement</a>
+     */
+    public CompletableFuture<EnrichedBankStatementPage> retrieveEnrichedStatement(String initialDate, String finalDate, FilterRetrieveEnrichedStatement filter, int page) {
+        if (bankStatementClient == null) {
+            bankStatementClient = new BankStatementClient();
+        }
+
+        return bankStatementClient.retrieveStatementPageAsync(config, initialDate, finalDate, page, null, filter);
+    }
+
+    /**
+     * Retrieves enriched statements with detailed information about each transaction for a specific period. The maximum period between the dates is 90 days.
+     *
+     * @param initialDate   Starting date for the statement export. Format: YYYY-MM-DD.
+     * @param finalDate     Ending date for the statement export. Format: YYYY-MM-DD.
+     * @param filter        Filters for the query (optional, can be null).
+     * @param page          Page number starting from 0.
+     * @param pageSize      Size of the page, default = 50.
+     * @return A {@link CompletableFuture} completed with the list of enriched transactions.
+     * @see <a href="https://developers.bancointer.com.br/v4/reference/extratocomplete-1">Query Enriched Statement</a>
+     */
+    public CompletableFuture<EnrichedBankStatementPage> retrieveEnrichedStatement(String initialDate, String finalDate, FilterRetrieveEnrichedStatement filter,
+                                                                                  int page, int pageSize) {
+        if (bankStatementClient == null) {
+            bankStatementClient = new BankStatementClient();
+        }
+
+        return bankStatementClient.retrieveStatementPageAsync(config, initialDate, finalDate, page, pageSize, filter);
+    }
+
+    /**
+     * Retrieves the balance for a specific period.
+     *
+     * @param balanceDate Date for querying the positional balance. Format: YYYY-MM-DD.
+     * @return A {@link CompletableFuture} completed with the object containing the account balances as of the specified date.
+     * @see <a href="https://developers.bancointer.com.br/v4/reference/saldo-1">Query Balance</a>
+     */
+    public CompletableFuture<Balance> retrieveBalance(String balanceDate) {
+        if (balanceClient == null) {
+            balanceClient = new BalanceClient();
+        }
+
+        return balanceClient.retrieveBalanceAsync(config, balanceDate);
+    }
+
+    /**
+     * Method for including an immediate payment or scheduling the payment of a billet, agreement, or tax with a barcode.
+     *
+     * @param payment Payment data
+     * @return A {@link CompletableFuture} completed with the object containing quantity of approvers, payment status, transaction code, etc.
+     * @see <a href="https://developers.bancointer.com.br/v4/reference/pagarboleto">Include Payment with Barcode</a>
+     */
+    public CompletableFuture<IncludePaymentResponse> includePayment(BilletPayment payment) {
+        if (bankingPaymentClient == null) {
+            bankingPaymentClient = new BankingPaymentClient();
+        }
+
+        return bankingPaymentClient.includeBilletPaymentAsync(config, payment);
+    }
+
+    /**
+     * Retrieves information about billets payments.
+     *
+     * @param initialDate Starting date, according to the "filterDateBy" field. Accepted format: YYYY-MM-DD.
+     * @param finalDate   Ending date, according to the "filterDateBy" field. Accepted format: YYYY-MM-DD.
+     * @param filter      Filters for the query (optional, can be null).
+     * @return A {@link CompletableFuture} completed with the list of payments.
+     * @see <a href="https://developers.bancointer.com.br/v4/reference/buscarinformacoespagamentos">Retrieve Payments</a>
+     */
+    public CompletableFuture<List<Payment>> retrievePayment(String initialDate, String finalDate, PaymentSearchFilter filter) {
+        if (bankingPaymentClient == null) {
+            bankingPaymentClient = new BankingPaymentClient();
+        }
+
+        return bankingPaymentClient.retrievePaymentListAsync(config, initialDate, finalDate, filter);
+    }
+
+    /**
+     * Method for including an immediate DARF payment without a barcode.
+     *
+     * @param Payment Payment data
+     * @return A {@link CompletableFuture} completed with the object containing authentication, operation number, return type, transaction code, etc.
+     * @see <a href="https://developers.bancointer.com.br/v4/reference/pagamentosdarf-1">Include DARF Payment</a>
+     */
+    public CompletableFuture<IncludeDarfPaymentResponse> includeDarfPayment(DarfPayment Payment) {
+        if (bankingPaymentClient == null) {
+            bankingPaymentClient = new BankingPaymentClient();
+        }
+
+        return bankingPaymentClient.includeDarfPaymentAsync(config, Payment);
+    }
+
+    /**
+     * Retrieves information about DARF payments.
+     *
+     * @param initialDate Starting date, according to the "filterDateBy" field. Accepted format: YYYY-MM-DD.
+     * @param finalDate   Ending date, according to the "filterDateBy" field. Accepted format: YYYY-MM-DD.
+     * @param filter      Filters for the query (optional, can be null).
+     * @return A {@link CompletableFuture} completed with the list of payments.
+     * @see <a href="https://developers.bancointer.com.br/v4/reference/buscarinformacoespagamentodarf">Retrieve DARF Payments</a>
+     */
+    public CompletableFuture<List<DarfPaymentResponse>> retrieveDarfPayments(String initialDate, String finalDate, DarfPaymentSearchFilter filter) {
+        if (bankingPaymentClient == null) {
+            bankingPaymentClient = new BankingPaymentClient();
+        }
+
+        return bankingPaymentClient.retrieveDarfPaymentAsync(config, initialDate, finalDate, filter);
+    }
+
+    /**
+     * Inclusion of a batch of payments entered by the client.
+     *
+     * @param myIdentifier Identifier for the batch for the client.
+     * @param payments     Payments to be processed.
+     * @return A {@link CompletableFuture} completed with the information regarding the batch processing.
+     * @see <a href="https://developers.bancointer.com.br/v4/reference/pagamentoslote">Include Batch Payments</a>
+     */
+    public CompletableFuture<IncludeBatchPaymentResponse> includeBatchPayment(String myIdentifier, List<BatchItem> payments) {
+        if (bankingPaymentClient == null) {
+            bankingPaymentClient = new BankingPaymentClient();
+        }
+
+        return bankingPaymentClient.includePaymentInBatchAsync(config, myIdentifier, payments);
+    }
+
+    /**
+     * Retrieves a batch of payments entered by the client.
+     *
+     * @param batchId Identifier for the batch.
+     * @return A {@link CompletableFuture} completed with the information regarding the batch processing.
+     * @see <a href="https://developers.bancointer.com.br/v4/reference/buscarinformacoespagamentolote">Retrieve Batch Payments</a>
+     */
+    public CompletableFuture<BatchProcessing> retrievePaymentBatch(String batchId) {
+        if (bankingPaymentClient == null) {
+            bankingPaymentClient = new BankingPaymentClient();
+        }
+
+        return bankingPaymentClient.retrieveBatchAsync(config, batchId);
+    }
+
+    /**
+     * Follows a batch of payments until it finishes processing, with the default {@link BatchPolicy}.
+     * The batch is polled on the shared scheduler, so no thread is held while it is pending.
+     *
+     * @param batchId Identifier for the batch.
+     * @return A {@link CompletableFuture} completed with the processed batch.
+     */
+    public CompletableFuture<BatchProcessing> trackPaymentBatch(String batchId) {
+        return trackPaymentBatch(batchId, BatchPolicy.builder().build());
+    }
+
+    /**
+     * Follows a batch of payments until it finishes processing.
+     * The batch is polled on the shared scheduler, so no thread is held while it is pending.
+     *
+     * @param batchId Identifier for the batch.
+     * @param policy  Bounds of the poll intervals and timeout.
+     * @return A {@link CompletableFuture} completed with the processed batch.
+     */
+    public CompletableFuture<BatchProcessing> trackPaymentBatch(String batchId, BatchPolicy policy) {
+        if (bankingPaymentClient == null) {
+            bankingPaymentClient = new BankingPaymentClient();
+        }
+
+        return bankingPaymentClient.trackBatch(config, batchId, policy);
+    }
+
+    /**
+     * Method for including a Pix payment/transfer using banking data or a key.
+     *
+     * @param pix Pix data
+     * @return A {@link CompletableFuture} completed with the object containing endToEndId, etc.
+     * @see <a href="https://developers.bancointer.com.br/v4/reference/realizarpagamentopix-1">Include Pix</a>
+     */
+    public CompletableFuture<IncludePixResponse> includePix(Pix pix) {
+        if (bankingPixClient == null) {
+            bankingPixClient = new BankingPixClient();
+        }
+
+        return bankingPixClient.includePixAsync(config, pix);
+    }
+
+    /**
+     * Method for retrieving a Pix payment/transfer.
+     *
+     * @param requestCode Pix data
+     * @return A {@link CompletableFuture} completed with the object containing endToEndId, etc.
+     * @see <a href="https://developers.bancointer.com.br/v4/reference/realizarpagamentopix-1">Include Pix</a>
+     */
+    public CompletableFuture<RetrievePixResponse> retrievePix(String requestCode) {
+        if (bankingPixClient == null) {
+            bankingPixClient = new BankingPixClient();
+        }
+
+        return bankingPixClient.retrievePixTransactionAsync(config, requestCode);
+    }
+
+    /**
+     * Method intended to create a webhook to receive notifications for confirmation of Pix payments (callbacks).
+     *
+     * @param webhookUrl The client's HTTPS server URL.
+     * @return A {@link CompletableFuture} completed with {@code null} when the operation finishes.
+     * @see <a href="https://developers.bancointer.com.br/v4/reference/webhookput">Create Webhook</a>
+     */
+    public CompletableFuture<Void> includeWebhook(String webhookType, String webhookUrl) {
+        if (bankingWebhookClient == null) {
+            bankingWebhookClient = new BankingWebhookClient();
+        }
+
+        return bankingWebhookClient.includeWebhookAsync(config, webhookType, webhookUrl);
+    }
+
+    /**
+     * Retrieve the registered webhook.
+     *
+     * @return A {@link CompletableFuture} completed with the webhook
+     * @see <a href="https://developers.bancointer.com.br/v4/reference/webhookget-3">Retrieve Registered Webhook</a>
+     */
+    public CompletableFuture<Webhook> retrieveWebhook(String webhookType) {
+        if (bankingWebhookClient == null) {
+            bankingWebhookClient = new BankingWebhookClient();
+        }
+
+        return bankingWebhookClient.retrieveWebhookAsync(config, webhookType);
+    }
+
+    /**
+     * Deletes the webhook.
+     *
+     * @return A {@link CompletableFuture} completed with {@code null} when the operation finishes.
+     * @see <a href="https://developers.bancointer.com.br/v4/reference/webhookdelete-3">Delete Webhook</a>
+     */
+    public CompletableFuture<Void> deleteWebhook(String webhookType) {
+        if (bankingWebhookClient == null) {
+            bankingWebhookClient = new BankingWebhookClient();
+        }
+
+        return bankingWebhookClient.deleteWebhookAsync(config, webhookType);
+    }
+
+    /**
+     * Retrieves a collection of callbacks for a specific period, according to the provided parameters, without pagination.
+     *
+     * @param initialDateHour Starting date, according to the "filterDateBy" field. Accepted format: YYYY-MM-DD.
+     * @param finalDateHour   Ending date, according to the "filterDateBy" field. Accepted format: YYYY-MM-DD.
+     * @param filter          Filters for the query (optional, can be null).
+     * @return A {@link CompletableFuture} completed with the page with a list of billets.
+     * @see <a href="https://developers.bancointer.com.br/v4/reference/pesquisarboletos">Retrieve Collection of billets</a>
+     */
+    public CompletableFuture<List<RetrieveCallbackResponse>> retrieveCallback(String webhookType, String initialDateHour, String finalDateHour, CallbackRetrieveFilter filter) {
+        if (bankingWebhookClient == null) {
+            bankingWebhookClient = new BankingWebhookClient();
+        }
+
+        return bankingWebhookClient.retrieveCallbacksInRangeAsync(config, webhookType, initialDateHour, finalDateHour, filter);
+    }
+
+    /**
+     * Retrieves a collection of billets for a specific period, according to the provided parameters, with pagination.
+     *
+     * @param initialDateHour Starting date, according to the "filterDateBy" field. Accepted format: YYYY-MM-DD.
+     * @param finalDateHour   Ending date, according to the "filterDateBy" field. Accepted format: YYYY-MM-DD.
+     * @param filter          Filters for the query (optional, can be null).
+     * @return A {@link CompletableFuture} completed with the page with a list of billets.
+     * @see <a href="https://developers.bancointer.com.br/v4/reference/pesquisarboletos">Retrieve Collection of billets</a>
+     */
+    public CompletableFuture<CallbackPage> retrieveCallback(String webhookType, String initialDateHour, String finalDateHour, CallbackRetrieveFilter filter, int page, int pageSize) {
+        if (bankingWebhookClient == null) {
+            bankingWebhookClient = new BankingWebhookClient();
+        }
+
+        return bankingWebhookClient.retrieveCallbackPageAsync(config, webhookType, initialDateHour, finalDateHour, page, null, filter);
+    }
+
+    /**
+     * Cancels the scheduling of a payment.
+     *
+     * @param transactionCode Unique transaction code.
+     * @return A {@link CompletableFuture} completed with {@code null} when the operation finishes.
+     */
+    public CompletableFuture<Void> paymentSchedulingCancel(String transactionCode) {
+        if(bankingPaymentClient == null){
+            bankingPaymentClient = new BankingPaymentClient();
+        }
+        return bankingPaymentClient.cancelPaymentAsync(config, transactionCode);
+    }
+}
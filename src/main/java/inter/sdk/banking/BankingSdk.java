@@ -2,6 +2,9 @@ package inter.sdk.banking;
 
 import inter.sdk.banking.balance.BalanceClient;
 import inter.sdk.banking.bankstatement.BankStatementClient;
+import inter.sdk.banking.bankstatement.FileStatementCursorStore;
+import inter.sdk.banking.bankstatement.StatementCursorStore;
+import inter.sdk.banking.bankstatement.StatementSync;
 import inter.sdk.banking.models.Balance;
 import inter.sdk.banking.models.BankStatement;
 import inter.sdk.banking.models.BatchItem;
@@ -25,13 +28,17 @@ import inter.sdk.banking.models.Pix;
 import inter.sdk.banking.models.RetrieveCallbackResponse;
 import inter.sdk.banking.models.RetrievePixResponse;
 import inter.sdk.banking.payments.BankingPaymentClient;
+import inter.sdk.banking.payments.BulkPaymentSubmitter;
 import inter.sdk.banking.pix.BankingPixClient;
 import inter.sdk.banking.webhooks.BankingWebhookClient;
 import inter.sdk.commons.exceptions.SdkException;
+import inter.sdk.commons.models.BatchPolicy;
 import inter.sdk.commons.models.Config;
 import inter.sdk.commons.models.Webhook;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 public class BankingSdk {
     private final Config config;
@@ -40,11 +47,26 @@ public class BankingSdk {
     private BankingPaymentClient bankingPaymentClient;
     private BankingPixClient bankingPixClient;
     private BankingWebhookClient bankingWebhookClient;
+    private BankingAsyncSdk bankingAsyncSdk;
 
     public BankingSdk(Config config) {
         this.config = config;
     }
 
+    /**
+     * Returns the asynchronous version of this SDK, whose methods return a {@link CompletableFuture}
+     * instead of waiting for the response.
+     *
+     * @return The {@link BankingAsyncSdk} using the same configuration.
+     */
+    public BankingAsyncSdk async() {
+        if (bankingAsyncSdk == null) {
+            bankingAsyncSdk = new BankingAsyncSdk(config);
+        }
+
+        return bankingAsyncSdk;
+    }
+
     /**
      * Retrieves the statement for a specific period. The maximum period between the dates is 90 days.
      *
@@ -94,6 +116,50 @@ public class BankingSdk {
         return bankStatementClient.retrieveStatementInRange(config, initialDate, finalDate, filter);
     }
 
+    /**
+     * Streams enriched statements within a date range using the specified filters.
+     * The pages are fetched as the stream is consumed, see {@link Config#getPagePrefetch()}.
+     *
+     * @param initialDate Starting date for the query. Format: YYYY-MM-DD.
+     * @param finalDate   Ending date for the query. Format: YYYY-MM-DD.
+     * @param filter      Filters for the query (optional, can be null).
+     * @return A lazy stream of enriched transactions.
+     * @see <a href="https://developers.bancointer.com.br/v4/reference/extratocomplete">Query Enriched Statement</a>
+     */
+    public Stream<EnrichedTransaction> streamEnrichedStatement(String initialDate, String finalDate, FilterRetrieveEnrichedStatement filter) {
+        if (bankStatementClient == null) {
+            bankStatementClient = new BankStatementClient();
+        }
+
+        return bankStatementClient.streamStatementInRange(config, initialDate, finalDate, filter);
+    }
+
+    /**
+     * Creates an incremental sync of the enriched statement, keeping its cursor in files of
+     * {@link FileStatementCursorStore#DEFAULT_DIRECTORY}. Each {@link StatementSync#sync()} returns
+     * only the transactions not returned by the previous one.
+     *
+     * @param initialDate First day queried when there is no cursor yet. Format: YYYY-MM-DD.
+     * @param filter      Filters for the query (optional, can be null).
+     * @return The statement sync.
+     */
+    public StatementSync statementSync(String initialDate, FilterRetrieveEnrichedStatement filter) {
+        return new StatementSync(config, new FileStatementCursorStore(), initialDate, filter);
+    }
+
+    /**
+     * Creates an incremental sync of the enriched statement, keeping its cursor in the given store.
+     * Each {@link StatementSync#sync()} returns only the transactions not returned by the previous one.
+     *
+     * @param initialDate First day queried when there is no cursor yet. Format: YYYY-MM-DD.
+     * @param filter      Filters for the query (optional, can be null).
+     * @param store       The store of the cursor.
+     * @return The statement sync.
+     */
+    public StatementSync statementSync(String initialDate, FilterRetrieveEnrichedStatement filter, StatementCursorStore store) {
+        return new StatementSync(config, store, initialDate, filter);
+    }
+
     /**
      * Retrieves enriched statements with detailed information about each transaction for a specific period. The maximum period between the dates is 90 days.
      *
@@ -227,6 +293,25 @@ public class BankingSdk {
         return bankingPaymentClient.includePaymentInBatch(config, myIdentifier, payments);
     }
 
+    /**
+     * Creates a submitter of any number of billet and DARF payments, split into batches with the default policy.
+     *
+     * @return The bulk payment submitter.
+     */
+    public BulkPaymentSubmitter bulkPaymentSubmitter() {
+        return new BulkPaymentSubmitter(config);
+    }
+
+    /**
+     * Creates a submitter of any number of billet and DARF payments, split into batches with the given policy.
+     *
+     * @param policy Policy for splitting the payments and following the batches.
+     * @return The bulk payment submitter.
+     */
+    public BulkPaymentSubmitter bulkPaymentSubmitter(BatchPolicy policy) {
+        return new BulkPaymentSubmitter(config, policy);
+    }
+
     /**
      * Retrieves a batch of payments entered by the client.
      *
@@ -330,6 +415,23 @@ public class BankingSdk {
         return bankingWebhookClient.retrieveCallbacksInRange(config, webhookType, initialDateHour, finalDateHour, filter);
     }
 
+    /**
+     * Streams the callbacks for a specific period, according to the provided parameters.
+     * The pages are fetched as the stream is consumed, see {@link Config#getPagePrefetch()}.
+     *
+     * @param initialDateHour Starting date, according to the "filterDateBy" field. Accepted format: YYYY-MM-DD.
+     * @param finalDateHour   Ending date, according to the "filterDateBy" field. Accepted format: YYYY-MM-DD.
+     * @param filter          Filters for the query (optional, can be null).
+     * @return A lazy stream of callbacks.
+     */
+    public Stream<RetrieveCallbackResponse> streamCallback(String webhookType, String initialDateHour, String finalDateHour, CallbackRetrieveFilter filter) {
+        if (bankingWebhookClient == null) {
+            bankingWebhookClient = new BankingWebhookClient();
+        }
+
+        return bankingWebhookClient.streamCallbacksInRange(config, webhookType, initialDateHour, finalDateHour, filter);
+    }
+
     /**
      * Retrieves a collection of billets for a specific period, according to the provided parameters, with pagination.
      *
@@ -1,18 +1,15 @@
 package inter.sdk.banking.balance;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import inter.sdk.banking.models.Balance;
 import inter.sdk.commons.exceptions.SdkException;
 import inter.sdk.commons.models.Config;
-import inter.sdk.commons.models.Error;
+import inter.sdk.commons.utils.AsyncHttpUtils;
 import inter.sdk.commons.utils.HttpUtils;
 import inter.sdk.commons.utils.UrlUtils;
 import lombok.extern.slf4j.Slf4j;
 
-import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
-import static inter.sdk.commons.structures.Constants.CERTIFICATE_EXCEPTION_MESSAGE;
-import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
 import static inter.sdk.commons.structures.Constants.READ_BALANCE_SCOPE;
 import static inter.sdk.commons.structures.Constants.URL_BANKING_BALANCE;
 
@@ -44,18 +41,22 @@ public class BalanceClient {
             url += "?dataSaldo=" + balanceDate;
         }
 
-        String json = HttpUtils.callGet(config, url, READ_BALANCE_SCOPE, "Error retrieving balance");
-        try {
-            return new ObjectMapper().readValue(json, Balance.class);
-        } catch (IOException ioException) {
-            log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
-            throw new SdkException(
-                    ioException.getMessage(),
-                    Error.builder()
-                            .title(CERTIFICATE_EXCEPTION_MESSAGE)
-                            .detail(ioException.getMessage())
-                            .build()
-            );
+        return HttpUtils.callGet(config, url, READ_BALANCE_SCOPE, "Error retrieving balance", Balance.class);
+    }
+
+    /**
+     * Retrieves the balance of the account asynchronously.
+     *
+     * @param config The configuration object containing necessary parameters such as client ID.
+     * @param balanceDate The date for which the balance is requested, formatted as a string.
+     * @return A {@link CompletableFuture} completed with the {@link Balance}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<Balance> retrieveBalanceAsync(Config config, String balanceDate) {
+        log.info("BalanceRetrieval banking... config.clientId = {}, balanceDate = {}", (config != null ? config.getClientId() : null), balanceDate);
+        String url = UrlUtils.buildUrl(config, URL_BANKING_BALANCE);
+        if (balanceDate != null) {
+            url += "?dataSaldo=" + balanceDate;
         }
+        return AsyncHttpUtils.callGet(config, url, READ_BALANCE_SCOPE, "Error retrieving balance", Balance.class);
     }
 }
\ No newline at end of file
@@ -1,6 +1,5 @@
 package inter.sdk.banking.bankstatement;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import inter.sdk.banking.models.BankStatement;
 import inter.sdk.banking.models.EnrichedBankStatementPage;
 import inter.sdk.banking.models.EnrichedTransaction;
@@ -9,7 +8,10 @@ import inter.sdk.commons.exceptions.SdkException;
 import inter.sdk.commons.models.Config;
 import inter.sdk.commons.models.Error;
 import inter.sdk.commons.models.PdfReturn;
+import inter.sdk.commons.utils.AsyncHttpUtils;
 import inter.sdk.commons.utils.HttpUtils;
+import inter.sdk.commons.utils.JsonUtils;
+import inter.sdk.commons.utils.PageUtils;
 import inter.sdk.commons.utils.UrlUtils;
 import lombok.extern.slf4j.Slf4j;
 
@@ -18,6 +20,8 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import static inter.sdk.commons.structures.Constants.CERTIFICATE_EXCEPTION_MESSAGE;
 import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
@@ -49,19 +53,21 @@ public class BankStatementClient {
     public BankStatement retrieveStatement(Config config, String initialDate, String finalDate) throws SdkException {
         log.info("RetrieveBankStatement {} {}-{}", config.getClientId(), initialDate, finalDate);
         String url = UrlUtils.buildUrl(config, URL_BANKING_STATEMENT) + "?dataInicio=" + initialDate + "&dataFim=" + finalDate;
-        String json = HttpUtils.callGet(config, url, READ_BALANCE_SCOPE, "Error retrieving statement");
-        try {
-            return new ObjectMapper().readValue(json, BankStatement.class);
-        } catch (IOException ioException) {
-            log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
-            throw new SdkException(
-                    ioException.getMessage(),
-                    Error.builder()
-                            .title(CERTIFICATE_EXCEPTION_MESSAGE)
-                            .detail(ioException.getMessage())
-                            .build()
-            );
-        }
+        return HttpUtils.callGet(config, url, READ_BALANCE_SCOPE, "Error retrieving statement", BankStatement.class);
+    }
+
+    /**
+     * Retrieves the bank statement within the specified date range asynchronously.
+     *
+     * @param config The configuration object containing necessary parameters such as client ID.
+     * @param initialDate The start date for the bank statement period, formatted as a string.
+     * @param finalDate The end date for the bank statement period, formatted as a string.
+     * @return A {@link CompletableFuture} completed with the {@link BankStatement}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<BankStatement> retrieveStatementAsync(Config config, String initialDate, String finalDate) {
+        log.info("RetrieveBankStatement {} {}-{}", config.getClientId(), initialDate, finalDate);
+        String url = UrlUtils.buildUrl(config, URL_BANKING_STATEMENT) + "?dataInicio=" + initialDate + "&dataFim=" + finalDate;
+        return AsyncHttpUtils.callGet(config, url, READ_BALANCE_SCOPE, "Error retrieving statement", BankStatement.class);
     }
 
     /**
@@ -79,7 +85,7 @@ public class BankStatementClient {
         String url = UrlUtils.buildUrl(config, URL_BANKING_STATEMENT_PDF) + "?dataInicio=" + initialDate + "&dataFim=" + finalDate;
         String json = HttpUtils.callGet(config, url, READ_BALANCE_SCOPE, "Error retrieving statement in pdf");
         try {
-            PdfReturn pdfReturn = new ObjectMapper().readValue(json, PdfReturn.class);
+            PdfReturn pdfReturn = JsonUtils.readValue(json, PdfReturn.class);
             byte[] decodedBytes = Base64.getDecoder().decode(pdfReturn.getPdf());
             try (FileOutputStream stream = new FileOutputStream(file)) {
                 stream.write(decodedBytes);
@@ -96,6 +102,22 @@ public class BankStatementClient {
         }
     }
 
+    /**
+     * Retrieves the bank statement in PDF asynchronously and writes it to a file.
+     *
+     * @param config The configuration object containing necessary parameters such as client ID.
+     * @param initialDate The start date for the bank statement period, formatted as a string.
+     * @param finalDate The end date for the bank statement period, formatted as a string.
+     * @param file The path where the PDF file will be saved.
+     * @return A {@link CompletableFuture} completed with {@code null} once the file is written, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<Void> retrieveStatementInPdfAsync(Config config, String initialDate, String finalDate, String file) {
+        log.info("RetrieveBankStatementInPdf {} {}-{}", config.getClientId(), initialDate, finalDate);
+        String url = UrlUtils.buildUrl(config, URL_BANKING_STATEMENT_PDF) + "?dataInicio=" + initialDate + "&dataFim=" + finalDate;
+        return AsyncHttpUtils.callGet(config, url, READ_BALANCE_SCOPE, "Error retrieving statement in pdf")
+                .thenApply(json -> AsyncHttpUtils.writePdf(json, file));
+    }
+
     /**
      * Retrieves a specific page of enriched bank statements within a given date range.
      *
@@ -112,6 +134,22 @@ public class BankStatementClient {
         log.info("RetrieveEnrichedBankStatement {} {}-{}", config.getClientId(), initialDate, finalDate);
         return getPage(config, initialDate, finalDate, page, pageSize, filter);
     }
+
+    /**
+     * Retrieves a page of the enriched bank statement asynchronously.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date of the statement range (inclusive).
+     * @param finalDate   The end date of the statement range (inclusive).
+     * @param page        The page number to retrieve.
+     * @param pageSize    The number of items per page (optional).
+     * @param filter      Optional filters for retrieving enriched bank statements.
+     * @return A {@link CompletableFuture} completed with the {@link EnrichedBankStatementPage}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<EnrichedBankStatementPage> retrieveStatementPageAsync(Config config, String initialDate, String finalDate, int page, Integer pageSize, FilterRetrieveEnrichedStatement filter) {
+        log.info("RetrieveEnrichedBankStatement {} {}-{}", config.getClientId(), initialDate, finalDate);
+        return getPageAsync(config, initialDate, finalDate, page, pageSize, filter);
+    }
     /**
      * Retrieves a list of enriched transactions within a given date range.
      *
@@ -124,6 +162,13 @@ public class BankStatementClient {
      */
     public List<EnrichedTransaction> retrieveStatementInRange(Config config, String initialDate, String finalDate, FilterRetrieveEnrichedStatement filter) throws SdkException {
         log.info("RetrieveEnrichedBankStatement {} {}-{}", config.getClientId(), initialDate, finalDate);
+        if (config.getPageConcurrency() > 1) {
+            return AsyncHttpUtils.join(AsyncHttpUtils.collectPages(
+                    page -> getPageAsync(config, initialDate, finalDate, page, null, filter),
+                    EnrichedBankStatementPage::getTotalPages,
+                    EnrichedBankStatementPage::getTransactions,
+                    config.getPageConcurrency()));
+        }
         int page = 0;
         EnrichedBankStatementPage transactionPage;
         List<EnrichedTransaction> transactions = new ArrayList<>();
@@ -134,6 +179,44 @@ public class BankStatementClient {
         } while (page < transactionPage.getTotalPages());
         return transactions;
     }
+
+    /**
+     * Retrieves all enriched transactions within the specified date range asynchronously.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date of the statement range (inclusive).
+     * @param finalDate   The end date of the statement range (inclusive).
+     * @param filter      Optional filters for retrieving enriched bank statements.
+     * @return A {@link CompletableFuture} completed with all retrieved {@link EnrichedTransaction} transactions, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<List<EnrichedTransaction>> retrieveStatementInRangeAsync(Config config, String initialDate, String finalDate, FilterRetrieveEnrichedStatement filter) {
+        log.info("RetrieveEnrichedBankStatement {} {}-{}", config.getClientId(), initialDate, finalDate);
+        return AsyncHttpUtils.collectPages(
+                page -> getPageAsync(config, initialDate, finalDate, page, null, filter),
+                EnrichedBankStatementPage::getTotalPages,
+                EnrichedBankStatementPage::getTransactions,
+                config.getPageConcurrency());
+    }
+
+    /**
+     * Streams all enriched transactions within the specified date range, fetching the pages as the stream is consumed.
+     * Up to {@link Config#getPagePrefetch()} pages are requested ahead; errors are thrown when the stream
+     * reaches the failed page, as a {@link java.util.concurrent.CompletionException} wrapping the {@link SdkException}.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date of the statement range (inclusive).
+     * @param finalDate   The end date of the statement range (inclusive).
+     * @param filter      Optional filters for retrieving enriched bank statements.
+     * @return A lazy {@link Stream} of all retrieved {@link EnrichedTransaction} transactions, in page order.
+     */
+    public Stream<EnrichedTransaction> streamStatementInRange(Config config, String initialDate, String finalDate, FilterRetrieveEnrichedStatement filter) {
+        log.info("RetrieveEnrichedBankStatement {} {}-{}", config.getClientId(), initialDate, finalDate);
+        return PageUtils.stream(
+                page -> getPageAsync(config, initialDate, finalDate, page, null, filter),
+                EnrichedBankStatementPage::getTotalPages,
+                EnrichedBankStatementPage::getTransactions,
+                config.getPagePrefetch());
+    }
     /**
      * Retrieves a page of enriched bank statements based on the provided parameters.
      *
@@ -147,27 +230,46 @@ public class BankStatementClient {
      * @throws SdkException If there is an error during the retrieval process.
      */
     private EnrichedBankStatementPage getPage(Config config, String initialDate, String finalDate, int page, Integer pageSize, FilterRetrieveEnrichedStatement filter) throws SdkException {
-        String url = UrlUtils.buildUrl(config, URL_BANKING_ENRICHED_STATEMENT)
+        String url = pageUrl(config, initialDate, finalDate, page, pageSize, filter);
+
+        return HttpUtils.callGet(config, url, READ_BALANCE_SCOPE, "Error retrieving enriched statement", EnrichedBankStatementPage.class);
+    }
+
+    /**
+     * Retrieves a specific page of enriched transactions asynchronously.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date of the statement range (inclusive).
+     * @param finalDate   The end date of the statement range (inclusive).
+     * @param page        The page number to retrieve.
+     * @param pageSize    The number of items per page (optional).
+     * @param filter      Optional filters for retrieving enriched bank statements.
+     * @return A {@link CompletableFuture} completed with the {@link EnrichedBankStatementPage}.
+     */
+    private CompletableFuture<EnrichedBankStatementPage> getPageAsync(Config config, String initialDate, String finalDate, int page, Integer pageSize, FilterRetrieveEnrichedStatement filter) {
+        String url = pageUrl(config, initialDate, finalDate, page, pageSize, filter);
+        return AsyncHttpUtils.callGet(config, url, READ_BALANCE_SCOPE, "Error retrieving enriched statement", EnrichedBankStatementPage.class);
+    }
+
+    /**
+     * Builds the URL of a page of enriched transactions.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date of the statement range (inclusive).
+     * @param finalDate   The end date of the statement range (inclusive).
+     * @param page        The page number to retrieve.
+     * @param pageSize    The number of items per page (optional).
+     * @param filter      Optional filters for retrieving enriched bank statements.
+     * @return The URL of the page.
+     */
+    private String pageUrl(Config config, String initialDate, String finalDate, int page, Integer pageSize, FilterRetrieveEnrichedStatement filter) {
+        return UrlUtils.buildUrl(config, URL_BANKING_ENRICHED_STATEMENT)
                 + "?dataInicio="
                 + initialDate + "&dataFim="
                 + finalDate
                 + "&pagina=" + page
                 + (pageSize != null ? "&tamanhoPagina=" + pageSize : "")
                 + addfilters(filter);
-
-        String json = HttpUtils.callGet(config, url, READ_BALANCE_SCOPE, "Error retrieving enriched statement");
-        try {
-            return new ObjectMapper().readValue(json, EnrichedBankStatementPage.class);
-        } catch (IOException ioException) {
-            log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
-            throw new SdkException(
-                    ioException.getMessage(),
-                    Error.builder()
-                            .title(CERTIFICATE_EXCEPTION_MESSAGE).
-                            detail(ioException.getMessage())
-                            .build()
-            );
-        }
     }
     /**
      * Constructs the query string for filters to be applied when retrieving enriched bank statements.
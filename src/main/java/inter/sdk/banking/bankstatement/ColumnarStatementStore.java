@@ -0,0 +1,618 @@
+package inter.sdk.banking.bankstatement;
+
+import inter.sdk.banking.models.EnrichedTransaction;
+import inter.sdk.commons.exceptions.SdkException;
+import inter.sdk.commons.models.Error;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
+
+/**
+ * The {@code ColumnarStatementStore} class keeps enriched statement transactions in local files with a
+ * columnar layout, so years of history can be scanned and aggregated without querying the API again.
+ * <p>
+ * Each field is kept in its own file of fixed-width values: the transaction and inclusion dates as epoch
+ * days, the value as a long of cents, and the transaction type, operation type and title as codes of a
+ * dictionary kept alongside. A header, replaced atomically after each append, holds the number of
+ * transactions, so an append interrupted midway is discarded when the store is opened again.
+ * </p>
+ * <p>
+ * Each append is all or nothing: the columns are written a chunk at a time, but the header only counts
+ * the transactions once all of them are written. If a transaction has an invalid date or value, or the
+ * files cannot be written, none of the transactions of the append are kept, and the values added to the
+ * dictionaries by the append are removed.
+ * </p>
+ * <p>
+ * {@link #columns()} maps the files in memory with {@link FileChannel#map}, so a scan reads the values
+ * straight from the page cache instead of the heap. Descriptions, details and the time of the inclusion
+ * date are not kept. Transactions are appended as given: feed the store with {@link #append(StatementSync)}
+ * to append each transaction once.
+ * </p>
+ */
+@Slf4j
+public class ColumnarStatementStore implements Closeable {
+    /**
+     * The directory used by default, relative to the working directory.
+     */
+    public static final String DEFAULT_DIRECTORY = "statement-store";
+
+    /**
+     * The epoch day stored for a missing date.
+     */
+    public static final int NULL_DAY = Integer.MIN_VALUE;
+
+    /**
+     * The value stored for a missing value.
+     */
+    public static final long NULL_VALUE = Long.MIN_VALUE;
+
+    /**
+     * The code stored for a missing dictionary-encoded field.
+     */
+    public static final int NULL_CODE = -1;
+
+    private static final String TRANSACTION_DATE = "transaction-date";
+    private static final String INCLUSION_DATE = "inclusion-date";
+    private static final String VALUE = "value";
+    private static final String TRANSACTION_TYPE = "transaction-type";
+    private static final String OPERATION_TYPE = "operation-type";
+    private static final String TITLE = "title";
+
+    private static final int MAGIC = 0x49535443;
+    private static final int VERSION = 1;
+    private static final int APPEND_CHUNK = 8192;
+    private static final String[] INT_COLUMNS = {TRANSACTION_DATE, INCLUSION_DATE, TRANSACTION_TYPE, OPERATION_TYPE, TITLE};
+    private static final String[] DICTIONARIES = {TRANSACTION_TYPE, OPERATION_TYPE, TITLE};
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Path directory;
+    private final Map<String, FileChannel> channels = new HashMap<>();
+    private final Map<String, Dictionary> dictionaries = new HashMap<>();
+    private volatile long size;
+
+    /**
+     * Opens the store in {@link #DEFAULT_DIRECTORY}, creating it when needed.
+     *
+     * @throws SdkException If the files of the store cannot be opened.
+     */
+    public ColumnarStatementStore() throws SdkException {
+        this(Paths.get(DEFAULT_DIRECTORY));
+    }
+
+    /**
+     * Opens the store in the given directory, creating it when needed.
+     *
+     * @param directory The directory of the files of the store.
+     * @throws SdkException If the files of the store cannot be opened or were written by another version.
+     */
+    public ColumnarStatementStore(Path directory) throws SdkException {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+            size = readHeader();
+            for (String column : INT_COLUMNS) {
+                channels.put(column, openColumn(column, (long) Integer.BYTES * size));
+            }
+            channels.put(VALUE, openColumn(VALUE, (long) Long.BYTES * size));
+            for (String name : DICTIONARIES) {
+                dictionaries.put(name, Dictionary.open(directory.resolve(name + ".dict")));
+            }
+        } catch (IOException ioException) {
+            close();
+            throw toSdkException(ioException.getMessage(), ioException);
+        }
+        log.debug("ColumnarStatementStore {} opened with {} transactions", directory, size);
+    }
+
+    /**
+     * Appends transactions to the store.
+     *
+     * @param transactions The transactions.
+     * @return The number of transactions appended.
+     * @throws SdkException If a transaction has an invalid date or value, or the store cannot be written;
+     *                      none of the transactions are then appended.
+     */
+    public int append(List<EnrichedTransaction> transactions) throws SdkException {
+        return append(transactions.iterator());
+    }
+
+    /**
+     * Appends the transactions of a stream, such as {@link BankStatementClient#streamStatementInRange},
+     * a chunk at a time, so they are never all held in memory.
+     *
+     * @param transactions The transactions.
+     * @return The number of transactions appended.
+     * @throws SdkException If a transaction has an invalid date or value, or the store cannot be written;
+     *                      none of the transactions are then appended.
+     */
+    public int append(Stream<EnrichedTransaction> transactions) throws SdkException {
+        return append(transactions.iterator());
+    }
+
+    /**
+     * Appends the new transactions of a sync of the statement. The cursor of the sync is saved only once
+     * the transactions are appended, so they are retrieved again by the next sync if the append fails.
+     *
+     * @param sync The sync of the statement.
+     * @return The number of transactions appended.
+     * @throws SdkException If the statement cannot be retrieved or the store cannot be written.
+     */
+    public int append(StatementSync sync) throws SdkException {
+        return sync.sync(this::append).size();
+    }
+
+    /**
+     * Returns the number of transactions in the store.
+     *
+     * @return The number of transactions.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Maps the columns of the transactions currently in the store. Transactions appended afterward are
+     * not visible through the returned columns.
+     *
+     * @return The mapped columns.
+     * @throws SdkException If the files cannot be mapped, or the store holds more transactions than a mapping can.
+     */
+    public StatementColumns columns() throws SdkException {
+        lock.lock();
+        try {
+            checkOpen();
+            if (size > Integer.MAX_VALUE / Long.BYTES) {
+                String detail = "Statement store " + directory + " too large to map: " + size + " transactions";
+                throw toSdkException(detail, null);
+            }
+            int rows = (int) size;
+            return new StatementColumns(rows,
+                    map(TRANSACTION_DATE, Integer.BYTES, rows).asIntBuffer(),
+                    map(INCLUSION_DATE, Integer.BYTES, rows).asIntBuffer(),
+                    map(VALUE, Long.BYTES, rows).asLongBuffer(),
+                    map(TRANSACTION_TYPE, Integer.BYTES, rows).asIntBuffer(),
+                    map(OPERATION_TYPE, Integer.BYTES, rows).asIntBuffer(),
+                    map(TITLE, Integer.BYTES, rows).asIntBuffer(),
+                    dictionaries.get(TRANSACTION_TYPE).snapshot(),
+                    dictionaries.get(OPERATION_TYPE).snapshot(),
+                    dictionaries.get(TITLE).snapshot());
+        } catch (IOException ioException) {
+            throw toSdkException(ioException.getMessage(), ioException);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes the files of the store. Columns already mapped remain readable.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            for (FileChannel channel : channels.values()) {
+                try {
+                    channel.close();
+                } catch (IOException ioException) {
+                    log.warn("Error closing statement store {}", directory, ioException);
+                }
+            }
+            channels.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends the transactions of an iterator a chunk at a time, updating the header once all chunks are written.
+     *
+     * @param transactions The transactions.
+     * @return The number of transactions appended.
+     * @throws SdkException If a transaction has an invalid date or value, or the store cannot be written;
+     *                      none of the transactions are then appended.
+     */
+    private int append(Iterator<EnrichedTransaction> transactions) throws SdkException {
+        lock.lock();
+        try {
+            checkOpen();
+            for (String name : DICTIONARIES) {
+                dictionaries.get(name).mark();
+            }
+            long appended = 0;
+            try {
+                while (transactions.hasNext()) {
+                    List<EnrichedTransaction> chunk = new ArrayList<>(APPEND_CHUNK);
+                    while (chunk.size() < APPEND_CHUNK && transactions.hasNext()) {
+                        chunk.add(transactions.next());
+                    }
+                    appendChunk(chunk, appended);
+                    appended += chunk.size();
+                }
+                if (appended > 0) {
+                    writeHeader(size + appended);
+                    size += appended;
+                }
+                return (int) appended;
+            } catch (SdkException | RuntimeException e) {
+                discardPartialAppend();
+                throw e;
+            } catch (IOException ioException) {
+                discardPartialAppend();
+                throw toSdkException(ioException.getMessage(), ioException);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Truncates the columns to the number of transactions of the header and removes the dictionary
+     * values added after a failed append, so the next append starts at the right position.
+     */
+    private void discardPartialAppend() {
+        for (String name : DICTIONARIES) {
+            try {
+                dictionaries.get(name).reset();
+            } catch (IOException ioException) {
+                log.warn("Error discarding append of statement store dictionary {}", name, ioException);
+            }
+        }
+        for (Map.Entry<String, FileChannel> column : channels.entrySet()) {
+            long length = (VALUE.equals(column.getKey()) ? Long.BYTES : Integer.BYTES) * size;
+            try {
+                column.getValue().truncate(length);
+                column.getValue().position(length);
+            } catch (IOException ioException) {
+                log.warn("Error discarding append of statement store column {}", column.getKey(), ioException);
+            }
+        }
+    }
+
+    /**
+     * Encodes a chunk of transactions and writes each column, after the transactions not yet counted by the header.
+     *
+     * @param chunk    The transactions.
+     * @param previous The number of transactions of the append written before the chunk, for the errors.
+     * @throws SdkException If a transaction has an invalid date or value.
+     * @throws IOException  If the store cannot be written.
+     */
+    private void appendChunk(List<EnrichedTransaction> chunk, long previous) throws SdkException, IOException {
+        int rows = chunk.size();
+        ByteBuffer transactionDates = ByteBuffer.allocate(Integer.BYTES * rows);
+        ByteBuffer inclusionDates = ByteBuffer.allocate(Integer.BYTES * rows);
+        ByteBuffer values = ByteBuffer.allocate(Long.BYTES * rows);
+        ByteBuffer transactionTypes = ByteBuffer.allocate(Integer.BYTES * rows);
+        ByteBuffer operationTypes = ByteBuffer.allocate(Integer.BYTES * rows);
+        ByteBuffer titles = ByteBuffer.allocate(Integer.BYTES * rows);
+        for (int i = 0; i < rows; i++) {
+            EnrichedTransaction transaction = chunk.get(i);
+            try {
+                transactionDates.putInt(epochDay(transaction.getTransactionDate()));
+                inclusionDates.putInt(epochDay(transaction.getInclusionDate()));
+                values.putLong(cents(transaction.getValue()));
+            } catch (IllegalArgumentException e) {
+                throw toSdkException(e.getMessage() + " in transaction " + (previous + i) + " of the append, nothing appended", null);
+            }
+            transactionTypes.putInt(dictionaries.get(TRANSACTION_TYPE).encode(transaction.getTransactionType()));
+            operationTypes.putInt(dictionaries.get(OPERATION_TYPE).encode(transaction.getOperationType()));
+            titles.putInt(dictionaries.get(TITLE).encode(transaction.getTitle()));
+        }
+        for (String name : DICTIONARIES) {
+            dictionaries.get(name).flush();
+        }
+        write(TRANSACTION_DATE, transactionDates);
+        write(INCLUSION_DATE, inclusionDates);
+        write(VALUE, values);
+        write(TRANSACTION_TYPE, transactionTypes);
+        write(OPERATION_TYPE, operationTypes);
+        write(TITLE, titles);
+    }
+
+    /**
+     * Checks that the store is not closed.
+     *
+     * @throws SdkException If the store is closed.
+     */
+    private void checkOpen() throws SdkException {
+        if (channels.isEmpty()) {
+            throw toSdkException("Statement store " + directory + " closed", null);
+        }
+    }
+
+    /**
+     * Writes the encoded values of a column at its end and forces them to disk, before the header counts them.
+     *
+     * @param column The name of the column.
+     * @param buffer The encoded values.
+     * @throws IOException If the column cannot be written.
+     */
+    private void write(String column, ByteBuffer buffer) throws IOException {
+        FileChannel channel = channels.get(column);
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+    }
+
+    /**
+     * Maps the values of a column read-only.
+     *
+     * @param column The name of the column.
+     * @param width  The width of a value, in bytes.
+     * @param rows   The number of values.
+     * @return The mapped values.
+     * @throws IOException If the column cannot be mapped.
+     */
+    private ByteBuffer map(String column, int width, int rows) throws IOException {
+        return channels.get(column).map(FileChannel.MapMode.READ_ONLY, 0, (long) width * rows);
+    }
+
+    /**
+     * Opens a column for appending, discarding the values beyond the number of transactions of the header.
+     *
+     * @param column The name of the column.
+     * @param length The length of the values counted by the header, in bytes.
+     * @return The channel of the column, positioned at its end.
+     * @throws IOException If the column cannot be opened or is shorter than the header tells.
+     */
+    private FileChannel openColumn(String column, long length) throws IOException {
+        FileChannel channel = FileChannel.open(directory.resolve(column + ".col"),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (channel.size() < length) {
+            channel.close();
+            throw new IOException("Statement store column " + column + " truncated");
+        }
+        if (channel.size() > length) {
+            log.warn("Discarding interrupted append of statement store column {}", column);
+            channel.truncate(length);
+        }
+        channel.position(length);
+        return channel;
+    }
+
+    /**
+     * Reads the number of transactions from the header.
+     *
+     * @return The number of transactions, 0 for a new store.
+     * @throws IOException If the header cannot be read or was written by another version.
+     */
+    private long readHeader() throws IOException {
+        try (DataInputStream inputStream = new DataInputStream(Files.newInputStream(directory.resolve("header")))) {
+            if (inputStream.readInt() != MAGIC || inputStream.readInt() != VERSION) {
+                throw new IOException("Unsupported statement store " + directory);
+            }
+            return inputStream.readLong();
+        } catch (NoSuchFileException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Replaces the header with the new number of transactions, through a temporary file.
+     *
+     * @param rows The number of transactions.
+     * @throws IOException If the header cannot be written.
+     */
+    private void writeHeader(long rows) throws IOException {
+        Path temporary = Files.createTempFile(directory, ".header", ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(16).putInt(MAGIC).putInt(VERSION).putLong(rows);
+            header.flip();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, directory.resolve("header"), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Converts a date of the statement, {@code YYYY-MM-DD} optionally followed by a time, to an epoch day.
+     *
+     * @param date The date.
+     * @return The epoch day, or {@link #NULL_DAY} if the date is missing.
+     * @throws IllegalArgumentException If the date is invalid.
+     */
+    private static int epochDay(String date) {
+        if (date == null || date.isEmpty()) {
+            return NULL_DAY;
+        }
+        try {
+            return (int) LocalDate.parse(date.length() > 10 ? date.substring(0, 10) : date).toEpochDay();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid statement date " + date, e);
+        }
+    }
+
+    /**
+     * Converts a value of the statement to cents, rounding half to even beyond two decimals.
+     *
+     * @param value The value.
+     * @return The value in cents, or {@link #NULL_VALUE} if the value is missing.
+     * @throws IllegalArgumentException If the value is invalid.
+     */
+    private static long cents(String value) {
+        if (value == null || value.isEmpty()) {
+            return NULL_VALUE;
+        }
+        try {
+            return new BigDecimal(value).setScale(2, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new IllegalArgumentException("Invalid statement value " + value, e);
+        }
+    }
+
+    /**
+     * Builds the exception thrown when the store cannot be read or written.
+     *
+     * @param detail    The detail of the error.
+     * @param exception The cause, if any, which is logged.
+     * @return The exception to throw.
+     */
+    private static SdkException toSdkException(String detail, Exception exception) {
+        if (exception != null) {
+            log.error(GENERIC_EXCEPTION_MESSAGE, exception);
+        }
+        return new SdkException(
+                detail,
+                Error.builder()
+                        .title(GENERIC_EXCEPTION_MESSAGE)
+                        .detail(detail)
+                        .build()
+        );
+    }
+
+    /**
+     * The values of a dictionary-encoded column, kept in a file in code order.
+     */
+    private static final class Dictionary {
+        private final Path file;
+        private final List<String> values = new ArrayList<>();
+        private final Map<String, Integer> codes = new HashMap<>();
+        private int flushed;
+        private long length;
+        private int marked;
+        private long markedLength;
+
+        private Dictionary(Path file) {
+            this.file = file;
+        }
+
+        /**
+         * Loads a dictionary, discarding an entry left incomplete by an interrupted append.
+         *
+         * @param file The file of the dictionary.
+         * @return The dictionary.
+         * @throws IOException If the file cannot be read.
+         */
+        private static Dictionary open(Path file) throws IOException {
+            Dictionary dictionary = new Dictionary(file);
+            long fileSize = Files.exists(file) ? Files.size(file) : 0;
+            long length = 0;
+            try (InputStream fileStream = Files.newInputStream(file);
+                 DataInputStream inputStream = new DataInputStream(fileStream)) {
+                while (true) {
+                    String value = inputStream.readUTF();
+                    dictionary.codes.put(value, dictionary.values.size());
+                    dictionary.values.add(value);
+                    length = fileSize - fileStream.available();
+                }
+            } catch (NoSuchFileException | EOFException e) {
+                // end of the dictionary
+            }
+            if (fileSize > length) {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    channel.truncate(length);
+                }
+            }
+            dictionary.flushed = dictionary.values.size();
+            dictionary.length = length;
+            return dictionary;
+        }
+
+        /**
+         * Returns the code of a value, adding it to the dictionary when new.
+         *
+         * @param value The value.
+         * @return The code, or {@link #NULL_CODE} if the value is missing.
+         */
+        private int encode(String value) {
+            if (value == null) {
+                return NULL_CODE;
+            }
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = values.size();
+                codes.put(value, code);
+                values.add(value);
+            }
+            return code;
+        }
+
+        /**
+         * Appends the values added since the last flush to the file and forces them to disk.
+         *
+         * @throws IOException If the file cannot be written.
+         */
+        private void flush() throws IOException {
+            if (flushed == values.size()) {
+                return;
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                 DataOutputStream outputStream = new DataOutputStream(Channels.newOutputStream(channel))) {
+                for (String value : values.subList(flushed, values.size())) {
+                    outputStream.writeUTF(value);
+                }
+                outputStream.flush();
+                channel.force(false);
+                length = channel.size();
+            }
+            flushed = values.size();
+        }
+
+        /**
+         * Marks the current values, so the values added afterward can be removed with {@link #reset()}.
+         */
+        private void mark() {
+            marked = values.size();
+            markedLength = length;
+        }
+
+        /**
+         * Removes the values added since the last {@link #mark()}, from memory and from the file.
+         *
+         * @throws IOException If the file cannot be truncated.
+         */
+        private void reset() throws IOException {
+            for (String value : values.subList(marked, values.size())) {
+                codes.remove(value);
+            }
+            values.subList(marked, values.size()).clear();
+            if (flushed > marked) {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    channel.truncate(markedLength);
+                }
+                flushed = marked;
+                length = markedLength;
+            }
+        }
+
+        /**
+         * Returns the values of the dictionary, in code order.
+         *
+         * @return An unmodifiable copy of the values.
+         */
+        private List<String> snapshot() {
+            return Collections.unmodifiableList(new ArrayList<>(values));
+        }
+    }
+}
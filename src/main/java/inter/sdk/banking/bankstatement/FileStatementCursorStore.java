@@ -0,0 +1,103 @@
+package inter.sdk.banking.bankstatement;
+
+import inter.sdk.banking.models.StatementCursor;
+import inter.sdk.commons.exceptions.SdkException;
+import inter.sdk.commons.models.Error;
+import inter.sdk.commons.utils.JsonUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
+
+/**
+ * The {@code FileStatementCursorStore} class keeps each cursor in a JSON file of a directory.
+ * <p>
+ * Cursors are written to a temporary file that then replaces the previous one, so a sync
+ * interrupted while saving leaves the previous cursor intact.
+ * </p>
+ */
+@Slf4j
+public class FileStatementCursorStore implements StatementCursorStore {
+    /**
+     * The directory used by default, relative to the working directory.
+     */
+    public static final String DEFAULT_DIRECTORY = "statement-cursors";
+
+    private final Path directory;
+
+    /**
+     * Creates a store keeping the cursors in {@link #DEFAULT_DIRECTORY}.
+     */
+    public FileStatementCursorStore() {
+        this(Paths.get(DEFAULT_DIRECTORY));
+    }
+
+    /**
+     * Creates a store keeping the cursors in the given directory, which is created when needed.
+     *
+     * @param directory The directory of the cursor files.
+     */
+    public FileStatementCursorStore(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public StatementCursor load(String key) throws SdkException {
+        try (InputStream inputStream = Files.newInputStream(file(key))) {
+            return JsonUtils.reader(StatementCursor.class).readValue(inputStream);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException ioException) {
+            throw toSdkException(ioException);
+        }
+    }
+
+    @Override
+    public void save(String key, StatementCursor cursor) throws SdkException {
+        try {
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, ".cursor", ".tmp");
+            try (OutputStream outputStream = Files.newOutputStream(temporary)) {
+                JsonUtils.writer(StatementCursor.class).writeValue(outputStream, cursor);
+            }
+            Files.move(temporary, file(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ioException) {
+            throw toSdkException(ioException);
+        }
+    }
+
+    /**
+     * Returns the file of a cursor, named after its key with the characters not allowed in file names replaced.
+     *
+     * @param key The key of the cursor.
+     * @return The path of the file.
+     */
+    private Path file(String key) {
+        return directory.resolve(key.replaceAll("[^A-Za-z0-9._-]", "_") + ".json");
+    }
+
+    /**
+     * Converts an I/O error of the store into a {@link SdkException}.
+     *
+     * @param ioException The I/O error.
+     * @return The exception to throw.
+     */
+    private static SdkException toSdkException(IOException ioException) {
+        log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
+        return new SdkException(
+                ioException.getMessage(),
+                Error.builder()
+                        .title(GENERIC_EXCEPTION_MESSAGE)
+                        .detail(ioException.getMessage())
+                        .build()
+        );
+    }
+}
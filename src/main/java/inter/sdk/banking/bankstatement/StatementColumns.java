@@ -0,0 +1,246 @@
+package inter.sdk.banking.bankstatement;
+
+import inter.sdk.banking.models.EnrichedTransaction;
+
+import java.math.BigDecimal;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static inter.sdk.banking.bankstatement.ColumnarStatementStore.NULL_CODE;
+import static inter.sdk.banking.bankstatement.ColumnarStatementStore.NULL_DAY;
+import static inter.sdk.banking.bankstatement.ColumnarStatementStore.NULL_VALUE;
+
+/**
+ * The {@code StatementColumns} class reads the transactions of a {@link ColumnarStatementStore} from its
+ * memory-mapped columns, see {@link ColumnarStatementStore#columns()}.
+ * <p>
+ * Transactions are addressed by their row, from 0 to {@link #size()} - 1, in the order they were appended.
+ * Scans should read only the columns they need, by row, so the other columns are never paged in; the
+ * dictionary-encoded columns are compared by code, e.g. with a code found in {@link #getTransactionTypes()}.
+ * Instances are immutable and can be read by several threads.
+ * </p>
+ */
+public final class StatementColumns {
+    private final int size;
+    private final IntBuffer transactionDates;
+    private final IntBuffer inclusionDates;
+    private final LongBuffer values;
+    private final IntBuffer transactionTypes;
+    private final IntBuffer operationTypes;
+    private final IntBuffer titles;
+    private final List<String> transactionTypeDictionary;
+    private final List<String> operationTypeDictionary;
+    private final List<String> titleDictionary;
+
+    StatementColumns(int size, IntBuffer transactionDates, IntBuffer inclusionDates, LongBuffer values,
+                     IntBuffer transactionTypes, IntBuffer operationTypes, IntBuffer titles,
+                     List<String> transactionTypeDictionary, List<String> operationTypeDictionary, List<String> titleDictionary) {
+        this.size = size;
+        this.transactionDates = transactionDates;
+        this.inclusionDates = inclusionDates;
+        this.values = values;
+        this.transactionTypes = transactionTypes;
+        this.operationTypes = operationTypes;
+        this.titles = titles;
+        this.transactionTypeDictionary = transactionTypeDictionary;
+        this.operationTypeDictionary = operationTypeDictionary;
+        this.titleDictionary = titleDictionary;
+    }
+
+    /**
+     * Returns the number of transactions.
+     *
+     * @return The number of rows.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the date of a transaction.
+     *
+     * @param row The row of the transaction.
+     * @return The epoch day of the date, or {@link ColumnarStatementStore#NULL_DAY} if missing.
+     */
+    public int transactionEpochDay(int row) {
+        return transactionDates.get(row);
+    }
+
+    /**
+     * Returns the day a transaction was included in the statement.
+     *
+     * @param row The row of the transaction.
+     * @return The epoch day of the inclusion date, or {@link ColumnarStatementStore#NULL_DAY} if missing.
+     */
+    public int inclusionEpochDay(int row) {
+        return inclusionDates.get(row);
+    }
+
+    /**
+     * Returns the value of a transaction.
+     *
+     * @param row The row of the transaction.
+     * @return The value in cents, or {@link ColumnarStatementStore#NULL_VALUE} if missing.
+     */
+    public long valueCents(int row) {
+        return values.get(row);
+    }
+
+    /**
+     * Returns the code of the transaction type of a transaction.
+     *
+     * @param row The row of the transaction.
+     * @return The index of the type in {@link #getTransactionTypes()}, or {@link ColumnarStatementStore#NULL_CODE} if missing.
+     */
+    public int transactionTypeCode(int row) {
+        return transactionTypes.get(row);
+    }
+
+    /**
+     * Returns the code of the operation type of a transaction.
+     *
+     * @param row The row of the transaction.
+     * @return The index of the type in {@link #getOperationTypes()}, or {@link ColumnarStatementStore#NULL_CODE} if missing.
+     */
+    public int operationTypeCode(int row) {
+        return operationTypes.get(row);
+    }
+
+    /**
+     * Returns the code of the title of a transaction.
+     *
+     * @param row The row of the transaction.
+     * @return The index of the title in {@link #getTitles()}, or {@link ColumnarStatementStore#NULL_CODE} if missing.
+     */
+    public int titleCode(int row) {
+        return titles.get(row);
+    }
+
+    /**
+     * Returns the transaction types, indexed by code.
+     *
+     * @return The dictionary of the transaction types.
+     */
+    public List<String> getTransactionTypes() {
+        return transactionTypeDictionary;
+    }
+
+    /**
+     * Returns the operation types, indexed by code.
+     *
+     * @return The dictionary of the operation types.
+     */
+    public List<String> getOperationTypes() {
+        return operationTypeDictionary;
+    }
+
+    /**
+     * Returns the titles, indexed by code.
+     *
+     * @return The dictionary of the titles.
+     */
+    public List<String> getTitles() {
+        return titleDictionary;
+    }
+
+    /**
+     * Rebuilds a transaction from its columns. The fields not kept by the store are {@code null}, and the
+     * inclusion date has no time.
+     *
+     * @param row The row of the transaction.
+     * @return The transaction.
+     */
+    public EnrichedTransaction transaction(int row) {
+        long value = values.get(row);
+        return EnrichedTransaction.builder()
+                .transactionDate(date(transactionDates.get(row)))
+                .inclusionDate(date(inclusionDates.get(row)))
+                .value(value != NULL_VALUE ? BigDecimal.valueOf(value, 2).toPlainString() : null)
+                .transactionType(decode(transactionTypeDictionary, transactionTypes.get(row)))
+                .operationType(decode(operationTypeDictionary, operationTypes.get(row)))
+                .title(decode(titleDictionary, titles.get(row)))
+                .build();
+    }
+
+    /**
+     * Sums the values of the transactions of a period with an operation type, e.g. {@code C} for credits.
+     *
+     * @param from          The first day of the period, inclusive.
+     * @param to            The last day of the period, inclusive.
+     * @param operationType The operation type, or {@code null} for all transactions.
+     * @return The sum of the values, in cents.
+     */
+    public long sumValueCents(LocalDate from, LocalDate to, String operationType) {
+        int fromDay = (int) from.toEpochDay();
+        int toDay = (int) to.toEpochDay();
+        int operationCode = operationType != null ? operationTypeDictionary.indexOf(operationType) : NULL_CODE;
+        if (operationType != null && operationCode == NULL_CODE) {
+            return 0;
+        }
+        long sum = 0;
+        for (int row = 0; row < size; row++) {
+            int day = transactionDates.get(row);
+            long value = values.get(row);
+            if (day >= fromDay && day <= toDay && value != NULL_VALUE
+                    && (operationType == null || operationTypes.get(row) == operationCode)) {
+                sum += value;
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Sums the values of the transactions of a period by transaction type.
+     *
+     * @param from The first day of the period, inclusive.
+     * @param to   The last day of the period, inclusive.
+     * @return The sum of the values, in cents, of each transaction type with transactions in the period.
+     */
+    public Map<String, Long> sumValueCentsByTransactionType(LocalDate from, LocalDate to) {
+        int fromDay = (int) from.toEpochDay();
+        int toDay = (int) to.toEpochDay();
+        long[] sums = new long[transactionTypeDictionary.size()];
+        boolean[] present = new boolean[sums.length];
+        for (int row = 0; row < size; row++) {
+            int day = transactionDates.get(row);
+            int code = transactionTypes.get(row);
+            long value = values.get(row);
+            if (day >= fromDay && day <= toDay && code != NULL_CODE && value != NULL_VALUE) {
+                sums[code] += value;
+                present[code] = true;
+            }
+        }
+        Map<String, Long> byType = new TreeMap<>();
+        for (int code = 0; code < sums.length; code++) {
+            if (present[code]) {
+                byType.put(transactionTypeDictionary.get(code), sums[code]);
+            }
+        }
+        return byType;
+    }
+
+    /**
+     * Formats an epoch day as a date of the statement.
+     *
+     * @param epochDay The epoch day.
+     * @return The date, {@code YYYY-MM-DD}, or {@code null} if missing.
+     */
+    private static String date(int epochDay) {
+        return epochDay != NULL_DAY ? LocalDate.ofEpochDay(epochDay).toString() : null;
+    }
+
+    /**
+     * Decodes a dictionary-encoded value.
+     *
+     * @param dictionary The dictionary.
+     * @param code       The code.
+     * @return The value, or {@code null} if missing.
+     */
+    private static String decode(List<String> dictionary, int code) {
+        return code != NULL_CODE ? dictionary.get(code) : null;
+    }
+}
@@ -0,0 +1,35 @@
+package inter.sdk.banking.bankstatement;
+
+import inter.sdk.banking.models.StatementCursor;
+import inter.sdk.commons.exceptions.SdkException;
+
+/**
+ * Persists the cursors of the incremental statement syncs between runs.
+ * <p>
+ * Implementations may keep the cursors in files, a database or any other storage; a sync
+ * loads its cursor before querying the statement and saves it once the new transactions are known.
+ * </p>
+ *
+ * @see FileStatementCursorStore
+ * @see StatementSync
+ */
+public interface StatementCursorStore {
+
+    /**
+     * Loads a cursor.
+     *
+     * @param key The key of the cursor.
+     * @return The cursor, or {@code null} if none was saved under the key.
+     * @throws SdkException If the cursor cannot be loaded.
+     */
+    StatementCursor load(String key) throws SdkException;
+
+    /**
+     * Saves a cursor, replacing the one saved under the same key.
+     *
+     * @param key The key of the cursor.
+     * @param cursor The cursor.
+     * @throws SdkException If the cursor cannot be saved.
+     */
+    void save(String key, StatementCursor cursor) throws SdkException;
+}
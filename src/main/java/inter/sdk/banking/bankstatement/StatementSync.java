@@ -0,0 +1,201 @@
+package inter.sdk.banking.bankstatement;
+
+import inter.sdk.banking.models.EnrichedTransaction;
+import inter.sdk.banking.models.FilterRetrieveEnrichedStatement;
+import inter.sdk.banking.models.StatementCursor;
+import inter.sdk.commons.exceptions.SdkException;
+import inter.sdk.commons.models.Config;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The {@code StatementSync} class retrieves the new transactions of the enriched statement incrementally.
+ * <p>
+ * Instead of downloading the whole period on every poll, each sync only queries the tail of the
+ * statement, from the last day queried to today, and emits only the transactions not seen in the
+ * previous sync. The position of the sync is kept in a
+ * {@link StatementCursor} persisted in a {@link StatementCursorStore}, so it survives restarts.
+ * </p>
+ * <p>
+ * Transactions are identified by their transaction ID or, when the API does not return one, by
+ * their inclusion date, date, type, value and description. The window always starts at the last
+ * day queried, so the transactions included later on that day are caught by the next sync. A
+ * look-back of {@code overlapDays} more days is opt-in, for accounts whose transactions can be
+ * included in the statement after the day they refer to; each extra day is downloaded on every sync.
+ * </p>
+ */
+@Slf4j
+public class StatementSync {
+    /**
+     * The number of days before the last day queried that are queried again by default: none.
+     */
+    public static final int DEFAULT_OVERLAP_DAYS = 0;
+
+    private static final ZoneId STATEMENT_ZONE = ZoneId.of("America/Sao_Paulo");
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final BankStatementClient bankStatementClient = new BankStatementClient();
+    private final Config config;
+    private final StatementCursorStore store;
+    private final String initialDate;
+    private final FilterRetrieveEnrichedStatement filter;
+    private final int overlapDays;
+    private final String cursorKey;
+
+    /**
+     * Creates a sync querying from the last day queried, without look-back.
+     *
+     * @param config      The configuration object containing client information.
+     * @param store       The store of the cursor.
+     * @param initialDate The first day queried when there is no cursor yet. Format: YYYY-MM-DD.
+     * @param filter      Filters for the query (optional, can be null).
+     */
+    public StatementSync(Config config, StatementCursorStore store, String initialDate, FilterRetrieveEnrichedStatement filter) {
+        this(config, store, initialDate, filter, DEFAULT_OVERLAP_DAYS);
+    }
+
+    /**
+     * Creates a sync.
+     *
+     * @param config      The configuration object containing client information.
+     * @param store       The store of the cursor.
+     * @param initialDate The first day queried when there is no cursor yet. Format: YYYY-MM-DD.
+     * @param filter      Filters for the query (optional, can be null).
+     * @param overlapDays The number of days before the last day queried that are queried again, 0 for none.
+     */
+    public StatementSync(Config config, StatementCursorStore store, String initialDate, FilterRetrieveEnrichedStatement filter, int overlapDays) {
+        this.config = config;
+        this.store = store;
+        this.initialDate = initialDate;
+        this.filter = filter;
+        this.overlapDays = Math.max(overlapDays, 0);
+        this.cursorKey = cursorKey(config, filter);
+    }
+
+    /**
+     * Handles the new transactions of a sync before its cursor is saved.
+     */
+    @FunctionalInterface
+    public interface Handler {
+        /**
+         * Handles the new transactions, e.g. by storing them.
+         *
+         * @param transactions The new transactions, in statement order.
+         * @throws SdkException If the transactions cannot be handled; the cursor is then not saved.
+         */
+        void handle(List<EnrichedTransaction> transactions) throws SdkException;
+    }
+
+    /**
+     * Queries the tail of the statement and returns the transactions not seen before, in statement order.
+     * The cursor is saved only after the query succeeds, so a failed sync is retried from the same position.
+     * The cursor is saved before the transactions are returned: use {@link #sync(Handler)} to store them
+     * first, so they are not lost if storing them fails.
+     *
+     * @return The new transactions.
+     * @throws SdkException If the statement cannot be retrieved or the cursor cannot be loaded or saved.
+     */
+    public List<EnrichedTransaction> sync() throws SdkException {
+        return sync(transactions -> {
+        });
+    }
+
+    /**
+     * Queries the tail of the statement and hands the transactions not seen before to a handler, in
+     * statement order. The cursor is saved only after the query succeeds and the handler returns, so
+     * a sync whose transactions could not be handled is retried from the same position.
+     *
+     * @param handler The handler of the new transactions, called before the cursor is saved.
+     * @return The new transactions.
+     * @throws SdkException If the statement cannot be retrieved, the handler fails, or the cursor cannot be loaded or saved.
+     */
+    public List<EnrichedTransaction> sync(Handler handler) throws SdkException {
+        lock.lock();
+        try {
+            StatementCursor cursor = store.load(cursorKey);
+            String finalDate = LocalDate.now(STATEMENT_ZONE).toString();
+            String fromDate = initialDate;
+            Set<String> seen = new HashSet<>();
+            if (cursor != null) {
+                String tail = LocalDate.parse(cursor.getLastQueryDate()).minusDays(overlapDays).toString();
+                fromDate = tail.compareTo(initialDate) > 0 ? tail : initialDate;
+                if (cursor.getSeenTransactions() != null) {
+                    seen.addAll(cursor.getSeenTransactions());
+                }
+            }
+            log.info("SyncEnrichedBankStatement {} {}-{}", config.getClientId(), fromDate, finalDate);
+            List<EnrichedTransaction> window = bankStatementClient.retrieveStatementInRange(config, fromDate, finalDate, filter);
+
+            List<EnrichedTransaction> newTransactions = new ArrayList<>();
+            List<String> windowKeys = new ArrayList<>(window.size());
+            StatementCursor next = StatementCursor.builder()
+                    .lastTransactionId(cursor != null ? cursor.getLastTransactionId() : null)
+                    .lastInclusionDate(cursor != null ? cursor.getLastInclusionDate() : null)
+                    .lastQueryDate(finalDate)
+                    .seenTransactions(windowKeys)
+                    .build();
+            for (EnrichedTransaction transaction : window) {
+                String key = key(transaction);
+                windowKeys.add(key);
+                if (seen.add(key)) {
+                    newTransactions.add(transaction);
+                    if (next.getLastInclusionDate() == null || (transaction.getInclusionDate() != null
+                            && transaction.getInclusionDate().compareTo(next.getLastInclusionDate()) >= 0)) {
+                        next.setLastTransactionId(transaction.getTransactionId());
+                        next.setLastInclusionDate(transaction.getInclusionDate());
+                    }
+                }
+            }
+            handler.handle(newTransactions);
+            store.save(cursorKey, next);
+            log.debug("SyncEnrichedBankStatement {} {} new of {}", config.getClientId(), newTransactions.size(), window.size());
+            return newTransactions;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the key under which the cursor of this sync is stored.
+     *
+     * @return The key of the cursor.
+     */
+    public String getCursorKey() {
+        return cursorKey;
+    }
+
+    /**
+     * Builds the key of the cursor of a sync, identifying the account and the filters queried.
+     *
+     * @param config The configuration object containing client information.
+     * @param filter Filters for the query (optional, can be null).
+     * @return The key of the cursor.
+     */
+    private static String cursorKey(Config config, FilterRetrieveEnrichedStatement filter) {
+        return String.join("-", "statement", String.valueOf(config.getClientId()), String.valueOf(config.getAccount()),
+                filter != null ? String.valueOf(filter.getOperationType()) : "all",
+                filter != null ? String.valueOf(filter.getTransactionType()) : "all");
+    }
+
+    /**
+     * Returns the key identifying a transaction.
+     *
+     * @param transaction The transaction.
+     * @return The transaction ID, or a key built from the fields of the transaction if it has none.
+     */
+    private static String key(EnrichedTransaction transaction) {
+        if (transaction.getTransactionId() != null) {
+            return transaction.getTransactionId();
+        }
+        return String.join("|", String.valueOf(transaction.getInclusionDate()), String.valueOf(transaction.getTransactionDate()),
+                String.valueOf(transaction.getTransactionType()), String.valueOf(transaction.getOperationType()),
+                String.valueOf(transaction.getValue()), String.valueOf(transaction.getDescription()));
+    }
+}
@@ -0,0 +1,123 @@
+package inter.sdk.banking.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import inter.sdk.commons.models.AbstractModel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Represents the outcome of one payment of a bulk payment submission.
+ * <p>
+ * The outcome identifies the payment by its position in the submitted payments and carries the
+ * batch it was submitted in, its status and detail as last reported in the batch, and the error that
+ * prevented the batch from being submitted or followed, if any. A payment whose batch was, or may have
+ * been, submitted but could not be followed to its final state is {@code pending}: it may still be paid.
+ *
+ * @see AbstractModel
+ * @since 1.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@SuperBuilder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BulkPaymentOutcome extends AbstractModel {
+
+    /**
+     * The position of the payment in the submitted payments, starting at 0.
+     */
+    @JsonProperty("index")
+    private Integer index;
+
+    /**
+     * The ID of the batch the payment was submitted in.
+     */
+    @JsonProperty("batchId")
+    private String batchId;
+
+    /**
+     * The identifier of the batch the payment was submitted in.
+     */
+    @JsonProperty("myIdentifier")
+    private String myIdentifier;
+
+    /**
+     * The payment type, "BOLETO" or "DARF".
+     */
+    @JsonProperty("paymentType")
+    private String paymentType;
+
+    /**
+     * The transaction ID of the payment.
+     */
+    @JsonProperty("transactionId")
+    private String transactionId;
+
+    /**
+     * The status of the payment.
+     */
+    @JsonProperty("status")
+    private String status;
+
+    /**
+     * The detail of the payment.
+     */
+    @JsonProperty("detail")
+    private String detail;
+
+    /**
+     * The error that prevented the batch of the payment from being submitted or followed, if any.
+     */
+    @JsonProperty("error")
+    private String error;
+
+    /**
+     * Whether the batch of the payment was, or may have been, submitted but its final state is unknown,
+     * because submitting it failed without an answer from the API, or following it failed or timed out.
+     */
+    @JsonProperty("pending")
+    private Boolean pending;
+
+    /**
+     * Constructs a new BulkPaymentOutcome with specified values.
+     *
+     * @param index         The position of the payment in the submitted payments
+     * @param batchId       The ID of the batch the payment was submitted in
+     * @param myIdentifier  The identifier of the batch the payment was submitted in
+     * @param paymentType   The payment type
+     * @param transactionId The transaction ID of the payment
+     * @param status        The status of the payment
+     * @param detail        The detail of the payment
+     * @param error         The error of the batch of the payment
+     * @param pending       Whether the final state of the batch of the payment is unknown
+     */
+    public BulkPaymentOutcome(Integer index,
+                              String batchId,
+                              String myIdentifier,
+                              String paymentType,
+                              String transactionId,
+                              String status,
+                              String detail,
+                              String error,
+                              Boolean pending) {
+        super();
+        this.index = index;
+        this.batchId = batchId;
+        this.myIdentifier = myIdentifier;
+        this.paymentType = paymentType;
+        this.transactionId = transactionId;
+        this.status = status;
+        this.detail = detail;
+        this.error = error;
+        this.pending = pending;
+    }
+}
@@ -0,0 +1,89 @@
+package inter.sdk.banking.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import inter.sdk.commons.models.AbstractModel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+import java.util.List;
+
+/**
+ * Represents the result of a bulk payment submission.
+ * <p>
+ * The report lists the last known state of every submitted batch and the outcome of every
+ * payment, in the order the payments were submitted.
+ *
+ * @see BulkPaymentOutcome
+ * @see AbstractModel
+ * @since 1.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@SuperBuilder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BulkPaymentReport extends AbstractModel {
+
+    /**
+     * The last known state of the submitted batches.
+     */
+    @JsonProperty("batches")
+    private List<BatchProcessing> batches;
+
+    /**
+     * The outcome of each payment, in submission order.
+     */
+    @JsonProperty("outcomes")
+    private List<BulkPaymentOutcome> outcomes;
+
+    /**
+     * The number of payments submitted.
+     */
+    @JsonProperty("paymentQuantity")
+    private Integer paymentQuantity;
+
+    /**
+     * The number of payments whose batch could not be submitted.
+     */
+    @JsonProperty("errorQuantity")
+    private Integer errorQuantity;
+
+    /**
+     * The number of payments whose batch was, or may have been, submitted but whose final state is unknown,
+     * because submitting it failed without an answer from the API, or following it failed or timed out.
+     * These payments may still be paid.
+     */
+    @JsonProperty("pendingQuantity")
+    private Integer pendingQuantity;
+
+    /**
+     * Constructs a new BulkPaymentReport with specified values.
+     *
+     * @param batches         The last known state of the submitted batches
+     * @param outcomes        The outcome of each payment
+     * @param paymentQuantity The number of payments submitted
+     * @param errorQuantity   The number of payments whose batch could not be submitted
+     * @param pendingQuantity The number of payments whose final state is unknown
+     */
+    public BulkPaymentReport(List<BatchProcessing> batches,
+                             List<BulkPaymentOutcome> outcomes,
+                             Integer paymentQuantity,
+                             Integer errorQuantity,
+                             Integer pendingQuantity) {
+        super();
+        this.batches = batches;
+        this.outcomes = outcomes;
+        this.paymentQuantity = paymentQuantity;
+        this.errorQuantity = errorQuantity;
+        this.pendingQuantity = pendingQuantity;
+    }
+}
@@ -0,0 +1,78 @@
+package inter.sdk.banking.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import inter.sdk.commons.models.AbstractModel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+import java.util.List;
+
+/**
+ * Represents the position of an incremental statement sync, persisted between syncs.
+ * <p>
+ * The cursor records the last transaction seen, by transaction ID and inclusion date, the last day
+ * queried and the keys of the transactions of the last queried window, so that the next sync only
+ * queries the tail of the statement and emits only the transactions not seen before.
+ *
+ * @see AbstractModel
+ * @since 1.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@SuperBuilder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class StatementCursor extends AbstractModel {
+
+    /**
+     * The ID of the last transaction seen.
+     */
+    @JsonProperty("lastTransactionId")
+    private String lastTransactionId;
+
+    /**
+     * The inclusion date of the last transaction seen.
+     */
+    @JsonProperty("lastInclusionDate")
+    private String lastInclusionDate;
+
+    /**
+     * The last day queried. Format: YYYY-MM-DD.
+     */
+    @JsonProperty("lastQueryDate")
+    private String lastQueryDate;
+
+    /**
+     * The keys of the transactions of the last queried window.
+     */
+    @JsonProperty("seenTransactions")
+    private List<String> seenTransactions;
+
+    /**
+     * Constructs a new StatementCursor with specified values.
+     *
+     * @param lastTransactionId The ID of the last transaction seen
+     * @param lastInclusionDate The inclusion date of the last transaction seen
+     * @param lastQueryDate     The last day queried
+     * @param seenTransactions  The keys of the transactions of the last queried window
+     */
+    public StatementCursor(String lastTransactionId,
+                           String lastInclusionDate,
+                           String lastQueryDate,
+                           List<String> seenTransactions) {
+        super();
+        this.lastTransactionId = lastTransactionId;
+        this.lastInclusionDate = lastInclusionDate;
+        this.lastQueryDate = lastQueryDate;
+        this.seenTransactions = seenTransactions;
+    }
+}
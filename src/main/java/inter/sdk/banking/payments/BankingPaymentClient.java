@@ -1,7 +1,6 @@
 package inter.sdk.banking.payments;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import inter.sdk.banking.models.Batch;
 import inter.sdk.banking.models.BatchItem;
 import inter.sdk.banking.models.BatchProcessing;
@@ -17,9 +16,14 @@ import inter.sdk.banking.models.IncludePaymentResponse;
 import inter.sdk.banking.models.Payment;
 import inter.sdk.banking.models.PaymentSearchFilter;
 import inter.sdk.commons.exceptions.SdkException;
+import inter.sdk.commons.models.BatchPolicy;
 import inter.sdk.commons.models.Config;
 import inter.sdk.commons.models.Error;
+import inter.sdk.commons.utils.AsyncHttpUtils;
+import inter.sdk.commons.utils.CacheUtils;
 import inter.sdk.commons.utils.HttpUtils;
+import inter.sdk.commons.utils.JsonUtils;
+import inter.sdk.commons.utils.PollingUtils;
 import inter.sdk.commons.utils.UrlUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.json.simple.JSONArray;
@@ -30,14 +34,21 @@ import org.json.simple.parser.ParseException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 
 import static inter.sdk.commons.structures.Constants.BATCH_PAYMENT_READ_SCOPE;
 import static inter.sdk.commons.structures.Constants.BATCH_PAYMENT_WRITE_SCOPE;
 import static inter.sdk.commons.structures.Constants.BILLET_PAYMENT_READ_SCOPE;
 import static inter.sdk.commons.structures.Constants.BILLET_PAYMENT_WRITE_SCOPE;
+import static inter.sdk.commons.structures.Constants.CACHE_PAYMENT_BATCH;
 import static inter.sdk.commons.structures.Constants.CERTIFICATE_EXCEPTION_MESSAGE;
 import static inter.sdk.commons.structures.Constants.DARF_PAYMENT_WRITE_SCOPE;
 import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
+import static inter.sdk.commons.structures.Constants.PAYMENT_BATCH_AWAITING_APPROVAL_STATUS;
+import static inter.sdk.commons.structures.Constants.PAYMENT_BATCH_FINAL_STATUSES;
+import static inter.sdk.commons.structures.Constants.POLL_PAYMENT_BATCH;
 import static inter.sdk.commons.structures.Constants.URL_BANKING_PAYMENT;
 import static inter.sdk.commons.structures.Constants.URL_BANKING_PAYMENT_BATCH;
 import static inter.sdk.commons.structures.Constants.URL_BANKING_PAYMENT_DARF;
@@ -60,6 +71,18 @@ import static inter.sdk.commons.structures.Constants.URL_BANKING_PAYMENT_DARF;
  */
 @Slf4j
 public class BankingPaymentClient {
+    private static final PollingUtils.StatusReader<BatchProcessing> BATCH_STATUS = new PollingUtils.StatusReader<BatchProcessing>() {
+        @Override
+        public boolean isDone(BatchProcessing batch) {
+            return isCompleted(batch);
+        }
+
+        @Override
+        public boolean isIdle(BatchProcessing batch) {
+            return PAYMENT_BATCH_AWAITING_APPROVAL_STATUS.equals(batch.getStatus());
+        }
+    };
+
 
     /**
      * Cancels a scheduled payment based on the provided transaction code.
@@ -84,6 +107,22 @@ public class BankingPaymentClient {
         HttpUtils.callDelete(config, url, BILLET_PAYMENT_WRITE_SCOPE, "Error canceling payment scheduling");
     }
 
+    /**
+     * Cancels a scheduled payment asynchronously.
+     *
+     * @param config          The configuration object containing the client's details
+     *                        and environment settings.
+     * @param transactionCode The unique code associated with the transaction 
+     *                        that is to be canceled.
+     * @return A {@link CompletableFuture} completed with {@code null} once the payment is canceled, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<Void> cancelPaymentAsync(Config config, String transactionCode) {
+        log.info("CancelPaymentScheduling banking {} {}", config.getClientId(), transactionCode);
+        String url = UrlUtils.buildUrl(config, URL_BANKING_PAYMENT) + "/" + transactionCode;
+        return AsyncHttpUtils.callDelete(config, url, BILLET_PAYMENT_WRITE_SCOPE, "Error canceling payment scheduling")
+                .thenApply(json -> null);
+    }
+
     /**
      * Includes a list of payments in a batch using the provided configuration and identifier.
      *
@@ -112,9 +151,9 @@ public class BankingPaymentClient {
                 .payments(payments)
                 .build();
         try {
-            String json = new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(request);
+            String json = JsonUtils.writeValueAsString(request);
             json = HttpUtils.callPost(config, url, BATCH_PAYMENT_WRITE_SCOPE, "Error including payment in batch", json);
-            return new ObjectMapper().readValue(json, IncludeBatchPaymentResponse.class);
+            return JsonUtils.readValue(json, IncludeBatchPaymentResponse.class);
         } catch (IOException ioException) {
             log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
             throw new SdkException(
@@ -127,6 +166,27 @@ public class BankingPaymentClient {
         }
     }
 
+    /**
+     * Includes a batch of payments asynchronously.
+     *
+     * @param config          The configuration object containing the client's details
+     *                        and environment settings.
+     * @param myIdentifier    A unique identifier for the batch payment.
+     * @param payments        A list of {@link BatchItem} objects representing the payments
+     *                        to be included in the batch.
+     * @return A {@link CompletableFuture} completed with the {@link IncludeBatchPaymentResponse}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<IncludeBatchPaymentResponse> includePaymentInBatchAsync(Config config, String myIdentifier, List<BatchItem> payments) {
+        log.info("IncludeBatchPayment banking {} {} {}", config.getClientId(), myIdentifier, payments.size());
+        String url = UrlUtils.buildUrl(config, URL_BANKING_PAYMENT_BATCH);
+        Batch request = Batch.builder()
+                .myIdentifier(myIdentifier)
+                .payments(payments)
+                .build();
+        return AsyncHttpUtils.callPost(config, url, BATCH_PAYMENT_WRITE_SCOPE, "Error including payment in batch", request)
+                .thenApply(json -> AsyncHttpUtils.readValue(json, IncludeBatchPaymentResponse.class));
+    }
+
     /**
      * Includes a DARF payment request using the provided configuration and payment data.
      *
@@ -150,9 +210,9 @@ public class BankingPaymentClient {
         log.info("IncludeDarfPayment banking {} {}", config.getClientId(), pagamento.getRevenueCode());
         String url = UrlUtils.buildUrl(config, URL_BANKING_PAYMENT_DARF);
         try {
-            String json = new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(pagamento);
+            String json = JsonUtils.writeValueAsString(pagamento);
             json = HttpUtils.callPost(config, url, DARF_PAYMENT_WRITE_SCOPE, "Error including DARF payment", json);
-            return new ObjectMapper().readValue(json, IncludeDarfPaymentResponse.class);
+            return JsonUtils.readValue(json, IncludeDarfPaymentResponse.class);
         } catch (IOException ioException) {
             log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
             throw new SdkException(
@@ -165,6 +225,22 @@ public class BankingPaymentClient {
         }
     }
 
+    /**
+     * Includes a DARF payment asynchronously.
+     *
+     * @param config    The configuration object containing the client's details and
+     *                  environment settings.
+     * @param pagamento The {@link DarfPayment} object containing the payment details
+     *                  to be included in the request.
+     * @return A {@link CompletableFuture} completed with the {@link IncludeDarfPaymentResponse}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<IncludeDarfPaymentResponse> includeDarfPaymentAsync(Config config, DarfPayment pagamento) {
+        log.info("IncludeDarfPayment banking {} {}", config.getClientId(), pagamento.getRevenueCode());
+        String url = UrlUtils.buildUrl(config, URL_BANKING_PAYMENT_DARF);
+        return AsyncHttpUtils.callPost(config, url, DARF_PAYMENT_WRITE_SCOPE, "Error including DARF payment", pagamento)
+                .thenApply(json -> AsyncHttpUtils.readValue(json, IncludeDarfPaymentResponse.class));
+    }
+
     /**
      * Includes a billet payment request using the provided configuration and payment data.
      *
@@ -188,9 +264,9 @@ public class BankingPaymentClient {
         log.info("IncludePayment {} {}", config.getClientId(), payment.getBarcode());
         String url = UrlUtils.buildUrl(config, URL_BANKING_PAYMENT);
         try {
-            String json = new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(payment);
+            String json = JsonUtils.writeValueAsString(payment);
             json = HttpUtils.callPost(config, url, BILLET_PAYMENT_WRITE_SCOPE, "Error including payment", json);
-            return new ObjectMapper().readValue(json, IncludePaymentResponse.class);
+            return JsonUtils.readValue(json, IncludePaymentResponse.class);
         } catch (IOException ioException) {
             log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
             throw new SdkException(
@@ -203,6 +279,22 @@ public class BankingPaymentClient {
         }
     }
 
+    /**
+     * Includes a billet payment asynchronously.
+     *
+     * @param config   The configuration object containing the client's details and
+     *                 environment settings.
+     * @param payment  The {@link BilletPayment} object containing the payment details
+     *                 to be included in the request.
+     * @return A {@link CompletableFuture} completed with the {@link IncludePaymentResponse}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<IncludePaymentResponse> includeBilletPaymentAsync(Config config, BilletPayment payment) {
+        log.info("IncludePayment {} {}", config.getClientId(), payment.getBarcode());
+        String url = UrlUtils.buildUrl(config, URL_BANKING_PAYMENT);
+        return AsyncHttpUtils.callPost(config, url, BILLET_PAYMENT_WRITE_SCOPE, "Error including payment", payment)
+                .thenApply(json -> AsyncHttpUtils.readValue(json, IncludePaymentResponse.class));
+    }
+
     /**
      * Retrieves a list of DARF payments based on the specified date range and filters.
      *
@@ -230,19 +322,27 @@ public class BankingPaymentClient {
         log.info("RetrieveDarfPayments banking {} {}-{}", config.getClientId(), initialDate, finalDate);
         String url = UrlUtils.buildUrl(config, URL_BANKING_PAYMENT_DARF) + "?dataInicio=" + initialDate + "&dataFim=" + finalDate
                 + addfilters(filtro);
-        String json = HttpUtils.callGet(config, url, BILLET_PAYMENT_READ_SCOPE, "Error retrieving DARF payment");
-        try {
-            return new ObjectMapper().readValue(json, new TypeReference<List<DarfPaymentResponse>>() {});
-        } catch (IOException ioException) {
-            log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
-            throw new SdkException(
-                    ioException.getMessage(),
-                    Error.builder()
-                            .title(CERTIFICATE_EXCEPTION_MESSAGE).
-                            detail(ioException.getMessage())
-                            .build()
-            );
-        }
+        return HttpUtils.callGet(config, url, BILLET_PAYMENT_READ_SCOPE, "Error retrieving DARF payment", new TypeReference<List<DarfPaymentResponse>>() {});
+    }
+
+    /**
+     * Retrieves the DARF payments within the specified date range asynchronously.
+     *
+     * @param config       The configuration object containing the client's details and
+     *                     environment settings.
+     * @param initialDate  The starting date for the payment retrieval in the format
+     *                     accepted by the API (e.g. "YYYY-MM-DD").
+     * @param finalDate    The ending date for the payment retrieval in the same format
+     *                     as above.
+     * @param filtro       An optional {@link DarfPaymentSearchFilter} object that
+     *                     contains additional search criteria.
+     * @return A {@link CompletableFuture} completed with the {@link DarfPaymentResponse} payments, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<List<DarfPaymentResponse>> retrieveDarfPaymentAsync(Config config, String initialDate, String finalDate, DarfPaymentSearchFilter filtro) {
+        log.info("RetrieveDarfPayments banking {} {}-{}", config.getClientId(), initialDate, finalDate);
+        String url = UrlUtils.buildUrl(config, URL_BANKING_PAYMENT_DARF) + "?dataInicio=" + initialDate + "&dataFim=" + finalDate
+                + addfilters(filtro);
+        return AsyncHttpUtils.callGet(config, url, BILLET_PAYMENT_READ_SCOPE, "Error retrieving DARF payment", new TypeReference<List<DarfPaymentResponse>>() {});
     }
 
     /**
@@ -266,27 +366,119 @@ public class BankingPaymentClient {
     public BatchProcessing retrieveBatch(Config config, String batchId) throws SdkException {
         log.info("RetrievePaymentBatch {} {}", config.getClientId(), batchId);
         String url = UrlUtils.buildUrl(config, URL_BANKING_PAYMENT_BATCH) + "/" + batchId;
-        String json = HttpUtils.callGet(config, url, BATCH_PAYMENT_READ_SCOPE, "Error to retrieve batch");
+        return CacheUtils.get(config, CACHE_PAYMENT_BATCH, batchId, BatchProcessing.class, this::parseBatch, BankingPaymentClient::isCompleted,
+                () -> parseBatch(HttpUtils.callGet(config, url, BATCH_PAYMENT_READ_SCOPE, "Error to retrieve batch")));
+    }
+
+    /**
+     * Retrieves the details of a payment batch asynchronously.
+     *
+     * @param config   The configuration object containing the client's details and
+     *                 environment settings.
+     * @param batchId  The unique identifier for the batch of payments to be retrieved.
+     * @return A {@link CompletableFuture} completed with the {@link BatchProcessing}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<BatchProcessing> retrieveBatchAsync(Config config, String batchId) {
+        log.info("RetrievePaymentBatch {} {}", config.getClientId(), batchId);
+        return CacheUtils.getAsync(config, CACHE_PAYMENT_BATCH, batchId, BatchProcessing.class, this::parseBatch, BankingPaymentClient::isCompleted,
+                () -> fetchBatchAsync(config, batchId));
+    }
+
+    /**
+     * Retrieves the details of a payment batch asynchronously from the API, bypassing the cache.
+     *
+     * @param config  The configuration object containing client information.
+     * @param batchId The ID of the batch.
+     * @return A {@link CompletableFuture} completed with the {@link BatchProcessing}, or exceptionally with a {@link SdkException}.
+     */
+    private CompletableFuture<BatchProcessing> fetchBatchAsync(Config config, String batchId) {
+        String url = UrlUtils.buildUrl(config, URL_BANKING_PAYMENT_BATCH) + "/" + batchId;
+        return AsyncHttpUtils.callGet(config, url, BATCH_PAYMENT_READ_SCOPE, "Error to retrieve batch")
+                .thenApply(json -> {
+                    try {
+                        return parseBatch(json);
+                    } catch (SdkException e) {
+                        throw new CompletionException(e);
+                    }
+                });
+    }
+
+    /**
+     * Follows a payment batch until it finishes processing, polling it on the shared scheduler
+     * at intervals adapted to the observed processing times, see {@link PollingUtils}.
+     * Batches awaiting approval are polled at the slowest rate.
+     *
+     * @param config  The configuration object containing client information.
+     * @param batchId The ID of the batch.
+     * @param policy  The bounds of the poll intervals and the timeout.
+     * @return A {@link CompletableFuture} completed with the processed {@link BatchProcessing}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<BatchProcessing> trackBatch(Config config, String batchId, BatchPolicy policy) {
+        return trackBatch(config, batchId, policy, batch -> {
+        });
+    }
+
+    /**
+     * Follows a payment batch until it finishes processing, reporting each state polled, so the
+     * last known state is available if the batch is not processed within the timeout. Each poll
+     * reads the batch from the API; only the processed batch is cached.
+     *
+     * @param config  The configuration object containing client information.
+     * @param batchId The ID of the batch.
+     * @param policy  The bounds of the poll intervals and the timeout.
+     * @param onPoll  The consumer of each state polled; not called when the batch is already tracked.
+     * @return A {@link CompletableFuture} completed with the processed {@link BatchProcessing}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<BatchProcessing> trackBatch(Config config, String batchId, BatchPolicy policy, Consumer<BatchProcessing> onPoll) {
+        log.info("TrackPaymentBatch {} {}", config.getClientId(), batchId);
+        return PollingUtils.track(config, POLL_PAYMENT_BATCH, batchId,
+                () -> fetchBatchAsync(config, batchId).whenComplete((batch, throwable) -> {
+                    if (batch != null && isCompleted(batch)) {
+                        CacheUtils.put(config, CACHE_PAYMENT_BATCH, batchId, batch, BankingPaymentClient::isCompleted);
+                    }
+                    if (batch != null) {
+                        onPoll.accept(batch);
+                    }
+                }), BATCH_STATUS, policy);
+    }
+
+    /**
+     * Tells whether a payment batch finished processing, see {@code Constants.PAYMENT_BATCH_FINAL_STATUSES}.
+     *
+     * @param batch The payment batch.
+     * @return {@code true} if the batch can be cached indefinitely.
+     */
+    private static boolean isCompleted(BatchProcessing batch) {
+        return batch.getStatus() != null && PAYMENT_BATCH_FINAL_STATUSES.contains(batch.getStatus());
+    }
+
+    /**
+     * Parses a payment batch, deserializing each payment according to its type.
+     *
+     * @param json The JSON of the payment batch.
+     * @return A {@link BatchProcessing} object with the individual payments.
+     * @throws SdkException If the JSON cannot be parsed.
+     */
+    private BatchProcessing parseBatch(String json) throws SdkException {
         JSONParser parser = new JSONParser();
         try {
             JSONObject jsonLote = (JSONObject) parser.parse(json);
             JSONArray jsonArray = (JSONArray) jsonLote.get("pagamentos");
             List<BatchItem> payments = new ArrayList<>();
-            ObjectMapper objectMapper = new ObjectMapper();
             if (jsonArray != null) {
                 for (JSONObject item : (Iterable<JSONObject>) jsonArray) {
                     String paymentType = (String) item.get("tipoPagamento");
-                    if (paymentType.equals("BILLET")) {
-                        BilletBatch billetBatch = objectMapper.readValue(item.toJSONString(), BilletBatch.class);
+                    if ("BILLET".equals(paymentType) || "BOLETO".equals(paymentType)) {
+                        BilletBatch billetBatch = JsonUtils.readValue(item.toJSONString(), BilletBatch.class);
                         payments.add(billetBatch);
                     } else {
-                        DarfPaymentBatch darfBatch = objectMapper.readValue(item.toJSONString(), DarfPaymentBatch.class);
+                        DarfPaymentBatch darfBatch = JsonUtils.readValue(item.toJSONString(), DarfPaymentBatch.class);
                         payments.add(darfBatch);
                     }
                 }
                 jsonLote.put("pagamentos", null);
             }
-            BatchProcessing batchProcessing = objectMapper.readValue(jsonLote.toJSONString(), BatchProcessing.class);
+            BatchProcessing batchProcessing = JsonUtils.readValue(jsonLote.toJSONString(), BatchProcessing.class);
             batchProcessing.setPayments(payments);
             return batchProcessing;
         } catch (IOException | ParseException e) {
@@ -329,19 +521,27 @@ public class BankingPaymentClient {
         log.info("RetrievePayments banking {} {}-{}", config.getClientId(), initialDate, finalDate);
         String url = UrlUtils.buildUrl(config, URL_BANKING_PAYMENT) + "?dataInicio=" + initialDate + "&dataFim=" + finalDate
                 + addfilters(filtro);
-        String json = HttpUtils.callGet(config, url, BILLET_PAYMENT_READ_SCOPE, "Error retrieving payments");
-        try {
-            return new ObjectMapper().readValue(json, new TypeReference<List<Payment>>() {});
-        } catch (IOException ioException) {
-            log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
-            throw new SdkException(
-                    ioException.getMessage(),
-                    Error.builder()
-                            .title(CERTIFICATE_EXCEPTION_MESSAGE)
-                            .detail(ioException.getMessage())
-                            .build()
-            );
-        }
+        return HttpUtils.callGet(config, url, BILLET_PAYMENT_READ_SCOPE, "Error retrieving payments", new TypeReference<List<Payment>>() {});
+    }
+
+    /**
+     * Retrieves the payments within the specified date range asynchronously.
+     *
+     * @param config       The configuration object containing the client's details
+     *                     and environment settings.
+     * @param initialDate  The starting date for the payment retrieval in the format
+     *                     accepted by the API (e.g. "YYYY-MM-DD").
+     * @param finalDate    The ending date for the payment retrieval in the same format
+     *                     as above.
+     * @param filtro       An optional {@link PaymentSearchFilter} object that
+     *                     contains additional search criteria.
+     * @return A {@link CompletableFuture} completed with the {@link Payment} list, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<List<Payment>> retrievePaymentListAsync(Config config, String initialDate, String finalDate, PaymentSearchFilter filtro) {
+        log.info("RetrievePayments banking {} {}-{}", config.getClientId(), initialDate, finalDate);
+        String url = UrlUtils.buildUrl(config, URL_BANKING_PAYMENT) + "?dataInicio=" + initialDate + "&dataFim=" + finalDate
+                + addfilters(filtro);
+        return AsyncHttpUtils.callGet(config, url, BILLET_PAYMENT_READ_SCOPE, "Error retrieving payments", new TypeReference<List<Payment>>() {});
     }
 
     /**
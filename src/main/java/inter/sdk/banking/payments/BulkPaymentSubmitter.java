@@ -0,0 +1,230 @@
+package inter.sdk.banking.payments;
+
+import inter.sdk.banking.models.BatchItem;
+import inter.sdk.banking.models.BatchProcessing;
+import inter.sdk.banking.models.BilletBatch;
+import inter.sdk.banking.models.BulkPaymentOutcome;
+import inter.sdk.banking.models.BulkPaymentReport;
+import inter.sdk.banking.models.DarfPaymentBatch;
+import inter.sdk.commons.exceptions.SdkException;
+import inter.sdk.commons.models.BatchPolicy;
+import inter.sdk.commons.models.Config;
+import inter.sdk.commons.utils.BatchUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * The {@code BulkPaymentSubmitter} class submits any number of billet and DARF payments as payment batches.
+ * <p>
+ * Payments are read from an iterator or a stream and grouped into batches of
+ * {@link BatchPolicy#getChunkSize()} payments, identified by the given identifier followed by
+ * the number of the batch, e.g. {@code payroll-1}, {@code payroll-2}. Up to
+ * {@link BatchPolicy#getConcurrency()} batches are being submitted at the same time, and the
+ * next payments are only read when a submission completes, so the payments are never all held in memory
+ * before being sent.
+ * </p>
+ * <p>
+ * Each submitted batch is then followed with {@link BankingPaymentClient#trackBatch}, until it
+ * reaches one of {@code Constants.PAYMENT_BATCH_FINAL_STATUSES} or the timeout of the policy elapses.
+ * A failed batch does not stop the submission: its payments are reported with the error. Only a batch
+ * rejected by the API with a client error is reported as an error. A batch that was submitted but could
+ * not be followed to its final state, because a poll failed or the timeout elapsed, is reported with its
+ * last polled state and its payments as pending, not as errors, since they may still be paid. So is a
+ * batch whose submission failed without an answer from the API, e.g. on a timeout, or with a server error:
+ * it may have been created, and can be looked up by its identifier. The payments of a batch are matched to the submitted ones by position, and their type is the submitted one.
+ * </p>
+ */
+@Slf4j
+public class BulkPaymentSubmitter {
+    private final BankingPaymentClient bankingPaymentClient = new BankingPaymentClient();
+    private final Config config;
+    private final BatchPolicy policy;
+
+    /**
+     * Creates a submitter with the default {@link BatchPolicy}.
+     *
+     * @param config The configuration object containing client information.
+     */
+    public BulkPaymentSubmitter(Config config) {
+        this(config, BatchPolicy.builder().build());
+    }
+
+    /**
+     * Creates a submitter.
+     *
+     * @param config The configuration object containing client information.
+     * @param policy The policy for splitting the payments and following the batches.
+     */
+    public BulkPaymentSubmitter(Config config, BatchPolicy policy) {
+        this.config = config;
+        this.policy = policy;
+    }
+
+    /**
+     * Submits the payments of a stream and waits until all batches are processed.
+     *
+     * @param myIdentifier The identifier of the submission, suffixed with the number of each batch.
+     * @param payments     The billet and DARF payments.
+     * @return The report with the state of each batch and the outcome of each payment.
+     * @throws SdkException If the thread is interrupted while submitting or waiting.
+     */
+    public BulkPaymentReport submit(String myIdentifier, Stream<? extends BatchItem> payments) throws SdkException {
+        return submit(myIdentifier, payments.iterator());
+    }
+
+    /**
+     * Submits the payments of an iterator and waits until all batches are processed.
+     *
+     * @param myIdentifier The identifier of the submission, suffixed with the number of each batch.
+     * @param payments     The billet and DARF payments.
+     * @return The report with the state of each batch and the outcome of each payment.
+     * @throws SdkException If the thread is interrupted while submitting or waiting.
+     */
+    public BulkPaymentReport submit(String myIdentifier, Iterator<? extends BatchItem> payments) throws SdkException {
+        int chunkSize = Math.max(policy.getChunkSize(), 1);
+        Semaphore submissions = new Semaphore(Math.max(policy.getConcurrency(), 1));
+        List<CompletableFuture<ChunkResult>> chunks = new ArrayList<>();
+        int index = 0;
+        while (payments.hasNext()) {
+            List<BatchItem> chunk = new ArrayList<>(chunkSize);
+            while (chunk.size() < chunkSize && payments.hasNext()) {
+                chunk.add(payments.next());
+            }
+            BatchUtils.acquire(submissions, "submitting payments");
+            String chunkIdentifier = myIdentifier + "-" + (chunks.size() + 1);
+            chunks.add(submitChunk(chunkIdentifier, index, chunk, submissions));
+            index += chunk.size();
+        }
+        log.info("BulkPayment {} {} payments in {} batches", config.getClientId(), index, chunks.size());
+
+        List<BatchProcessing> batches = new ArrayList<>(chunks.size());
+        List<BulkPaymentOutcome> outcomes = new ArrayList<>(index);
+        for (CompletableFuture<ChunkResult> chunk : chunks) {
+            ChunkResult result = BatchUtils.await(chunk, "submitting payments");
+            if (result.batch != null) {
+                batches.add(result.batch);
+            }
+            outcomes.addAll(result.outcomes);
+        }
+        int pendingQuantity = (int) outcomes.stream().filter(outcome -> Boolean.TRUE.equals(outcome.getPending())).count();
+        int errorQuantity = (int) outcomes.stream()
+                .filter(outcome -> outcome.getError() != null && !Boolean.TRUE.equals(outcome.getPending()))
+                .count();
+        return BulkPaymentReport.builder()
+                .batches(batches)
+                .outcomes(outcomes)
+                .paymentQuantity(index)
+                .errorQuantity(errorQuantity)
+                .pendingQuantity(pendingQuantity)
+                .build();
+    }
+
+    /**
+     * Submits a batch, releasing its submission slot once the API answers, and follows it until processed.
+     *
+     * @param myIdentifier The identifier of the batch.
+     * @param firstIndex   The position of the first payment of the batch in the submission.
+     * @param chunk        The payments of the batch.
+     * @param submissions  The slots of the submissions in progress.
+     * @return A {@link CompletableFuture} completed with the outcome of the batch; it never completes exceptionally.
+     */
+    private CompletableFuture<ChunkResult> submitChunk(String myIdentifier, int firstIndex, List<BatchItem> chunk, Semaphore submissions) {
+        AtomicReference<String> batchId = new AtomicReference<>();
+        AtomicReference<BatchProcessing> lastPolled = new AtomicReference<>();
+        CompletableFuture<BatchProcessing> processed;
+        try {
+            processed = bankingPaymentClient.includePaymentInBatchAsync(config, myIdentifier, chunk)
+                    .whenComplete((response, throwable) -> submissions.release())
+                    .thenCompose(response -> {
+                        batchId.set(response.getBatchId());
+                        return bankingPaymentClient.trackBatch(config, response.getBatchId(), policy, lastPolled::set);
+                    });
+        } catch (RuntimeException e) {
+            submissions.release();
+            log.warn("BulkPayment batch {} failed", myIdentifier, e);
+            return CompletableFuture.completedFuture(
+                    new ChunkResult(null, outcomes(myIdentifier, firstIndex, chunk, null, null, BatchUtils.errorMessage(e), null)));
+        }
+        return processed.handle((batch, throwable) -> {
+            if (throwable != null && batchId.get() != null) {
+                // submitted: the payments may still be paid, so they are reported as pending with the last state polled
+                log.warn("BulkPayment batch {} {} submitted, final state unknown", myIdentifier, batchId.get(), throwable);
+                BatchProcessing last = lastPolled.get();
+                return new ChunkResult(last, outcomes(myIdentifier, firstIndex, chunk, batchId.get(), last, BatchUtils.errorMessage(throwable), true));
+            }
+            if (throwable != null && !BatchUtils.isRejected(throwable)) {
+                // the submission may have reached the API: the batch can only be found by its identifier
+                log.warn("BulkPayment batch {} may have been submitted, final state unknown", myIdentifier, throwable);
+                return new ChunkResult(null, outcomes(myIdentifier, firstIndex, chunk, null, null, BatchUtils.errorMessage(throwable), true));
+            }
+            if (throwable != null) {
+                log.warn("BulkPayment batch {} rejected", myIdentifier, throwable);
+                return new ChunkResult(null, outcomes(myIdentifier, firstIndex, chunk, null, null, BatchUtils.errorMessage(throwable), null));
+            }
+            return new ChunkResult(batch, outcomes(myIdentifier, firstIndex, chunk, batchId.get(), batch, null, null));
+        });
+    }
+
+    /**
+     * Builds the outcomes of the payments of a batch.
+     *
+     * @param myIdentifier The identifier of the batch.
+     * @param firstIndex   The position of the first payment of the batch in the submission.
+     * @param chunk        The submitted payments.
+     * @param batchId      The ID of the batch, or {@code null} if it was not submitted.
+     * @param batch        The last known state of the batch, or {@code null} if none was retrieved.
+     * @param error        The error of the batch, or {@code null}.
+     * @param pending      {@code true} if the batch was or may have been submitted but its final state is unknown, or {@code null}.
+     * @return The outcome of each payment of the batch.
+     */
+    private static List<BulkPaymentOutcome> outcomes(String myIdentifier, int firstIndex, List<BatchItem> chunk, String batchId,
+                                                     BatchProcessing batch, String error, Boolean pending) {
+        List<BatchItem> processed = batch != null && batch.getPayments() != null ? batch.getPayments() : new ArrayList<>();
+        List<BulkPaymentOutcome> outcomes = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            BatchItem submitted = chunk.get(i);
+            BatchItem item = i < processed.size() ? processed.get(i) : submitted;
+            BulkPaymentOutcome.BulkPaymentOutcomeBuilder<?, ?> outcome = BulkPaymentOutcome.builder()
+                    .index(firstIndex + i)
+                    .batchId(batchId)
+                    .myIdentifier(myIdentifier)
+                    .paymentType(submitted instanceof DarfPaymentBatch ? ((DarfPaymentBatch) submitted).getPaymentType()
+                            : submitted instanceof BilletBatch ? ((BilletBatch) submitted).getPaymentType() : null)
+                    .error(error)
+                    .pending(pending);
+            if (item instanceof BilletBatch) {
+                BilletBatch billet = (BilletBatch) item;
+                outcome.transactionId(billet.getTransactionId())
+                        .status(billet.getStatus())
+                        .detail(billet.getDetail());
+            } else if (item instanceof DarfPaymentBatch) {
+                DarfPaymentBatch darf = (DarfPaymentBatch) item;
+                outcome.transactionId(darf.getTransactionId())
+                        .status(darf.getStatus())
+                        .detail(darf.getDetail());
+            }
+            outcomes.add(outcome.build());
+        }
+        return outcomes;
+    }
+
+    /**
+     * The last state of a batch and the outcomes of its payments.
+     */
+    private static final class ChunkResult {
+        private final BatchProcessing batch;
+        private final List<BulkPaymentOutcome> outcomes;
+
+        private ChunkResult(BatchProcessing batch, List<BulkPaymentOutcome> outcomes) {
+            this.batch = batch;
+            this.outcomes = outcomes;
+        }
+    }
+}
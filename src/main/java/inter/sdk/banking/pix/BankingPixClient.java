@@ -1,18 +1,20 @@
 package inter.sdk.banking.pix;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import inter.sdk.banking.models.IncludePixResponse;
 import inter.sdk.banking.models.Pix;
 import inter.sdk.banking.models.RetrievePixResponse;
 import inter.sdk.commons.exceptions.SdkException;
 import inter.sdk.commons.models.Config;
 import inter.sdk.commons.models.Error;
+import inter.sdk.commons.utils.AsyncHttpUtils;
 import inter.sdk.commons.utils.HttpUtils;
+import inter.sdk.commons.utils.JsonUtils;
 import inter.sdk.commons.utils.UrlUtils;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 import static inter.sdk.commons.structures.Constants.CERTIFICATE_EXCEPTION_MESSAGE;
 import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
@@ -42,9 +44,9 @@ public class BankingPixClient {
         log.info("IncludePix {} {}", config.getClientId(), pix.getDescription());
         String url = UrlUtils.buildUrl(config, URL_BANKING_PAYMENT_PIX);
         try {
-            String json = new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(pix);
+            String json = JsonUtils.writeValueAsString(pix);
             json = HttpUtils.callPost(config, url, PIX_PAYMENT_WRITE_SCOPE, "Error including pix", json);
-            return new ObjectMapper().readValue(json, IncludePixResponse.class);
+            return JsonUtils.readValue(json, IncludePixResponse.class);
         } catch (IOException ioException) {
             log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
             throw new SdkException(
@@ -57,6 +59,20 @@ public class BankingPixClient {
         }
     }
 
+    /**
+     * Includes a Pix payment asynchronously.
+     *
+     * @param config The configuration object containing client information.
+     * @param pix    The {@link Pix} object containing details of the PIX payment to be included.
+     * @return A {@link CompletableFuture} completed with the {@link IncludePixResponse}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<IncludePixResponse> includePixAsync(Config config, Pix pix) {
+        log.info("IncludePix {} {}", config.getClientId(), pix.getDescription());
+        String url = UrlUtils.buildUrl(config, URL_BANKING_PAYMENT_PIX);
+        return AsyncHttpUtils.callPost(config, url, PIX_PAYMENT_WRITE_SCOPE, "Error including pix", pix)
+                .thenApply(json -> AsyncHttpUtils.readValue(json, IncludePixResponse.class));
+    }
+
     /**
      * Retrieves the details of a PIX payment request based on the given request code.
      *
@@ -70,19 +86,19 @@ public class BankingPixClient {
     public RetrievePixResponse retrievePixTransaction(Config config, String requestCode) throws SdkException {
         log.info("RetrievePix {} {}", config.getClientId(), requestCode);
         String url = UrlUtils.buildUrl(config, URL_BANKING_PAYMENT_PIX) + "/" + requestCode;
-        String json = HttpUtils.callGet(config, url, PIX_PAYMENT_READ_SCOPE, "Error retrieving pix");
-        try {
-            return new ObjectMapper().readValue(json, new TypeReference<RetrievePixResponse>() {
-            });
-        } catch (IOException ioException) {
-            log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
-            throw new SdkException(
-                    ioException.getMessage(),
-                    Error.builder()
-                            .title(CERTIFICATE_EXCEPTION_MESSAGE)
-                            .detail(ioException.getMessage())
-                            .build()
-            );
-        }
+        return HttpUtils.callGet(config, url, PIX_PAYMENT_READ_SCOPE, "Error retrieving pix", new TypeReference<RetrievePixResponse>() {});
+    }
+
+    /**
+     * Retrieves a Pix payment asynchronously.
+     *
+     * @param config      The configuration object containing client information.
+     * @param requestCode The unique code of the PIX payment request to retrieve.
+     * @return A {@link CompletableFuture} completed with the {@link RetrievePixResponse}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<RetrievePixResponse> retrievePixTransactionAsync(Config config, String requestCode) {
+        log.info("RetrievePix {} {}", config.getClientId(), requestCode);
+        String url = UrlUtils.buildUrl(config, URL_BANKING_PAYMENT_PIX) + "/" + requestCode;
+        return AsyncHttpUtils.callGet(config, url, PIX_PAYMENT_READ_SCOPE, "Error retrieving pix", RetrievePixResponse.class);
     }
 }
\ No newline at end of file
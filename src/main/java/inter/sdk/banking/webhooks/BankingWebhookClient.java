@@ -1,25 +1,24 @@
 package inter.sdk.banking.webhooks;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import inter.sdk.banking.models.CallbackPage;
 import inter.sdk.banking.models.CallbackRetrieveFilter;
 import inter.sdk.banking.models.RetrieveCallbackResponse;
 import inter.sdk.commons.exceptions.SdkException;
 import inter.sdk.commons.models.Config;
-import inter.sdk.commons.models.Error;
 import inter.sdk.commons.models.IncludeWebhookRequest;
 import inter.sdk.commons.models.Webhook;
+import inter.sdk.commons.utils.AsyncHttpUtils;
 import inter.sdk.commons.utils.HttpUtils;
+import inter.sdk.commons.utils.PageUtils;
 import inter.sdk.commons.utils.UrlUtils;
 import inter.sdk.commons.utils.WebhookUtil;
 import lombok.extern.slf4j.Slf4j;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
-import static inter.sdk.commons.structures.Constants.CERTIFICATE_EXCEPTION_MESSAGE;
-import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
 import static inter.sdk.commons.structures.Constants.URL_BANKING_WEBHOOK;
 import static inter.sdk.commons.structures.Constants.WEBHOOK_BANKING_READ_SCOPE;
 import static inter.sdk.commons.structures.Constants.WEBHOOK_BANKING_WRITE_SCOPE;
@@ -44,6 +43,20 @@ public class BankingWebhookClient {
         HttpUtils.callDelete(config, url, WEBHOOK_BANKING_WRITE_SCOPE, "Error deleting webhook");
     }
 
+    /**
+     * Deletes a banking webhook asynchronously.
+     *
+     * @param config      The configuration object containing client information.
+     * @param webhookType The type of the webhook to be deleted.
+     * @return A {@link CompletableFuture} completed with {@code null} once the webhook is deleted, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<Void> deleteWebhookAsync(Config config, String webhookType) {
+        log.info("DeleteWebhook banking {} {}", config.getClientId(), webhookType);
+        String url = UrlUtils.buildUrl(config, URL_BANKING_WEBHOOK) + "/" + webhookType;
+        return AsyncHttpUtils.callDelete(config, url, WEBHOOK_BANKING_WRITE_SCOPE, "Error deleting webhook")
+                .thenApply(json -> null);
+    }
+
     /**
      * Includes a new webhook configuration for a specified type and URL.
      *
@@ -61,6 +74,21 @@ public class BankingWebhookClient {
         WebhookUtil.includeWebhook(config, url, request, WEBHOOK_BANKING_WRITE_SCOPE);
     }
 
+    /**
+     * Includes a banking webhook asynchronously.
+     *
+     * @param config      The configuration object containing client information.
+     * @param webhookType The type of the webhook to be included.
+     * @param webhookUrl  The URL where the webhook will send notifications.
+     * @return A {@link CompletableFuture} completed with {@code null} once the webhook is included, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<Void> includeWebhookAsync(Config config, String webhookType, String webhookUrl) {
+        log.info("IncludeWebhookBanking {} {} {}", config.getClientId(), webhookType, webhookUrl);
+        String url = UrlUtils.buildUrl(config, URL_BANKING_WEBHOOK) + "/" + webhookType;
+        IncludeWebhookRequest request = IncludeWebhookRequest.builder().webhookUrl(webhookUrl).build();
+        return WebhookUtil.includeWebhookAsync(config, url, request, WEBHOOK_BANKING_WRITE_SCOPE);
+    }
+
     /**
      * Retrieves a page of callback responses for a specified webhook type within a given date range.
      *
@@ -79,6 +107,23 @@ public class BankingWebhookClient {
         log.info("RetrieveCallbacks {} {}-{}", config.getClientId(), initialDateHour, finalDateHour);
         return getPage(config, webhookType, initialDateHour, finalDateHour, page, pageSize, filter);
     }
+
+    /**
+     * Retrieves a page of webhook callbacks asynchronously.
+     *
+     * @param config            The configuration object containing client information.
+     * @param webhookType       The type of the webhook to retrieve callbacks for.
+     * @param initialDateHour   The start date and hour for the retrieval range (inclusive).
+     * @param finalDateHour     The end date and hour for the retrieval range (inclusive).
+     * @param page              The page number to retrieve.
+     * @param pageSize          The number of items per page (optional).
+     * @param filter            Optional filters to apply to the callback retrieval.
+     * @return A {@link CompletableFuture} completed with the {@link CallbackPage}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<CallbackPage> retrieveCallbackPageAsync(Config config, String webhookType, String initialDateHour, String finalDateHour, int page, Integer pageSize, CallbackRetrieveFilter filter) {
+        log.info("RetrieveCallbacks {} {}-{}", config.getClientId(), initialDateHour, finalDateHour);
+        return getPageAsync(config, webhookType, initialDateHour, finalDateHour, page, pageSize, filter);
+    }
     /**
      * Retrieves all callback responses for a specified webhook type within a given date range.
      *
@@ -94,6 +139,13 @@ public class BankingWebhookClient {
      */
     public List<RetrieveCallbackResponse> retrieveCallbacksInRange(Config config, String webhookType, String initialDate, String finalDate, CallbackRetrieveFilter filter) throws SdkException {
         log.info("RetrieveCallbacks {} {}-{}", config.getClientId(), initialDate, finalDate);
+        if (config.getPageConcurrency() > 1) {
+            return AsyncHttpUtils.join(AsyncHttpUtils.collectPages(
+                    page -> getPageAsync(config, webhookType, initialDate, finalDate, page, null, filter),
+                    CallbackPage::getTotalPages,
+                    CallbackPage::getData,
+                    config.getPageConcurrency()));
+        }
         int page = 0;
         CallbackPage callbackPage;
         List<RetrieveCallbackResponse> callbacks = new ArrayList<>();
@@ -105,6 +157,46 @@ public class BankingWebhookClient {
         return callbacks;
     }
 
+    /**
+     * Retrieves all webhook callbacks within the specified period asynchronously.
+     *
+     * @param config            The configuration object containing client information.
+     * @param webhookType       The type of the webhook to retrieve callbacks for.
+     * @param initialDate       The start date for the retrieval range (inclusive).
+     * @param finalDate         The end date for the retrieval range (inclusive).
+     * @param filter            Optional filters to apply to the callback retrieval.
+     * @return A {@link CompletableFuture} completed with all retrieved {@link RetrieveCallbackResponse} callbacks, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<List<RetrieveCallbackResponse>> retrieveCallbacksInRangeAsync(Config config, String webhookType, String initialDate, String finalDate, CallbackRetrieveFilter filter) {
+        log.info("RetrieveCallbacks {} {}-{}", config.getClientId(), initialDate, finalDate);
+        return AsyncHttpUtils.collectPages(
+                page -> getPageAsync(config, webhookType, initialDate, finalDate, page, null, filter),
+                CallbackPage::getTotalPages,
+                CallbackPage::getData,
+                config.getPageConcurrency());
+    }
+
+    /**
+     * Streams all webhook callbacks within the specified period, fetching the pages as the stream is consumed.
+     * Up to {@link Config#getPagePrefetch()} pages are requested ahead; errors are thrown when the stream
+     * reaches the failed page, as a {@link java.util.concurrent.CompletionException} wrapping the {@link SdkException}.
+     *
+     * @param config            The configuration object containing client information.
+     * @param webhookType       The type of the webhook to retrieve callbacks for.
+     * @param initialDate       The start date for the retrieval range (inclusive).
+     * @param finalDate         The end date for the retrieval range (inclusive).
+     * @param filter            Optional filters to apply to the callback retrieval.
+     * @return A lazy {@link Stream} of all retrieved {@link RetrieveCallbackResponse} callbacks, in page order.
+     */
+    public Stream<RetrieveCallbackResponse> streamCallbacksInRange(Config config, String webhookType, String initialDate, String finalDate, CallbackRetrieveFilter filter) {
+        log.info("RetrieveCallbacks {} {}-{}", config.getClientId(), initialDate, finalDate);
+        return PageUtils.stream(
+                page -> getPageAsync(config, webhookType, initialDate, finalDate, page, null, filter),
+                CallbackPage::getTotalPages,
+                CallbackPage::getData,
+                config.getPagePrefetch());
+    }
+
     /**
      * Retrieves the configuration for a specified webhook type.
      *
@@ -121,6 +213,19 @@ public class BankingWebhookClient {
         return WebhookUtil.retrieveWebhook(config, url, WEBHOOK_BANKING_READ_SCOPE);
     }
 
+    /**
+     * Retrieves a banking webhook asynchronously.
+     *
+     * @param config      The configuration object containing client information.
+     * @param webhookType The type of the webhook to be retrieved.
+     * @return A {@link CompletableFuture} completed with the {@link Webhook}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<Webhook> retrieveWebhookAsync(Config config, String webhookType) {
+        log.info("RetrieveWebhook banking {} {}", config.getClientId(), webhookType);
+        String url = UrlUtils.buildUrl(config, URL_BANKING_WEBHOOK) + "/" + webhookType;
+        return WebhookUtil.retrieveWebhookAsync(config, url, WEBHOOK_BANKING_READ_SCOPE);
+    }
+
     /**
      * Retrieves a specific page of callback responses for a specified webhook type.
      *
@@ -136,26 +241,46 @@ public class BankingWebhookClient {
      *                      or API response errors.
      */
     private CallbackPage getPage(Config config, String webhookType, String initialDateHour, String finalDateHour, int page, Integer pageSize, CallbackRetrieveFilter filter) throws SdkException {
-        String url1 = UrlUtils.buildUrl(config, URL_BANKING_WEBHOOK) + "/" + webhookType + "/callbacks";
-        String url = url1
+        String url = pageUrl(config, webhookType, initialDateHour, finalDateHour, page, pageSize, filter);
+        return HttpUtils.callGet(config, url, WEBHOOK_BANKING_READ_SCOPE, "Error retrieving callbacks", CallbackPage.class);
+    }
+
+    /**
+     * Retrieves a specific page of webhook callbacks asynchronously.
+     *
+     * @param config            The configuration object containing client information.
+     * @param webhookType       The type of the webhook to retrieve callbacks for.
+     * @param initialDateHour   The start date and hour for the retrieval range (inclusive).
+     * @param finalDateHour     The end date and hour for the retrieval range (inclusive).
+     * @param page              The page number to retrieve.
+     * @param pageSize          The number of items per page (optional).
+     * @param filter            Optional filters to apply to the callback retrieval.
+     * @return A {@link CompletableFuture} completed with the {@link CallbackPage}.
+     */
+    private CompletableFuture<CallbackPage> getPageAsync(Config config, String webhookType, String initialDateHour, String finalDateHour, int page, Integer pageSize, CallbackRetrieveFilter filter) {
+        String url = pageUrl(config, webhookType, initialDateHour, finalDateHour, page, pageSize, filter);
+        return AsyncHttpUtils.callGet(config, url, WEBHOOK_BANKING_READ_SCOPE, "Error retrieving callbacks", CallbackPage.class);
+    }
+
+    /**
+     * Builds the URL of a page of webhook callbacks.
+     *
+     * @param config            The configuration object containing client information.
+     * @param webhookType       The type of the webhook to retrieve callbacks for.
+     * @param initialDateHour   The start date and hour for the retrieval range (inclusive).
+     * @param finalDateHour     The end date and hour for the retrieval range (inclusive).
+     * @param page              The page number to retrieve.
+     * @param pageSize          The number of items per page (optional).
+     * @param filter            Optional filters to apply to the callback retrieval.
+     * @return The URL of the page.
+     */
+    private String pageUrl(Config config, String webhookType, String initialDateHour, String finalDateHour, int page, Integer pageSize, CallbackRetrieveFilter filter) {
+        return UrlUtils.buildUrl(config, URL_BANKING_WEBHOOK) + "/" + webhookType + "/callbacks"
                 + "?dataHoraInicio=" + initialDateHour
                 + "&dataHoraFim=" + finalDateHour
                 + "&pagina=" + page
                 + (pageSize != null ? "&tamanhoPagina=" + pageSize : "")
                 + addfilters(filter);
-        String json = HttpUtils.callGet(config, url, WEBHOOK_BANKING_READ_SCOPE, "Error retrieving callbacks");
-        try {
-            return new ObjectMapper().readValue(json, CallbackPage.class);
-        } catch (IOException ioException) {
-            log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
-            throw new SdkException(
-                    ioException.getMessage(),
-                    Error.builder()
-                            .title(CERTIFICATE_EXCEPTION_MESSAGE)
-                            .detail(ioException.getMessage())
-                            .build()
-            );
-        }
     }
 
     /**
@@ -0,0 +1,244 @@
+package inter.sdk.billing;
+
+import inter.sdk.billing.billing.BillingClient;
+import inter.sdk.billing.models.BillingIssueRequest;
+import inter.sdk.billing.models.BillingIssueResponse;
+import inter.sdk.billing.models.BillingPage;
+import inter.sdk.billing.models.BillingRetrievalFilter;
+import inter.sdk.billing.models.BillingCallbackPage;
+import inter.sdk.billing.models.BillingRetrieveCallbackResponse;
+import inter.sdk.billing.models.BillingRetrieveCallbacksFilter;
+import inter.sdk.billing.models.RetrievedBilling;
+import inter.sdk.billing.models.Sorting;
+import inter.sdk.billing.models.Summary;
+import inter.sdk.billing.webhooks.BillingWebhookClient;
+import inter.sdk.commons.exceptions.SdkException;
+import inter.sdk.commons.models.Config;
+import inter.sdk.commons.models.Webhook;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The asynchronous version of {@link BillingSdk}, obtained with {@link BillingSdk#async()}.
+ * <p>
+ * Methods return immediately with a {@link CompletableFuture}, which is completed with the result of the call,
+ * or exceptionally with a {@link SdkException}. Calls are made through the non-blocking transport of the SDK,
+ * so no thread is held while waiting for the API.
+ * </p>
+ */
+public class BillingAsyncSdk {
+    private final Config config;
+    private BillingClient billingClient;
+    private BillingWebhookClient billingWebhookClient;
+
+    public BillingAsyncSdk(Config config) {
+        this.config = config;
+    }
+
+    /**
+     * Cancels a billing request specified by the request code.
+     *
+     * @param requestCode      The unique code identifying the billing request to be canceled.
+     * @param cancellationReason Reason for canceling the billing request.
+     * @return A {@link CompletableFuture} completed with {@code null} when the operation finishes.
+     */
+    public CompletableFuture<Void> cancelBilling(String requestCode, String cancellationReason) {
+        if (billingClient == null) {
+            billingClient = new BillingClient();
+        }
+
+        return billingClient.cancelBillingAsync(config, requestCode, cancellationReason);
+    }
+
+    /**
+     * Issues a billing request based on the provided billing issue details.
+     *
+     * @param billingIssueRequest The request object containing details for the billing issue.
+     * @return A {@link CompletableFuture} completed with the response object containing the outcome of the billing issue process.
+     */
+    public CompletableFuture<BillingIssueResponse> issueBilling(BillingIssueRequest billingIssueRequest) {
+        if (billingClient == null) {
+            billingClient = new BillingClient();
+        }
+
+        return billingClient.issueBillingAsync(config, billingIssueRequest);
+    }
+
+    /**
+     * Retrieves the billing information based on the specified request code.
+     *
+     * @param requestCode The unique code identifying the billing request to retrieve.
+     * @return A {@link CompletableFuture} completed with the object containing the details of the retrieved billing information.
+     */
+    public CompletableFuture<RetrievedBilling> retrieveBilling(String requestCode) {
+        if (billingClient == null) {
+            billingClient = new BillingClient();
+        }
+
+        return billingClient.retrieveBillingAsync(config, requestCode);
+    }
+
+    /**
+     * Retrieves a collection of billing information for a specified period, applying optional filters and sorting.
+     *
+     * @param initialDate The starting date for the billing retrieval. Format: YYYY-MM-DD.
+     * @param finalDate   The ending date for the billing retrieval. Format: YYYY-MM-DD.
+     * @param filter      Optional filter criteria to refine the billing retrieval.
+     * @param sort       Optional sorting parameters for the retrieved collection.
+     * @return A {@link CompletableFuture} completed with the list of retrieved billing information objects.
+     */
+    public CompletableFuture<List<RetrievedBilling>> retrieveBillingCollection(String initialDate, String finalDate,
+                                                                               BillingRetrievalFilter filter, Sorting sort) {
+        if (billingClient == null) {
+            billingClient = new BillingClient();
+        }
+
+        return billingClient.retrieveBillingsInRangeAsync(config, initialDate, finalDate, filter, sort);
+    }
+
+    /**
+     * Retrieves the billings for a specified period asynchronously, splitting the period into windows of days
+     * retrieved in parallel, see {@link Config#getShardPolicy()}. Suited to long periods; the billings
+     * are returned in chronological order, without duplicates by requestCode.
+     *
+     * @param initialDate The starting date of the period. Format: YYYY-MM-DD.
+     * @param finalDate   The ending date of the period. Format: YYYY-MM-DD.
+     * @param filter      Optional filter criteria to refine the billing retrieval.
+     * @param sort        Optional sorting parameters for the retrieved collection.
+     * @return A {@link CompletableFuture} completed with the list of retrieved RetrievedBilling objects.
+     */
+    public CompletableFuture<List<RetrievedBilling>> retrieveBillingCollectionSharded(String initialDate, String finalDate, BillingRetrievalFilter filter, Sorting sort) {
+        if (billingClient == null) {
+            billingClient = new BillingClient();
+        }
+        return billingClient.retrieveBillingsInRangeShardedAsync(config, initialDate, finalDate, filter, sort);
+    }
+
+    /**
+     * Retrieves a paginated collection of billing information for a specified period, applying optional filters and sorting.
+     *
+     * @param initialDate The starting date for the billing retrieval. Format: YYYY-MM-DD.
+     * @param finalDate   The ending date for the billing retrieval. Format: YYYY-MM-DD.
+     * @param page        The page number for pagination.
+     * @param pageSize    The number of items per page. If null, default size will be used.
+     * @param filter      Optional filter criteria to refine the billing retrieval.
+     * @param sort       Optional sorting parameters for the retrieved collection.
+     * @return A {@link CompletableFuture} completed with the BillingPage object containing the retrieved billing information.
+     */
+    public CompletableFuture<BillingPage> retrieveBillingCollection(String initialDate, String finalDate,
+                                                                    int page, Integer pageSize, BillingRetrievalFilter filter, Sorting sort) {
+        if (billingClient == null) {
+            billingClient = new BillingClient();
+        }
+
+        return billingClient.retrieveBillingPageAsync(config, initialDate, finalDate, page, pageSize, filter, sort);
+    }
+
+    /**
+     * Retrieves the billing PDF document based on the specified request code and saves it to a file.
+     *
+     * @param requestCode The unique code identifying the billing request for which the PDF should be retrieved.
+     * @param file        The path to the file where the PDF will be saved.
+     * @return A {@link CompletableFuture} completed with {@code null} when the operation finishes.
+     */
+    public CompletableFuture<Void> retrieveBillingPdf(String requestCode, String file) {
+        if (billingClient == null) {
+            billingClient = new BillingClient();
+        }
+
+        return billingClient.retrieveBillingInPDFAsync(config, requestCode, file);
+    }
+
+    /**
+     * Retrieves a summary of billing information for a specified period, applying optional filters.
+     *
+     * @param initialDate The starting date for the billing summary retrieval. Format: YYYY-MM-DD.
+     * @param finalDate   The ending date for the billing summary retrieval. Format: YYYY-MM-DD.
+     * @param filter      Optional filter criteria to refine the billing summary retrieval.
+     * @return A {@link CompletableFuture} completed with the Summary object containing the billing information summary.
+     */
+    public CompletableFuture<Summary> retrieveBillingSummary(String initialDate, String finalDate, BillingRetrievalFilter filter) {
+        if (billingClient == null) {
+            billingClient = new BillingClient();
+        }
+
+        return billingClient.retrieveBillingSummaryAsync(config, initialDate, finalDate, filter);
+    }
+
+    /**
+     * Retrieves a list of callback responses for a specified period, applying optional filters.
+     *
+     * @param initialDateHour The starting date and hour for the callback retrieval. Format: YYYY-MM-DDTHH:mm.
+     * @param finalDateHour   The ending date and hour for the callback retrieval. Format: YYYY-MM-DDTHH:mm.
+     * @param filter          Optional filter criteria to refine the callback retrieval.
+     * @return A {@link CompletableFuture} completed with the list of RetrieveCallbackResponse objects containing the retrieved callback information.
+     */
+    public CompletableFuture<List<BillingRetrieveCallbackResponse>> retrieveCallbacks(String initialDateHour, String finalDateHour,
+                                                                                      BillingRetrieveCallbacksFilter filter) {
+        if (billingWebhookClient == null) {
+            billingWebhookClient = new BillingWebhookClient();
+        }
+
+        return billingWebhookClient.retrieveCallbacksInRangeAsync(config, initialDateHour, finalDateHour, filter);
+    }
+
+    /**
+     * Retrieves a paginated list of callbacks for a specified period, applying optional filters.
+     *
+     * @param initialDateHour The starting date and hour for the callback retrieval. Format: YYYY-MM-DDTHH:mm.
+     * @param finalDateHour   The ending date and hour for the callback retrieval. Format: YYYY-MM-DDTHH:mm.
+     * @param page            The page number for pagination.
+     * @param pageSize        The number of items per page. If null, default size will be used.
+     * @param filter          Optional filter criteria to refine the callback retrieval.
+     * @return A {@link CompletableFuture} completed with the CallbackPage object containing the paginated list of retrieved callbacks.
+     */
+    public CompletableFuture<BillingCallbackPage> retrieveCallbacks(String initialDateHour, String finalDateHour,
+                                                                    int page, Integer pageSize, BillingRetrieveCallbacksFilter filter) {
+        if (billingWebhookClient == null) {
+            billingWebhookClient = new BillingWebhookClient();
+        }
+
+        return billingWebhookClient.retrieveCallbackPageAsync(config, initialDateHour, finalDateHour, page, pageSize, filter);
+    }
+
+    /**
+     * Includes a webhook URL for receiving notifications.
+     *
+     * @param url The URL of the webhook to be included.
+     * @return A {@link CompletableFuture} completed with {@code null} when the operation finishes.
+     */
+    public CompletableFuture<Void> includeWebhook(String url) {
+        if (billingWebhookClient == null) {
+            billingWebhookClient = new BillingWebhookClient();
+        }
+
+        return billingWebhookClient.includeWebhookAsync(config, url);
+    }
+
+    /**
+     * Retrieves the currently configured webhook information.
+     *
+     * @return A {@link CompletableFuture} completed with the Webhook object containing the details of the configured webhook.
+     */
+    public CompletableFuture<Webhook> retrieveWebhook() {
+        if (billingWebhookClient == null) {
+            billingWebhookClient = new BillingWebhookClient();
+        }
+
+        return billingWebhookClient.retrieveWebhookAsync(config);
+    }
+
+    /**
+     * Deletes the currently configured webhook.
+     *
+     * @return A {@link CompletableFuture} completed with {@code null} when the operation finishes.
+     */
+    public CompletableFuture<Void> deleteWebhook() {
+        if (billingWebhookClient == null) {
+            billingWebhookClient = new BillingWebhookClient();
+        }
+
+        return billingWebhookClient.deleteWebhookAsync(config);
+    }
+}
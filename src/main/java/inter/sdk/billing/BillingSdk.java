@@ -17,16 +17,33 @@ import inter.sdk.commons.models.Config;
 import inter.sdk.commons.models.Webhook;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 public class BillingSdk {
     private final Config config;
     private BillingClient billingClient;
     private BillingWebhookClient billingWebhookClient;
+    private BillingAsyncSdk billingAsyncSdk;
 
     public BillingSdk(Config config) {
         this.config = config;
     }
 
+    /**
+     * Returns the asynchronous version of this SDK, whose methods return a {@link CompletableFuture}
+     * instead of waiting for the response.
+     *
+     * @return The {@link BillingAsyncSdk} using the same configuration.
+     */
+    public BillingAsyncSdk async() {
+        if (billingAsyncSdk == null) {
+            billingAsyncSdk = new BillingAsyncSdk(config);
+        }
+
+        return billingAsyncSdk;
+    }
+
     /**
      * Cancels a billing request specified by the request code.
      *
@@ -91,6 +108,44 @@ public class BillingSdk {
         return billingClient.retrieveBillingsInRange(config, initialDate, finalDate, filter, sort);
     }
 
+    /**
+     * Retrieves the billings for a specified period, splitting the period into windows of days
+     * retrieved in parallel, see {@link Config#getShardPolicy()}. Suited to long periods; the billings
+     * are returned in chronological order, without duplicates by requestCode.
+     *
+     * @param initialDate The starting date of the period. Format: YYYY-MM-DD.
+     * @param finalDate   The ending date of the period. Format: YYYY-MM-DD.
+     * @param filter      Optional filter criteria to refine the billing retrieval.
+     * @param sort        Optional sorting parameters for the retrieved collection.
+     * @return A list of RetrievedBilling objects containing the retrieved billings.
+     * @throws SdkException if an error occurs during the retrieval process.
+     */
+    public List<RetrievedBilling> retrieveBillingCollectionSharded(String initialDate, String finalDate, BillingRetrievalFilter filter, Sorting sort) throws SdkException {
+        if (billingClient == null) {
+            billingClient = new BillingClient();
+        }
+        return billingClient.retrieveBillingsInRangeSharded(config, initialDate, finalDate, filter, sort);
+    }
+
+    /**
+     * Streams the billing information for a specified period, applying optional filters and sorting.
+     * The pages are fetched as the stream is consumed, see {@link Config#getPagePrefetch()}.
+     *
+     * @param initialDate The starting date for the billing retrieval. Format: YYYY-MM-DD.
+     * @param finalDate   The ending date for the billing retrieval. Format: YYYY-MM-DD.
+     * @param filter      Optional filter criteria to refine the billing retrieval.
+     * @param sort       Optional sorting parameters for the retrieved collection.
+     * @return A lazy stream of retrieved billing information objects.
+     */
+    public Stream<RetrievedBilling> streamBillingCollection(String initialDate, String finalDate,
+                                                            BillingRetrievalFilter filter, Sorting sort) {
+        if (billingClient == null) {
+            billingClient = new BillingClient();
+        }
+
+        return billingClient.streamBillingsInRange(config, initialDate, finalDate, filter, sort);
+    }
+
     /**
      * Retrieves a paginated collection of billing information for a specified period, applying optional filters and sorting.
      *
@@ -162,6 +217,24 @@ public class BillingSdk {
         return billingWebhookClient.retrieveCallbacksInRange(config, initialDateHour, finalDateHour, filter);
     }
 
+    /**
+     * Streams the callback responses for a specified period, applying optional filters.
+     * The pages are fetched as the stream is consumed, see {@link Config#getPagePrefetch()}.
+     *
+     * @param initialDateHour The starting date and hour for the callback retrieval. Format: YYYY-MM-DDTHH:mm.
+     * @param finalDateHour   The ending date and hour for the callback retrieval. Format: YYYY-MM-DDTHH:mm.
+     * @param filter          Optional filter criteria to refine the callback retrieval.
+     * @return A lazy stream of BillingRetrieveCallbackResponse objects containing the retrieved callback information.
+     */
+    public Stream<BillingRetrieveCallbackResponse> streamCallbacks(String initialDateHour, String finalDateHour,
+                                                                   BillingRetrieveCallbacksFilter filter) {
+        if (billingWebhookClient == null) {
+            billingWebhookClient = new BillingWebhookClient();
+        }
+
+        return billingWebhookClient.streamCallbacksInRange(config, initialDateHour, finalDateHour, filter);
+    }
+
     /**
      * Retrieves a paginated list of callbacks for a specified period, applying optional filters.
      *
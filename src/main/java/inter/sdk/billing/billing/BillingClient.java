@@ -1,6 +1,5 @@
 package inter.sdk.billing.billing;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import inter.sdk.billing.models.BillingIssueRequest;
 import inter.sdk.billing.models.BillingIssueResponse;
 import inter.sdk.billing.models.BillingPage;
@@ -13,7 +12,12 @@ import inter.sdk.commons.exceptions.SdkException;
 import inter.sdk.commons.models.Config;
 import inter.sdk.commons.models.Error;
 import inter.sdk.commons.models.PdfReturn;
+import inter.sdk.commons.utils.AsyncHttpUtils;
+import inter.sdk.commons.utils.CacheUtils;
 import inter.sdk.commons.utils.HttpUtils;
+import inter.sdk.commons.utils.JsonUtils;
+import inter.sdk.commons.utils.PageUtils;
+import inter.sdk.commons.utils.ShardUtils;
 import inter.sdk.commons.utils.UrlUtils;
 import lombok.extern.slf4j.Slf4j;
 
@@ -22,9 +26,12 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import static inter.sdk.commons.structures.Constants.BILLET_BILLING_READ_SCOPE;
 import static inter.sdk.commons.structures.Constants.BILLET_BILLING_WRITE_SCOPE;
+import static inter.sdk.commons.structures.Constants.CACHE_BILLING;
 import static inter.sdk.commons.structures.Constants.CERTIFICATE_EXCEPTION_MESSAGE;
 import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
 import static inter.sdk.commons.structures.Constants.URL_BILLING;
@@ -50,8 +57,9 @@ public class BillingClient {
         String url = UrlUtils.buildUrl(config, URL_BILLING) + "/" + requestCode + "/cancelar";
         CancelBillingRequest request = CancelBillingRequest.builder().cancellationReason(cancellationReason).build();
         try {
-            String json = new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(request);
+            String json = JsonUtils.writeValueAsString(request);
             HttpUtils.callPost(config, url, BILLET_BILLING_WRITE_SCOPE, "Error canceling billing", json);
+            CacheUtils.invalidate(config, CACHE_BILLING, requestCode);
         } catch (IOException ioException) {
             log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
             throw new SdkException(
@@ -64,6 +72,25 @@ public class BillingClient {
         }
     }
 
+    /**
+     * Cancels a billing asynchronously.
+     *
+     * @param config             The configuration object containing client information.
+     * @param requestCode        The unique identifier for the billing request to be canceled.
+     * @param cancellationReason The reason for canceling the billing request.
+     * @return A {@link CompletableFuture} completed with {@code null} once the billing is canceled, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<Void> cancelBillingAsync(Config config, String requestCode, String cancellationReason) {
+        log.info("CancelBilling {} {} {}", config.getClientId(), requestCode, cancellationReason);
+        String url = UrlUtils.buildUrl(config, URL_BILLING) + "/" + requestCode + "/cancelar";
+        CancelBillingRequest request = CancelBillingRequest.builder().cancellationReason(cancellationReason).build();
+        return AsyncHttpUtils.callPost(config, url, BILLET_BILLING_WRITE_SCOPE, "Error canceling billing", request)
+                .thenApply(json -> {
+                    CacheUtils.invalidate(config, CACHE_BILLING, requestCode);
+                    return null;
+                });
+    }
+
     /**
      * Issues a new billing request based on the provided billing issue details.
      *
@@ -77,9 +104,9 @@ public class BillingClient {
         log.info("IssueBilling {} {}", config.getClientId(), billingIssueRequest.getYourNumber());
         String url = UrlUtils.buildUrl(config, URL_BILLING);
         try {
-            String json = new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(billingIssueRequest);
+            String json = JsonUtils.writeValueAsString(billingIssueRequest);
             json = HttpUtils.callPost(config, url, BILLET_BILLING_WRITE_SCOPE, "Error issuing billing", json);
-            return new ObjectMapper().readValue(json, BillingIssueResponse.class);
+            return JsonUtils.readValue(json, BillingIssueResponse.class);
         } catch (IOException ioException) {
             log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
             throw new SdkException(
@@ -92,6 +119,20 @@ public class BillingClient {
         }
     }
 
+    /**
+     * Issues a billing asynchronously.
+     *
+     * @param config              The configuration object containing client information.
+     * @param billingIssueRequest The request object containing details for the billing to be issued.
+     * @return A {@link CompletableFuture} completed with the {@link BillingIssueResponse}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<BillingIssueResponse> issueBillingAsync(Config config, BillingIssueRequest billingIssueRequest) {
+        log.info("IssueBilling {} {}", config.getClientId(), billingIssueRequest.getYourNumber());
+        String url = UrlUtils.buildUrl(config, URL_BILLING);
+        return AsyncHttpUtils.callPost(config, url, BILLET_BILLING_WRITE_SCOPE, "Error issuing billing", billingIssueRequest)
+                .thenApply(json -> AsyncHttpUtils.readValue(json, BillingIssueResponse.class));
+    }
+
     /**
      * Retrieves billing details based on the provided request code.
      *
@@ -104,18 +145,42 @@ public class BillingClient {
     public RetrievedBilling retrieveBilling(Config config, String requestCode) throws SdkException {
         log.info("RetrieveIssue {} requestCode={}", config.getClientId(), requestCode);
         String url = UrlUtils.buildUrl(config, URL_BILLING) + "/" + requestCode;
-        String json = HttpUtils.callGet(config, url, BILLET_BILLING_READ_SCOPE, "Error retrieving billing");
-        try {
-            return new ObjectMapper().readValue(json, RetrievedBilling.class);
-        } catch (IOException ioException) {
-            log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
-            throw new SdkException(
-                    ioException.getMessage(),
-                    Error.builder()
-                            .title(CERTIFICATE_EXCEPTION_MESSAGE)
-                            .detail(ioException.getMessage())
-                            .build()
-            );
+        return CacheUtils.get(config, CACHE_BILLING, requestCode, RetrievedBilling.class, BillingClient::isSettled,
+                () -> HttpUtils.callGet(config, url, BILLET_BILLING_READ_SCOPE, "Error retrieving billing", RetrievedBilling.class));
+    }
+
+    /**
+     * Retrieves a billing asynchronously.
+     *
+     * @param config      The configuration object containing client information.
+     * @param requestCode The unique identifier for the billing request to be retrieved.
+     * @return A {@link CompletableFuture} completed with the {@link RetrievedBilling}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<RetrievedBilling> retrieveBillingAsync(Config config, String requestCode) {
+        log.info("RetrieveIssue {} requestCode={}", config.getClientId(), requestCode);
+        String url = UrlUtils.buildUrl(config, URL_BILLING) + "/" + requestCode;
+        return CacheUtils.getAsync(config, CACHE_BILLING, requestCode, RetrievedBilling.class, BillingClient::isSettled,
+                () -> AsyncHttpUtils.callGet(config, url, BILLET_BILLING_READ_SCOPE, "Error retrieving billing", RetrievedBilling.class));
+    }
+
+    /**
+     * Tells whether a billing no longer changes, that is, it was paid, canceled or expired.
+     *
+     * @param billing The billing.
+     * @return {@code true} if the billing can be cached indefinitely.
+     */
+    private static boolean isSettled(RetrievedBilling billing) {
+        if (billing.getBilling() == null || billing.getBilling().getSituation() == null) {
+            return false;
+        }
+        switch (billing.getBilling().getSituation()) {
+            case RECEBIDO:
+            case MARCADO_RECEBIDO:
+            case CANCELADO:
+            case EXPIRADO:
+                return true;
+            default:
+                return false;
         }
     }
 
@@ -138,6 +203,23 @@ public class BillingClient {
         return getPage(config, initialDate, finalDate, page, pageSize, filter, sort);
     }
 
+    /**
+     * Retrieves a page of billings asynchronously.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive).
+     * @param finalDate   The end date for the retrieval range (inclusive).
+     * @param page        The page number to retrieve.
+     * @param pageSize    The number of items per page (optional).
+     * @param filter      Optional filters to be applied to the billing retrieval.
+     * @param sort        Optional sorting criteria for the billing retrieval.
+     * @return A {@link CompletableFuture} completed with the {@link BillingPage}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<BillingPage> retrieveBillingPageAsync(Config config, String initialDate, String finalDate, int page, Integer pageSize, BillingRetrievalFilter filter, Sorting sort) {
+        log.info("RetrieveBillingCollection {} {}-{}", config.getClientId(), initialDate, finalDate);
+        return getPageAsync(config, initialDate, finalDate, page, pageSize, filter, sort);
+    }
+
     /**
      * Retrieves all billing records within the specified date range, applying the given filters and sorting.
      *
@@ -153,6 +235,13 @@ public class BillingClient {
      */
     public List<RetrievedBilling> retrieveBillingsInRange(Config config, String initialDate, String finalDate, BillingRetrievalFilter filter, Sorting sort) throws SdkException {
         log.info("RetrieveBillingCollection {} {}-{}", config.getClientId(), initialDate, finalDate);
+        if (config.getPageConcurrency() > 1) {
+            return AsyncHttpUtils.join(AsyncHttpUtils.collectPages(
+                    page -> getPageAsync(config, initialDate, finalDate, page, null, filter, sort),
+                    BillingPage::getTotalPages,
+                    BillingPage::getBillings,
+                    config.getPageConcurrency()));
+        }
         int page = 0;
         BillingPage billingPage;
         List<RetrievedBilling> billing = new ArrayList<>();
@@ -164,6 +253,85 @@ public class BillingClient {
         return billing;
     }
 
+    /**
+     * Retrieves all billings within the specified date range asynchronously.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive).
+     * @param finalDate   The end date for the retrieval range (inclusive).
+     * @param filter      Optional filters to be applied to the billing retrieval.
+     * @param sort        Optional sorting criteria for the billing retrieval.
+     * @return A {@link CompletableFuture} completed with all retrieved {@link RetrievedBilling} billings, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<List<RetrievedBilling>> retrieveBillingsInRangeAsync(Config config, String initialDate, String finalDate, BillingRetrievalFilter filter, Sorting sort) {
+        log.info("RetrieveBillingCollection {} {}-{}", config.getClientId(), initialDate, finalDate);
+        return AsyncHttpUtils.collectPages(
+                page -> getPageAsync(config, initialDate, finalDate, page, null, filter, sort),
+                BillingPage::getTotalPages,
+                BillingPage::getBillings,
+                config.getPageConcurrency());
+    }
+
+    /**
+     * Streams all billings within the specified date range, fetching the pages as the stream is consumed.
+     * Up to {@link Config#getPagePrefetch()} pages are requested ahead; errors are thrown when the stream
+     * reaches the failed page, as a {@link java.util.concurrent.CompletionException} wrapping the {@link SdkException}.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive).
+     * @param finalDate   The end date for the retrieval range (inclusive).
+     * @param filter      Optional filters to be applied to the billing retrieval.
+     * @param sort        Optional sorting criteria for the billing retrieval.
+     * @return A lazy {@link Stream} of all retrieved {@link RetrievedBilling} billings, in page order.
+     */
+    public Stream<RetrievedBilling> streamBillingsInRange(Config config, String initialDate, String finalDate, BillingRetrievalFilter filter, Sorting sort) {
+        log.info("RetrieveBillingCollection {} {}-{}", config.getClientId(), initialDate, finalDate);
+        return PageUtils.stream(
+                page -> getPageAsync(config, initialDate, finalDate, page, null, filter, sort),
+                BillingPage::getTotalPages,
+                BillingPage::getBillings,
+                config.getPagePrefetch());
+    }
+
+    /**
+     * Retrieves all billings within the specified date range, splitting the range into windows of days
+     * according to {@link Config#getShardPolicy()} and retrieving the windows in parallel. The billings
+     * are returned in chronological order of the windows, without duplicates by their {@code requestCode}.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive). Format: YYYY-MM-DD.
+     * @param finalDate   The end date for the retrieval range (inclusive). Format: YYYY-MM-DD.
+     * @param filter      Optional filters to be applied to the billing retrieval.
+     * @param sort        Optional sorting criteria for the billing retrieval.
+     * @return A list of all retrieved {@link RetrievedBilling} billings.
+     * @throws SdkException If there is an error during the retrieval process, such as network issues
+     *                      or API response errors.
+     */
+    public List<RetrievedBilling> retrieveBillingsInRangeSharded(Config config, String initialDate, String finalDate, BillingRetrievalFilter filter, Sorting sort) throws SdkException {
+        return AsyncHttpUtils.join(retrieveBillingsInRangeShardedAsync(config, initialDate, finalDate, filter, sort));
+    }
+
+    /**
+     * Retrieves all billings within the specified date range asynchronously, splitting the range into windows
+     * of days according to {@link Config#getShardPolicy()} and retrieving the windows in parallel. The billings
+     * are returned in chronological order of the windows, without duplicates by their {@code requestCode}.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive). Format: YYYY-MM-DD.
+     * @param finalDate   The end date for the retrieval range (inclusive). Format: YYYY-MM-DD.
+     * @param filter      Optional filters to be applied to the billing retrieval.
+     * @param sort        Optional sorting criteria for the billing retrieval.
+     * @return A {@link CompletableFuture} completed with all retrieved {@link RetrievedBilling} billings, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<List<RetrievedBilling>> retrieveBillingsInRangeShardedAsync(Config config, String initialDate, String finalDate, BillingRetrievalFilter filter, Sorting sort) {
+        log.info("RetrieveBillingCollection {} {}-{} sharded", config.getClientId(), initialDate, finalDate);
+        return ShardUtils.collectByDay(config, initialDate, finalDate,
+                (windowInitialDate, windowFinalDate, page) -> getPageAsync(config, windowInitialDate, windowFinalDate, page, null, filter, sort),
+                BillingPage::getTotalPages,
+                BillingPage::getBillings,
+                billing -> billing.getBilling() != null ? billing.getBilling().getRequestCode() : null);
+    }
+
     /**
      * Retrieves the billing PDF identified by the provided request code and saves it to a specified file.
      *
@@ -178,7 +346,7 @@ public class BillingClient {
         String url = UrlUtils.buildUrl(config, URL_BILLING) + "/" + requestCode + "/pdf";
         String json = HttpUtils.callGet(config, url, BILLET_BILLING_READ_SCOPE, "Error retrieving billing pdf");
         try {
-            PdfReturn pdfReturn = new ObjectMapper().readValue(json, PdfReturn.class);
+            PdfReturn pdfReturn = JsonUtils.readValue(json, PdfReturn.class);
             byte[] decodedBytes = Base64.getDecoder().decode(pdfReturn.getPdf());
             try (FileOutputStream stream = new FileOutputStream(file)) {
                 stream.write(decodedBytes);
@@ -195,6 +363,21 @@ public class BillingClient {
         }
     }
 
+    /**
+     * Retrieves the PDF of a billing asynchronously and writes it to a file.
+     *
+     * @param config      The configuration object containing client information.
+     * @param requestCode The unique identifier for the billing request whose PDF is to be retrieved.
+     * @param file        The file path where the PDF document will be saved.
+     * @return A {@link CompletableFuture} completed with {@code null} once the file is written, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<Void> retrieveBillingInPDFAsync(Config config, String requestCode, String file) {
+        log.info("RetrieveBillingPdf {} requestCode={}", config.getClientId(), requestCode);
+        String url = UrlUtils.buildUrl(config, URL_BILLING) + "/" + requestCode + "/pdf";
+        return AsyncHttpUtils.callGet(config, url, BILLET_BILLING_READ_SCOPE, "Error retrieving billing pdf")
+                .thenApply(json -> AsyncHttpUtils.writePdf(json, file));
+    }
+
     /**
      * Retrieves a summary of billing records within a specified date range and optional filters.
      *
@@ -212,19 +395,25 @@ public class BillingClient {
                 + "?dataInicial=" + initialDate
                 + "&dataFinal=" + finalDate
                 + addfilters(filter);
-        String json = HttpUtils.callGet(config, url, BILLET_BILLING_READ_SCOPE, "Error retrieving billing summary");
-        try {
-            return new ObjectMapper().readValue(json, Summary.class);
-        } catch (IOException ioException) {
-            log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
-            throw new SdkException(
-                    ioException.getMessage(),
-                    Error.builder()
-                            .title(CERTIFICATE_EXCEPTION_MESSAGE)
-                            .detail(ioException.getMessage())
-                            .build()
-            );
-        }
+        return HttpUtils.callGet(config, url, BILLET_BILLING_READ_SCOPE, "Error retrieving billing summary", Summary.class);
+    }
+
+    /**
+     * Retrieves the summary of the billings within the specified date range asynchronously.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive).
+     * @param finalDate   The end date for the retrieval range (inclusive).
+     * @param filter      Optional filters to be applied to the billing summary retrieval.
+     * @return A {@link CompletableFuture} completed with the {@link Summary}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<Summary> retrieveBillingSummaryAsync(Config config, String initialDate, String finalDate, BillingRetrievalFilter filter) {
+        log.info("RetrieveBillingSummary {} {}-{}", config.getClientId(), initialDate, finalDate);
+        String url = UrlUtils.buildUrl(config, URL_BILLING_SUMMARY)
+                + "?dataInicial=" + initialDate
+                + "&dataFinal=" + finalDate
+                + addfilters(filter);
+        return AsyncHttpUtils.callGet(config, url, BILLET_BILLING_READ_SCOPE, "Error retrieving billing summary", Summary.class);
     }
 
     /**
@@ -242,26 +431,47 @@ public class BillingClient {
      *                      or API response errors.
      */
     private BillingPage getPage(Config config, String initialDate, String finalDate, int page, Integer pageSize, BillingRetrievalFilter filter, Sorting sort) throws SdkException {
-        String url = UrlUtils.buildUrl(config, URL_BILLING)
+        String url = pageUrl(config, initialDate, finalDate, page, pageSize, filter, sort);
+        return HttpUtils.callGet(config, url, BILLET_BILLING_READ_SCOPE, "Error retrieving billing collection", BillingPage.class);
+    }
+
+    /**
+     * Retrieves a specific page of billings asynchronously.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive).
+     * @param finalDate   The end date for the retrieval range (inclusive).
+     * @param page        The page number to retrieve.
+     * @param pageSize    The number of items per page (optional).
+     * @param filter      Optional filters to be applied to the billing retrieval.
+     * @param sort        Optional sorting criteria for the billing retrieval.
+     * @return A {@link CompletableFuture} completed with the {@link BillingPage}.
+     */
+    private CompletableFuture<BillingPage> getPageAsync(Config config, String initialDate, String finalDate, int page, Integer pageSize, BillingRetrievalFilter filter, Sorting sort) {
+        String url = pageUrl(config, initialDate, finalDate, page, pageSize, filter, sort);
+        return AsyncHttpUtils.callGet(config, url, BILLET_BILLING_READ_SCOPE, "Error retrieving billing collection", BillingPage.class);
+    }
+
+    /**
+     * Builds the URL of a page of billings.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive).
+     * @param finalDate   The end date for the retrieval range (inclusive).
+     * @param page        The page number to retrieve.
+     * @param pageSize    The number of items per page (optional).
+     * @param filter      Optional filters to be applied to the billing retrieval.
+     * @param sort        Optional sorting criteria for the billing retrieval.
+     * @return The URL of the page.
+     */
+    private String pageUrl(Config config, String initialDate, String finalDate, int page, Integer pageSize, BillingRetrievalFilter filter, Sorting sort) {
+        return UrlUtils.buildUrl(config, URL_BILLING)
                 + "?dataInicial=" + initialDate
                 + "&dataFinal=" + finalDate
                 + "&paginacao.paginaAtual=" + page
                 + (pageSize != null ? "&paginacao.itensPorPagina=" + pageSize : "")
                 + addfilters(filter)
                 + addSort(sort);
-        String json = HttpUtils.callGet(config, url, BILLET_BILLING_READ_SCOPE, "Error retrieving billing collection");
-        try {
-            return new ObjectMapper().readValue(json, BillingPage.class);
-        } catch (IOException ioException) {
-            log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
-            throw new SdkException(
-                    ioException.getMessage(),
-                    Error.builder()
-                            .title(CERTIFICATE_EXCEPTION_MESSAGE)
-                            .detail(ioException.getMessage())
-                            .build()
-            );
-        }
     }
 
     /**
@@ -1,27 +1,26 @@
 package inter.sdk.billing.webhooks;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import inter.sdk.billing.models.BillingCallbackPage;
 import inter.sdk.billing.models.BillingRetrieveCallbackResponse;
 import inter.sdk.billing.models.BillingRetrieveCallbacksFilter;
 import inter.sdk.commons.exceptions.SdkException;
 import inter.sdk.commons.models.Config;
-import inter.sdk.commons.models.Error;
 import inter.sdk.commons.models.IncludeWebhookRequest;
 import inter.sdk.commons.models.Webhook;
+import inter.sdk.commons.utils.AsyncHttpUtils;
 import inter.sdk.commons.utils.HttpUtils;
+import inter.sdk.commons.utils.PageUtils;
 import inter.sdk.commons.utils.UrlUtils;
 import inter.sdk.commons.utils.WebhookUtil;
 import lombok.extern.slf4j.Slf4j;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import static inter.sdk.commons.structures.Constants.BILLET_BILLING_READ_SCOPE;
 import static inter.sdk.commons.structures.Constants.BILLET_BILLING_WRITE_SCOPE;
-import static inter.sdk.commons.structures.Constants.CERTIFICATE_EXCEPTION_MESSAGE;
-import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
 import static inter.sdk.commons.structures.Constants.URL_BILLING_WEBHOOK;
 import static inter.sdk.commons.structures.Constants.URL_BILLING_WEBHOOK_CALLBACKS;
 
@@ -44,6 +43,19 @@ public class BillingWebhookClient {
         HttpUtils.callDelete(config, url, BILLET_BILLING_WRITE_SCOPE, "Error deleting webhook");
     }
 
+    /**
+     * Deletes the billing webhook asynchronously.
+     *
+     * @param config The configuration object containing client information.
+     * @return A {@link CompletableFuture} completed with {@code null} once the webhook is deleted, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<Void> deleteWebhookAsync(Config config) {
+        log.info("DeleteWebhook billing {}", config.getClientId());
+        String url = UrlUtils.buildUrl(config, URL_BILLING_WEBHOOK);
+        return AsyncHttpUtils.callDelete(config, url, BILLET_BILLING_WRITE_SCOPE, "Error deleting webhook")
+                .thenApply(json -> null);
+    }
+
     /**
      * Includes a new webhook URL for billing notifications.
      *
@@ -60,6 +72,21 @@ public class BillingWebhookClient {
         WebhookUtil.includeWebhook(config, url, request, BILLET_BILLING_WRITE_SCOPE);
     }
 
+    /**
+     * Includes the billing webhook asynchronously.
+     *
+     * @param config     The configuration object containing client information.
+     * @param webhookUrl The URL to be included as a webhook for billing notifications.
+     * @return A {@link CompletableFuture} completed with {@code null} once the webhook is included, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<Void> includeWebhookAsync(Config config, String webhookUrl) {
+        log.info("IncludeWebhook billing {} {}", config.getClientId(), webhookUrl);
+        String url = UrlUtils.buildUrl(config, URL_BILLING_WEBHOOK);
+        IncludeWebhookRequest request = IncludeWebhookRequest.builder().webhookUrl(webhookUrl).build();
+
+        return WebhookUtil.includeWebhookAsync(config, url, request, BILLET_BILLING_WRITE_SCOPE);
+    }
+
     /**
      * Retrieves a page of callback responses based on the specified date range and optional filters.
      *
@@ -78,6 +105,22 @@ public class BillingWebhookClient {
         return getPage(config, initialDateHour, finalDateHour, page, pageSize, filter);
     }
 
+    /**
+     * Retrieves a page of webhook callbacks asynchronously.
+     *
+     * @param config          The configuration object containing client information.
+     * @param initialDateHour The start date and hour for the retrieval range (inclusive).
+     * @param finalDateHour   The end date and hour for the retrieval range (inclusive).
+     * @param page            The page number to retrieve.
+     * @param pageSize        The number of items per page (optional).
+     * @param filter          Optional filters to be applied to the callback retrieval.
+     * @return A {@link CompletableFuture} completed with the {@link BillingCallbackPage}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<BillingCallbackPage> retrieveCallbackPageAsync(Config config, String initialDateHour, String finalDateHour, int page, Integer pageSize, BillingRetrieveCallbacksFilter filter) {
+        log.info("RetrieveCallback {} {}-{}", config.getClientId(), initialDateHour, finalDateHour);
+        return getPageAsync(config, initialDateHour, finalDateHour, page, pageSize, filter);
+    }
+
     /**
      * Retrieves all callback responses within the specified date range, applying the given filters.
      *
@@ -92,6 +135,13 @@ public class BillingWebhookClient {
      */
     public List<BillingRetrieveCallbackResponse> retrieveCallbacksInRange(Config config, String initialDateHour, String finalDateHour, BillingRetrieveCallbacksFilter filter) throws SdkException {
         log.info("RetrieveCallback {} {}-{}", config.getClientId(), initialDateHour, finalDateHour);
+        if (config.getPageConcurrency() > 1) {
+            return AsyncHttpUtils.join(AsyncHttpUtils.collectPages(
+                    page -> getPageAsync(config, initialDateHour, finalDateHour, page, null, filter),
+                    BillingCallbackPage::getTotalPages,
+                    BillingCallbackPage::getCallbacks,
+                    config.getPageConcurrency()));
+        }
         int page = 0;
         BillingCallbackPage callbackPage;
         List<BillingRetrieveCallbackResponse> callbacks = new ArrayList<>();
@@ -103,6 +153,44 @@ public class BillingWebhookClient {
         return callbacks;
     }
 
+    /**
+     * Retrieves all webhook callbacks within the specified period asynchronously.
+     *
+     * @param config          The configuration object containing client information.
+     * @param initialDateHour The start date and hour for the retrieval range (inclusive).
+     * @param finalDateHour   The end date and hour for the retrieval range (inclusive).
+     * @param filter          Optional filters to be applied to the callback retrieval.
+     * @return A {@link CompletableFuture} completed with all retrieved {@link BillingRetrieveCallbackResponse} callbacks, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<List<BillingRetrieveCallbackResponse>> retrieveCallbacksInRangeAsync(Config config, String initialDateHour, String finalDateHour, BillingRetrieveCallbacksFilter filter) {
+        log.info("RetrieveCallback {} {}-{}", config.getClientId(), initialDateHour, finalDateHour);
+        return AsyncHttpUtils.collectPages(
+                page -> getPageAsync(config, initialDateHour, finalDateHour, page, null, filter),
+                BillingCallbackPage::getTotalPages,
+                BillingCallbackPage::getCallbacks,
+                config.getPageConcurrency());
+    }
+
+    /**
+     * Streams all webhook callbacks within the specified period, fetching the pages as the stream is consumed.
+     * Up to {@link Config#getPagePrefetch()} pages are requested ahead; errors are thrown when the stream
+     * reaches the failed page, as a {@link java.util.concurrent.CompletionException} wrapping the {@link SdkException}.
+     *
+     * @param config          The configuration object containing client information.
+     * @param initialDateHour The start date and hour for the retrieval range (inclusive).
+     * @param finalDateHour   The end date and hour for the retrieval range (inclusive).
+     * @param filter          Optional filters to be applied to the callback retrieval.
+     * @return A lazy {@link Stream} of all retrieved {@link BillingRetrieveCallbackResponse} callbacks, in page order.
+     */
+    public Stream<BillingRetrieveCallbackResponse> streamCallbacksInRange(Config config, String initialDateHour, String finalDateHour, BillingRetrieveCallbacksFilter filter) {
+        log.info("RetrieveCallback {} {}-{}", config.getClientId(), initialDateHour, finalDateHour);
+        return PageUtils.stream(
+                page -> getPageAsync(config, initialDateHour, finalDateHour, page, null, filter),
+                BillingCallbackPage::getTotalPages,
+                BillingCallbackPage::getCallbacks,
+                config.getPagePrefetch());
+    }
+
     /**
      * Retrieves the webhook configuration associated with the specified client configuration.
      *
@@ -118,6 +206,18 @@ public class BillingWebhookClient {
         return WebhookUtil.retrieveWebhook(config, url, BILLET_BILLING_READ_SCOPE);
     }
 
+    /**
+     * Retrieves the billing webhook asynchronously.
+     *
+     * @param config The configuration object containing client information.
+     * @return A {@link CompletableFuture} completed with the {@link Webhook}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<Webhook> retrieveWebhookAsync(Config config) {
+        log.info("RetrieveWebhook billing {}", config.getClientId());
+        String url = UrlUtils.buildUrl(config, URL_BILLING_WEBHOOK);
+        return WebhookUtil.retrieveWebhookAsync(config, url, BILLET_BILLING_READ_SCOPE);
+    }
+
     /**
      * Retrieves a specific page of callbacks from the webhook.
      *
@@ -132,25 +232,44 @@ public class BillingWebhookClient {
      *                      or API response errors.
      */
     private BillingCallbackPage getPage(Config config, String initialDateHour, String finalDateHour, int page, Integer pageSize, BillingRetrieveCallbacksFilter filter) throws SdkException {
-        String url = UrlUtils.buildUrl(config, URL_BILLING_WEBHOOK_CALLBACKS)
+        String url = pageUrl(config, initialDateHour, finalDateHour, page, pageSize, filter);
+        return HttpUtils.callGet(config, url, BILLET_BILLING_READ_SCOPE, "Error retrieving callbacks", BillingCallbackPage.class);
+    }
+
+    /**
+     * Retrieves a specific page of webhook callbacks asynchronously.
+     *
+     * @param config          The configuration object containing client information.
+     * @param initialDateHour The start date and hour for the retrieval range (inclusive).
+     * @param finalDateHour   The end date and hour for the retrieval range (inclusive).
+     * @param page            The page number to retrieve.
+     * @param pageSize        The number of items per page (optional).
+     * @param filter          Optional filters to be applied to the callback retrieval.
+     * @return A {@link CompletableFuture} completed with the {@link BillingCallbackPage}.
+     */
+    private CompletableFuture<BillingCallbackPage> getPageAsync(Config config, String initialDateHour, String finalDateHour, int page, Integer pageSize, BillingRetrieveCallbacksFilter filter) {
+        String url = pageUrl(config, initialDateHour, finalDateHour, page, pageSize, filter);
+        return AsyncHttpUtils.callGet(config, url, BILLET_BILLING_READ_SCOPE, "Error retrieving callbacks", BillingCallbackPage.class);
+    }
+
+    /**
+     * Builds the URL of a page of webhook callbacks.
+     *
+     * @param config          The configuration object containing client information.
+     * @param initialDateHour The start date and hour for the retrieval range (inclusive).
+     * @param finalDateHour   The end date and hour for the retrieval range (inclusive).
+     * @param page            The page number to retrieve.
+     * @param pageSize        The number of items per page (optional).
+     * @param filter          Optional filters to be applied to the callback retrieval.
+     * @return The URL of the page.
+     */
+    private String pageUrl(Config config, String initialDateHour, String finalDateHour, int page, Integer pageSize, BillingRetrieveCallbacksFilter filter) {
+        return UrlUtils.buildUrl(config, URL_BILLING_WEBHOOK_CALLBACKS)
                 + "?dataHoraInicio=" + initialDateHour
                 + "&dataHoraFim=" + finalDateHour
                 + "&pagina=" + page
                 + (pageSize != null ? "&itensPorPagina=" + pageSize : "")
                 + addfilters(filter);
-        String json = HttpUtils.callGet(config, url, BILLET_BILLING_READ_SCOPE, "Error retrieving callbacks");
-        try {
-            return new ObjectMapper().readValue(json, BillingCallbackPage.class);
-        } catch (IOException ioException) {
-            log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
-            throw new SdkException(
-                    ioException.getMessage(),
-                    Error.builder()
-                            .title(CERTIFICATE_EXCEPTION_MESSAGE)
-                            .detail(ioException.getMessage())
-                            .build()
-            );
-        }
     }
 
     /**
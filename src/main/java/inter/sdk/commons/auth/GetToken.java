@@ -1,11 +1,11 @@
 package inter.sdk.commons.auth;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import inter.sdk.commons.exceptions.SdkException;
 import inter.sdk.commons.models.Config;
 import inter.sdk.commons.models.GetTokenResponse;
+import inter.sdk.commons.utils.HttpClientManager;
 import inter.sdk.commons.utils.HttpUtils;
-import inter.sdk.commons.utils.SslUtils;
+import inter.sdk.commons.utils.JsonUtils;
 import inter.sdk.commons.utils.UrlUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.HttpEntity;
@@ -14,8 +14,6 @@ import org.apache.http.client.entity.UrlEncodedFormEntity;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
-import org.apache.http.impl.conn.BasicHttpClientConnectionManager;
 import org.apache.http.message.BasicNameValuePair;
 import org.apache.http.util.EntityUtils;
 
@@ -49,8 +47,7 @@ public class GetToken {
     public GetTokenResponse get(Config config, String scope) throws IOException, SdkException {
         log.info("GetToken {} {}", config.getClientId(), scope);
 
-        BasicHttpClientConnectionManager connectionManager = SslUtils.buildConnectionManager(config.getCertificate(), config.getPassword());
-        CloseableHttpClient httpClient = HttpClients.custom().setConnectionManager(connectionManager).build();
+        CloseableHttpClient httpClient = HttpClientManager.get(config);
         String url = UrlUtils.buildUrl(config, URL_TOKEN);
         HttpPost request = new HttpPost(url);
 
@@ -62,11 +59,13 @@ public class GetToken {
         request.setEntity(new UrlEncodedFormEntity(prms, StandardCharsets.UTF_8));
         request.addHeader("Content-Type", "application/x-www-form-urlencoded");
 
-        CloseableHttpResponse response = httpClient.execute(request);
-        HttpUtils.handleResponse(url, response, "Error retrieving token", config.isRateLimitControl());
-        HttpEntity body = response.getEntity();
-        String json = EntityUtils.toString(body, "UTF-8");
-        GetTokenResponse tokenResponse = new ObjectMapper().readValue(json, GetTokenResponse.class);
+        String json;
+        try (CloseableHttpResponse response = httpClient.execute(request)) {
+            HttpUtils.handleResponse(url, response, "Error retrieving token", config.isRateLimitControl());
+            HttpEntity body = response.getEntity();
+            json = EntityUtils.toString(body, "UTF-8");
+        }
+        GetTokenResponse tokenResponse = JsonUtils.readValue(json, GetTokenResponse.class);
         tokenResponse.setCreatedAt(LocalDateTime.now().toEpochSecond(ZoneOffset.UTC));
         return tokenResponse;
     }
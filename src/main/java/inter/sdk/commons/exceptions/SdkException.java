@@ -1,6 +1,7 @@
 package inter.sdk.commons.exceptions;
 
 import inter.sdk.commons.models.Error;
+import inter.sdk.commons.models.HttpCallContext;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
@@ -8,13 +9,15 @@ import lombok.EqualsAndHashCode;
  * The {@code SdkException} class is a base exception class for the SDK.
  * <p>
  * This exception is thrown to indicate general errors that occur within the SDK.
- * It encapsulates an error object that contains additional details about the exception.
+ * It encapsulates an error object that contains additional details about the exception
+ * and, when the error comes from an HTTP call, the context of that call.
  * </p>
  */
 @Data
 @EqualsAndHashCode(callSuper=false)
 public class SdkException extends Exception {
     private final Error error;
+    private HttpCallContext context;
 
     /**
      * Constructs a new {@code SdkException} with the specified detail message and error information.
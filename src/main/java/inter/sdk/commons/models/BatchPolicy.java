@@ -0,0 +1,59 @@
+package inter.sdk.commons.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The {@code BatchPolicy} class defines how a bulk submission, of payments or due billings, is split into
+ * batches and how the batches are followed.
+ * <p>
+ * Items are grouped into batches of {@link #getChunkSize()} items, up to
+ * {@link #getConcurrency()} batches are being submitted at the same time, and each submitted batch
+ * is polled with exponential backoff until it reaches a final status or {@link #getTimeoutMillis()}
+ * elapses.
+ * </p>
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchPolicy {
+
+    /**
+     * The maximum number of items of each submitted batch.
+     */
+    @Builder.Default
+    private int chunkSize = 100;
+
+    /**
+     * The maximum number of batches being submitted at the same time.
+     */
+    @Builder.Default
+    private int concurrency = 4;
+
+    /**
+     * The delay, in milliseconds, before the first poll of a submitted batch.
+     */
+    @Builder.Default
+    private long initialPollDelayMillis = 2000;
+
+    /**
+     * The maximum delay, in milliseconds, between two polls of a batch.
+     */
+    @Builder.Default
+    private long maxPollDelayMillis = 30000;
+
+    /**
+     * The factor by which the delay between polls grows after each poll.
+     */
+    @Builder.Default
+    private double multiplier = 2.0;
+
+    /**
+     * The time, in milliseconds, a batch is polled for before it is reported as not processed.
+     */
+    @Builder.Default
+    private long timeoutMillis = 1800000;
+}
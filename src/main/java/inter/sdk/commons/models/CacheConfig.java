@@ -0,0 +1,39 @@
+package inter.sdk.commons.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The {@code CacheConfig} class defines the read-through cache of settled resources.
+ * <p>
+ * Resources that reached a terminal state, such as a paid billing, never change and are kept
+ * until evicted by size. Other resources are only kept for {@link #getTtlSeconds()} seconds,
+ * and not at all by default. When a {@link #getDirectory()} is set, terminal resources are also
+ * written to disk, so they survive restarts.
+ * </p>
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheConfig {
+
+    /**
+     * The maximum number of resources kept in memory.
+     */
+    @Builder.Default
+    private int maximumSize = 10000;
+
+    /**
+     * The time, in seconds, resources that did not reach a terminal state are kept; 0 does not cache them.
+     */
+    @Builder.Default
+    private long ttlSeconds = 0;
+
+    /**
+     * The directory of the on-disk tier of terminal resources; when not set, resources are only kept in memory.
+     */
+    private String directory;
+}
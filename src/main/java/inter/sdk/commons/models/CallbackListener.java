@@ -0,0 +1,25 @@
+package inter.sdk.commons.models;
+
+/**
+ * Listener notified of each callback received from Inter, such as a received Pix, a paid billet or
+ * a changed billing, see {@link WebhookReceiverConfig}.
+ * <p>
+ * Listeners are called on the threads of the receiver, possibly concurrently, so they must be thread safe.
+ * Errors thrown by a listener are logged and the callback is not delivered again, unless
+ * {@link WebhookReceiverConfig#isAcknowledgeAfterProcessing()}, in which case the request is answered
+ * with 500 and Inter delivers it again.
+ * </p>
+ *
+ * @param <T> The type of the callbacks, e.g. {@code ItemPayload} for Pix.
+ */
+@FunctionalInterface
+public interface CallbackListener<T> {
+
+    /**
+     * Called for each callback received.
+     *
+     * @param callback The callback.
+     * @throws Exception If the callback could not be processed.
+     */
+    void onCallback(T callback) throws Exception;
+}
@@ -5,6 +5,9 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * This class represents the necessary configurations
  * for integration with the system. This class contains sensitive
@@ -55,4 +58,68 @@ public class Config{
      * Control for rate limit enforcement.
      */
     private boolean rateLimitControl;
+
+    /**
+     * Settings of the pooled HTTP transport.
+     */
+    @Builder.Default
+    private ConnectionPoolConfig connectionPool = ConnectionPoolConfig.builder().build();
+
+    /**
+     * The time, in seconds, before a token expires at which it is refreshed in background.
+     */
+    @Builder.Default
+    private int tokenRefreshMargin = 300;
+
+    /**
+     * Policy for retrying failed calls.
+     */
+    @Builder.Default
+    private RetryPolicy retryPolicy = RetryPolicy.builder().build();
+
+    /**
+     * Client-side rate limits by endpoint family, e.g. {@code Constants.URL_BILLING}.
+     * Calls to endpoints without a rate limit are not paced.
+     */
+    private Map<String, RateLimit> rateLimits;
+
+    /**
+     * Scopes requested together in a single token, which is then used for any of them.
+     * When not set, a token is requested for each scope.
+     */
+    private List<String> scopes;
+
+    /**
+     * Listener notified of every HTTP call made with this configuration.
+     */
+    private HttpCallListener callListener;
+
+    /**
+     * The number of pages requested ahead of the one being consumed when a range is streamed.
+     */
+    @Builder.Default
+    private int pagePrefetch = 2;
+    /**
+     * The maximum number of pages fetched at the same time by the range retrievals, once the
+     * number of pages is known from the first one. The default of 1 fetches them one after the other.
+     */
+    @Builder.Default
+    private int pageConcurrency = 1;
+
+    /**
+     * Policy for splitting the date range of the sharded range retrievals.
+     */
+    @Builder.Default
+    private ShardPolicy shardPolicy = ShardPolicy.builder().build();
+
+    /**
+     * Settings of the read-through cache of settled resources. When not set, resources are not cached.
+     */
+    private CacheConfig cache;
+
+    /**
+     * Indicates whether concurrent identical GET requests share a single HTTP call and its result.
+     */
+    @Builder.Default
+    private boolean coalesceRequests = true;
 }
\ No newline at end of file
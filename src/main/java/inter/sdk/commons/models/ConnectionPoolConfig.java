@@ -0,0 +1,41 @@
+package inter.sdk.commons.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The {@code ConnectionPoolConfig} class holds the settings of the pooled
+ * HTTP transport shared by every call made with the same certificate and environment.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConnectionPoolConfig {
+
+    /**
+     * The maximum number of connections kept open to a single route.
+     */
+    @Builder.Default
+    private int maxConnectionsPerRoute = 20;
+
+    /**
+     * The maximum number of connections kept open by the pool.
+     */
+    @Builder.Default
+    private int maxConnectionsTotal = 50;
+
+    /**
+     * The maximum time, in seconds, an idle connection is kept alive when the server does not say otherwise.
+     */
+    @Builder.Default
+    private long keepAliveSeconds = 30;
+
+    /**
+     * The time, in seconds, after which idle connections are evicted from the pool.
+     */
+    @Builder.Default
+    private long idleTimeoutSeconds = 60;
+}
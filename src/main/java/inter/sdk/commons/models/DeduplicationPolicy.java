@@ -0,0 +1,59 @@
+package inter.sdk.commons.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.function.Predicate;
+
+/**
+ * The {@code DeduplicationPolicy} class defines how long and how precisely processed callbacks are
+ * remembered to recognize the ones delivered again, see {@code CallbackDeduplicator}.
+ * <p>
+ * The last {@link #getRecentKeys()} keys are remembered exactly. With a {@link #getProcessedCheck()},
+ * e.g. a lookup in the ledger, all keys of the last {@link #getWindowMillis()} are also remembered in
+ * Bloom filters sized for {@link #getExpectedKeys()} keys per window. A key found only in the Bloom
+ * filters may be a false positive: it is taken as a duplicate only when the processed check confirms it,
+ * so a false positive never drops a callback. Without a processed check no Bloom filters are kept, the
+ * window settings are not used, and only the recent keys are recognized as duplicates; size
+ * {@link #getRecentKeys()} to the number of callbacks that may be delivered again.
+ * </p>
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeduplicationPolicy {
+
+    /**
+     * The time, in milliseconds, keys are remembered for at least; they are forgotten after twice this time.
+     */
+    @Builder.Default
+    private long windowMillis = 86400000;
+
+    /**
+     * The number of keys expected in each window, sizing the Bloom filters.
+     */
+    @Builder.Default
+    private int expectedKeys = 1000000;
+
+    /**
+     * The probability of a key never seen being found in the Bloom filters, while at most
+     * {@link #getExpectedKeys()} keys were added.
+     */
+    @Builder.Default
+    private double falsePositiveRate = 0.000001;
+
+    /**
+     * The number of most recent keys remembered exactly.
+     */
+    @Builder.Default
+    private int recentKeys = 100000;
+
+    /**
+     * Tells whether a key found only in the Bloom filters was really processed, or {@code null} to
+     * keep no Bloom filters. It must be set before the deduplicator is created.
+     */
+    private Predicate<String> processedCheck;
+}
@@ -0,0 +1,48 @@
+package inter.sdk.commons.models;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The {@code HttpCallContext} class describes a single HTTP call made by the SDK.
+ * <p>
+ * A new immutable context is created for each call. It is reported to the
+ * {@link HttpCallListener} of the configuration and attached to the
+ * {@link inter.sdk.commons.exceptions.SdkException} thrown when the call fails,
+ * and is released together with them.
+ * </p>
+ */
+@Value
+@Builder
+public class HttpCallContext {
+
+    /**
+     * The HTTP method of the call, e.g. "GET".
+     */
+    String method;
+
+    /**
+     * The URL of the call.
+     */
+    String url;
+
+    /**
+     * The JSON payload sent, or {@code null} for calls without a payload.
+     */
+    String requestBody;
+
+    /**
+     * The HTTP status of the last response, or {@code null} if no response was received.
+     */
+    Integer status;
+
+    /**
+     * The number of attempts made, including the first one.
+     */
+    int attempts;
+
+    /**
+     * The time, in milliseconds, from the start of the call to its completion, including retries.
+     */
+    long durationMillis;
+}
@@ -0,0 +1,22 @@
+package inter.sdk.commons.models;
+
+import inter.sdk.commons.exceptions.SdkException;
+
+/**
+ * Listener notified of every HTTP call made with a configuration, see {@link Config#getCallListener()}.
+ * <p>
+ * Listeners are called on the thread completing the call, so they must be fast and thread safe.
+ * Errors thrown by a listener are logged and do not affect the call.
+ * </p>
+ */
+@FunctionalInterface
+public interface HttpCallListener {
+
+    /**
+     * Called when an HTTP call completes.
+     *
+     * @param context The context of the call.
+     * @param exception The error of the call, or {@code null} if it succeeded.
+     */
+    void onCall(HttpCallContext context, SdkException exception);
+}
@@ -0,0 +1,28 @@
+package inter.sdk.commons.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The {@code RateLimit} class defines the rate at which calls to a family of endpoints
+ * are sent, so bulk jobs are paced to the published quotas instead of being rejected.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateLimit {
+
+    /**
+     * The sustained number of calls per second.
+     */
+    private double permitsPerSecond;
+
+    /**
+     * The number of calls that may be sent at once after a period without calls.
+     */
+    @Builder.Default
+    private int burst = 1;
+}
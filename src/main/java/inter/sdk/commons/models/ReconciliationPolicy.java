@@ -0,0 +1,76 @@
+package inter.sdk.commons.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static inter.sdk.commons.structures.Constants.BANKING_WEBHOOK_BILLET_PAYMENT;
+import static inter.sdk.commons.structures.Constants.BANKING_WEBHOOK_PIX_PAYMENT;
+
+/**
+ * The {@code ReconciliationPolicy} class defines how often and how far back the callbacks missed by the
+ * webhook receiver are retrieved from the callback APIs, see {@code CallbackReconciler}.
+ * <p>
+ * Every {@link #getIntervalMillis()}, the callbacks sent since the checkpoint of each webhook type, minus
+ * {@link #getOverlapMillis()}, are retrieved in windows of up to {@link #getWindowMillis()}. Without a
+ * checkpoint, the callbacks of the last {@link #getInitialLookbackMillis()} are retrieved.
+ * </p>
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReconciliationPolicy {
+
+    /**
+     * The delay, in milliseconds, between two reconciliations.
+     */
+    @Builder.Default
+    private long intervalMillis = 300000;
+
+    /**
+     * The time, in milliseconds, before the checkpoint retrieved again, for the callbacks sent late.
+     */
+    @Builder.Default
+    private long overlapMillis = 600000;
+
+    /**
+     * The time, in milliseconds, retrieved when a webhook type has no checkpoint yet.
+     */
+    @Builder.Default
+    private long initialLookbackMillis = 86400000;
+
+    /**
+     * The maximum length, in milliseconds, of the windows the gap is retrieved in; the checkpoint
+     * advances after each window.
+     */
+    @Builder.Default
+    private long windowMillis = 21600000;
+
+    /**
+     * The time zone of the dates and hours of the callback APIs.
+     */
+    @Builder.Default
+    private String zoneId = "America/Sao_Paulo";
+
+    /**
+     * The types of the banking webhooks reconciled.
+     */
+    @Builder.Default
+    private List<String> bankingWebhookTypes = Arrays.asList(BANKING_WEBHOOK_BILLET_PAYMENT, BANKING_WEBHOOK_PIX_PAYMENT);
+
+    /**
+     * Whether the callbacks the receiver acknowledged are also replayed, so the ones lost after the
+     * acknowledgement, when a listener fails or the process stops, are recovered; the listeners must then be
+     * wrapped by the same {@code CallbackDeduplicator} as the receiver, which skips the ones already processed.
+     * Only when the receiver acknowledges after processing, see
+     * {@link WebhookReceiverConfig#isAcknowledgeAfterProcessing()}, can it be disabled to replay only the
+     * callbacks never delivered.
+     */
+    @Builder.Default
+    private boolean replayDelivered = true;
+}
@@ -0,0 +1,76 @@
+package inter.sdk.commons.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The {@code RetryPolicy} class defines how failed calls are retried.
+ * <p>
+ * Calls are retried with exponential backoff and jitter, or after the time requested by the
+ * server in the {@code Retry-After} header, up to {@link #getMaxRetryAfterMillis()}. Rate limited calls (HTTP 429) are retried when
+ * {@link Config#isRateLimitControl()} is enabled; server errors and I/O errors are only
+ * retried for idempotent methods (GET, PUT and DELETE).
+ * </p>
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RetryPolicy {
+
+    /**
+     * The maximum number of attempts of a call, including the first one.
+     */
+    @Builder.Default
+    private int maxAttempts = 5;
+
+    /**
+     * The delay, in milliseconds, before the first retry.
+     */
+    @Builder.Default
+    private long initialBackoffMillis = 1000;
+
+    /**
+     * The maximum delay, in milliseconds, between two attempts when the server does not request a delay.
+     */
+    @Builder.Default
+    private long maxBackoffMillis = 30000;
+
+    /**
+     * The factor by which the delay grows after each attempt.
+     */
+    @Builder.Default
+    private double multiplier = 2.0;
+
+    /**
+     * The fraction of the delay that is randomized, from 0 (no jitter) to 1.
+     */
+    @Builder.Default
+    private double jitter = 0.5;
+
+    /**
+     * Indicates whether the delay requested by the server in the {@code Retry-After} header is honored.
+     */
+    @Builder.Default
+    private boolean honorRetryAfter = true;
+
+    /**
+     * The maximum delay, in milliseconds, honored when requested by the server; longer requested delays are shortened to it.
+     */
+    @Builder.Default
+    private long maxRetryAfterMillis = 60000;
+
+    /**
+     * Indicates whether idempotent calls are retried on server errors (HTTP 5xx).
+     */
+    @Builder.Default
+    private boolean retryOnServerError = true;
+
+    /**
+     * Indicates whether idempotent calls are retried on I/O errors.
+     */
+    @Builder.Default
+    private boolean retryOnIoError = true;
+}
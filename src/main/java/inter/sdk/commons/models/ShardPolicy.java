@@ -0,0 +1,40 @@
+package inter.sdk.commons.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The {@code ShardPolicy} class defines how the sharded range retrievals split a date range.
+ * <p>
+ * The range is first split into windows of {@link #getInitialWindowDays()} days. A window whose
+ * first page reports more than {@link #getMaxPagesPerWindow()} pages is split in halves, down to
+ * a single day, or a single hour for the retrievals that accept a date and hour, and up to
+ * {@link #getConcurrency()} windows are retrieved at the same time.
+ * </p>
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShardPolicy {
+
+    /**
+     * The length, in days, of the windows the range is first split into.
+     */
+    @Builder.Default
+    private int initialWindowDays = 1;
+
+    /**
+     * The maximum number of pages of a window; windows with more pages are split further when possible.
+     */
+    @Builder.Default
+    private int maxPagesPerWindow = 10;
+
+    /**
+     * The maximum number of windows retrieved at the same time.
+     */
+    @Builder.Default
+    private int concurrency = 4;
+}
@@ -0,0 +1,155 @@
+package inter.sdk.commons.models;
+
+import inter.sdk.banking.models.Payload;
+import inter.sdk.billing.models.BillingPayload;
+import inter.sdk.pix.models.ItemPayload;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * The {@code WebhookReceiverConfig} class configures the receiver of the webhook callbacks,
+ * see {@code WebhookReceiver}.
+ * <p>
+ * The receiver listens on {@link #getPort()} and decodes the callbacks posted to the Pix, banking and
+ * billing paths into the SDK models, which are handed to the listener of each type. A type without a
+ * listener is not served. When a certificate is given the receiver serves HTTPS, and when trusted
+ * certificates are also given, only clients presenting a certificate issued by them, and with one of
+ * {@link #getAllowedClientNames()} when given, are accepted.
+ * </p>
+ * <p>
+ * Requests are answered before their callbacks are processed unless {@link #isAcknowledgeAfterProcessing()},
+ * so by default callbacks are delivered at most once.
+ * </p>
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WebhookReceiverConfig {
+
+    /**
+     * The address the receiver listens on, or {@code null} to listen on all addresses.
+     */
+    private String host;
+
+    /**
+     * The port the receiver listens on, or 0 for any free port.
+     */
+    @Builder.Default
+    private int port = 8443;
+
+    /**
+     * The path to the certificate file of the receiver, or {@code null} to serve plain HTTP,
+     * e.g. behind a proxy terminating TLS.
+     */
+    private String certificate;
+
+    /**
+     * The password for the certificate.
+     */
+    private String password;
+
+    /**
+     * The path to the file of certificates trusted to issue the certificates of the clients,
+     * or {@code null} not to require client certificates.
+     */
+    private String trustedCertificates;
+
+    /**
+     * The common names (CN) accepted in the certificates of the clients, or {@code null} to accept any
+     * certificate issued by the trusted certificates.
+     */
+    private List<String> allowedClientNames;
+
+    /**
+     * The maximum number of TLS sessions kept for resumption, so returning clients skip the handshake
+     * and the verification of their certificate.
+     */
+    @Builder.Default
+    private int sessionCacheSize = 10000;
+
+    /**
+     * The time, in seconds, a TLS session can be resumed.
+     */
+    @Builder.Default
+    private int sessionTimeoutSeconds = 86400;
+
+    /**
+     * The path of the Pix callbacks. Pix appends {@code /pix} to the URL of the webhook.
+     */
+    @Builder.Default
+    private String pixPath = "/pix";
+
+    /**
+     * The path of the banking callbacks, of billet and Pix payments.
+     */
+    @Builder.Default
+    private String bankingPath = "/banking";
+
+    /**
+     * The path of the billing callbacks.
+     */
+    @Builder.Default
+    private String billingPath = "/billing";
+
+    /**
+     * The number of threads reading the requests and answering them.
+     */
+    @Builder.Default
+    private int ioThreads = 4;
+
+    /**
+     * The number of threads calling the listeners.
+     */
+    @Builder.Default
+    private int listenerThreads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * The maximum number of received requests waiting for a listener thread; beyond it requests are
+     * answered with 503, so Inter sends them again later.
+     */
+    @Builder.Default
+    private int queueCapacity = 10000;
+
+    /**
+     * The maximum size, in bytes, of the body of a request.
+     */
+    @Builder.Default
+    private int maxBodyBytes = 1048576;
+
+    /**
+     * The maximum number of connections waiting to be accepted.
+     */
+    @Builder.Default
+    private int backlog = 1024;
+
+    /**
+     * Whether a request is answered only after the listener processed its callbacks, with 500 when the
+     * listener throws, so Inter delivers it again: callbacks are delivered at least once. By default the
+     * request is answered as soon as it is queued, and a callback whose listener throws, or that is still
+     * queued when the process stops, is lost: callbacks are delivered at most once. When enabled, each
+     * request holds an I/O thread while it is processed, so {@link #getIoThreads()} bounds the requests
+     * processed at the same time.
+     */
+    @Builder.Default
+    private boolean acknowledgeAfterProcessing = false;
+
+    /**
+     * The listener of the Pix callbacks, one per received Pix.
+     */
+    private CallbackListener<ItemPayload> pixListener;
+
+    /**
+     * The listener of the banking callbacks, one per payment.
+     */
+    private CallbackListener<Payload> bankingListener;
+
+    /**
+     * The listener of the billing callbacks, one per billing.
+     */
+    private CallbackListener<BillingPayload> billingListener;
+}
@@ -1,5 +1,9 @@
 package inter.sdk.commons.structures;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 public abstract class Constants {
     public static final String DOC_CERTIFICATE = "https://developers.bancointer.com.br/v4/docs/onde-obter-o-certificado";
 
@@ -60,6 +64,21 @@ public abstract class Constants {
 
     public static final int DAYS_TO_EXPIRE = 30;
 
+    public static final List<String> PAYMENT_BATCH_FINAL_STATUSES = Collections.unmodifiableList(Arrays.asList("PROCESSADO", "CANCELADO", "REPROVADO", "EXPIRADO"));
+
+    public static final String PAYMENT_BATCH_AWAITING_APPROVAL_STATUS = "AGUARDANDO_APROVACAO";
+    public static final String DUE_BILLING_DENIED_SITUATION = "NEGADA";
+
+    public static final String BANKING_WEBHOOK_BILLET_PAYMENT = "boleto-pagamento";
+    public static final String BANKING_WEBHOOK_PIX_PAYMENT = "pix-pagamento";
+
+    public static final String POLL_PAYMENT_BATCH = "payment-batch";
+    public static final String POLL_DUE_BILLING_BATCH = "due-billing-batch";
+
+    public static final String CACHE_PIX = "pix";
+    public static final String CACHE_BILLING = "billing";
+    public static final String CACHE_PAYMENT_BATCH = "payment-batch";
+
     public static final String CERTIFICATE_EXCEPTION_MESSAGE = "Certificate error!";
     public static final String GENERIC_EXCEPTION_MESSAGE = "Error executing SDK!";
 }
\ No newline at end of file
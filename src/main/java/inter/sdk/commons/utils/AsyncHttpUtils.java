@@ -0,0 +1,647 @@
+package inter.sdk.commons.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import inter.sdk.commons.exceptions.SdkException;
+import inter.sdk.commons.models.Config;
+import inter.sdk.commons.models.Error;
+import inter.sdk.commons.models.HttpCallContext;
+import inter.sdk.commons.models.PdfReturn;
+import inter.sdk.commons.models.RetryPolicy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPatch;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.util.EntityUtils;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+import static inter.sdk.commons.structures.Constants.CERTIFICATE_EXCEPTION_MESSAGE;
+import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
+
+/**
+ * The {@code AsyncHttpUtils} class provides the non-blocking counterparts of the
+ * {@link HttpUtils} calls, used by the asynchronous API of the SDK.
+ * <p>
+ * Calls never block the calling thread: requests are sent through the pooled non-blocking
+ * client of {@link HttpClientManager}, waits imposed by rate limits and retries are scheduled
+ * on the SDK scheduler, and responses are handled on the SDK worker threads. The returned
+ * futures complete exceptionally with a {@link SdkException} when the call fails.
+ * </p>
+ */
+@Slf4j
+public class AsyncHttpUtils {
+    private static final String APPLICATION_JSON = "application/json";
+
+    private AsyncHttpUtils() {
+    }
+
+    /**
+     * Sends an HTTP GET request to the specified URL.
+     *
+     * @param config The configuration used to obtain the access token and other parameters.
+     * @param url The URL to send the GET request to.
+     * @param scope The scope of the request for token purposes.
+     * @param message A message describing the request, used in the errors.
+     * @return A {@link CompletableFuture} completed with the response body.
+     */
+    public static CompletableFuture<String> callGet(Config config, String url, String scope, String message) {
+        log.info("http GET {}", url);
+        return SingleFlightUtils.getAsync(config, url, scope, String.class,
+                () -> call(config, new HttpGet(url), url, scope, message, null, HttpUtils.STRING_BODY));
+    }
+
+    /**
+     * Sends an HTTP GET request to the specified URL and deserializes the response from its stream.
+     *
+     * @param config The configuration used to obtain the access token and other parameters.
+     * @param url The URL to send the GET request to.
+     * @param scope The scope of the request for token purposes.
+     * @param message A message describing the request, used in the errors.
+     * @param type The class of the response.
+     * @param <T> The type of the response.
+     * @return A {@link CompletableFuture} completed with the deserialized response.
+     */
+    public static <T> CompletableFuture<T> callGet(Config config, String url, String scope, String message, Class<T> type) {
+        log.info("http GET {}", url);
+        return SingleFlightUtils.getAsync(config, url, scope, type,
+                () -> call(config, new HttpGet(url), url, scope, message, null, HttpUtils.jsonBody(JsonUtils.reader(type))));
+    }
+
+    /**
+     * Sends an HTTP GET request to the specified URL and deserializes the response from its stream.
+     *
+     * @param config The configuration used to obtain the access token and other parameters.
+     * @param url The URL to send the GET request to.
+     * @param scope The scope of the request for token purposes.
+     * @param message A message describing the request, used in the errors.
+     * @param type The reference to the generic type of the response, e.g. {@code List<Payment>}.
+     * @param <T> The type of the response.
+     * @return A {@link CompletableFuture} completed with the deserialized response.
+     */
+    public static <T> CompletableFuture<T> callGet(Config config, String url, String scope, String message, TypeReference<T> type) {
+        log.info("http GET {}", url);
+        return SingleFlightUtils.getAsync(config, url, scope, type,
+                () -> call(config, new HttpGet(url), url, scope, message, null, HttpUtils.jsonBody(JsonUtils.reader(type))));
+    }
+
+    /**
+     * Sends an HTTP POST request with a JSON payload.
+     *
+     * @param config The configuration used to obtain the access token and other parameters.
+     * @param url The URL of the request.
+     * @param scope The scope of the request for token purposes.
+     * @param message A message describing the request, used in the errors.
+     * @param body The object serialized as the JSON payload.
+     * @return A {@link CompletableFuture} completed with the response body.
+     */
+    public static CompletableFuture<String> callPost(Config config, String url, String scope, String message, Object body) {
+        return callHttp(config, url, scope, message, body, new HttpPost(url));
+    }
+
+    /**
+     * Sends an HTTP PUT request with a JSON payload.
+     *
+     * @param config The configuration used to obtain the access token and other parameters.
+     * @param url The URL of the request.
+     * @param scope The scope of the request for token purposes.
+     * @param message A message describing the request, used in the errors.
+     * @param body The object serialized as the JSON payload.
+     * @return A {@link CompletableFuture} completed with the response body.
+     */
+    public static CompletableFuture<String> callPut(Config config, String url, String scope, String message, Object body) {
+        return callHttp(config, url, scope, message, body, new HttpPut(url));
+    }
+
+    /**
+     * Sends an HTTP PUT request with a JSON payload already serialized to UTF-8 bytes.
+     * The payload is sent as it is, without being converted to a string; it is only kept in the
+     * {@link inter.sdk.commons.models.HttpCallContext} of the call in debug mode.
+     *
+     * @param config The configuration used to obtain the access token and other parameters.
+     * @param url The URL to send the PUT request to.
+     * @param scope The scope of the request for token purposes.
+     * @param message A message describing the request, used in the errors.
+     * @param json The serialized JSON payload.
+     * @return A {@link CompletableFuture} completed with the response body.
+     */
+    public static CompletableFuture<String> callPutJson(Config config, String url, String scope, String message, byte[] json) {
+        log.info("http PUT {}", url);
+        HttpPut httpPut = new HttpPut(url);
+        httpPut.addHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_JSON);
+        httpPut.setEntity(new ByteArrayEntity(json));
+
+        String requestBody = null;
+        if (config.isDebug()) {
+            requestBody = new String(json, StandardCharsets.UTF_8);
+            log.info(requestBody);
+        }
+
+        return call(config, httpPut, url, scope, message, requestBody, HttpUtils.STRING_BODY);
+    }
+
+    /**
+     * Sends an HTTP PATCH request with a JSON payload.
+     *
+     * @param config The configuration used to obtain the access token and other parameters.
+     * @param url The URL of the request.
+     * @param scope The scope of the request for token purposes.
+     * @param message A message describing the request, used in the errors.
+     * @param body The object serialized as the JSON payload.
+     * @return A {@link CompletableFuture} completed with the response body.
+     */
+    public static CompletableFuture<String> callPatch(Config config, String url, String scope, String message, Object body) {
+        return callHttp(config, url, scope, message, body, new HttpPatch(url));
+    }
+
+    /**
+     * Sends an HTTP DELETE request.
+     *
+     * @param config The configuration used to obtain the access token and other parameters.
+     * @param url The URL of the request.
+     * @param scope The scope of the request for token purposes.
+     * @param message A message describing the request, used in the errors.
+     * @return A {@link CompletableFuture} completed with the response body.
+     */
+    public static CompletableFuture<String> callDelete(Config config, String url, String scope, String message) {
+        log.info("http DELETE {}", url);
+        return call(config, new HttpDelete(url), url, scope, message, null, HttpUtils.STRING_BODY);
+    }
+
+    /**
+     * Deserializes a response body inside a completion stage.
+     *
+     * @param json The response body.
+     * @param type The class of the object.
+     * @param <T> The type of the object.
+     * @return The deserialized object.
+     * @throws CompletionException Wrapping a {@link SdkException}, if the body cannot be deserialized.
+     */
+    public static <T> T readValue(String json, Class<T> type) {
+        try {
+            return JsonUtils.readValue(json, type);
+        } catch (IOException ioException) {
+            throw new CompletionException(toSdkException(ioException));
+        }
+    }
+
+    /**
+     * Deserializes a response body of a generic type inside a completion stage.
+     *
+     * @param json The response body.
+     * @param type The reference to the type of the object.
+     * @param <T> The type of the object.
+     * @return The deserialized object.
+     * @throws CompletionException Wrapping a {@link SdkException}, if the body cannot be deserialized.
+     */
+    public static <T> T readValue(String json, TypeReference<T> type) {
+        try {
+            return JsonUtils.readValue(json, type);
+        } catch (IOException ioException) {
+            throw new CompletionException(toSdkException(ioException));
+        }
+    }
+
+    /**
+     * Decodes a PDF response body and writes it to a file, inside a completion stage.
+     *
+     * @param json The response body, containing the PDF encoded in base64.
+     * @param file The path of the file to write.
+     * @return Always {@code null}.
+     * @throws CompletionException Wrapping a {@link SdkException}, if the body cannot be decoded or the file cannot be written.
+     */
+    public static Void writePdf(String json, String file) {
+        PdfReturn pdfReturn = readValue(json, PdfReturn.class);
+        byte[] decodedBytes = Base64.getDecoder().decode(pdfReturn.getPdf());
+        try (FileOutputStream stream = new FileOutputStream(file)) {
+            stream.write(decodedBytes);
+        } catch (IOException ioException) {
+            throw new CompletionException(toSdkException(ioException));
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves all the pages of a paginated resource, one after the other, and collects their items.
+     *
+     * @param pageFetcher The function retrieving a page, given its number starting at 0.
+     * @param totalPages The function returning the total number of pages reported by a page.
+     * @param items The function returning the items of a page.
+     * @param <P> The type of the pages.
+     * @param <T> The type of the items.
+     * @return A {@link CompletableFuture} completed with the items of all pages, in order.
+     */
+    public static <P, T> CompletableFuture<List<T>> collectPages(IntFunction<CompletableFuture<P>> pageFetcher, ToIntFunction<P> totalPages, Function<P, List<T>> items) {
+        return collectPages(pageFetcher, totalPages, items, 0, new ArrayList<>());
+    }
+
+    private static <P, T> CompletableFuture<List<T>> collectPages(IntFunction<CompletableFuture<P>> pageFetcher, ToIntFunction<P> totalPages,
+                                                                  Function<P, List<T>> items, int page, List<T> collected) {
+        return pageFetcher.apply(page).thenCompose(result -> {
+            collected.addAll(items.apply(result));
+            if (page + 1 < totalPages.applyAsInt(result)) {
+                return collectPages(pageFetcher, totalPages, items, page + 1, collected);
+            }
+            return CompletableFuture.completedFuture(collected);
+        });
+    }
+
+    /**
+     * Retrieves all the pages of a paginated resource and collects their items, fetching up to
+     * {@code concurrency} pages at the same time once the total number of pages is known from the first one.
+     * <p>
+     * Each page goes through the same rate limits and retry policy as any other call, so with
+     * {@link Config#isRateLimitControl()} enabled the pages are paced by the configured
+     * {@link Config#getRateLimits()} and retried when the API answers with too many requests.
+     * The items are returned in page order regardless of the order in which the pages arrive.
+     * If a page fails, no further pages are requested and the future completes with its error.
+     * </p>
+     *
+     * @param pageFetcher The function retrieving a page, given its number starting at 0.
+     * @param totalPages The function returning the total number of pages reported by a page.
+     * @param items The function returning the items of a page.
+     * @param concurrency The maximum number of pages requested at the same time; 1 or less fetches them one after the other.
+     * @param <P> The type of the pages.
+     * @param <T> The type of the items.
+     * @return A {@link CompletableFuture} completed with the items of all pages, in order.
+     */
+    public static <P, T> CompletableFuture<List<T>> collectPages(IntFunction<CompletableFuture<P>> pageFetcher, ToIntFunction<P> totalPages,
+                                                                 Function<P, List<T>> items, int concurrency) {
+        if (concurrency <= 1) {
+            return collectPages(pageFetcher, totalPages, items);
+        }
+        return pageFetcher.apply(0).thenCompose(first -> {
+            int pageCount = totalPages.applyAsInt(first);
+            if (pageCount <= 1) {
+                return CompletableFuture.completedFuture(new ArrayList<>(items.apply(first)));
+            }
+            return new PageFanOut<>(pageFetcher, items, pageCount).start(items.apply(first), concurrency);
+        });
+    }
+
+    /**
+     * Waits for the result of an asynchronous call from the blocking API.
+     *
+     * @param future The future of the call.
+     * @param <T> The type of the result.
+     * @return The result of the call.
+     * @throws SdkException If the call failed.
+     */
+    public static <T> T join(CompletableFuture<T> future) throws SdkException {
+        try {
+            return future.join();
+        } catch (CompletionException completionException) {
+            Throwable cause = completionException.getCause();
+            if (cause instanceof SdkException) {
+                throw (SdkException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw completionException;
+        }
+    }
+
+    /**
+     * Serializes the payload and sends a request with it.
+     *
+     * @param config The configuration to use for the request.
+     * @param url The URL of the request.
+     * @param scope The scope for access control.
+     * @param message A message for context.
+     * @param body The object serialized as the JSON payload; strings are sent as they are.
+     * @param httpRequest The HTTP request method (POST, PUT, PATCH).
+     * @return A {@link CompletableFuture} completed with the response body.
+     */
+    private static CompletableFuture<String> callHttp(Config config, String url, String scope, String message, Object body, HttpEntityEnclosingRequestBase httpRequest) {
+        log.info("http {} {}", httpRequest.getMethod(), url);
+        String json;
+        try {
+            json = body instanceof String ? (String) body : JsonUtils.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            CompletableFuture<String> failed = new CompletableFuture<>();
+            failed.completeExceptionally(toSdkException(e));
+            return failed;
+        }
+        httpRequest.addHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_JSON);
+        httpRequest.setEntity(new StringEntity(json, StandardCharsets.UTF_8));
+
+        if (config.isDebug()) {
+            log.info(json);
+        }
+
+        return call(config, httpRequest, url, scope, message, json, HttpUtils.STRING_BODY);
+    }
+
+    /**
+     * Starts an asynchronous call.
+     *
+     * @param config The configuration object for the request.
+     * @param httpRequest The HTTP request to execute.
+     * @param url The URL of the request.
+     * @param scope The scope for access control.
+     * @param message A contextual message for the request.
+     * @param json The JSON payload of the request, or {@code null}.
+     * @param bodyReader The reader of the response body.
+     * @param <T> The type of the response.
+     * @return A {@link CompletableFuture} completed with the response.
+     */
+    private static <T> CompletableFuture<T> call(Config config, HttpRequestBase httpRequest, String url, String scope, String message, String json, HttpUtils.BodyReader<T> bodyReader) {
+        AsyncCall<T> asyncCall = new AsyncCall<>(config, httpRequest, url, scope, message, json, bodyReader);
+        asyncCall.attempt(1);
+        return asyncCall.result;
+    }
+
+    /**
+     * Converts an I/O error into the {@link SdkException} reported by the SDK.
+     *
+     * @param ioException The I/O error.
+     * @return The {@link SdkException}.
+     */
+    private static SdkException toSdkException(IOException ioException) {
+        log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
+        // a response that cannot be deserialized is not a transport or certificate problem
+        String title = ioException instanceof JsonProcessingException ? GENERIC_EXCEPTION_MESSAGE : CERTIFICATE_EXCEPTION_MESSAGE;
+        return new SdkException(
+                ioException.getMessage(),
+                Error.builder()
+                        .title(title)
+                        .detail(ioException.getMessage())
+                        .build()
+        );
+    }
+
+    /**
+     * The state of an asynchronous call, across its attempts.
+     *
+     * @param <T> The type of the response.
+     */
+    private static final class AsyncCall<T> {
+        private final Config config;
+        private final HttpRequestBase httpRequest;
+        private final String url;
+        private final String scope;
+        private final String message;
+        private final RetryPolicy retryPolicy;
+        private final HttpUtils.BodyReader<T> bodyReader;
+        private final HttpCallContext.HttpCallContextBuilder context;
+        private final long start = System.nanoTime();
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private AsyncCall(Config config, HttpRequestBase httpRequest, String url, String scope, String message, String json, HttpUtils.BodyReader<T> bodyReader) {
+            this.config = config;
+            this.httpRequest = httpRequest;
+            this.url = url;
+            this.scope = scope;
+            this.message = message;
+            this.retryPolicy = config.getRetryPolicy() != null ? config.getRetryPolicy() : RetryPolicy.builder().build();
+            this.bodyReader = bodyReader;
+            this.context = HttpCallContext.builder()
+                    .method(httpRequest.getMethod())
+                    .url(url)
+                    .requestBody(json);
+        }
+
+        /**
+         * Obtains the token and sends the request, once the rate limit allows it.
+         *
+         * @param attempt The number of the attempt, starting at 1.
+         */
+        private void attempt(int attempt) {
+            context.attempts(attempt);
+            TokenUtils.getAsync(config, scope).whenComplete((accessToken, error) -> {
+                if (error != null) {
+                    fail(error instanceof CompletionException ? error.getCause() : error);
+                    return;
+                }
+                long wait = RateLimitUtils.reserve(config, url);
+                if (wait > 0) {
+                    ExecutorUtils.scheduler().schedule(() -> send(attempt, accessToken), wait, TimeUnit.NANOSECONDS);
+                } else {
+                    send(attempt, accessToken);
+                }
+            });
+        }
+
+        /**
+         * Sends the request. The response is handled on the SDK worker threads, never on the I/O threads.
+         *
+         * @param attempt The number of the attempt, starting at 1.
+         * @param accessToken The access token of the call.
+         */
+        private void send(int attempt, String accessToken) {
+            CloseableHttpAsyncClient httpClient;
+            try {
+                httpClient = HttpClientManager.getAsync(config);
+            } catch (SdkException e) {
+                fail(e);
+                return;
+            }
+            HttpUtils.setHeaders(config, httpRequest, accessToken);
+            httpClient.execute(httpRequest, new FutureCallback<HttpResponse>() {
+                @Override
+                public void completed(HttpResponse response) {
+                    ExecutorUtils.worker().execute(() -> onResponse(attempt, response));
+                }
+
+                @Override
+                public void failed(Exception e) {
+                    ExecutorUtils.worker().execute(() -> onFailure(attempt, e));
+                }
+
+                @Override
+                public void cancelled() {
+                    result.cancel(false);
+                }
+            });
+        }
+
+        /**
+         * Handles a response, retrying the call when the retry policy allows it.
+         *
+         * @param attempt The number of the attempt, starting at 1.
+         * @param response The response received.
+         */
+        private void onResponse(int attempt, HttpResponse response) {
+            try {
+                int status = response.getStatusLine().getStatusCode();
+                context.status(status);
+                if (RetryUtils.isRetryable(retryPolicy, httpRequest.getMethod(), status, attempt, config.isRateLimitControl())) {
+                    log.info("http status={} {}", response.getStatusLine(), url);
+                    EntityUtils.consume(response.getEntity());
+                    retry(attempt, RetryUtils.getDelay(retryPolicy, attempt, response));
+                    return;
+                }
+                HttpUtils.handleResponse(url, response, message, false);
+                succeed(bodyReader.read(config, response.getEntity()));
+            } catch (SdkException e) {
+                fail(e);
+            } catch (IOException ioException) {
+                fail(toSdkException(ioException));
+            } catch (RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        /**
+         * Handles a failed attempt, retrying the call when the retry policy allows it.
+         *
+         * @param attempt The number of the attempt, starting at 1.
+         * @param exception The error of the attempt.
+         */
+        private void onFailure(int attempt, Exception exception) {
+            if (exception instanceof IOException && RetryUtils.isRetryable(retryPolicy, httpRequest.getMethod(), attempt)) {
+                log.warn("http {} {} failed: {}", httpRequest.getMethod(), url, exception.getMessage());
+                retry(attempt, RetryUtils.getDelay(retryPolicy, attempt, null));
+            } else if (exception instanceof IOException) {
+                fail(toSdkException((IOException) exception));
+            } else {
+                fail(exception);
+            }
+        }
+
+        /**
+         * Completes the call with the response, reporting its context.
+         *
+         * @param response The response read.
+         */
+        private void succeed(T response) {
+            HttpUtils.complete(config, context, start, null);
+            result.complete(response);
+        }
+
+        /**
+         * Completes the call with an error, attaching the context of the call to SDK errors.
+         *
+         * @param error The error of the call.
+         */
+        private void fail(Throwable error) {
+            if (error instanceof SdkException) {
+                HttpUtils.complete(config, context, start, (SdkException) error);
+            }
+            result.completeExceptionally(error);
+        }
+
+        /**
+         * Schedules the next attempt of the call.
+         *
+         * @param attempt The number of the attempt that failed, starting at 1.
+         * @param delay The delay in milliseconds.
+         */
+        private void retry(int attempt, long delay) {
+            log.info("Retrying {} {} in {} ms, attempt {} of {}", httpRequest.getMethod(), url, delay, attempt + 1, retryPolicy.getMaxAttempts());
+            ExecutorUtils.scheduler().schedule(() -> attempt(attempt + 1), delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * The pages of a retrieval being fetched concurrently, after the first one.
+     * Each completed page requests the next one not yet requested, so at most a fixed
+     * number of pages are in flight, and the items are kept by page number to be joined in order.
+     *
+     * @param <P> The type of the pages.
+     * @param <T> The type of the items.
+     */
+    private static final class PageFanOut<P, T> {
+        private final IntFunction<CompletableFuture<P>> pageFetcher;
+        private final Function<P, List<T>> items;
+        private final int pageCount;
+        private final AtomicReferenceArray<List<T>> pages;
+        private final AtomicInteger nextPage = new AtomicInteger(1);
+        private final AtomicInteger remaining;
+        private final CompletableFuture<List<T>> result = new CompletableFuture<>();
+
+        private PageFanOut(IntFunction<CompletableFuture<P>> pageFetcher, Function<P, List<T>> items, int pageCount) {
+            this.pageFetcher = pageFetcher;
+            this.items = items;
+            this.pageCount = pageCount;
+            this.pages = new AtomicReferenceArray<>(pageCount);
+            this.remaining = new AtomicInteger(pageCount - 1);
+        }
+
+        /**
+         * Starts fetching the pages after the first one.
+         *
+         * @param firstItems The items of the first page.
+         * @param concurrency The maximum number of pages requested at the same time.
+         * @return A {@link CompletableFuture} completed with the items of all pages, in order.
+         */
+        private CompletableFuture<List<T>> start(List<T> firstItems, int concurrency) {
+            pages.set(0, firstItems);
+            for (int i = Math.min(concurrency, pageCount - 1); i > 0; i--) {
+                fetchNext();
+            }
+            return result;
+        }
+
+        /**
+         * Requests the next page not yet requested, unless all were requested or one failed.
+         */
+        private void fetchNext() {
+            int page = nextPage.getAndIncrement();
+            if (page >= pageCount || result.isDone()) {
+                return;
+            }
+            CompletableFuture<P> future;
+            try {
+                future = pageFetcher.apply(page);
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+                return;
+            }
+            future.whenComplete((response, error) -> {
+                if (error != null) {
+                    result.completeExceptionally(error instanceof CompletionException ? error.getCause() : error);
+                    return;
+                }
+                try {
+                    pages.set(page, items.apply(response));
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                    return;
+                }
+                if (remaining.decrementAndGet() == 0) {
+                    result.complete(join());
+                } else {
+                    fetchNext();
+                }
+            });
+        }
+
+        /**
+         * Joins the items of all pages, in page order.
+         *
+         * @return The items of all pages.
+         */
+        private List<T> join() {
+            List<T> collected = new ArrayList<>();
+            for (int i = 0; i < pageCount; i++) {
+                collected.addAll(pages.get(i));
+            }
+            return collected;
+        }
+    }
+}
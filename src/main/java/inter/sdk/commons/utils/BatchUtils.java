@@ -0,0 +1,107 @@
+package inter.sdk.commons.utils;
+
+import inter.sdk.commons.exceptions.SdkException;
+import inter.sdk.commons.models.Error;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+
+import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
+
+/**
+ * The {@code BatchUtils} class provides the helpers shared by the submitters of batches, such as
+ * payment batches and due billing batches: bounding the submissions in progress, waiting for their
+ * outcomes and classifying and reporting their errors.
+ */
+public class BatchUtils {
+    private static final int CLIENT_ERROR_BASE = 400;
+    private static final int SERVER_ERROR_BASE = 500;
+
+    private BatchUtils() {
+    }
+
+    /**
+     * Returns the message of the error of a failed batch.
+     *
+     * @param throwable The error, possibly wrapped in a {@link CompletionException}.
+     * @return The detail of the {@link SdkException}, or the message of the error.
+     */
+    public static String errorMessage(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        if (cause instanceof SdkException && ((SdkException) cause).getError() != null
+                && ((SdkException) cause).getError().getDetail() != null) {
+            return ((SdkException) cause).getError().getDetail();
+        }
+        return String.valueOf(cause.getMessage());
+    }
+
+    /**
+     * Tells whether a batch was rejected by the API, as opposed to a failure after which the batch may
+     * have been created, such as a timeout, an I/O error or a server error.
+     *
+     * @param throwable The error of the call submitting the batch, possibly wrapped in a {@link CompletionException}.
+     * @return {@code true} if the API answered the call with a client error, so the batch was not created.
+     */
+    public static boolean isRejected(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        if (!(cause instanceof SdkException) || ((SdkException) cause).getContext() == null) {
+            return false;
+        }
+        Integer status = ((SdkException) cause).getContext().getStatus();
+        return status != null && status >= CLIENT_ERROR_BASE && status < SERVER_ERROR_BASE;
+    }
+
+    /**
+     * Waits for a free submission slot.
+     *
+     * @param submissions The slots of the submissions in progress.
+     * @param action      The action interrupted, used in the error, e.g. {@code submitting payments}.
+     * @throws SdkException If the thread is interrupted while waiting.
+     */
+    public static void acquire(Semaphore submissions, String action) throws SdkException {
+        try {
+            submissions.acquire();
+        } catch (InterruptedException e) {
+            throw interrupted(action);
+        }
+    }
+
+    /**
+     * Waits for the outcome of a batch.
+     *
+     * @param batch  The future of the outcome of the batch.
+     * @param action The action interrupted, used in the error, e.g. {@code submitting payments}.
+     * @param <T>    The type of the outcome.
+     * @return The outcome of the batch.
+     * @throws SdkException If the thread is interrupted while waiting.
+     */
+    public static <T> T await(CompletableFuture<T> batch, String action) throws SdkException {
+        try {
+            return batch.get();
+        } catch (InterruptedException e) {
+            throw interrupted(action);
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    /**
+     * Restores the interrupt flag and builds the exception thrown when a submission is interrupted.
+     *
+     * @param action The action interrupted.
+     * @return The exception to throw.
+     */
+    private static SdkException interrupted(String action) {
+        Thread.currentThread().interrupt();
+        String detail = "Interrupted while " + action;
+        return new SdkException(
+                detail,
+                Error.builder()
+                        .title(GENERIC_EXCEPTION_MESSAGE)
+                        .detail(detail)
+                        .build()
+        );
+    }
+}
@@ -0,0 +1,485 @@
+package inter.sdk.commons.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import inter.sdk.commons.exceptions.SdkException;
+import inter.sdk.commons.models.CacheConfig;
+import inter.sdk.commons.models.Config;
+import inter.sdk.commons.models.Error;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
+
+/**
+ * The {@code CacheUtils} class provides the read-through cache of settled resources.
+ * <p>
+ * Resources are looked up in memory, then on disk when {@link CacheConfig#getDirectory()} is set,
+ * and loaded from the API on a miss. Resources in a terminal state are kept until evicted by size and
+ * written to disk; other resources are kept for {@link CacheConfig#getTtlSeconds()} seconds, if at all.
+ * </p>
+ * <p>
+ * The memory tier follows the W-TinyLFU policy: new resources enter a small LRU window, and a resource
+ * leaving the window only replaces the least recently used resource of the main area if it was requested
+ * more often, according to a compact frequency sketch. One-off lookups thus do not evict the resources
+ * that are requested repeatedly. There is one cache per client and environment.
+ * </p>
+ * <p>
+ * Resources are read back from disk with {@link JsonUtils}, unless the caller provides a {@link Parser},
+ * as needed for resources with polymorphic members.
+ * </p>
+ * <p>
+ * Cached resources are shared by all callers and must not be modified.
+ * </p>
+ */
+@Slf4j
+public class CacheUtils {
+    private static final Map<String, ResourceCache> CACHES = new ConcurrentHashMap<>();
+
+    private CacheUtils() {
+    }
+
+    /**
+     * Loads a resource from the API.
+     *
+     * @param <T> The type of the resource.
+     */
+    @FunctionalInterface
+    public interface Loader<T> {
+        /**
+         * Loads the resource.
+         *
+         * @return The resource.
+         * @throws SdkException If the resource cannot be retrieved.
+         */
+        T load() throws SdkException;
+    }
+
+    /**
+     * Parses a resource written to disk.
+     *
+     * @param <T> The type of the resource.
+     */
+    @FunctionalInterface
+    public interface Parser<T> {
+        /**
+         * Parses the resource.
+         *
+         * @param json The JSON of the resource.
+         * @return The resource.
+         * @throws SdkException If the JSON cannot be parsed.
+         */
+        T parse(String json) throws SdkException;
+    }
+
+    /**
+     * Returns a cached resource, or loads and caches it.
+     *
+     * @param config The configuration, providing the {@link CacheConfig}; without one the resource is always loaded.
+     * @param namespace The kind of resource, e.g. {@code "pix"}.
+     * @param id The identifier of the resource in its namespace.
+     * @param type The class of the resource.
+     * @param terminal The predicate telling whether a resource reached a state in which it no longer changes.
+     * @param loader The function loading the resource from the API.
+     * @param <T> The type of the resource.
+     * @return The resource.
+     * @throws SdkException If the resource is not cached and cannot be loaded.
+     */
+    public static <T> T get(Config config, String namespace, String id, Class<T> type, Predicate<T> terminal, Loader<T> loader) throws SdkException {
+        return get(config, namespace, id, type, json(type), terminal, loader);
+    }
+
+    /**
+     * Returns a cached resource, or loads and caches it, reading it back from disk with a parser.
+     *
+     * @param config The configuration, providing the {@link CacheConfig}; without one the resource is always loaded.
+     * @param namespace The kind of resource, e.g. {@code "pix"}.
+     * @param id The identifier of the resource in its namespace.
+     * @param type The class of the resource.
+     * @param parser The function parsing the resource written to disk.
+     * @param terminal The predicate telling whether a resource reached a state in which it no longer changes.
+     * @param loader The function loading the resource from the API.
+     * @param <T> The type of the resource.
+     * @return The resource.
+     * @throws SdkException If the resource is not cached and cannot be loaded.
+     */
+    public static <T> T get(Config config, String namespace, String id, Class<T> type, Parser<T> parser, Predicate<T> terminal,
+                            Loader<T> loader) throws SdkException {
+        ResourceCache cache = cache(config);
+        if (cache == null) {
+            return loader.load();
+        }
+        String key = namespace + ":" + id;
+        T cached = cache.get(key, namespace, id, type, parser);
+        if (cached != null) {
+            return cached;
+        }
+        T value = loader.load();
+        cache.put(key, namespace, id, value, terminal);
+        return value;
+    }
+
+    /**
+     * Returns a cached resource, or loads and caches it, without blocking on the API.
+     *
+     * @param config The configuration, providing the {@link CacheConfig}; without one the resource is always loaded.
+     * @param namespace The kind of resource, e.g. {@code "pix"}.
+     * @param id The identifier of the resource in its namespace.
+     * @param type The class of the resource.
+     * @param terminal The predicate telling whether a resource reached a state in which it no longer changes.
+     * @param loader The function loading the resource from the API.
+     * @param <T> The type of the resource.
+     * @return A {@link CompletableFuture} completed with the resource.
+     */
+    public static <T> CompletableFuture<T> getAsync(Config config, String namespace, String id, Class<T> type, Predicate<T> terminal,
+                                                    Supplier<CompletableFuture<T>> loader) {
+        return getAsync(config, namespace, id, type, json(type), terminal, loader);
+    }
+
+    /**
+     * Returns a cached resource, or loads and caches it without blocking on the API, reading it back from disk with a parser.
+     *
+     * @param config The configuration, providing the {@link CacheConfig}; without one the resource is always loaded.
+     * @param namespace The kind of resource, e.g. {@code "pix"}.
+     * @param id The identifier of the resource in its namespace.
+     * @param type The class of the resource.
+     * @param parser The function parsing the resource written to disk.
+     * @param terminal The predicate telling whether a resource reached a state in which it no longer changes.
+     * @param loader The function loading the resource from the API.
+     * @param <T> The type of the resource.
+     * @return A {@link CompletableFuture} completed with the resource.
+     */
+    public static <T> CompletableFuture<T> getAsync(Config config, String namespace, String id, Class<T> type, Parser<T> parser,
+                                                    Predicate<T> terminal, Supplier<CompletableFuture<T>> loader) {
+        ResourceCache cache = cache(config);
+        if (cache == null) {
+            return loader.get();
+        }
+        String key = namespace + ":" + id;
+        T cached = cache.get(key, namespace, id, type, parser);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return loader.get().thenApply(value -> {
+            cache.put(key, namespace, id, value, terminal);
+            return value;
+        });
+    }
+
+    /**
+     * Caches a resource loaded outside the cache, e.g. by a poller that must not read stale states.
+     *
+     * @param config The configuration, providing the {@link CacheConfig}; without one nothing is cached.
+     * @param namespace The kind of resource, e.g. {@code "pix"}.
+     * @param id The identifier of the resource in its namespace.
+     * @param value The resource.
+     * @param terminal The predicate telling whether a resource reached a state in which it no longer changes.
+     * @param <T> The type of the resource.
+     */
+    public static <T> void put(Config config, String namespace, String id, T value, Predicate<T> terminal) {
+        ResourceCache cache = cache(config);
+        if (cache != null) {
+            cache.put(namespace + ":" + id, namespace, id, value, terminal);
+        }
+    }
+
+    /**
+     * Removes a resource from the cache, e.g. after an operation that changes it.
+     *
+     * @param config The configuration, providing the {@link CacheConfig}.
+     * @param namespace The kind of resource, e.g. {@code "pix"}.
+     * @param id The identifier of the resource in its namespace.
+     */
+    public static void invalidate(Config config, String namespace, String id) {
+        ResourceCache cache = cache(config);
+        if (cache != null) {
+            cache.invalidate(namespace + ":" + id, namespace, id);
+        }
+    }
+
+    /**
+     * Returns the parser reading a resource with {@link JsonUtils}.
+     *
+     * @param type The class of the resource.
+     * @param <T> The type of the resource.
+     * @return The parser.
+     */
+    private static <T> Parser<T> json(Class<T> type) {
+        return json -> {
+            try {
+                return JsonUtils.readValue(json, type);
+            } catch (JsonProcessingException e) {
+                throw new SdkException(
+                        e.getMessage(),
+                        Error.builder()
+                                .title(GENERIC_EXCEPTION_MESSAGE)
+                                .detail(e.getMessage())
+                                .build()
+                );
+            }
+        };
+    }
+
+    /**
+     * Returns the cache of the client and environment of a configuration, replacing it if its settings changed.
+     *
+     * @param config The configuration.
+     * @return The cache, or {@code null} if caching is disabled.
+     */
+    private static ResourceCache cache(Config config) {
+        CacheConfig cacheConfig = config.getCache();
+        if (cacheConfig == null || cacheConfig.getMaximumSize() <= 0) {
+            return null;
+        }
+        String key = String.join(":", config.getClientId(), String.valueOf(config.getEnvironment()));
+        return CACHES.compute(key, (k, current) -> current != null && current.settings.equals(cacheConfig)
+                ? current
+                : new ResourceCache(cacheConfig, config.getClientId()));
+    }
+
+    /**
+     * The memory and disk tiers of the cache of a client.
+     */
+    private static final class ResourceCache {
+        private final CacheConfig settings;
+        private final TinyLfu memory;
+        private final Path directory;
+
+        private ResourceCache(CacheConfig settings, String clientId) {
+            this.settings = new CacheConfig(settings.getMaximumSize(), settings.getTtlSeconds(), settings.getDirectory());
+            this.memory = new TinyLfu(settings.getMaximumSize());
+            this.directory = settings.getDirectory() != null ? Paths.get(settings.getDirectory(), safe(clientId)) : null;
+        }
+
+        /**
+         * Looks a resource up in memory, then on disk.
+         *
+         * @return The resource, or {@code null} on a miss.
+         */
+        private <T> T get(String key, String namespace, String id, Class<T> type, Parser<T> parser) {
+            Object value = memory.get(key);
+            if (type.isInstance(value)) {
+                return type.cast(value);
+            }
+            if (directory == null) {
+                return null;
+            }
+            try {
+                T stored = parser.parse(new String(Files.readAllBytes(file(namespace, id)), StandardCharsets.UTF_8));
+                memory.put(key, stored, Long.MAX_VALUE);
+                return stored;
+            } catch (NoSuchFileException e) {
+                return null;
+            } catch (IOException | SdkException exception) {
+                log.warn("Error reading cached {} {}", namespace, id, exception);
+                return null;
+            }
+        }
+
+        /**
+         * Caches a loaded resource according to its state.
+         */
+        private <T> void put(String key, String namespace, String id, T value, Predicate<T> terminal) {
+            if (value == null) {
+                return;
+            }
+            if (terminal.test(value)) {
+                memory.put(key, value, Long.MAX_VALUE);
+                if (directory != null) {
+                    write(namespace, id, value);
+                }
+            } else if (settings.getTtlSeconds() > 0) {
+                memory.put(key, value, System.nanoTime() + TimeUnit.SECONDS.toNanos(settings.getTtlSeconds()));
+            }
+        }
+
+        private void invalidate(String key, String namespace, String id) {
+            memory.remove(key);
+            if (directory != null) {
+                try {
+                    Files.deleteIfExists(file(namespace, id));
+                } catch (IOException ioException) {
+                    log.warn("Error removing cached {} {}", namespace, id, ioException);
+                }
+            }
+        }
+
+        /**
+         * Writes a resource to disk through a temporary file, so readers never see a partial file.
+         */
+        private void write(String namespace, String id, Object value) {
+            Path file = file(namespace, id);
+            try {
+                Files.createDirectories(file.getParent());
+                Path temporary = Files.createTempFile(file.getParent(), ".cache", ".tmp");
+                try (OutputStream outputStream = Files.newOutputStream(temporary)) {
+                    JsonUtils.writer(value.getClass()).writeValue(outputStream, value);
+                }
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException ioException) {
+                log.warn("Error caching {} {}", namespace, id, ioException);
+            }
+        }
+
+        private Path file(String namespace, String id) {
+            return directory.resolve(safe(namespace)).resolve(safe(id) + ".json");
+        }
+
+        private static String safe(String name) {
+            return String.valueOf(name).replaceAll("[^A-Za-z0-9._-]", "_");
+        }
+    }
+
+    /**
+     * A size-bounded map with the W-TinyLFU eviction policy and per-entry expiration.
+     * <p>
+     * The window holds about 1% of the entries; both areas are kept in access order.
+     * Frequencies are estimated by a count-min sketch of 4 counters per key, capped at 15
+     * and halved after every {@code 10 * maximumSize} increments, so past popularity fades.
+     * </p>
+     */
+    private static final class TinyLfu {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, Entry> window = new LinkedHashMap<>(16, 0.75f, true);
+        private final LinkedHashMap<String, Entry> main = new LinkedHashMap<>(16, 0.75f, true);
+        private final int windowSize;
+        private final int mainSize;
+        private final byte[] counters;
+        private final int mask;
+        private final int sampleSize;
+        private int increments;
+
+        private TinyLfu(int maximumSize) {
+            int size = Math.max(maximumSize, 2);
+            this.windowSize = Math.max(size / 100, 1);
+            this.mainSize = size - windowSize;
+            int length = Integer.highestOneBit(Math.max(size * 4, 64) - 1) << 1;
+            this.counters = new byte[length];
+            this.mask = length - 1;
+            this.sampleSize = 10 * size;
+        }
+
+        private Object get(String key) {
+            lock.lock();
+            try {
+                increment(key);
+                Entry entry = window.get(key);
+                if (entry == null) {
+                    entry = main.get(key);
+                }
+                if (entry == null) {
+                    return null;
+                }
+                if (entry.expiresAt != Long.MAX_VALUE && System.nanoTime() - entry.expiresAt >= 0) {
+                    window.remove(key);
+                    main.remove(key);
+                    return null;
+                }
+                return entry.value;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void put(String key, Object value, long expiresAt) {
+            lock.lock();
+            try {
+                Entry entry = new Entry(value, expiresAt);
+                if (main.containsKey(key)) {
+                    main.put(key, entry);
+                    return;
+                }
+                window.put(key, entry);
+                if (window.size() <= windowSize) {
+                    return;
+                }
+                Iterator<Map.Entry<String, Entry>> eldest = window.entrySet().iterator();
+                Map.Entry<String, Entry> candidate = eldest.next();
+                eldest.remove();
+                if (main.size() < mainSize) {
+                    main.put(candidate.getKey(), candidate.getValue());
+                    return;
+                }
+                Iterator<Map.Entry<String, Entry>> victims = main.entrySet().iterator();
+                Map.Entry<String, Entry> victim = victims.next();
+                if (frequency(candidate.getKey()) > frequency(victim.getKey())) {
+                    victims.remove();
+                    main.put(candidate.getKey(), candidate.getValue());
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void remove(String key) {
+            lock.lock();
+            try {
+                window.remove(key);
+                main.remove(key);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void increment(String key) {
+            int hash = spread(key.hashCode());
+            for (int i = 0; i < 4; i++) {
+                int index = index(hash, i);
+                if (counters[index] < 15) {
+                    counters[index]++;
+                }
+            }
+            if (++increments >= sampleSize) {
+                increments = 0;
+                for (int i = 0; i < counters.length; i++) {
+                    counters[i] >>= 1;
+                }
+            }
+        }
+
+        private int frequency(String key) {
+            int hash = spread(key.hashCode());
+            int frequency = 15;
+            for (int i = 0; i < 4; i++) {
+                frequency = Math.min(frequency, counters[index(hash, i)]);
+            }
+            return frequency;
+        }
+
+        private int index(int hash, int i) {
+            int h = (hash + i * 0x9E3779B9) * 0x85EBCA6B;
+            return (h ^ (h >>> 15)) & mask;
+        }
+
+        private static int spread(int hash) {
+            int h = hash * 0xCC9E2D51;
+            return h ^ (h >>> 17);
+        }
+
+        private static final class Entry {
+            private final Object value;
+            private final long expiresAt;
+
+            private Entry(Object value, long expiresAt) {
+                this.value = value;
+                this.expiresAt = expiresAt;
+            }
+        }
+    }
+}
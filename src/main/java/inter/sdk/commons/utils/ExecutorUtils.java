@@ -0,0 +1,147 @@
+package inter.sdk.commons.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The {@code ExecutorUtils} class provides the background threads used internally by the SDK.
+ * <p>
+ * All threads are daemon threads, so they never prevent the application from exiting.
+ * Tasks run on the shared scheduler must be short; blocking work is handed off to other executors.
+ * </p>
+ * <p>
+ * On Java 21 or later, blocking work can run on virtual threads: setting the system property
+ * {@value #THREADS_PROPERTY} to {@code virtual} makes the shared worker start a virtual thread per task,
+ * and {@link #newPerTaskExecutor()} gives applications an executor to run blocking SDK calls concurrently
+ * without sizing a pool of platform threads. The SDK does not hold monitors while blocked on I/O,
+ * so its calls do not pin the carrier threads of virtual threads.
+ * </p>
+ */
+@Slf4j
+public class ExecutorUtils {
+    /**
+     * System property selecting the threads of the shared worker, {@code platform} (default) or {@code virtual}.
+     */
+    public static final String THREADS_PROPERTY = "inter.sdk.threads";
+    private static final int SCHEDULER_THREADS = 2;
+
+    private ExecutorUtils() {
+    }
+
+    /**
+     * Returns the scheduler shared by the SDK for delayed and periodic tasks.
+     *
+     * @return The shared {@link ScheduledExecutorService}.
+     */
+    public static ScheduledExecutorService scheduler() {
+        return SchedulerHolder.SCHEDULER;
+    }
+
+    /**
+     * Returns the executor shared by the SDK for blocking background tasks, such as token refreshes.
+     *
+     * @return The shared {@link ExecutorService}.
+     */
+    public static ExecutorService worker() {
+        return WorkerHolder.WORKER;
+    }
+
+    /**
+     * Indicates whether the running Java version supports virtual threads.
+     *
+     * @return {@code true} on Java 21 or later.
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return VirtualThreadsHolder.NEW_EXECUTOR != null;
+    }
+
+    /**
+     * Creates an executor that starts a new thread for each task, to run blocking SDK calls concurrently.
+     * Virtual threads are used on Java 21 or later; otherwise the threads are pooled daemon platform threads.
+     * The executor must be shut down by the caller when no longer needed.
+     *
+     * @return A new {@link ExecutorService}.
+     */
+    public static ExecutorService newPerTaskExecutor() {
+        if (isVirtualThreadsSupported()) {
+            try {
+                return (ExecutorService) VirtualThreadsHolder.NEW_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                log.warn("Error creating virtual thread executor, using platform threads", e);
+            }
+        }
+        return Executors.newCachedThreadPool(daemonThreadFactory("inter-sdk-call"));
+    }
+
+    /**
+     * Creates a factory of daemon threads named after the given prefix.
+     *
+     * @param prefix The prefix of the thread names, e.g. "inter-sdk-token".
+     * @return A {@link ThreadFactory} creating daemon threads.
+     */
+    public static ThreadFactory daemonThreadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Lazily creates the shared scheduler on first use.
+     */
+    private static final class SchedulerHolder {
+        private static final ScheduledExecutorService SCHEDULER = createScheduler();
+
+        private static ScheduledExecutorService createScheduler() {
+            ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(SCHEDULER_THREADS, daemonThreadFactory("inter-sdk-scheduler"));
+            scheduler.setRemoveOnCancelPolicy(true);
+            return scheduler;
+        }
+    }
+
+    /**
+     * Lazily creates the shared worker executor on first use.
+     */
+    private static final class WorkerHolder {
+        private static final ExecutorService WORKER = createWorker();
+
+        private static ExecutorService createWorker() {
+            if ("virtual".equalsIgnoreCase(System.getProperty(THREADS_PROPERTY))) {
+                if (isVirtualThreadsSupported()) {
+                    log.info("SDK worker running on virtual threads");
+                    return newPerTaskExecutor();
+                }
+                log.warn("Virtual threads require Java 21 or later, SDK worker running on platform threads");
+            }
+            return Executors.newCachedThreadPool(daemonThreadFactory("inter-sdk-worker"));
+        }
+    }
+
+    /**
+     * Looks up, on first use, the factory of virtual thread executors of Java 21 or later.
+     * The SDK is compiled for Java 8, so the factory is resolved at runtime.
+     */
+    private static final class VirtualThreadsHolder {
+        private static final Method NEW_EXECUTOR = lookup();
+
+        private static Method lookup() {
+            try {
+                Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                // on Java 19 and 20 the method exists, but fails unless preview features are enabled
+                ((ExecutorService) method.invoke(null)).shutdown();
+                return method;
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return null;
+            }
+        }
+    }
+}
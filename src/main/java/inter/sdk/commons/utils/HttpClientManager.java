@@ -0,0 +1,383 @@
+package inter.sdk.commons.utils;
+
+import inter.sdk.commons.exceptions.SdkException;
+import inter.sdk.commons.models.Config;
+import inter.sdk.commons.models.ConnectionPoolConfig;
+import inter.sdk.commons.models.Error;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
+
+/**
+ * The {@code HttpClientManager} class keeps one pooled, long-lived HTTP client
+ * per certificate, environment and pool settings.
+ * <p>
+ * Reusing the client keeps TLS sessions and connections warm between calls, instead of
+ * paying a full mutual TLS handshake on every request. Clients are reference counted by
+ * the {@link inter.sdk.InterSdk} instances that register them, and closed when the last one is released,
+ * so an SDK changing its pool settings never closes the client other SDKs are using. Clients are only
+ * created for a registered configuration, so a call made after the last owner was released fails
+ * instead of leaving behind a client no one would close.
+ * </p>
+ * <p>
+ * The non-blocking client used by the asynchronous API is kept the same way, with the same pool settings.
+ * </p>
+ */
+@Slf4j
+public class HttpClientManager {
+    private static final Map<String, PooledClient> CLIENTS = new ConcurrentHashMap<>();
+    private static final Map<String, PooledAsyncClient> ASYNC_CLIENTS = new ConcurrentHashMap<>();
+    // Lock guarding the creation and removal of clients, a lock rather than a monitor so virtual threads are not pinned
+    private static final ReentrantLock LOCK = new ReentrantLock();
+    private static final Map<String, Integer> REFERENCES = new ConcurrentHashMap<>();
+    // Time given to the calls in progress before closing a client released by a change of pool settings
+    private static final long RECONFIGURE_DRAIN_SECONDS = 30;
+
+    private HttpClientManager() {
+    }
+
+    /**
+     * Returns the pooled HTTP client for the certificate, environment and pool settings of the given configuration,
+     * creating it on first use.
+     *
+     * @param config The configuration containing the certificate, password and pool settings.
+     * @return The shared {@link CloseableHttpClient}.
+     * @throws SdkException If the certificate cannot be loaded, or no owner is registered for the configuration.
+     */
+    public static CloseableHttpClient get(Config config) throws SdkException {
+        // fails fast when the certificate is missing or expired, and reloads it when it changed on disk
+        SslUtils.getSslContext(config.getCertificate(), config.getPassword());
+        String key = key(config);
+        PooledClient pooledClient = CLIENTS.get(key);
+        if (pooledClient != null) {
+            return pooledClient.httpClient;
+        }
+        LOCK.lock();
+        try {
+            pooledClient = CLIENTS.get(key);
+            if (pooledClient == null) {
+                checkRegistered(key);
+                pooledClient = build(config);
+                CLIENTS.put(key, pooledClient);
+            }
+            return pooledClient.httpClient;
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * Returns the pooled non-blocking HTTP client for the certificate, environment and pool settings of the given configuration,
+     * creating and starting it on first use.
+     *
+     * @param config The configuration containing the certificate, password and pool settings.
+     * @return The shared, started {@link CloseableHttpAsyncClient}.
+     * @throws SdkException If the certificate cannot be loaded, the I/O reactor cannot be created,
+     *                      or no owner is registered for the configuration.
+     */
+    public static CloseableHttpAsyncClient getAsync(Config config) throws SdkException {
+        SslUtils.getSslContext(config.getCertificate(), config.getPassword());
+        String key = key(config);
+        PooledAsyncClient pooledClient = ASYNC_CLIENTS.get(key);
+        if (pooledClient != null) {
+            return pooledClient.httpClient;
+        }
+        LOCK.lock();
+        try {
+            pooledClient = ASYNC_CLIENTS.get(key);
+            if (pooledClient == null) {
+                checkRegistered(key);
+                pooledClient = buildAsync(config);
+                ASYNC_CLIENTS.put(key, pooledClient);
+            }
+            return pooledClient.httpClient;
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * Registers a new owner of the client for the certificate, environment and pool settings of the given configuration.
+     *
+     * @param config The configuration of the owner.
+     */
+    public static void register(Config config) {
+        REFERENCES.merge(key(config), 1, Integer::sum);
+    }
+
+    /**
+     * Tells whether an owner is registered for the client of the given configuration.
+     *
+     * @param config The configuration.
+     * @return {@code true} if the client of the configuration can be used.
+     */
+    public static boolean isRegistered(Config config) {
+        return REFERENCES.containsKey(key(config));
+    }
+
+    /**
+     * Releases an owner of the client for the certificate, environment and pool settings of the given configuration,
+     * closing the client and its connections when no owner is left.
+     *
+     * @param config The configuration of the owner.
+     */
+    public static void release(Config config) {
+        release(key(config), 0);
+    }
+
+    /**
+     * Moves an owner to the client with new pool settings. The client with the previous settings is
+     * released, and closed after a delay letting the calls in progress finish when no owner is left.
+     *
+     * @param config The configuration of the owner, updated with the new pool settings.
+     * @param pool   The new pool settings.
+     */
+    public static void reconfigure(Config config, ConnectionPoolConfig pool) {
+        String previous = key(config);
+        config.setConnectionPool(pool);
+        String key = key(config);
+        if (!key.equals(previous)) {
+            REFERENCES.merge(key, 1, Integer::sum);
+            release(previous, RECONFIGURE_DRAIN_SECONDS);
+        }
+    }
+
+    /**
+     * Refuses to create a client no owner would ever release, e.g. for a call made after the SDK was closed.
+     *
+     * @param key The key of the client.
+     * @throws SdkException If no owner is registered for the key.
+     */
+    private static void checkRegistered(String key) throws SdkException {
+        if (!REFERENCES.containsKey(key)) {
+            String detail = "HTTP client not available: the SDK was closed, or the configuration was not registered with HttpClientManager.register";
+            throw new SdkException(
+                    detail,
+                    Error.builder()
+                            .title(GENERIC_EXCEPTION_MESSAGE)
+                            .detail(detail)
+                            .build()
+            );
+        }
+    }
+
+    /**
+     * Releases an owner of a client, closing the client when no owner is left.
+     *
+     * @param key          The key of the client.
+     * @param delaySeconds The delay before closing the client, for the calls in progress.
+     */
+    private static void release(String key, long delaySeconds) {
+        Integer references = REFERENCES.computeIfPresent(key, (k, v) -> v > 1 ? v - 1 : null);
+        if (references == null) {
+            evict(key, delaySeconds);
+        }
+    }
+
+    /**
+     * Removes the clients of a key, if any, and closes them after the given delay.
+     * The next call made with the key builds new clients.
+     *
+     * @param key          The key of the clients.
+     * @param delaySeconds The delay before closing the clients.
+     */
+    private static void evict(String key, long delaySeconds) {
+        PooledClient pooledClient;
+        PooledAsyncClient pooledAsyncClient;
+        LOCK.lock();
+        try {
+            if (REFERENCES.containsKey(key)) {
+                return;
+            }
+            pooledClient = CLIENTS.remove(key);
+            pooledAsyncClient = ASYNC_CLIENTS.remove(key);
+        } finally {
+            LOCK.unlock();
+        }
+        Runnable close = () -> {
+            if (pooledClient != null) {
+                pooledClient.close();
+            }
+            if (pooledAsyncClient != null) {
+                pooledAsyncClient.close();
+            }
+        };
+        if (delaySeconds > 0) {
+            ExecutorUtils.scheduler().schedule(close, delaySeconds, TimeUnit.SECONDS);
+        } else {
+            close.run();
+        }
+    }
+
+    /**
+     * Builds a pooled client using the certificate and the pool settings of the configuration.
+     *
+     * @param config The configuration to use.
+     * @return A new {@link PooledClient}.
+     * @throws SdkException If the certificate cannot be loaded.
+     */
+    private static PooledClient build(Config config) throws SdkException {
+        ConnectionPoolConfig pool = getPoolConfig(config);
+        log.info("Creating connection pool {} maxPerRoute={} maxTotal={}", config.getEnvironment(), pool.getMaxConnectionsPerRoute(), pool.getMaxConnectionsTotal());
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+                SslUtils.buildSocketFactoryRegistry(config.getCertificate(), config.getPassword()));
+        connectionManager.setDefaultMaxPerRoute(pool.getMaxConnectionsPerRoute());
+        connectionManager.setMaxTotal(pool.getMaxConnectionsTotal());
+
+        // connections are authenticated by the client certificate, so the TLS principal must not
+        // be used as connection state, otherwise pooled connections would never be reused
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy(keepAliveStrategy(pool))
+                .disableConnectionState()
+                .evictExpiredConnections()
+                .evictIdleConnections(pool.getIdleTimeoutSeconds(), TimeUnit.SECONDS)
+                .build();
+        return new PooledClient(httpClient, connectionManager);
+    }
+
+    /**
+     * Builds and starts a pooled non-blocking client using the certificate and the pool settings of the configuration.
+     *
+     * @param config The configuration to use.
+     * @return A new {@link PooledAsyncClient}.
+     * @throws SdkException If the certificate cannot be loaded or the I/O reactor cannot be created.
+     */
+    private static PooledAsyncClient buildAsync(Config config) throws SdkException {
+        ConnectionPoolConfig pool = getPoolConfig(config);
+        log.info("Creating async connection pool {} maxPerRoute={} maxTotal={}", config.getEnvironment(), pool.getMaxConnectionsPerRoute(), pool.getMaxConnectionsTotal());
+        PoolingNHttpClientConnectionManager connectionManager;
+        try {
+            DefaultConnectingIOReactor ioReactor = new DefaultConnectingIOReactor(IOReactorConfig.DEFAULT, ExecutorUtils.daemonThreadFactory("inter-sdk-io"));
+            connectionManager = new PoolingNHttpClientConnectionManager(ioReactor,
+                    SslUtils.buildIOSessionStrategyRegistry(config.getCertificate(), config.getPassword()));
+        } catch (IOException ioException) {
+            log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
+            throw new SdkException(
+                    ioException.getMessage(),
+                    Error.builder()
+                            .title(GENERIC_EXCEPTION_MESSAGE)
+                            .detail(ioException.getMessage())
+                            .build()
+            );
+        }
+        connectionManager.setDefaultMaxPerRoute(pool.getMaxConnectionsPerRoute());
+        connectionManager.setMaxTotal(pool.getMaxConnectionsTotal());
+
+        CloseableHttpAsyncClient httpClient = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy(keepAliveStrategy(pool))
+                .disableConnectionState()
+                .setThreadFactory(ExecutorUtils.daemonThreadFactory("inter-sdk-io-reactor"))
+                .build();
+        httpClient.start();
+
+        // the non-blocking pool has no evictor thread of its own
+        long idleTimeout = pool.getIdleTimeoutSeconds();
+        ScheduledFuture<?> evictor = ExecutorUtils.scheduler().scheduleWithFixedDelay(() -> {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(idleTimeout, TimeUnit.SECONDS);
+        }, idleTimeout, idleTimeout, TimeUnit.SECONDS);
+        return new PooledAsyncClient(httpClient, evictor);
+    }
+
+    /**
+     * Returns the pool settings of the configuration, or the default ones when not set.
+     *
+     * @param config The configuration.
+     * @return The {@link ConnectionPoolConfig} to use.
+     */
+    private static ConnectionPoolConfig getPoolConfig(Config config) {
+        return config.getConnectionPool() != null ? config.getConnectionPool() : ConnectionPoolConfig.builder().build();
+    }
+
+    /**
+     * Builds the keep-alive strategy of the pool, which keeps connections alive for at most
+     * {@link ConnectionPoolConfig#getKeepAliveSeconds()}, or less when the server asks so.
+     *
+     * @param pool The pool settings.
+     * @return The {@link ConnectionKeepAliveStrategy}.
+     */
+    private static ConnectionKeepAliveStrategy keepAliveStrategy(ConnectionPoolConfig pool) {
+        long keepAliveMillis = TimeUnit.SECONDS.toMillis(pool.getKeepAliveSeconds());
+        return (response, context) -> {
+            long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAliveMillis) : keepAliveMillis;
+        };
+    }
+
+    /**
+     * Builds the key identifying a client.
+     *
+     * @param config The configuration.
+     * @return The certificate, environment and pool settings of the configuration.
+     */
+    private static String key(Config config) {
+        ConnectionPoolConfig pool = getPoolConfig(config);
+        return String.join(":", config.getCertificate(), String.valueOf(config.getEnvironment()),
+                String.valueOf(pool.getMaxConnectionsPerRoute()), String.valueOf(pool.getMaxConnectionsTotal()),
+                String.valueOf(pool.getKeepAliveSeconds()), String.valueOf(pool.getIdleTimeoutSeconds()));
+    }
+
+    /**
+     * A pooled client and the connection manager it owns.
+     */
+    private static final class PooledClient {
+        private final CloseableHttpClient httpClient;
+        private final PoolingHttpClientConnectionManager connectionManager;
+
+        private PooledClient(CloseableHttpClient httpClient, PoolingHttpClientConnectionManager connectionManager) {
+            this.httpClient = httpClient;
+            this.connectionManager = connectionManager;
+        }
+
+        private void close() {
+            try {
+                httpClient.close();
+            } catch (IOException e) {
+                log.warn("Error closing http client", e);
+            } finally {
+                connectionManager.shutdown();
+            }
+        }
+    }
+
+    /**
+     * A pooled non-blocking client and the task evicting its idle connections.
+     */
+    private static final class PooledAsyncClient {
+        private final CloseableHttpAsyncClient httpClient;
+        private final ScheduledFuture<?> evictor;
+
+        private PooledAsyncClient(CloseableHttpAsyncClient httpClient, ScheduledFuture<?> evictor) {
+            this.httpClient = httpClient;
+            this.evictor = evictor;
+        }
+
+        private void close() {
+            evictor.cancel(false);
+            try {
+                httpClient.close();
+            } catch (IOException e) {
+                log.warn("Error closing async http client", e);
+            }
+        }
+    }
+}
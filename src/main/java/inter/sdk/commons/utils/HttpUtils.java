@@ -1,18 +1,22 @@
 package inter.sdk.commons.utils;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
 import inter.sdk.commons.exceptions.CertificateException;
 import inter.sdk.commons.exceptions.ClientException;
 import inter.sdk.commons.exceptions.SdkException;
 import inter.sdk.commons.exceptions.ServerException;
 import inter.sdk.commons.models.Config;
 import inter.sdk.commons.models.Error;
-import lombok.Getter;
+import inter.sdk.commons.models.HttpCallContext;
+import inter.sdk.commons.models.HttpCallListener;
+import inter.sdk.commons.models.RetryPolicy;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpDelete;
 import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
@@ -23,16 +27,16 @@ import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
-import org.apache.http.impl.conn.BasicHttpClientConnectionManager;
 import org.apache.http.util.EntityUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.security.KeyManagementException;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.UnrecoverableKeyException;
+import java.util.concurrent.TimeUnit;
 
 import static inter.sdk.commons.structures.Constants.CERTIFICATE_EXCEPTION_MESSAGE;
 import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
@@ -41,8 +45,22 @@ import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
  * The {@code HttpUtils} class provides utility methods for performing
  * HTTP requests (GET, POST, PUT, PATCH, DELETE) in a standardized way.
  * <p>
- * This class manages HTTP connections, handles responses, and allows
- * for retry logic in case of rate limiting or server errors.
+ * This class manages HTTP connections, handles responses, and retries
+ * calls in case of rate limiting or server errors, according to the
+ * {@link RetryPolicy} of the configuration.
+ * </p>
+ * <p>
+ * Each call is described by an immutable {@link HttpCallContext}, reported to the
+ * {@link HttpCallListener} of the configuration and attached to the {@link SdkException}
+ * thrown when the call fails.
+ * </p>
+ * <p>
+ * Responses are either returned as strings or, with the typed GET methods, deserialized
+ * straight from the response stream, so large pages are not buffered as a string first.
+ * In debug mode responses are always read as strings, so they can be logged.
+ * </p>
+ * <p>
+ * Identical concurrent GET requests share a single call and its result, see {@link SingleFlightUtils}.
  * </p>
  * <p>
  * It is designed to be used within the SDK to interact with external APIs
@@ -52,17 +70,11 @@ import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
 @Slf4j
 @NoArgsConstructor
 public class HttpUtils {
-    private static final int SLEEP = 60000;
     private static final int CLIENT_ERROR_BASE = 400;
     private static final int SERVER_ERROR_BASE = 500;
     private static final int TOO_MANY_REQUESTS = 429;
     private static final String APPLICATION_JSON = "application/json";
 
-    @Getter
-    private static String lastUrl;
-    @Getter
-    private static String lastRequest;
-
     /**
      * Sends an HTTP GET request to the specified URL.
      *
@@ -75,9 +87,44 @@ public class HttpUtils {
      */
     public static String callGet(Config config, String url, String scope, String message) throws SdkException {
         log.info("http GET {}", url);
-        HttpGet httpGet = new HttpGet(url);
+        return SingleFlightUtils.get(config, url, scope, String.class,
+                () -> call(config, new HttpGet(url), url, scope, message, null, STRING_BODY));
+    }
 
-        return call(config, httpGet, url, scope, message);
+    /**
+     * Sends an HTTP GET request to the specified URL and deserializes the response from its stream.
+     *
+     * @param config The configuration used to obtain the access token and other parameters.
+     * @param url The URL to send the GET request to.
+     * @param scope The scope of the request for token purposes.
+     * @param message A message to accompany the request, often used for logging or context.
+     * @param type The class of the response.
+     * @param <T> The type of the response.
+     * @return The deserialized response.
+     * @throws SdkException If there is an error in the SDK operations, such as a request failure.
+     */
+    public static <T> T callGet(Config config, String url, String scope, String message, Class<T> type) throws SdkException {
+        log.info("http GET {}", url);
+        return SingleFlightUtils.get(config, url, scope, type,
+                () -> call(config, new HttpGet(url), url, scope, message, null, jsonBody(JsonUtils.reader(type))));
+    }
+
+    /**
+     * Sends an HTTP GET request to the specified URL and deserializes the response from its stream.
+     *
+     * @param config The configuration used to obtain the access token and other parameters.
+     * @param url The URL to send the GET request to.
+     * @param scope The scope of the request for token purposes.
+     * @param message A message to accompany the request, often used for logging or context.
+     * @param type The reference to the generic type of the response, e.g. {@code List<Payment>}.
+     * @param <T> The type of the response.
+     * @return The deserialized response.
+     * @throws SdkException If there is an error in the SDK operations, such as a request failure.
+     */
+    public static <T> T callGet(Config config, String url, String scope, String message, TypeReference<T> type) throws SdkException {
+        log.info("http GET {}", url);
+        return SingleFlightUtils.get(config, url, scope, type,
+                () -> call(config, new HttpGet(url), url, scope, message, null, jsonBody(JsonUtils.reader(type))));
     }
 
     /**
@@ -100,9 +147,8 @@ public class HttpUtils {
         if (config.isDebug()) {
             log.info(json);
         }
-        lastRequest = json;
 
-        return call(config, httpRequest, url, scope, message);
+        return call(config, httpRequest, url, scope, message, json, STRING_BODY);
     }
 
     /**
@@ -163,67 +209,207 @@ public class HttpUtils {
         log.info("http DELETE {}", url);
         HttpDelete httpDelete = new HttpDelete(url);
 
-        return call(config, httpDelete, url, scope, message);
+        return call(config, httpDelete, url, scope, message, null, STRING_BODY);
     }
 
     /**
-     * Makes the actual HTTP call and handles the response.
+     * Makes the actual HTTP call and reports its context.
      *
      * @param config The configuration object for the request.
      * @param httpRequest The HTTP request to execute.
      * @param url The URL of the request.
      * @param scope The scope for access control.
      * @param message A contextual message for the request.
-     * @return The response body from the server.
+     * @param json The JSON payload of the request, or {@code null}.
+     * @param bodyReader The reader of the response body.
+     * @param <T> The type of the response.
+     * @return The response from the server.
      * @throws SdkException If there's an error during the request process.
      */
-    private static String call(Config config, HttpRequestBase httpRequest, String url, String scope, String message) throws SdkException {
+    private static <T> T call(Config config, HttpRequestBase httpRequest, String url, String scope, String message, String json, BodyReader<T> bodyReader) throws SdkException {
+        HttpCallContext.HttpCallContextBuilder context = HttpCallContext.builder()
+                .method(httpRequest.getMethod())
+                .url(url)
+                .requestBody(json);
+        long start = System.nanoTime();
         try {
-            lastUrl = url;
-            String accessToken = TokenUtils.get(config, scope);
-            BasicHttpClientConnectionManager connectionManager = SslUtils.buildConnectionManager(config.getCertificate(), config.getPassword());
-            CloseableHttpClient httpClient = HttpClients.custom().setConnectionManager(connectionManager).build();
-            httpRequest.addHeader("Authorization", "Bearer " + accessToken);
-            if (config.getAccount() != null) {
-                httpRequest.addHeader("x-conta-corrente", config.getAccount());
-            }
-            httpRequest.addHeader("x-inter-sdk", "java");
-            httpRequest.addHeader("x-inter-sdk-version", "1.0.2");
-            CloseableHttpResponse response = httpClient.execute(httpRequest);
-            boolean retry = handleResponse(url, response, message, config.isRateLimitControl());
-            if (retry) {
-                try {
-                    Thread.sleep(SLEEP);
-                } catch (InterruptedException e) {
-                    throw new RuntimeException(e);
+            T result = execute(config, httpRequest, url, scope, message, context, bodyReader);
+            complete(config, context, start, null);
+            return result;
+        } catch (SdkException e) {
+            complete(config, context, start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Makes the HTTP call, with its retries, and handles the response.
+     * <p>
+     * Failed attempts are retried according to the {@link RetryPolicy} of the configuration,
+     * up to its maximum number of attempts.
+     * </p>
+     *
+     * @param config The configuration object for the request.
+     * @param httpRequest The HTTP request to execute.
+     * @param url The URL of the request.
+     * @param scope The scope for access control.
+     * @param message A contextual message for the request.
+     * @param context The context of the call, updated with the attempts and status.
+     * @param bodyReader The reader of the response body.
+     * @param <T> The type of the response.
+     * @return The response from the server.
+     * @throws SdkException If there's an error during the request process.
+     */
+    private static <T> T execute(Config config, HttpRequestBase httpRequest, String url, String scope, String message, HttpCallContext.HttpCallContextBuilder context, BodyReader<T> bodyReader) throws SdkException {
+        RetryPolicy retryPolicy = config.getRetryPolicy() != null ? config.getRetryPolicy() : RetryPolicy.builder().build();
+        for (int attempt = 1; ; attempt++) {
+            long delay;
+            context.attempts(attempt);
+            try {
+                String accessToken = TokenUtils.get(config, scope);
+                CloseableHttpClient httpClient = HttpClientManager.get(config);
+                RateLimitUtils.acquire(config, url);
+                setHeaders(config, httpRequest, accessToken);
+                try (CloseableHttpResponse response = httpClient.execute(httpRequest)) {
+                    int status = response.getStatusLine().getStatusCode();
+                    context.status(status);
+                    if (RetryUtils.isRetryable(retryPolicy, httpRequest.getMethod(), status, attempt, config.isRateLimitControl())) {
+                        log.info("http status={} {}", response.getStatusLine(), url);
+                        EntityUtils.consume(response.getEntity());
+                        delay = RetryUtils.getDelay(retryPolicy, attempt, response);
+                    } else {
+                        handleResponse(url, response, message, false);
+
+                        return bodyReader.read(config, response.getEntity());
+                    }
+                }
+            } catch (NoSuchAlgorithmException | UnrecoverableKeyException |
+                     java.security.cert.CertificateException | KeyStoreException | KeyManagementException e) {
+                log.error(CERTIFICATE_EXCEPTION_MESSAGE, e);
+                throw new CertificateException(
+                        e.getMessage(),
+                        Error.builder()
+                                .title(CERTIFICATE_EXCEPTION_MESSAGE).
+                                detail(e.getMessage())
+                                .build()
+                );
+            } catch (JsonProcessingException e) {
+                // the response was received but is not valid for the expected type, retrying would not help
+                log.error(GENERIC_EXCEPTION_MESSAGE, e);
+                throw new SdkException(
+                        e.getMessage(),
+                        Error.builder()
+                                .title(GENERIC_EXCEPTION_MESSAGE)
+                                .detail(e.getMessage())
+                                .build()
+                );
+            } catch (IOException ioException) {
+                if (!RetryUtils.isRetryable(retryPolicy, httpRequest.getMethod(), attempt)) {
+                    log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
+                    throw new SdkException(
+                            ioException.getMessage(),
+                            Error.builder()
+                                    .title(CERTIFICATE_EXCEPTION_MESSAGE).
+                                    detail(ioException.getMessage())
+                                    .build()
+                    );
                 }
+                log.warn("http {} {} failed: {}", httpRequest.getMethod(), url, ioException.getMessage());
+                delay = RetryUtils.getDelay(retryPolicy, attempt, null);
+            }
+            log.info("Retrying {} {} in {} ms, attempt {} of {}", httpRequest.getMethod(), url, delay, attempt + 1, retryPolicy.getMaxAttempts());
+            waitForRetry(delay);
+        }
+    }
 
-                return call(config, httpRequest, url, scope, message);
+    /**
+     * Completes the context of a call, attaching it to the error of the call, if any,
+     * and notifies the listener of the configuration.
+     *
+     * @param config The configuration of the call.
+     * @param context The context of the call.
+     * @param start The time, from {@link System#nanoTime()}, the call started.
+     * @param exception The error of the call, or {@code null} if it succeeded.
+     */
+    static void complete(Config config, HttpCallContext.HttpCallContextBuilder context, long start, SdkException exception) {
+        HttpCallContext callContext = context
+                .durationMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                .build();
+        if (exception != null && exception.getContext() == null) {
+            exception.setContext(callContext);
+        }
+        HttpCallListener listener = config.getCallListener();
+        if (listener != null) {
+            try {
+                listener.onCall(callContext, exception);
+            } catch (RuntimeException e) {
+                log.warn("Error notifying call listener {} {}", callContext.getMethod(), callContext.getUrl(), e);
             }
-            HttpEntity body = response.getEntity();
-            String result = body != null ? EntityUtils.toString(body, StandardCharsets.UTF_8) : null;
-            if (config.isDebug() && result != null) {
-                log.info(result);
+        }
+    }
+
+    /**
+     * Reads the body of a response as a string, logging it in debug mode.
+     */
+    static final BodyReader<String> STRING_BODY = (config, body) -> {
+        String result = body != null ? EntityUtils.toString(body, StandardCharsets.UTF_8) : null;
+        if (config.isDebug() && result != null) {
+            log.info(result);
+        }
+        return result;
+    };
+
+    /**
+     * Creates a reader deserializing the body of a response with the given JSON reader.
+     * The body is parsed straight from the response stream, unless debug mode is enabled.
+     *
+     * @param reader The JSON reader of the response type.
+     * @param <T> The type of the response.
+     * @return The body reader.
+     */
+    static <T> BodyReader<T> jsonBody(ObjectReader reader) {
+        return (config, body) -> {
+            if (config.isDebug() || body == null) {
+                return reader.readValue(STRING_BODY.read(config, body));
+            }
+            try (InputStream content = body.getContent()) {
+                return reader.readValue(content);
             }
+        };
+    }
 
-            return result;
-        } catch (NoSuchAlgorithmException | UnrecoverableKeyException |
-                 java.security.cert.CertificateException | KeyStoreException | KeyManagementException e) {
-            log.error(CERTIFICATE_EXCEPTION_MESSAGE, e);
-            throw new CertificateException(
-                    e.getMessage(),
-                    Error.builder()
-                            .title(CERTIFICATE_EXCEPTION_MESSAGE).
-                            detail(e.getMessage())
-                            .build()
-            );
-        } catch (IOException ioException) {
-            log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
+    /**
+     * Sets the authorization, account and SDK identification headers of a request.
+     *
+     * @param config The configuration object for the request.
+     * @param httpRequest The HTTP request.
+     * @param accessToken The access token of the call.
+     */
+    static void setHeaders(Config config, HttpRequestBase httpRequest, String accessToken) {
+        httpRequest.setHeader("Authorization", "Bearer " + accessToken);
+        if (config.getAccount() != null) {
+            httpRequest.setHeader("x-conta-corrente", config.getAccount());
+        }
+        httpRequest.setHeader("x-inter-sdk", "java");
+        httpRequest.setHeader("x-inter-sdk-version", "1.0.2");
+    }
+
+    /**
+     * Waits before the next attempt of a call.
+     *
+     * @param delay The delay in milliseconds.
+     * @throws SdkException If the thread is interrupted while waiting.
+     */
+    private static void waitForRetry(long delay) throws SdkException {
+        try {
+            TimeUnit.MILLISECONDS.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             throw new SdkException(
-                    ioException.getMessage(),
+                    "Interrupted while waiting to retry",
                     Error.builder()
-                            .title(CERTIFICATE_EXCEPTION_MESSAGE).
-                            detail(ioException.getMessage())
+                            .title(GENERIC_EXCEPTION_MESSAGE)
+                            .detail("Interrupted while waiting to retry")
                             .build()
             );
         }
@@ -240,12 +426,12 @@ public class HttpUtils {
      * @throws SdkException If any error occurs during response handling.
      * @throws IOException If an I/O error occurs.
      */
-    public static boolean handleResponse(String url, CloseableHttpResponse response, String message, boolean rateLimitControl) throws SdkException, IOException {
+    public static boolean handleResponse(String url, HttpResponse response, String message, boolean rateLimitControl) throws SdkException, IOException {
         log.info("http status={} {}", response.getStatusLine(), url);
         if (response.getStatusLine().getStatusCode() >= SERVER_ERROR_BASE) {
             HttpEntity body = response.getEntity();
             String json = EntityUtils.toString(body, StandardCharsets.UTF_8);
-            ServerException e = new ServerException(message, json.isEmpty() ? Error.builder().title(response.getStatusLine().toString()).build() : new ObjectMapper().readValue(json, Error.class));
+            ServerException e = new ServerException(message, json.isEmpty() ? Error.builder().title(response.getStatusLine().toString()).build() : JsonUtils.readValue(json, Error.class));
             logAndThrowException(e);
         } else if (response.getStatusLine().getStatusCode() >= CLIENT_ERROR_BASE) {
             if (response.getStatusLine().getStatusCode() == TOO_MANY_REQUESTS && rateLimitControl) {
@@ -295,6 +481,25 @@ public class HttpUtils {
      * @throws JsonProcessingException If there is an error processing the JSON.
      */
     public static Error convertJsonToError(String stringJson) throws JsonProcessingException {
-        return new ObjectMapper().readValue(stringJson, Error.class);
+        return JsonUtils.readValue(stringJson, Error.class);
+    }
+
+    /**
+     * Reads the body of a response into the result of a call.
+     *
+     * @param <T> The type of the result.
+     */
+    @FunctionalInterface
+    interface BodyReader<T> {
+
+        /**
+         * Reads the body of a response.
+         *
+         * @param config The configuration of the call.
+         * @param body The body of the response, or {@code null} if there is none.
+         * @return The result of the call.
+         * @throws IOException If the body cannot be read or deserialized.
+         */
+        T read(Config config, HttpEntity body) throws IOException;
     }
 }
\ No newline at end of file
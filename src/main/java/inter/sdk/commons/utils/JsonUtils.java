@@ -0,0 +1,122 @@
+package inter.sdk.commons.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code JsonUtils} class is the JSON codec shared by the whole SDK.
+ * <p>
+ * It holds a single {@link ObjectMapper} and caches an {@link ObjectReader} and an
+ * {@link ObjectWriter} per model type, so the serializers and deserializers of a model
+ * are built once instead of on every call. Payloads are written compactly, without
+ * indentation, as they are sent on the wire.
+ * </p>
+ * <p>
+ * The mapper, readers and writers are immutable and safe for concurrent use.
+ * The mapper must not be reconfigured by applications.
+ * </p>
+ */
+public class JsonUtils {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Map<JavaType, ObjectReader> READERS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+
+    private JsonUtils() {
+    }
+
+    /**
+     * Returns the {@link ObjectMapper} shared by the SDK.
+     *
+     * @return The shared {@link ObjectMapper}.
+     */
+    public static ObjectMapper mapper() {
+        return MAPPER;
+    }
+
+    /**
+     * Returns the cached reader of the given type.
+     *
+     * @param type The class of the objects read.
+     * @return The {@link ObjectReader} of the type.
+     */
+    public static ObjectReader reader(Class<?> type) {
+        return reader(MAPPER.constructType(type));
+    }
+
+    /**
+     * Returns the cached reader of the given generic type, e.g. {@code List<Payment>}.
+     *
+     * @param type The reference to the type of the objects read.
+     * @return The {@link ObjectReader} of the type.
+     */
+    public static ObjectReader reader(TypeReference<?> type) {
+        return reader(MAPPER.constructType(type));
+    }
+
+    /**
+     * Returns the cached writer of the given type.
+     *
+     * @param type The class of the objects written.
+     * @return The {@link ObjectWriter} of the type.
+     */
+    public static ObjectWriter writer(Class<?> type) {
+        return WRITERS.computeIfAbsent(type, MAPPER::writerFor);
+    }
+
+    /**
+     * Deserializes a JSON string into an object of the given type.
+     *
+     * @param json The JSON string.
+     * @param type The class of the object.
+     * @param <T> The type of the object.
+     * @return The deserialized object.
+     * @throws JsonProcessingException If the JSON is invalid or does not match the type.
+     */
+    public static <T> T readValue(String json, Class<T> type) throws JsonProcessingException {
+        return reader(type).readValue(json);
+    }
+
+    /**
+     * Deserializes a JSON string into an object of the given generic type.
+     *
+     * @param json The JSON string.
+     * @param type The reference to the type of the object, e.g. {@code new TypeReference<List<Payment>>() {}}.
+     * @param <T> The type of the object.
+     * @return The deserialized object.
+     * @throws JsonProcessingException If the JSON is invalid or does not match the type.
+     */
+    public static <T> T readValue(String json, TypeReference<T> type) throws JsonProcessingException {
+        return reader(type).readValue(json);
+    }
+
+    /**
+     * Serializes an object into a compact JSON string.
+     *
+     * @param value The object to serialize.
+     * @return The JSON string.
+     * @throws JsonProcessingException If the object cannot be serialized.
+     */
+    public static String writeValueAsString(Object value) throws JsonProcessingException {
+        if (value == null) {
+            return MAPPER.writeValueAsString(null);
+        }
+        return writer(value.getClass()).writeValueAsString(value);
+    }
+
+    /**
+     * Returns the cached reader of the given resolved type.
+     *
+     * @param type The resolved type of the objects read.
+     * @return The {@link ObjectReader} of the type.
+     */
+    private static ObjectReader reader(JavaType type) {
+        return READERS.computeIfAbsent(type, MAPPER::readerFor);
+    }
+}
@@ -0,0 +1,137 @@
+package inter.sdk.commons.utils;
+
+import inter.sdk.commons.exceptions.SdkException;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The {@code PageUtils} class provides lazy access to the items of paginated retrievals.
+ * <p>
+ * Pages are fetched as the items are consumed, with at most a bounded number of pages
+ * requested ahead of the one being consumed, so ranges of any size are processed
+ * with constant memory.
+ * </p>
+ */
+public class PageUtils {
+
+    private PageUtils() {
+    }
+
+    /**
+     * Creates a sequential stream of the items of all the pages of a retrieval.
+     * <p>
+     * No page is requested until the stream is consumed. Errors of a page are thrown
+     * when the stream reaches it, as a {@link CompletionException} wrapping the {@link SdkException}.
+     * Closing the stream stops requesting pages. The pages already requested ahead are not
+     * aborted: their requests complete in the background and the pages are discarded.
+     * </p>
+     *
+     * @param pageFetcher Function fetching a page by its number, starting at 0.
+     * @param totalPages Function returning the total number of pages, read from the first page.
+     * @param items Function returning the items of a page.
+     * @param prefetch The number of pages requested ahead of the one being consumed.
+     * @param <P> The type of the pages.
+     * @param <T> The type of the items.
+     * @return A lazy {@link Stream} of the items, in page order.
+     */
+    public static <P, T> Stream<T> stream(IntFunction<CompletableFuture<P>> pageFetcher, ToIntFunction<P> totalPages, Function<P, List<T>> items, int prefetch) {
+        PageIterator<P, T> iterator = new PageIterator<>(pageFetcher, totalPages, items, prefetch);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(iterator::close);
+    }
+
+    /**
+     * Iterator over the items of the pages of a retrieval, fetching the pages as the items are consumed.
+     *
+     * @param <P> The type of the pages.
+     * @param <T> The type of the items.
+     */
+    private static final class PageIterator<P, T> implements Iterator<T> {
+        private final IntFunction<CompletableFuture<P>> pageFetcher;
+        private final ToIntFunction<P> totalPages;
+        private final Function<P, List<T>> items;
+        private final int prefetch;
+        private final Deque<CompletableFuture<P>> pending = new ArrayDeque<>();
+        private Iterator<T> current = Collections.emptyIterator();
+        private int nextPage;
+        private int pageCount = -1;
+
+        private PageIterator(IntFunction<CompletableFuture<P>> pageFetcher, ToIntFunction<P> totalPages, Function<P, List<T>> items, int prefetch) {
+            this.pageFetcher = pageFetcher;
+            this.totalPages = totalPages;
+            this.items = items;
+            this.prefetch = Math.max(prefetch, 0);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                if (pending.isEmpty()) {
+                    if (pageCount >= 0 && nextPage >= pageCount) {
+                        return false;
+                    }
+                    pending.add(pageFetcher.apply(nextPage++));
+                }
+                P page = join(pending.poll());
+                if (pageCount < 0) {
+                    pageCount = totalPages.applyAsInt(page);
+                }
+                // requests the next pages while the items of this one are consumed
+                while (pending.size() < prefetch && nextPage < pageCount) {
+                    pending.add(pageFetcher.apply(nextPage++));
+                }
+                List<T> pageItems = items.apply(page);
+                current = pageItems != null ? pageItems.iterator() : Collections.<T>emptyIterator();
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+
+        /**
+         * Waits for a page, ending the iteration if it failed.
+         *
+         * @param future The future of the page.
+         * @return The page.
+         * @throws CompletionException Wrapping the error of the page.
+         */
+        private P join(CompletableFuture<P> future) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                close();
+                throw e;
+            }
+        }
+
+        /**
+         * Discards the pages requested ahead and ends the iteration. Their requests, possibly shared
+         * with other callers, are left to complete.
+         */
+        private void close() {
+            pending.clear();
+            current = Collections.emptyIterator();
+            pageCount = 0;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package inter.sdk.commons.utils;
+
+import inter.sdk.commons.exceptions.SdkException;
+import inter.sdk.commons.models.BatchPolicy;
+import inter.sdk.commons.models.Config;
+import inter.sdk.commons.models.Error;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
+
+/**
+ * The {@code PollingUtils} class follows resources processed asynchronously by the API, such as
+ * payment batches and due billing batches, until they finish processing.
+ * <p>
+ * All tracked resources are polled from the shared scheduler: a poll only starts an asynchronous
+ * request, so no thread is held while a resource is pending, however many are tracked. Tracking a
+ * resource that is already tracked returns the same future.
+ * </p>
+ * <p>
+ * Poll intervals adapt to the resource: when its status reports the fraction already processed,
+ * the next poll is scheduled for the estimated remaining time; otherwise the processing time observed
+ * for previous resources of the same kind is used, falling back to exponential backoff once it is
+ * exceeded. Resources waiting for something other than processing, such as an approval, are polled
+ * at the slowest rate. Intervals are always kept between the initial and maximum poll delays of the
+ * {@link BatchPolicy}.
+ * </p>
+ */
+@Slf4j
+public class PollingUtils {
+    private static final double SMOOTHING = 0.3;
+    private static final Map<String, CompletableFuture<?>> TRACKED = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicLong> PROCESSING_MILLIS = new ConcurrentHashMap<>();
+
+    private PollingUtils() {
+    }
+
+    /**
+     * Interprets the status of a tracked resource.
+     *
+     * @param <T> The type of the status.
+     */
+    public interface StatusReader<T> {
+        /**
+         * Tells whether the resource finished processing.
+         *
+         * @param status The status of the resource.
+         * @return {@code true} if the resource no longer needs to be polled.
+         */
+        boolean isDone(T status);
+
+        /**
+         * Returns the fraction of the resource already processed.
+         *
+         * @param status The status of the resource.
+         * @return The fraction processed, from 0 to 1, or {@code null} if the status does not tell.
+         */
+        default Double progress(T status) {
+            return null;
+        }
+
+        /**
+         * Tells whether the resource waits for something other than processing, such as an approval.
+         *
+         * @param status The status of the resource.
+         * @return {@code true} if the resource should be polled at the slowest rate.
+         */
+        default boolean isIdle(T status) {
+            return false;
+        }
+    }
+
+    /**
+     * Tracks a resource until it finishes processing.
+     *
+     * @param config The configuration of the client.
+     * @param kind   The kind of resource, e.g. {@code payment-batch}; processing times are observed per kind.
+     * @param id     The ID of the resource.
+     * @param fetch  The supplier starting the request of the status of the resource.
+     * @param reader The interpretation of the status.
+     * @param policy The bounds of the poll intervals and the timeout.
+     * @param <T>    The type of the status.
+     * @return A {@link CompletableFuture} completed with the final status of the resource, or exceptionally
+     * with a {@link SdkException} if a poll fails or the resource is not processed within the timeout.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> CompletableFuture<T> track(Config config, String kind, String id, Supplier<CompletableFuture<T>> fetch,
+                                                 StatusReader<T> reader, BatchPolicy policy) {
+        String clientKey = config.getClientId() + ":" + config.getEnvironment() + ":" + kind;
+        String key = clientKey + ":" + id;
+        return (CompletableFuture<T>) TRACKED.computeIfAbsent(key, k -> {
+            Tracked<T> tracked = new Tracked<>(key, clientKey, id, fetch, reader, policy);
+            tracked.start();
+            return tracked.result;
+        });
+    }
+
+    /**
+     * The state of a tracked resource, across its polls.
+     *
+     * @param <T> The type of the status.
+     */
+    private static final class Tracked<T> {
+        private final String key;
+        private final String clientKey;
+        private final String id;
+        private final Supplier<CompletableFuture<T>> fetch;
+        private final StatusReader<T> reader;
+        private final BatchPolicy policy;
+        private final long start = System.nanoTime();
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private long delayMillis;
+
+        private Tracked(String key, String clientKey, String id, Supplier<CompletableFuture<T>> fetch, StatusReader<T> reader, BatchPolicy policy) {
+            this.key = key;
+            this.clientKey = clientKey;
+            this.id = id;
+            this.fetch = fetch;
+            this.reader = reader;
+            this.policy = policy;
+        }
+
+        /**
+         * Schedules the first poll, after the processing time observed for the kind of resource, if any.
+         */
+        private void start() {
+            AtomicLong observed = PROCESSING_MILLIS.get(clientKey);
+            delayMillis = clamp(observed != null ? observed.get() : policy.getInitialPollDelayMillis());
+            schedule();
+        }
+
+        /**
+         * Schedules the next poll after the current delay.
+         */
+        private void schedule() {
+            ExecutorUtils.scheduler().schedule(this::poll, delayMillis, TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * Requests the status of the resource and either completes the result or schedules the next poll.
+         */
+        private void poll() {
+            CompletableFuture<T> status;
+            try {
+                status = fetch.get();
+            } catch (RuntimeException e) {
+                fail(e);
+                return;
+            }
+            status.whenComplete((value, throwable) -> {
+                if (throwable != null) {
+                    fail(throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable);
+                } else if (reader.isDone(value)) {
+                    observe(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                    TRACKED.remove(key, result);
+                    result.complete(value);
+                } else {
+                    delayMillis = nextDelay(value);
+                    if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis) - start > TimeUnit.MILLISECONDS.toNanos(policy.getTimeoutMillis())) {
+                        fail(timeout());
+                        return;
+                    }
+                    log.debug("Polling {} again in {} ms", id, delayMillis);
+                    schedule();
+                }
+            });
+        }
+
+        /**
+         * Computes the delay before the next poll from the last status.
+         *
+         * @param status The last status of the resource.
+         * @return The delay, in milliseconds.
+         */
+        private long nextDelay(T status) {
+            if (reader.isIdle(status)) {
+                return policy.getMaxPollDelayMillis();
+            }
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            Double progress = reader.progress(status);
+            if (progress != null && progress > 0 && progress < 1) {
+                return clamp((long) (elapsed * (1 - progress) / progress));
+            }
+            AtomicLong observed = PROCESSING_MILLIS.get(clientKey);
+            if (observed != null && observed.get() > elapsed) {
+                return clamp(observed.get() - elapsed);
+            }
+            return clamp((long) (delayMillis * policy.getMultiplier()));
+        }
+
+        /**
+         * Records the processing time of a resource in the moving average of its kind.
+         *
+         * @param millis The processing time, in milliseconds.
+         */
+        private void observe(long millis) {
+            PROCESSING_MILLIS.computeIfAbsent(clientKey, k -> new AtomicLong(millis))
+                    .accumulateAndGet(millis, (average, sample) -> (long) (average + SMOOTHING * (sample - average)));
+        }
+
+        /**
+         * Keeps a delay between the initial and maximum poll delays of the policy.
+         *
+         * @param millis The delay, in milliseconds.
+         * @return The bounded delay.
+         */
+        private long clamp(long millis) {
+            return Math.max(policy.getInitialPollDelayMillis(), Math.min(millis, policy.getMaxPollDelayMillis()));
+        }
+
+        /**
+         * Stops tracking the resource and completes the result exceptionally.
+         *
+         * @param throwable The error.
+         */
+        private void fail(Throwable throwable) {
+            TRACKED.remove(key, result);
+            result.completeExceptionally(throwable);
+        }
+
+        /**
+         * Builds the exception reported when the resource is not processed within the timeout.
+         *
+         * @return The exception.
+         */
+        private SdkException timeout() {
+            String detail = id + " not processed within " + policy.getTimeoutMillis() + " ms";
+            return new SdkException(
+                    detail,
+                    Error.builder()
+                            .title(GENERIC_EXCEPTION_MESSAGE)
+                            .detail(detail)
+                            .build()
+            );
+        }
+    }
+}
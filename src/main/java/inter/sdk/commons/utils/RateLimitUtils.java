@@ -0,0 +1,157 @@
+package inter.sdk.commons.utils;
+
+import inter.sdk.commons.exceptions.SdkException;
+import inter.sdk.commons.models.Config;
+import inter.sdk.commons.models.Error;
+import inter.sdk.commons.models.RateLimit;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
+
+/**
+ * The {@code RateLimitUtils} class paces the calls made to each family of endpoints
+ * configured in {@link Config#getRateLimits()}, e.g. {@code Constants.URL_BANKING_PAYMENT_PIX}.
+ * <p>
+ * Each family has a token bucket shared by all the threads using the same client and environment.
+ * Buckets are lock-free: a call reserves its slot with a single compare-and-set and then waits,
+ * if needed, until the slot is reached.
+ * </p>
+ */
+@Slf4j
+public class RateLimitUtils {
+    private static final Map<String, TokenBucket> BUCKETS = new ConcurrentHashMap<>();
+
+    private RateLimitUtils() {
+    }
+
+    /**
+     * Waits until a call to the given URL is allowed by the rate limit of its endpoint family.
+     * Returns immediately when no rate limit is configured for the URL.
+     *
+     * @param config The configuration containing the rate limits.
+     * @param url The URL of the call.
+     * @throws SdkException If the thread is interrupted while waiting.
+     */
+    public static void acquire(Config config, String url) throws SdkException {
+        long delay = reserve(config, url);
+        if (delay <= 0) {
+            return;
+        }
+        log.debug("Rate limit reached, waiting {} ms {}", TimeUnit.NANOSECONDS.toMillis(delay), url);
+        try {
+            TimeUnit.NANOSECONDS.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SdkException(
+                    "Interrupted while waiting for rate limit",
+                    Error.builder()
+                            .title(GENERIC_EXCEPTION_MESSAGE)
+                            .detail("Interrupted while waiting for rate limit")
+                            .build()
+            );
+        }
+    }
+
+    /**
+     * Reserves a call to the given URL, without waiting.
+     *
+     * @param config The configuration containing the rate limits.
+     * @param url The URL of the call.
+     * @return The time, in nanoseconds, to wait before sending the call; 0 if it can be sent now.
+     */
+    public static long reserve(Config config, String url) {
+        Map<String, RateLimit> rateLimits = config.getRateLimits();
+        if (rateLimits == null || rateLimits.isEmpty()) {
+            return 0;
+        }
+        String family = getFamily(rateLimits, getPath(config, url));
+        if (family == null) {
+            return 0;
+        }
+        RateLimit rateLimit = rateLimits.get(family);
+        if (rateLimit == null || rateLimit.getPermitsPerSecond() <= 0) {
+            return 0;
+        }
+        String key = String.join(":", config.getClientId(), String.valueOf(config.getEnvironment()), family);
+        TokenBucket bucket = BUCKETS.get(key);
+        if (bucket == null || !bucket.rateLimit.equals(rateLimit)) {
+            bucket = BUCKETS.compute(key, (k, current) -> current != null && current.rateLimit.equals(rateLimit) ? current : new TokenBucket(rateLimit));
+        }
+        return bucket.reserve();
+    }
+
+    /**
+     * Removes the environment base URL and the query string from the URL.
+     *
+     * @param config The configuration.
+     * @param url The URL of the call.
+     * @return The path of the URL.
+     */
+    private static String getPath(Config config, String url) {
+        String path = url;
+        String urlBase = config.getEnvironment() != null ? config.getEnvironment().getUrlBase() : null;
+        if (urlBase != null && path.startsWith(urlBase)) {
+            path = path.substring(urlBase.length());
+        }
+        int query = path.indexOf('?');
+        return query >= 0 ? path.substring(0, query) : path;
+    }
+
+    /**
+     * Finds the most specific endpoint family containing the path.
+     *
+     * @param rateLimits The rate limits by endpoint family.
+     * @param path The path of the call.
+     * @return The longest family that is a prefix of the path, or {@code null} if none is.
+     */
+    private static String getFamily(Map<String, RateLimit> rateLimits, String path) {
+        String family = null;
+        for (String candidate : rateLimits.keySet()) {
+            if (path.startsWith(candidate)
+                    && (path.length() == candidate.length() || path.charAt(candidate.length()) == '/')
+                    && (family == null || candidate.length() > family.length())) {
+                family = candidate;
+            }
+        }
+        return family;
+    }
+
+    /**
+     * A token bucket implemented as a generic cell rate algorithm: the state is the theoretical
+     * time at which the bucket would be full again, advanced atomically by each call.
+     */
+    private static final class TokenBucket {
+        private final RateLimit rateLimit;
+        private final long interval;
+        private final long tolerance;
+        private final AtomicLong theoreticalArrival = new AtomicLong(System.nanoTime());
+
+        private TokenBucket(RateLimit rateLimit) {
+            this.rateLimit = rateLimit;
+            this.interval = (long) (TimeUnit.SECONDS.toNanos(1) / rateLimit.getPermitsPerSecond());
+            this.tolerance = interval * Math.max(0, rateLimit.getBurst() - 1);
+        }
+
+        /**
+         * Reserves the next slot of the bucket.
+         *
+         * @return The time, in nanoseconds, until the reserved slot.
+         */
+        private long reserve() {
+            while (true) {
+                long now = System.nanoTime();
+                long current = theoreticalArrival.get();
+                long start = current - now > 0 ? current : now;
+                long next = start + interval;
+                if (theoreticalArrival.compareAndSet(current, next)) {
+                    return Math.max(0, start - tolerance - now);
+                }
+            }
+        }
+    }
+}
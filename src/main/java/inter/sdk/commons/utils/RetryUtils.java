@@ -0,0 +1,122 @@
+package inter.sdk.commons.utils;
+
+import inter.sdk.commons.models.RetryPolicy;
+import org.apache.http.Header;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.utils.DateUtils;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code RetryUtils} class decides, based on a {@link RetryPolicy},
+ * whether a failed call is retried and how long to wait before the next attempt.
+ */
+public class RetryUtils {
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int SERVER_ERROR_BASE = 500;
+    private static final List<String> IDEMPOTENT_METHODS = Arrays.asList("GET", "HEAD", "OPTIONS", "PUT", "DELETE");
+    private static final List<String> RETRY_AFTER_HEADERS = Arrays.asList("Retry-After", "RateLimit-Reset", "X-RateLimit-Reset");
+
+    private RetryUtils() {
+    }
+
+    /**
+     * Indicates whether a call that received the given status is retried.
+     *
+     * @param retryPolicy The retry policy.
+     * @param method The HTTP method of the call.
+     * @param status The HTTP status received.
+     * @param attempt The number of the attempt that received the status, starting at 1.
+     * @param rateLimitControl Indicates if rate limited calls are retried.
+     * @return {@code true} if the call must be retried.
+     */
+    public static boolean isRetryable(RetryPolicy retryPolicy, String method, int status, int attempt, boolean rateLimitControl) {
+        if (attempt >= retryPolicy.getMaxAttempts()) {
+            return false;
+        }
+        if (status == TOO_MANY_REQUESTS) {
+            return rateLimitControl;
+        }
+        return status >= SERVER_ERROR_BASE && retryPolicy.isRetryOnServerError() && isIdempotent(method);
+    }
+
+    /**
+     * Indicates whether a call that failed with an I/O error is retried.
+     *
+     * @param retryPolicy The retry policy.
+     * @param method The HTTP method of the call.
+     * @param attempt The number of the attempt that failed, starting at 1.
+     * @return {@code true} if the call must be retried.
+     */
+    public static boolean isRetryable(RetryPolicy retryPolicy, String method, int attempt) {
+        return attempt < retryPolicy.getMaxAttempts() && retryPolicy.isRetryOnIoError() && isIdempotent(method);
+    }
+
+    /**
+     * Calculates the delay before the next attempt of a call.
+     *
+     * @param retryPolicy The retry policy.
+     * @param attempt The number of the attempt that failed, starting at 1.
+     * @param response The response received, or {@code null} if the call failed with an I/O error.
+     * @return The delay in milliseconds.
+     */
+    public static long getDelay(RetryPolicy retryPolicy, int attempt, HttpResponse response) {
+        long backoff = (long) Math.min(retryPolicy.getMaxBackoffMillis(),
+                retryPolicy.getInitialBackoffMillis() * Math.pow(retryPolicy.getMultiplier(), attempt - 1));
+        double jitter = Math.max(0, Math.min(1, retryPolicy.getJitter()));
+        long randomized = backoff - (long) (backoff * jitter * ThreadLocalRandom.current().nextDouble());
+        if (response != null && retryPolicy.isHonorRetryAfter()) {
+            long retryAfter = Math.min(getRetryAfter(response), Math.max(retryPolicy.getMaxRetryAfterMillis(), 0));
+            if (retryAfter > 0) {
+                // a small random extra delay keeps clients limited at the same time from retrying together
+                return retryAfter + (long) (backoff * jitter * ThreadLocalRandom.current().nextDouble());
+            }
+        }
+        return randomized;
+    }
+
+    /**
+     * Reads the delay requested by the server, either as a number of seconds, an HTTP date or, as
+     * {@code X-RateLimit-Reset} is usually sent, the epoch second at which the limit resets.
+     *
+     * @param response The response received.
+     * @return The delay in milliseconds, or 0 if the server did not request one.
+     */
+    private static long getRetryAfter(HttpResponse response) {
+        for (String name : RETRY_AFTER_HEADERS) {
+            Header header = response.getFirstHeader(name);
+            if (header == null || header.getValue() == null) {
+                continue;
+            }
+            String value = header.getValue().trim();
+            try {
+                long seconds = Long.parseLong(value);
+                long now = System.currentTimeMillis();
+                if (seconds > TimeUnit.MILLISECONDS.toSeconds(now)) {
+                    return Math.max(0, TimeUnit.SECONDS.toMillis(seconds) - now);
+                }
+                return TimeUnit.SECONDS.toMillis(seconds);
+            } catch (NumberFormatException e) {
+                Date date = DateUtils.parseDate(value);
+                if (date != null) {
+                    return Math.max(0, date.getTime() - System.currentTimeMillis());
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Indicates whether the HTTP method is idempotent, so the call can be safely repeated.
+     *
+     * @param method The HTTP method.
+     * @return {@code true} if the method is idempotent.
+     */
+    private static boolean isIdempotent(String method) {
+        return IDEMPOTENT_METHODS.contains(method);
+    }
+}
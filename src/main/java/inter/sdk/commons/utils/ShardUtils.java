@@ -0,0 +1,310 @@
+package inter.sdk.commons.utils;
+
+import inter.sdk.commons.exceptions.SdkException;
+import inter.sdk.commons.models.Config;
+import inter.sdk.commons.models.Error;
+import inter.sdk.commons.models.ShardPolicy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
+
+/**
+ * The {@code ShardUtils} class retrieves large date ranges by splitting them into smaller windows.
+ * <p>
+ * A range spanning months yields a huge number of pages for a single request and may exceed the
+ * limits of the API. The sharded retrievals split the range into windows according to the
+ * {@link ShardPolicy} of the configuration, split further the windows whose first page reports too
+ * many pages, and retrieve the windows in parallel. The items are merged in chronological order of
+ * the windows and de-duplicated by their natural key, e.g. the {@code endToEndId} of a Pix.
+ * </p>
+ */
+@Slf4j
+public class ShardUtils {
+    private ShardUtils() {
+    }
+
+    /**
+     * Retrieves the page of a window of the range.
+     *
+     * @param <P> The type of the pages.
+     */
+    @FunctionalInterface
+    public interface WindowPageFetcher<P> {
+        /**
+         * Retrieves a page of the items between two dates.
+         *
+         * @param initialDate The start of the window (inclusive), in the format of the retrieval.
+         * @param finalDate The end of the window (inclusive), in the format of the retrieval.
+         * @param page The page number, starting at 0.
+         * @return A {@link CompletableFuture} completed with the page.
+         */
+        CompletableFuture<P> fetch(String initialDate, String finalDate, int page);
+    }
+
+    /**
+     * Retrieves the items of a range of days, in windows of whole days.
+     *
+     * @param config The configuration, providing the {@link ShardPolicy} and the page concurrency of each window.
+     * @param initialDate The first day of the range (inclusive). Format: YYYY-MM-DD.
+     * @param finalDate The last day of the range (inclusive). Format: YYYY-MM-DD.
+     * @param pageFetcher The function retrieving a page of a window.
+     * @param totalPages The function returning the total number of pages reported by a page.
+     * @param items The function returning the items of a page.
+     * @param key The function returning the natural key of an item; items with a {@code null} key are never merged.
+     * @param <P> The type of the pages.
+     * @param <T> The type of the items.
+     * @return A {@link CompletableFuture} completed with the distinct items of the range, in chronological order of the windows.
+     */
+    public static <P, T> CompletableFuture<List<T>> collectByDay(Config config, String initialDate, String finalDate, WindowPageFetcher<P> pageFetcher,
+                                                                 ToIntFunction<P> totalPages, Function<P, List<T>> items, Function<T, String> key) {
+        long from;
+        long to;
+        try {
+            from = LocalDate.parse(initialDate).toEpochDay();
+            to = LocalDate.parse(finalDate).toEpochDay();
+        } catch (DateTimeParseException e) {
+            return invalidRange(initialDate, finalDate, e);
+        }
+        return new ShardedRetrieval<>(config, 1, day -> LocalDate.ofEpochDay(day).toString(), pageFetcher, totalPages, items, key)
+                .collect(from, to, config.getShardPolicy().getInitialWindowDays());
+    }
+
+    /**
+     * Builds the failed result of a range whose dates cannot be parsed.
+     *
+     * @param initialDate The start of the range.
+     * @param finalDate The end of the range.
+     * @param exception The parsing error.
+     * @param <T> The type of the items.
+     * @return A {@link CompletableFuture} completed exceptionally with a {@link SdkException}.
+     */
+    private static <T> CompletableFuture<List<T>> invalidRange(String initialDate, String finalDate, DateTimeParseException exception) {
+        CompletableFuture<List<T>> future = new CompletableFuture<>();
+        future.completeExceptionally(new SdkException(
+                exception.getMessage(),
+                Error.builder()
+                        .title(GENERIC_EXCEPTION_MESSAGE)
+                        .detail("Invalid date range " + initialDate + " - " + finalDate + ": " + exception.getMessage())
+                        .build()
+        ));
+        return future;
+    }
+
+    /**
+     * A range being retrieved in windows. Windows are bounds in epoch days,
+     * and are never split below {@code minWindow} units.
+     *
+     * @param <P> The type of the pages.
+     * @param <T> The type of the items.
+     */
+    private static final class ShardedRetrieval<P, T> {
+        private final Config config;
+        private final ShardPolicy policy;
+        private final long minWindow;
+        private final LongFunction<String> format;
+        private final WindowPageFetcher<P> pageFetcher;
+        private final ToIntFunction<P> totalPages;
+        private final Function<P, List<T>> items;
+        private final Function<T, String> key;
+        private final Limiter limiter;
+        private final CompletableFuture<List<T>> result = new CompletableFuture<>();
+
+        private ShardedRetrieval(Config config, long minWindow, LongFunction<String> format, WindowPageFetcher<P> pageFetcher,
+                                 ToIntFunction<P> totalPages, Function<P, List<T>> items, Function<T, String> key) {
+            this.config = config;
+            this.policy = config.getShardPolicy();
+            this.minWindow = minWindow;
+            this.format = format;
+            this.pageFetcher = pageFetcher;
+            this.totalPages = totalPages;
+            this.items = items;
+            this.key = key;
+            this.limiter = new Limiter(Math.max(policy.getConcurrency(), 1));
+        }
+
+        /**
+         * Retrieves the range, starting with windows of the given length.
+         *
+         * @param from The start of the range (inclusive).
+         * @param to The end of the range (inclusive).
+         * @param windowLength The length of the initial windows.
+         * @return A {@link CompletableFuture} completed with the distinct items of the range.
+         */
+        private CompletableFuture<List<T>> collect(long from, long to, long windowLength) {
+            long length = Math.max(windowLength - windowLength % minWindow, minWindow);
+            List<CompletableFuture<List<List<T>>>> windows = new ArrayList<>();
+            for (long start = from; start <= to; start += length) {
+                windows.add(window(start, Math.min(start + length - 1, to)));
+            }
+            CompletableFuture.allOf(windows.toArray(new CompletableFuture[0])).whenComplete((ignored, error) -> {
+                if (error == null) {
+                    result.complete(merge(windows));
+                }
+            });
+            return result;
+        }
+
+        /**
+         * Retrieves a window, splitting it in halves if its first page reports too many pages.
+         *
+         * @param from The start of the window (inclusive).
+         * @param to The end of the window (inclusive).
+         * @return A {@link CompletableFuture} completed with the items of the window, by page.
+         */
+        private CompletableFuture<List<List<T>>> window(long from, long to) {
+            String initialDate = format.apply(from);
+            String finalDate = format.apply(to);
+            return limiter.run(() -> pageFetcher.fetch(initialDate, finalDate, 0)).thenCompose(first -> {
+                int pageCount = totalPages.applyAsInt(first);
+                long length = to - from + 1;
+                if (pageCount > policy.getMaxPagesPerWindow() && length > minWindow) {
+                    long middle = from + Math.max(length / minWindow / 2, 1) * minWindow;
+                    log.debug("Splitting window {} - {} with {} pages", initialDate, finalDate, pageCount);
+                    return window(from, middle - 1).thenCombine(window(middle, to), (left, right) -> {
+                        left.addAll(right);
+                        return left;
+                    });
+                }
+                if (pageCount > policy.getMaxPagesPerWindow()) {
+                    log.warn("Window {} - {} has {} pages and cannot be split further", initialDate, finalDate, pageCount);
+                }
+                return limiter.run(() -> AsyncHttpUtils.collectPages(
+                        page -> page == 0 ? CompletableFuture.completedFuture(first) : pageFetcher.fetch(initialDate, finalDate, page),
+                        totalPages,
+                        items,
+                        config.getPageConcurrency()))
+                        .thenApply(windowItems -> {
+                            List<List<T>> parts = new ArrayList<>();
+                            parts.add(windowItems);
+                            return parts;
+                        });
+            }).whenComplete((ignored, error) -> {
+                if (error != null) {
+                    result.completeExceptionally(error instanceof CompletionException ? error.getCause() : error);
+                }
+            });
+        }
+
+        /**
+         * Joins the items of the windows in order, keeping the first occurrence of each key.
+         *
+         * @param windows The retrieved windows, in chronological order.
+         * @return The distinct items.
+         */
+        private List<T> merge(List<CompletableFuture<List<List<T>>>> windows) {
+            List<T> merged = new ArrayList<>();
+            Set<String> keys = new HashSet<>();
+            for (CompletableFuture<List<List<T>>> window : windows) {
+                for (List<T> part : window.join()) {
+                    for (T item : part) {
+                        String itemKey = key.apply(item);
+                        if (itemKey == null || keys.add(itemKey)) {
+                            merged.add(item);
+                        }
+                    }
+                }
+            }
+            return merged;
+        }
+
+        /**
+         * Limits the number of requests in flight, starting the waiting ones as others complete.
+         * Once the retrieval has failed, waiting requests are not started.
+         */
+        private final class Limiter {
+            private final ReentrantLock lock = new ReentrantLock();
+            private final Deque<Runnable> waiting = new ArrayDeque<>();
+            private final int permits;
+            private int active;
+
+            private Limiter(int permits) {
+                this.permits = permits;
+            }
+
+            /**
+             * Runs a request as soon as a permit is available.
+             *
+             * @param request The request to run.
+             * @param <X> The type of the response.
+             * @return A {@link CompletableFuture} completed with the response.
+             */
+            private <X> CompletableFuture<X> run(Supplier<CompletableFuture<X>> request) {
+                CompletableFuture<X> response = new CompletableFuture<>();
+                Runnable start = () -> {
+                    CompletableFuture<X> future;
+                    if (result.isCompletedExceptionally()) {
+                        future = new CompletableFuture<>();
+                        future.completeExceptionally(new CancellationException());
+                    } else {
+                        try {
+                            future = request.get();
+                        } catch (RuntimeException e) {
+                            future = new CompletableFuture<>();
+                            future.completeExceptionally(e);
+                        }
+                    }
+                    future.whenComplete((value, error) -> {
+                        release();
+                        if (error != null) {
+                            response.completeExceptionally(error);
+                        } else {
+                            response.complete(value);
+                        }
+                    });
+                };
+                boolean startNow;
+                lock.lock();
+                try {
+                    startNow = active < permits;
+                    if (startNow) {
+                        active++;
+                    } else {
+                        waiting.add(start);
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                if (startNow) {
+                    start.run();
+                }
+                return response;
+            }
+
+            /**
+             * Releases a permit, handing it over to the next waiting request.
+             */
+            private void release() {
+                Runnable next;
+                lock.lock();
+                try {
+                    next = waiting.poll();
+                    if (next == null) {
+                        active--;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                if (next != null) {
+                    next.run();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package inter.sdk.commons.utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import inter.sdk.commons.exceptions.SdkException;
+import inter.sdk.commons.models.Config;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The {@code SingleFlightUtils} class coalesces identical concurrent GET requests.
+ * <p>
+ * While a request is in flight, the threads making the same request, with the same client,
+ * environment, account, scope, URL and response type, wait for it instead of making their own,
+ * and all of them receive its result or its exception. Once the request completes, the next one
+ * goes to the API again, so nothing is cached.
+ * </p>
+ * <p>
+ * Waiters receive the same deserialized instance as the thread that made the request, so results
+ * of coalesced calls should not be modified. Coalescing is disabled with
+ * {@link Config#isCoalesceRequests()}.
+ * </p>
+ */
+@Slf4j
+public class SingleFlightUtils {
+    private static final Map<String, CompletableFuture<Object>> IN_FLIGHT = new ConcurrentHashMap<>();
+
+    private SingleFlightUtils() {
+    }
+
+    /**
+     * A blocking call whose result can be shared.
+     *
+     * @param <T> The type of the result.
+     */
+    public interface Call<T> {
+        /**
+         * Makes the call.
+         *
+         * @return The result of the call.
+         * @throws SdkException If the call fails.
+         */
+        T call() throws SdkException;
+    }
+
+    /**
+     * Makes a blocking GET request, or waits for the identical request already in flight.
+     *
+     * @param config The configuration of the request.
+     * @param url The URL of the request.
+     * @param scope The scope of the request.
+     * @param type The type the response is read as: a class, a {@link TypeReference} or a name.
+     * @param call The call making the request.
+     * @param <T> The type of the result.
+     * @return The result of the request.
+     * @throws SdkException If the request fails.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T get(Config config, String url, String scope, Object type, Call<T> call) throws SdkException {
+        if (!config.isCoalesceRequests()) {
+            return call.call();
+        }
+        String key = key(config, url, scope, type);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = IN_FLIGHT.putIfAbsent(key, flight);
+        if (existing != null) {
+            log.debug("Coalescing GET {}", url);
+            return (T) AsyncHttpUtils.join(existing);
+        }
+        try {
+            T result = call.call();
+            IN_FLIGHT.remove(key, flight);
+            flight.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // any failure, errors included, must end the flight, or the waiters would never complete
+            IN_FLIGHT.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Makes an asynchronous GET request, or joins the identical request already in flight.
+     *
+     * @param config The configuration of the request.
+     * @param url The URL of the request.
+     * @param scope The scope of the request.
+     * @param type The type the response is read as: a class, a {@link TypeReference} or a name.
+     * @param call The supplier starting the request.
+     * @param <T> The type of the result.
+     * @return A {@link CompletableFuture} completed with the result of the request.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> CompletableFuture<T> getAsync(Config config, String url, String scope, Object type, Supplier<CompletableFuture<T>> call) {
+        if (!config.isCoalesceRequests()) {
+            return call.get();
+        }
+        String key = key(config, url, scope, type);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = IN_FLIGHT.putIfAbsent(key, flight);
+        if (existing != null) {
+            log.debug("Coalescing GET {}", url);
+            return existing.thenApply(result -> (T) result);
+        }
+        CompletableFuture<T> request;
+        try {
+            request = call.get();
+        } catch (Throwable e) {
+            IN_FLIGHT.remove(key, flight);
+            flight.completeExceptionally(e);
+            if (e instanceof Error) {
+                throw (Error) e;
+            }
+            return flight.thenApply(result -> (T) result);
+        }
+        request.whenComplete((result, throwable) -> {
+            IN_FLIGHT.remove(key, flight);
+            if (throwable != null) {
+                flight.completeExceptionally(throwable);
+            } else {
+                flight.complete(result);
+            }
+        });
+        return flight.thenApply(result -> (T) result);
+    }
+
+    /**
+     * Builds the key identifying identical requests.
+     *
+     * @param config The configuration of the request.
+     * @param url The URL of the request.
+     * @param scope The scope of the request.
+     * @param type The type the response is read as.
+     * @return The key of the request.
+     */
+    private static String key(Config config, String url, String scope, Object type) {
+        return String.join("|", String.valueOf(config.getClientId()), String.valueOf(config.getEnvironment()),
+                String.valueOf(config.getAccount()), String.valueOf(scope), url, typeName(type));
+    }
+
+    /**
+     * Returns the name of the type a response is read as.
+     *
+     * @param type The class, the {@link TypeReference} or the name of the type.
+     * @return The name of the type.
+     */
+    private static String typeName(Object type) {
+        if (type instanceof Class) {
+            return ((Class<?>) type).getName();
+        }
+        if (type instanceof TypeReference) {
+            return ((TypeReference<?>) type).getType().getTypeName();
+        }
+        return String.valueOf(type);
+    }
+}
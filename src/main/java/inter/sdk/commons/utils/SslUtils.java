@@ -7,28 +7,54 @@ import inter.sdk.commons.exceptions.SdkException;
 import inter.sdk.commons.models.Error;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.http.HttpHost;
 import org.apache.http.config.Registry;
 import org.apache.http.config.RegistryBuilder;
 import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.LayeredConnectionSocketFactory;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.impl.conn.BasicHttpClientConnectionManager;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.IOSession;
+import org.apache.http.protocol.HttpContext;
 
+import javax.naming.InvalidNameException;
+import javax.naming.ldap.LdapName;
+import javax.naming.ldap.Rdn;
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509ExtendedTrustManager;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
 import java.security.KeyManagementException;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.UnrecoverableKeyException;
+import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Collection;
 import java.util.Date;
 import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static inter.sdk.commons.structures.Constants.CERTIFICATE_EXCEPTION_MESSAGE;
 import static inter.sdk.commons.structures.Constants.DAYS_TO_EXPIRE;
@@ -41,10 +67,23 @@ import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
  * and check expiration of the certificates. It handles exceptions related to certificates
  * and logging errors for troubleshooting.
  * </p>
+ * <p>
+ * The SSL context built from a certificate is cached and only rebuilt when the certificate
+ * file changes on disk, so certificates can be rotated without restarting the application.
+ * </p>
  */
 @NoArgsConstructor
 @Slf4j
 public class SslUtils {
+    // Minimum interval between checks of the certificate file for changes
+    private static final long CERTIFICATE_CHECK_INTERVAL = TimeUnit.SECONDS.toNanos(10);
+    // Map to cache the SSL material by certificate and password
+    private static final Map<String, SslMaterial> SSL_MATERIALS = new ConcurrentHashMap<>();
+    // Lock held while loading certificate files, a lock rather than a monitor so virtual threads are not pinned
+    private static final ReentrantLock SSL_LOCK = new ReentrantLock();
+    // Maximum number of validated client certificate chains kept by a server trust manager
+    private static final int VERIFIED_CHAIN_CACHE_SIZE = 1024;
+
     /**
      * Creates a new {@link BasicHttpClientConnectionManager} using the specified certificate
      * and password for SSL connections.
@@ -55,27 +94,229 @@ public class SslUtils {
      * @throws SdkException If the certificate is not found or if an error occurs while building the manager.
      */
     public static BasicHttpClientConnectionManager buildConnectionManager(String certificate, String password) throws SdkException {
+        return new BasicHttpClientConnectionManager(buildSocketFactoryRegistry(certificate, password));
+    }
+    /**
+     * Creates the socket factory registry used by the connection managers, registering
+     * an SSL socket factory configured with the specified certificate and password.
+     * <p>
+     * The socket factory always uses the current cached SSL material, so a certificate
+     * replaced on disk is picked up by new connections without rebuilding the connection manager.
+     * </p>
+     *
+     * @param certificate The path to the SSL certificate file.
+     * @param password The password for the SSL certificate.
+     * @return A {@link Registry} of {@link ConnectionSocketFactory} for the "https" scheme.
+     * @throws SdkException If the certificate is not found or if an error occurs while building the SSL context.
+     */
+    public static Registry<ConnectionSocketFactory> buildSocketFactoryRegistry(String certificate, String password) throws SdkException {
+        getSslMaterial(certificate, password);
+        return RegistryBuilder.<ConnectionSocketFactory>create().register("https", new ReloadingSslSocketFactory(certificate, password)).build();
+    }
+    /**
+     * Builds a registry of I/O session strategies for the non-blocking HTTP transport, using the given certificate.
+     * <p>
+     * As with {@link #buildSocketFactoryRegistry(String, String)}, new connections always use the current
+     * version of the certificate.
+     * </p>
+     *
+     * @param certificate The path to the SSL certificate file.
+     * @param password The password for the SSL certificate.
+     * @return A {@link Registry} of {@link SchemeIOSessionStrategy} for the "https" scheme.
+     * @throws SdkException If the certificate is not found or if an error occurs while building the SSL context.
+     */
+    public static Registry<SchemeIOSessionStrategy> buildIOSessionStrategyRegistry(String certificate, String password) throws SdkException {
+        getSslMaterial(certificate, password);
+        return RegistryBuilder.<SchemeIOSessionStrategy>create().register("https", new ReloadingSslIOSessionStrategy(certificate, password)).build();
+    }
+    /**
+     * Returns the SSL context for the given certificate and password.
+     * <p>
+     * The context is built once and cached. The certificate file is checked for changes at most once every
+     * {@code CERTIFICATE_CHECK_INTERVAL}, and the context is rebuilt when its modification time or size change.
+     * </p>
+     *
+     * @param certificate The path to the SSL certificate file.
+     * @param password The password for the SSL certificate.
+     * @return The cached {@link SSLContext}.
+     * @throws SdkException If the certificate is not found, is expired or cannot be loaded.
+     */
+    public static SSLContext getSslContext(String certificate, String password) throws SdkException {
+        return getSslMaterial(certificate, password).sslContext;
+    }
+    /**
+     * Builds the SSL context of a server, such as the webhook receiver, presenting the given certificate.
+     * <p>
+     * When trusted certificates are given, clients must present a certificate issued by one of them,
+     * so only the holders of those certificates, e.g. Inter, can connect (mutual TLS).
+     * </p>
+     *
+     * @param certificate The path to the SSL certificate file of the server.
+     * @param password The password for the SSL certificate.
+     * @param trustedCertificates The path to a file of X.509 certificates, PEM or DER encoded, trusted to
+     *                            issue the certificates of the clients, or {@code null} to use the default ones.
+     * @return An {@link SSLContext} for the server.
+     * @throws SdkException If a certificate is not found, is expired or cannot be loaded.
+     */
+    public static SSLContext buildServerSslContext(String certificate, String password, String trustedCertificates) throws SdkException {
+        return buildServerSslContext(certificate, password, trustedCertificates, null);
+    }
+    /**
+     * Builds the SSL context of a server, such as the webhook receiver, presenting the given certificate
+     * and accepting only clients whose certificate has one of the given common names.
+     * <p>
+     * Client certificate chains are validated against the trusted certificates once: a chain already
+     * validated, compared by its SHA-256 fingerprint, is accepted until its first certificate expires
+     * without validating the certification path again. Clients resuming a TLS session skip the
+     * verification altogether.
+     * </p>
+     *
+     * @param certificate The path to the SSL certificate file of the server.
+     * @param password The password for the SSL certificate.
+     * @param trustedCertificates The path to a file of X.509 certificates, PEM or DER encoded, trusted to
+     *                            issue the certificates of the clients, or {@code null} to use the default ones.
+     * @param allowedClientNames The common names (CN) accepted in the certificates of the clients,
+     *                           or {@code null} to accept any certificate issued by a trusted certificate.
+     * @return An {@link SSLContext} for the server.
+     * @throws SdkException If a certificate is not found, is expired or cannot be loaded.
+     */
+    public static SSLContext buildServerSslContext(String certificate, String password, String trustedCertificates,
+                                                   Collection<String> allowedClientNames) throws SdkException {
         if (!new File(certificate).exists()) {
             throw new CertificateNotFoundException(certificate);
         }
-        SSLContext sslContext = buildSslContext(certificate, password);
-        SSLConnectionSocketFactory sslConnectionSocketFactory = new SSLConnectionSocketFactory(sslContext, NoopHostnameVerifier.INSTANCE);
-        Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create().register("https", sslConnectionSocketFactory).build();
-        return new BasicHttpClientConnectionManager(socketFactoryRegistry);
+        KeyStore keyStore = getKeyStore(certificate, password);
+        checkExpiration(keyStore);
+        TrustManager[] trustManagers = null;
+        if (trustedCertificates != null) {
+            trustManagers = buildTrustManagerFactory(getTrustStore(trustedCertificates)).getTrustManagers();
+            for (int i = 0; i < trustManagers.length; i++) {
+                if (trustManagers[i] instanceof X509ExtendedTrustManager) {
+                    trustManagers[i] = new CachingTrustManager((X509ExtendedTrustManager) trustManagers[i], allowedClientNames);
+                }
+            }
+        }
+        try {
+            SSLContext sslContext = SSLContext.getInstance("TLSv1.2");
+            sslContext.init(buildKeyManagerFactory(keyStore, password).getKeyManagers(), trustManagers, new java.security.SecureRandom());
+            return sslContext;
+        } catch (NoSuchAlgorithmException | UnrecoverableKeyException | KeyStoreException |
+                 KeyManagementException e) {
+            log.error(CERTIFICATE_EXCEPTION_MESSAGE, e);
+            throw new CertificateException(
+                    e.getMessage(),
+                    Error.builder()
+                            .title(CERTIFICATE_EXCEPTION_MESSAGE)
+                            .detail(e.getMessage())
+                            .build()
+            );
+        }
+    }
+    /**
+     * Loads a file of X.509 certificates, PEM or DER encoded, into a {@link KeyStore} of trusted certificates.
+     *
+     * @param trustedCertificates The path to the file of certificates.
+     * @return A {@link KeyStore} with an entry for each certificate of the file.
+     * @throws SdkException If the file is not found or cannot be loaded.
+     */
+    public static KeyStore getTrustStore(String trustedCertificates) throws SdkException {
+        if (!new File(trustedCertificates).exists()) {
+            throw new CertificateNotFoundException(trustedCertificates);
+        }
+        try (FileInputStream fileInputStream = new FileInputStream(trustedCertificates)) {
+            KeyStore trustStore = KeyStore.getInstance("pkcs12");
+            trustStore.load(null, null);
+            int index = 0;
+            for (java.security.cert.Certificate certificate : CertificateFactory.getInstance("X.509").generateCertificates(fileInputStream)) {
+                trustStore.setCertificateEntry("trusted-" + index++, certificate);
+            }
+            return trustStore;
+        } catch (IOException ioException) {
+            log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
+            throw new SdkException(
+                    ioException.getMessage(),
+                    Error.builder()
+                            .title(CERTIFICATE_EXCEPTION_MESSAGE)
+                            .detail(ioException.getMessage())
+                            .build()
+            );
+        } catch (NoSuchAlgorithmException | java.security.cert.CertificateException | KeyStoreException e) {
+            log.error(CERTIFICATE_EXCEPTION_MESSAGE, e);
+            throw new CertificateException(
+                    e.getMessage(),
+                    Error.builder()
+                            .title(CERTIFICATE_EXCEPTION_MESSAGE)
+                            .detail(e.getMessage())
+                            .build()
+            );
+        }
+    }
+    /**
+     * Returns the cached SSL material for the given certificate and password, loading or reloading it when needed.
+     *
+     * @param certificate The path to the SSL certificate file.
+     * @param password The password for the SSL certificate.
+     * @return The current {@link SslMaterial}.
+     * @throws SdkException If the certificate is not found, is expired or cannot be loaded.
+     */
+    private static SslMaterial getSslMaterial(String certificate, String password) throws SdkException {
+        String key = certificate + ":" + hash(password);
+        SslMaterial sslMaterial = SSL_MATERIALS.get(key);
+        if (sslMaterial == null || System.nanoTime() - sslMaterial.checkedAt >= CERTIFICATE_CHECK_INTERVAL) {
+            sslMaterial = loadSslMaterial(key, certificate, password);
+        }
+        if (sslMaterial.expiration.before(new Date())) {
+            throw new CertificateExpiredException(sslMaterial.expiration);
+        }
+        return sslMaterial;
     }
     /**
-     * Builds an SSL context using the given certificate and password.
+     * Loads the SSL material from the certificate file, unless the cached one is still up to date.
      *
+     * @param key The cache key.
      * @param certificate The path to the SSL certificate file.
      * @param password The password for the SSL certificate.
+     * @return The loaded or the still valid cached {@link SslMaterial}.
+     * @throws SdkException If the certificate is not found or cannot be loaded.
+     */
+    private static SslMaterial loadSslMaterial(String key, String certificate, String password) throws SdkException {
+        File file = new File(certificate);
+        if (!file.exists()) {
+            throw new CertificateNotFoundException(certificate);
+        }
+        long lastModified = file.lastModified();
+        long length = file.length();
+        SSL_LOCK.lock();
+        try {
+            SslMaterial current = SSL_MATERIALS.get(key);
+            if (current != null && current.lastModified == lastModified && current.length == length) {
+                current.checkedAt = System.nanoTime();
+                return current;
+            }
+            KeyStore keyStore = getKeyStore(certificate, password);
+            Date closeToExpire = checkExpiration(keyStore);
+            SSLContext sslContext = buildSslContext(keyStore, password);
+            SslMaterial sslMaterial = new SslMaterial(sslContext, closeToExpire, getExpiration(keyStore), lastModified, length);
+            SSL_MATERIALS.put(key, sslMaterial);
+            if (current != null) {
+                log.info("Certificate {} changed, SSL context reloaded", certificate);
+            }
+            return sslMaterial;
+        } finally {
+            SSL_LOCK.unlock();
+        }
+    }
+    /**
+     * Builds an SSL context using the given key store and password.
+     *
+     * @param keyStore The KeyStore containing the certificate.
+     * @param password The password for the SSL certificate.
      * @return An {@link SSLContext} initialized with the given certificate.
      * @throws SdkException If an error occurs while building the SSL context.
      */
-    private static SSLContext buildSslContext(String certificate, String password) throws SdkException {
+    private static SSLContext buildSslContext(KeyStore keyStore, String password) throws SdkException {
         try {
             SSLContext sslContext = SSLContext.getInstance("TLSv1.2");
-            KeyStore keyStore = getKeyStore(certificate, password);
-            checkExpiration(keyStore);
             KeyManagerFactory keyManagerFactory = buildKeyManagerFactory(keyStore, password);
             sslContext.init(keyManagerFactory.getKeyManagers(), null, new java.security.SecureRandom());
             return sslContext;
@@ -150,8 +391,7 @@ public class SslUtils {
      * @throws SdkException If an error occurs during the check.
      */
     public static Date isCloseToExpire(String certificate, String password) throws SdkException {
-        KeyStore keyStore = getKeyStore(certificate, password);
-        return checkExpiration(keyStore);
+        return getSslMaterial(certificate, password).closeToExpire;
     }
     /**
      * Checks the expiration status of the certificates in the given KeyStore.
@@ -203,4 +443,312 @@ public class SslUtils {
         keyManagerFactory.init(keyStore, password.toCharArray());
         return keyManagerFactory;
     }
-}
\ No newline at end of file
+    /**
+     * Builds a TrustManagerFactory using the provided KeyStore of trusted certificates.
+     *
+     * @param trustStore The KeyStore containing the trusted certificates.
+     * @return A {@link TrustManagerFactory} initialized with the KeyStore.
+     * @throws SdkException If an error occurs while creating the TrustManagerFactory.
+     */
+    private static TrustManagerFactory buildTrustManagerFactory(KeyStore trustStore) throws SdkException {
+        try {
+            TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+            trustManagerFactory.init(trustStore);
+            return trustManagerFactory;
+        } catch (NoSuchAlgorithmException | KeyStoreException e) {
+            log.error(CERTIFICATE_EXCEPTION_MESSAGE, e);
+            throw new CertificateException(
+                    e.getMessage(),
+                    Error.builder()
+                            .title(CERTIFICATE_EXCEPTION_MESSAGE)
+                            .detail(e.getMessage())
+                            .build()
+            );
+        }
+    }
+    /**
+     * Returns the expiration date of the soonest expiring certificate in the given KeyStore.
+     *
+     * @param keyStore The KeyStore containing the certificates.
+     * @return The earliest expiration date.
+     * @throws SdkException If an error occurs while reading the certificates.
+     */
+    private static Date getExpiration(KeyStore keyStore) throws SdkException {
+        try {
+            Enumeration<String> enumeration = keyStore.aliases();
+            Date expiration = new Date(Long.MAX_VALUE);
+            while (enumeration.hasMoreElements()) {
+                X509Certificate certificate = (X509Certificate) keyStore.getCertificate(enumeration.nextElement());
+                if (certificate != null && certificate.getNotAfter().before(expiration)) {
+                    expiration = certificate.getNotAfter();
+                }
+            }
+            return expiration;
+        } catch (KeyStoreException e) {
+            log.error(CERTIFICATE_EXCEPTION_MESSAGE, e);
+            throw new CertificateException(
+                    e.getMessage(),
+                    Error.builder()
+                            .title(CERTIFICATE_EXCEPTION_MESSAGE)
+                            .detail(e.getMessage())
+                            .build()
+            );
+        }
+    }
+    /**
+     * Hashes the certificate password, so it is not kept in clear text as part of the cache key.
+     *
+     * @param password The password for the SSL certificate.
+     * @return The SHA-256 hash of the password, in hexadecimal.
+     */
+    private static String hash(String password) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(password.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    /**
+     * The SSL context built from a certificate file, along with the file state it was built from.
+     */
+    private static final class SslMaterial {
+        private final SSLContext sslContext;
+        private final SSLConnectionSocketFactory socketFactory;
+        private final SSLIOSessionStrategy ioSessionStrategy;
+        private final Date closeToExpire;
+        private final Date expiration;
+        private final long lastModified;
+        private final long length;
+        private volatile long checkedAt;
+
+        private SslMaterial(SSLContext sslContext, Date closeToExpire, Date expiration, long lastModified, long length) {
+            this.sslContext = sslContext;
+            this.socketFactory = new SSLConnectionSocketFactory(sslContext, NoopHostnameVerifier.INSTANCE);
+            this.ioSessionStrategy = new SSLIOSessionStrategy(sslContext, NoopHostnameVerifier.INSTANCE);
+            this.closeToExpire = closeToExpire;
+            this.expiration = expiration;
+            this.lastModified = lastModified;
+            this.length = length;
+            this.checkedAt = System.nanoTime();
+        }
+    }
+    /**
+     * An SSL socket factory that delegates to the socket factory of the current SSL material,
+     * so new connections always use the latest version of the certificate.
+     */
+    private static final class ReloadingSslSocketFactory implements LayeredConnectionSocketFactory {
+        private final String certificate;
+        private final String password;
+
+        private ReloadingSslSocketFactory(String certificate, String password) {
+            this.certificate = certificate;
+            this.password = password;
+        }
+
+        private SSLConnectionSocketFactory current() throws IOException {
+            try {
+                return getSslMaterial(certificate, password).socketFactory;
+            } catch (SdkException e) {
+                throw new SSLException(e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public Socket createSocket(HttpContext context) throws IOException {
+            return current().createSocket(context);
+        }
+
+        @Override
+        public Socket connectSocket(int connectTimeout, Socket sock, HttpHost host, InetSocketAddress remoteAddress,
+                                    InetSocketAddress localAddress, HttpContext context) throws IOException {
+            return current().connectSocket(connectTimeout, sock, host, remoteAddress, localAddress, context);
+        }
+
+        @Override
+        public Socket createLayeredSocket(Socket socket, String target, int port, HttpContext context) throws IOException {
+            return current().createLayeredSocket(socket, target, port, context);
+        }
+    }
+    /**
+     * An I/O session strategy that delegates to the one of the current SSL material,
+     * so new non-blocking connections always use the latest version of the certificate.
+     */
+    private static final class ReloadingSslIOSessionStrategy implements SchemeIOSessionStrategy {
+        private final String certificate;
+        private final String password;
+
+        private ReloadingSslIOSessionStrategy(String certificate, String password) {
+            this.certificate = certificate;
+            this.password = password;
+        }
+
+        @Override
+        public boolean isLayeringRequired() {
+            return true;
+        }
+
+        @Override
+        public IOSession upgrade(HttpHost host, IOSession ioSession) throws IOException {
+            try {
+                return getSslMaterial(certificate, password).ioSessionStrategy.upgrade(host, ioSession);
+            } catch (SdkException e) {
+                throw new SSLException(e.getMessage(), e);
+            }
+        }
+    }
+    /**
+     * A trust manager of a server that remembers the client certificate chains it validated, so the
+     * certification path of a client is only validated on its first connection and when its certificate
+     * changes. Chains are compared by the SHA-256 fingerprint of their certificates and remembered until
+     * the first of them expires; a chain that fails validation is never remembered.
+     */
+    private static final class CachingTrustManager extends X509ExtendedTrustManager {
+        private final X509ExtendedTrustManager delegate;
+        private final Set<String> allowedClientNames;
+        private final Map<String, Long> verifiedChains = new ConcurrentHashMap<>();
+
+        private CachingTrustManager(X509ExtendedTrustManager delegate, Collection<String> allowedClientNames) {
+            this.delegate = delegate;
+            this.allowedClientNames = allowedClientNames != null ? new HashSet<>(allowedClientNames) : null;
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType) throws java.security.cert.CertificateException {
+            String fingerprint = fingerprint(chain, authType);
+            if (!isVerified(fingerprint)) {
+                delegate.checkClientTrusted(chain, authType);
+                verified(fingerprint, chain);
+            }
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket) throws java.security.cert.CertificateException {
+            String fingerprint = fingerprint(chain, authType);
+            if (!isVerified(fingerprint)) {
+                delegate.checkClientTrusted(chain, authType, socket);
+                verified(fingerprint, chain);
+            }
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine) throws java.security.cert.CertificateException {
+            String fingerprint = fingerprint(chain, authType);
+            if (!isVerified(fingerprint)) {
+                delegate.checkClientTrusted(chain, authType, engine);
+                verified(fingerprint, chain);
+            }
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType) throws java.security.cert.CertificateException {
+            delegate.checkServerTrusted(chain, authType);
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket) throws java.security.cert.CertificateException {
+            delegate.checkServerTrusted(chain, authType, socket);
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine) throws java.security.cert.CertificateException {
+            delegate.checkServerTrusted(chain, authType, engine);
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return delegate.getAcceptedIssuers();
+        }
+
+        /**
+         * Tells whether a chain was already validated and none of its certificates expired since.
+         *
+         * @param fingerprint The fingerprint of the chain.
+         * @return {@code true} if the chain can be accepted without validation.
+         */
+        private boolean isVerified(String fingerprint) {
+            Long notAfter = verifiedChains.get(fingerprint);
+            if (notAfter == null) {
+                return false;
+            }
+            if (notAfter <= System.currentTimeMillis()) {
+                verifiedChains.remove(fingerprint, notAfter);
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Checks the common name of a validated chain and remembers the chain.
+         *
+         * @param fingerprint The fingerprint of the chain.
+         * @param chain       The chain, starting with the certificate of the client.
+         * @throws java.security.cert.CertificateException If the common name of the client is not allowed.
+         */
+        private void verified(String fingerprint, X509Certificate[] chain) throws java.security.cert.CertificateException {
+            if (allowedClientNames != null && !allowedClientNames.contains(commonName(chain[0]))) {
+                throw new java.security.cert.CertificateException("Client certificate " + chain[0].getSubjectX500Principal().getName() + " not allowed");
+            }
+            long notAfter = Long.MAX_VALUE;
+            for (X509Certificate certificate : chain) {
+                notAfter = Math.min(notAfter, certificate.getNotAfter().getTime());
+            }
+            if (verifiedChains.size() >= VERIFIED_CHAIN_CACHE_SIZE) {
+                verifiedChains.clear();
+            }
+            verifiedChains.put(fingerprint, notAfter);
+            log.debug("Client certificate {} verified", chain[0].getSubjectX500Principal().getName());
+        }
+
+        /**
+         * Computes the fingerprint of a chain, along with the authentication type it was presented for.
+         *
+         * @param chain    The chain.
+         * @param authType The authentication type.
+         * @return The SHA-256 hash of the chain, in hexadecimal.
+         * @throws java.security.cert.CertificateException If the chain is empty or cannot be encoded.
+         */
+        private static String fingerprint(X509Certificate[] chain, String authType) throws java.security.cert.CertificateException {
+            if (chain == null || chain.length == 0) {
+                throw new java.security.cert.CertificateException("Client certificate missing");
+            }
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                digest.update(authType.getBytes(StandardCharsets.UTF_8));
+                for (X509Certificate certificate : chain) {
+                    digest.update(certificate.getEncoded());
+                }
+                StringBuilder hex = new StringBuilder();
+                for (byte b : digest.digest()) {
+                    hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+                }
+                return hex.toString();
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * Returns the common name (CN) of the subject of a certificate.
+         *
+         * @param certificate The certificate.
+         * @return The common name, or {@code null} if the subject has none.
+         */
+        private static String commonName(X509Certificate certificate) {
+            try {
+                for (Rdn rdn : new LdapName(certificate.getSubjectX500Principal().getName()).getRdns()) {
+                    if ("CN".equalsIgnoreCase(rdn.getType())) {
+                        return String.valueOf(rdn.getValue());
+                    }
+                }
+            } catch (InvalidNameException e) {
+                log.warn("Invalid client certificate subject {}", certificate.getSubjectX500Principal().getName());
+            }
+            return null;
+        }
+    }
+}
@@ -3,8 +3,10 @@ package inter.sdk.commons.utils;
 import inter.sdk.commons.auth.GetToken;
 import inter.sdk.commons.exceptions.SdkException;
 import inter.sdk.commons.models.Config;
+import inter.sdk.commons.models.Error;
 import inter.sdk.commons.models.GetTokenResponse;
 import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.security.KeyManagementException;
@@ -12,10 +14,20 @@ import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.UnrecoverableKeyException;
 import java.security.cert.CertificateException;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static inter.sdk.commons.structures.Constants.CERTIFICATE_EXCEPTION_MESSAGE;
+import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
 /**
  * The {@code TokenUtils} class provides utility methods for managing
  * and retrieving access tokens for the SDK.
@@ -25,16 +37,27 @@ import java.util.Map;
  * requests made to the token service.
  * </p>
  * <p>
+ * The cache is safe for concurrent use: only one request per client and scope is made
+ * when a token must be fetched, and tokens in use are refreshed in background
+ * {@link Config#getTokenRefreshMargin()} seconds before they expire, so callers
+ * do not wait for the token service.
+ * </p>
+ * <p>
  * The class cannot be instantiated, as it is designed to be used
  * only through its static methods.
  * </p>
  */
+@Slf4j
 @NoArgsConstructor
 public class TokenUtils {
     // Default additional time to validate the token expiration
-    private static final int ADDITIONAL_TIME = 60;
+    private static final long ADDITIONAL_TIME = TimeUnit.SECONDS.toNanos(60);
+    // Delay before retrying a failed background refresh
+    private static final long REFRESH_RETRY_DELAY = 30;
     // Map to cache tokens
-    private static final Map<String, GetTokenResponse> TOKEN_MAP = new HashMap<>();
+    private static final Map<String, TokenEntry> TOKEN_MAP = new ConcurrentHashMap<>();
+    // Keys of the configured scopes the combined token was not granted, which use a token of their own
+    private static final Set<String> UNGRANTED_SCOPES = ConcurrentHashMap.newKeySet();
     /**
      * Obtains an access token for the specified scope. If the token is not
      * valid or does not exist, it retrieves a new token from the token service.
@@ -51,51 +74,273 @@ public class TokenUtils {
      * @throws IOException If an I/O error occurs.
      */
     public static String get(Config config, String scope) throws SdkException, UnrecoverableKeyException, CertificateException, NoSuchAlgorithmException, KeyStoreException, KeyManagementException, IOException {
-        GetTokenResponse getTokenResponse = getFromMap(config.getClientId(), config.getClientSecret(), scope);
-        boolean isValid = validate(getTokenResponse);
-        if (!isValid) {
-            getTokenResponse = new GetToken().get(config, scope);
-            addToMap(config.getClientId(), config.getClientSecret(), scope, getTokenResponse);
+        TokenEntry tokenEntry = getEntry(config, scope);
+        tokenEntry.lastUsed = System.nanoTime();
+        GetTokenResponse getTokenResponse = tokenEntry.getValid();
+        if (getTokenResponse == null) {
+            getTokenResponse = tokenEntry.refresh(config);
+        }
+        if (tokenEntry.isUngranted(scope)) {
+            getTokenResponse = getEntry(config, scope).refresh(config);
         }
         return getTokenResponse.getAccessToken();
     }
     /**
-     * Validates the given token response to check if it is still valid or expired.
+     * Obtains an access token for the specified scope without blocking the calling thread.
+     * A valid cached token is returned right away; otherwise the token is fetched on the
+     * SDK worker threads.
      *
-     * @param getTokenResponse The token response to validate.
-     * @return {@code true} if the token is valid; {@code false} otherwise.
+     * @param config The configuration containing the client ID and client secret.
+     * @param scope The scope for which the token is requested.
+     * @return A {@link CompletableFuture} completed with the access token, or exceptionally with a {@link SdkException}.
      */
-    private static boolean validate(GetTokenResponse getTokenResponse) {
-        if (getTokenResponse == null) {
-            return false;
+    public static CompletableFuture<String> getAsync(Config config, String scope) {
+        TokenEntry tokenEntry = getEntry(config, scope);
+        tokenEntry.lastUsed = System.nanoTime();
+        GetTokenResponse getTokenResponse = tokenEntry.getValid();
+        if (getTokenResponse != null && !tokenEntry.isUngranted(scope)) {
+            return CompletableFuture.completedFuture(getTokenResponse.getAccessToken());
         }
-        long expirationDate = getTokenResponse.getCreatedAt() + getTokenResponse.getExpiresIn();
-        long now = LocalDateTime.now().toEpochSecond(ZoneOffset.UTC);
-        return (now + ADDITIONAL_TIME) <= expirationDate;
+        CompletableFuture<String> future = new CompletableFuture<>();
+        ExecutorUtils.worker().execute(() -> {
+            try {
+                GetTokenResponse refreshed = tokenEntry.refresh(config);
+                if (tokenEntry.isUngranted(scope)) {
+                    refreshed = getEntry(config, scope).refresh(config);
+                }
+                future.complete(refreshed.getAccessToken());
+            } catch (IOException ioException) {
+                log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
+                future.completeExceptionally(new SdkException(
+                        ioException.getMessage(),
+                        Error.builder()
+                                .title(GENERIC_EXCEPTION_MESSAGE)
+                                .detail(ioException.getMessage())
+                                .build()
+                ));
+            } catch (SdkException | RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
     }
     /**
-     * Retrieves a token response from the cached token map based on
-     * the provided client ID, client secret, and scope.
+     * Requests in advance the token covering all the scopes configured in {@link Config#getScopes()},
+     * so the first calls made with this configuration do not wait for the token service.
      *
-     * @param clientId The client ID.
-     * @param clientSecret The client secret.
-     * @param scope The scope associated with the token.
-     * @return The cached {@code GetTokenResponse}, or {@code null} if not found.
+     * @param config The configuration containing the client ID, client secret and scopes.
+     * @throws SdkException If there is an error obtaining the token.
      */
-    private static GetTokenResponse getFromMap(String clientId, String clientSecret, String scope) {
-        String key = String.join(":", clientId, clientSecret, scope);
-        return TOKEN_MAP.get(key);
+    public static void preload(Config config) throws SdkException {
+        if (config.getScopes() == null || config.getScopes().isEmpty()) {
+            return;
+        }
+        try {
+            for (String scope : config.getScopes()) {
+                get(config, scope);
+            }
+        } catch (NoSuchAlgorithmException | UnrecoverableKeyException |
+                 CertificateException | KeyStoreException | KeyManagementException e) {
+            log.error(CERTIFICATE_EXCEPTION_MESSAGE, e);
+            throw new inter.sdk.commons.exceptions.CertificateException(
+                    e.getMessage(),
+                    Error.builder()
+                            .title(CERTIFICATE_EXCEPTION_MESSAGE)
+                            .detail(e.getMessage())
+                            .build()
+            );
+        } catch (IOException ioException) {
+            log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
+            throw new SdkException(
+                    ioException.getMessage(),
+                    Error.builder()
+                            .title(GENERIC_EXCEPTION_MESSAGE)
+                            .detail(ioException.getMessage())
+                            .build()
+            );
+        }
+    }
+    /**
+     * Returns the cached entry of the token for the specified scope.
+     * <p>
+     * When the scope is one of {@link Config#getScopes()}, the entry is the one of the token requested
+     * for all those scopes together, which is stored under each of the covered scopes. A scope the
+     * combined token was not granted uses a token requested for that scope alone.
+     * </p>
+     *
+     * @param config The configuration containing the client ID, client secret and scopes.
+     * @param scope The scope for which the token is requested.
+     * @return The token entry.
+     */
+    private static TokenEntry getEntry(Config config, String scope) {
+        String key = key(config.getClientId(), config.getClientSecret(), scope);
+        TokenEntry tokenEntry = TOKEN_MAP.get(key);
+        if (tokenEntry != null) {
+            return tokenEntry;
+        }
+        String requestedScope = config.getScopes() != null && config.getScopes().contains(scope) && !UNGRANTED_SCOPES.contains(key)
+                ? String.join(" ", new TreeSet<>(config.getScopes()))
+                : scope;
+        TokenEntry requestedEntry = TOKEN_MAP.computeIfAbsent(key(config.getClientId(), config.getClientSecret(), requestedScope), k -> new TokenEntry(requestedScope));
+        tokenEntry = TOKEN_MAP.putIfAbsent(key, requestedEntry);
+        return tokenEntry != null ? tokenEntry : requestedEntry;
     }
     /**
-     * Adds a token response to the cached token map for future retrieval.
+     * Builds the key of a token in the cached token map.
      *
      * @param clientId The client ID.
      * @param clientSecret The client secret.
      * @param scope The scope associated with the token.
-     * @param getTokenResponse The token response to cache.
+     * @return The key of the token.
      */
-    private static void addToMap(String clientId, String clientSecret, String scope, GetTokenResponse getTokenResponse) {
-        String key = String.join(":", clientId, clientSecret, scope);
-        TOKEN_MAP.put(key, getTokenResponse);
+    private static String key(String clientId, String clientSecret, String scope) {
+        return String.join(":", clientId, clientSecret, scope);
+    }
+    /**
+     * A cached token for a client and scope. Expiration is tracked with the monotonic clock,
+     * so it is not affected by changes of the system time.
+     * <p>
+     * The token service is called holding a {@link ReentrantLock} rather than a monitor,
+     * so callers waiting on virtual threads do not pin their carrier threads.
+     * </p>
+     */
+    private static final class TokenEntry {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final String scope;
+        private volatile Config config;
+        private volatile GetTokenResponse token;
+        private volatile long expiresAt;
+        private volatile long fetchedAt;
+        private volatile long lastUsed;
+        private volatile Set<String> ungranted = Collections.emptySet();
+
+        private TokenEntry(String scope) {
+            this.scope = scope;
+        }
+
+        /**
+         * Tells whether the token was requested for a scope but not granted it.
+         *
+         * @param requested The scope.
+         * @return {@code true} if the scope must use a token of its own.
+         */
+        private boolean isUngranted(String requested) {
+            return ungranted.contains(requested);
+        }
+
+        /**
+         * Returns the cached token if it is still valid.
+         *
+         * @return The token, or {@code null} if there is none or it is about to expire.
+         */
+        private GetTokenResponse getValid() {
+            GetTokenResponse current = token;
+            if (current == null || System.nanoTime() + ADDITIONAL_TIME - expiresAt > 0) {
+                return null;
+            }
+            return current;
+        }
+
+        /**
+         * Fetches a new token. Concurrent callers wait for the request already in progress
+         * and share its result instead of making their own.
+         *
+         * @param config The configuration used to request the token.
+         * @return A valid token.
+         * @throws SdkException If there is an error during the SDK operation.
+         * @throws IOException If an I/O error occurs.
+         */
+        private GetTokenResponse refresh(Config config) throws SdkException, IOException {
+            lock.lock();
+            try {
+                GetTokenResponse current = getValid();
+                if (current != null) {
+                    return current;
+                }
+                return fetch(config);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Requests a new token from the token service and schedules its background refresh.
+         *
+         * @param config The configuration used to request the token.
+         * @return The new token.
+         * @throws SdkException If there is an error during the SDK operation.
+         * @throws IOException If an I/O error occurs.
+         */
+        private GetTokenResponse fetch(Config config) throws SdkException, IOException {
+            lock.lock();
+            try {
+                long requestedAt = System.nanoTime();
+                GetTokenResponse getTokenResponse = new GetToken().get(config, scope);
+                if (getTokenResponse.getScope() != null && scope.indexOf(' ') > 0) {
+                    List<String> granted = Arrays.asList(getTokenResponse.getScope().split(" "));
+                    Set<String> missing = new HashSet<>();
+                    for (String requested : scope.split(" ")) {
+                        if (!granted.contains(requested)) {
+                            log.warn("Scope {} was not granted for client {}, using a token of its own", requested, config.getClientId());
+                            String requestedKey = key(config.getClientId(), config.getClientSecret(), requested);
+                            UNGRANTED_SCOPES.add(requestedKey);
+                            TOKEN_MAP.remove(requestedKey, this);
+                            missing.add(requested);
+                        }
+                    }
+                    this.ungranted = missing;
+                }
+                this.config = config;
+                this.expiresAt = requestedAt + TimeUnit.SECONDS.toNanos(getTokenResponse.getExpiresIn());
+                this.fetchedAt = requestedAt;
+                this.token = getTokenResponse;
+                scheduleRefresh(requestedAt, refreshDelay(getTokenResponse.getExpiresIn(), config.getTokenRefreshMargin()));
+                return getTokenResponse;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Schedules the background refresh of this token.
+         *
+         * @param generation The time the token to be refreshed was requested.
+         * @param delay The delay in seconds.
+         */
+        private void scheduleRefresh(long generation, long delay) {
+            ExecutorUtils.scheduler().schedule(() -> ExecutorUtils.worker().execute(() -> refreshInBackground(generation)), delay, TimeUnit.SECONDS);
+        }
+
+        /**
+         * Refreshes the token before it expires, if it was used since it was fetched.
+         * Tokens that are no longer used, that were already replaced, or whose SDK was closed, are left alone.
+         *
+         * @param generation The time the token to be refreshed was requested.
+         */
+        private void refreshInBackground(long generation) {
+            if (fetchedAt != generation || lastUsed - fetchedAt < 0 || !HttpClientManager.isRegistered(config)) {
+                return;
+            }
+            try {
+                fetch(config);
+            } catch (SdkException | IOException | RuntimeException e) {
+                log.warn("Error refreshing token {} {}", config.getClientId(), scope, e);
+                if (System.nanoTime() + ADDITIONAL_TIME - expiresAt < 0) {
+                    scheduleRefresh(generation, REFRESH_RETRY_DELAY);
+                }
+            }
+        }
+
+        /**
+         * Calculates when a token must be refreshed.
+         *
+         * @param expiresIn The lifetime of the token in seconds.
+         * @param margin The time in seconds before the expiration to refresh the token.
+         * @return The delay in seconds before the refresh.
+         */
+        private static long refreshDelay(long expiresIn, long margin) {
+            long delay = expiresIn - margin;
+            return delay > 0 ? delay : expiresIn / 2;
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,5 @@
 package inter.sdk.commons.utils;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import inter.sdk.commons.exceptions.SdkException;
 import inter.sdk.commons.models.Config;
 import inter.sdk.commons.models.Error;
@@ -9,6 +8,7 @@ import inter.sdk.commons.models.Webhook;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 import static inter.sdk.commons.structures.Constants.CERTIFICATE_EXCEPTION_MESSAGE;
 import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
@@ -18,7 +18,7 @@ import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
  * within the SDK, including and retrieving webhooks from a specified URL.
  * <p>
  * This class handles the serialization of requests and responses to and from JSON
- * format, utilizing Jackson's {@link ObjectMapper}. It also manages error handling
+ * format, utilizing the SDK JSON codec {@link JsonUtils}. It also manages error handling
  * by throwing {@link SdkException} in case of failures.
  * </p>
  */
@@ -39,7 +39,7 @@ public class WebhookUtil {
      */
     public static void includeWebhook(Config config, String url, IncludeWebhookRequest request, String scope) throws SdkException {
         try {
-            String json = new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(request);
+            String json = JsonUtils.writeValueAsString(request);
             HttpUtils.callPut(config, url, scope, "Error including webhook", json);
         } catch (IOException ioException) {
             log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
@@ -53,6 +53,23 @@ public class WebhookUtil {
         }
     }
 
+    /**
+     * Includes a webhook asynchronously by sending a PUT request to the specified URL.
+     *
+     * @param config The configuration object which contains necessary settings,
+     *               such as authentication information.
+     * @param url The endpoint URL to which the webhook should be added.
+     * @param request The {@link IncludeWebhookRequest} object containing the
+     *                details of the webhook to include.
+     * @param scope The scope under which the request is made.
+     * @return A {@link CompletableFuture} completed with {@code null} once the webhook is included,
+     *         or exceptionally with a {@link SdkException}.
+     */
+    public static CompletableFuture<Void> includeWebhookAsync(Config config, String url, IncludeWebhookRequest request, String scope) {
+        return AsyncHttpUtils.callPut(config, url, scope, "Error including webhook", request)
+                .thenApply(json -> null);
+    }
+
     /**
      * Retrieves a webhook from the specified URL by sending a GET request.
      *
@@ -65,18 +82,20 @@ public class WebhookUtil {
      *                      serialization issues or request failures.
      */
     public static Webhook retrieveWebhook(Config config, String url, String scope) throws SdkException {
-        String json = HttpUtils.callGet(config, url, scope, "Error retrieving webhook");
-        try {
-            return new ObjectMapper().readValue(json, Webhook.class);
-        } catch (IOException ioException) {
-            log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
-            throw new SdkException(
-                    ioException.getMessage(),
-                    Error.builder()
-                            .title(CERTIFICATE_EXCEPTION_MESSAGE)
-                            .detail(ioException.getMessage())
-                            .build()
-            );
-        }
+        return HttpUtils.callGet(config, url, scope, "Error retrieving webhook", Webhook.class);
+    }
+
+    /**
+     * Retrieves a webhook asynchronously from the specified URL by sending a GET request.
+     *
+     * @param config The configuration object to set the required settings for
+     *               the request.
+     * @param url The endpoint URL from which to retrieve the webhook.
+     * @param scope The scope under which the request is made.
+     * @return A {@link CompletableFuture} completed with the retrieved {@link Webhook},
+     *         or exceptionally with a {@link SdkException}.
+     */
+    public static CompletableFuture<Webhook> retrieveWebhookAsync(Config config, String url, String scope) {
+        return AsyncHttpUtils.callGet(config, url, scope, "Error retrieving webhook", Webhook.class);
     }
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+package inter.sdk.commons.webhooks;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A Bloom filter of strings, safe for concurrent use without locks.
+ * <p>
+ * Bits are set with compare-and-set on an {@link AtomicLongArray}, and the positions of a key are
+ * derived by double hashing from a single 64-bit hash of its characters.
+ * </p>
+ */
+class BloomFilter {
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+
+    /**
+     * Creates a filter sized for the given number of keys and false positive rate.
+     *
+     * @param expectedKeys      The number of keys expected.
+     * @param falsePositiveRate The probability of a key never added being found once the expected keys are added.
+     */
+    BloomFilter(int expectedKeys, double falsePositiveRate) {
+        double keys = Math.max(expectedKeys, 1);
+        double rate = Math.min(Math.max(falsePositiveRate, Double.MIN_NORMAL), 0.5);
+        long size = (long) Math.ceil(-keys * Math.log(rate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min((size + 63) / 64, Integer.MAX_VALUE - 8);
+        this.words = new AtomicLongArray(Math.max(words, 1));
+        this.bits = this.words.length() * 64L;
+        this.hashes = Math.max(1, (int) Math.round(this.bits / keys * Math.log(2)));
+    }
+
+    /**
+     * Adds a key to the filter.
+     *
+     * @param key The key.
+     */
+    void add(String key) {
+        long hash = hash(key);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashes; i++) {
+            long bit = Math.floorMod(hash1 + (long) i * hash2, bits);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = words.get(word);
+            } while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /**
+     * Tells whether a key may have been added to the filter.
+     *
+     * @param key The key.
+     * @return {@code false} if the key was never added, {@code true} if it probably was.
+     */
+    boolean mightContain(String key) {
+        long hash = hash(key);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashes; i++) {
+            long bit = Math.floorMod(hash1 + (long) i * hash2, bits);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Computes the 64-bit hash of a key, FNV-1a over its characters followed by the finalizer of SplitMix64.
+     *
+     * @param key The key.
+     * @return The hash.
+     */
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+}
@@ -0,0 +1,299 @@
+package inter.sdk.commons.webhooks;
+
+import inter.sdk.banking.models.Payload;
+import inter.sdk.billing.models.BillingPayload;
+import inter.sdk.commons.exceptions.SdkException;
+import inter.sdk.commons.models.CallbackListener;
+import inter.sdk.commons.models.DeduplicationPolicy;
+import inter.sdk.commons.models.Error;
+import inter.sdk.pix.models.ItemPayload;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
+
+/**
+ * The {@code CallbackDeduplicator} class lets each callback reach the listeners once, although Inter
+ * delivers a callback again when its delivery is not acknowledged, and the same callbacks are also
+ * retrieved from the callback APIs.
+ * <p>
+ * Listeners wrapped by the deduplicator, e.g. with {@link #forPix(CallbackListener)}, skip the callbacks
+ * whose key was already processed. Pushed callbacks, from {@link WebhookReceiver}, and pulled ones, from
+ * {@code retrieveCallbacks}, go through the same wrapped listener, so each is processed once whichever
+ * arrives first. A key is only remembered once the listener returns: a callback whose listener fails is
+ * processed again when delivered again. A callback delivered again while being processed fails with an
+ * {@link SdkException} instead of being skipped, since the first attempt may still fail: with
+ * {@code WebhookReceiverConfig#isAcknowledgeAfterProcessing()} it is answered with 500 and delivered again later.
+ * </p>
+ * <p>
+ * Keys are remembered in memory, without a lookup per callback: the most recent ones exactly and, when
+ * the {@link DeduplicationPolicy} has a processed check, all the ones of its window in two Bloom filters,
+ * the current one and the previous one, rotated every window, so memory stays bounded however many
+ * callbacks are received. A key found only in the Bloom filters is skipped only when the processed check
+ * confirms it, so a false positive of the filters never drops a callback. Without a processed check the
+ * filters could never skip a callback, so they are not created, and only the recent keys are recognized.
+ * </p>
+ */
+@Slf4j
+public class CallbackDeduplicator {
+    private final DeduplicationPolicy policy;
+    private final Map<String, Boolean> recent = new ConcurrentHashMap<>();
+    private final Queue<String> recentOrder = new ConcurrentLinkedQueue<>();
+    private final Map<String, Boolean> inFlight = new ConcurrentHashMap<>();
+    private final ReentrantLock rotationLock = new ReentrantLock();
+    private final AtomicLong duplicates = new AtomicLong();
+    private final boolean filtered;
+    private volatile Generations generations;
+
+    /**
+     * Creates a deduplicator with the default {@link DeduplicationPolicy}.
+     */
+    public CallbackDeduplicator() {
+        this(DeduplicationPolicy.builder().build());
+    }
+
+    /**
+     * Creates a deduplicator.
+     *
+     * @param policy The policy for remembering the processed callbacks.
+     */
+    public CallbackDeduplicator(DeduplicationPolicy policy) {
+        this.policy = policy;
+        this.filtered = policy.getProcessedCheck() != null;
+        this.generations = filtered ? new Generations(newFilter(), newFilter(), System.nanoTime()) : null;
+    }
+
+    /**
+     * Wraps a listener of Pix callbacks, keyed by {@link #pixKey(ItemPayload)}.
+     *
+     * @param listener The listener.
+     * @return The listener skipping duplicates.
+     */
+    public CallbackListener<ItemPayload> forPix(CallbackListener<ItemPayload> listener) {
+        return deduplicate(CallbackDeduplicator::pixKey, listener);
+    }
+
+    /**
+     * Wraps a listener of banking callbacks, keyed by {@link #bankingKey(Payload)}.
+     *
+     * @param listener The listener.
+     * @return The listener skipping duplicates.
+     */
+    public CallbackListener<Payload> forBanking(CallbackListener<Payload> listener) {
+        return deduplicate(CallbackDeduplicator::bankingKey, listener);
+    }
+
+    /**
+     * Wraps a listener of billing callbacks, keyed by {@link #billingKey(BillingPayload)}.
+     *
+     * @param listener The listener.
+     * @return The listener skipping duplicates.
+     */
+    public CallbackListener<BillingPayload> forBilling(CallbackListener<BillingPayload> listener) {
+        return deduplicate(CallbackDeduplicator::billingKey, listener);
+    }
+
+    /**
+     * Wraps a listener, skipping the callbacks whose key was already processed.
+     * Callbacks without key are always passed to the listener, and a callback whose key is being processed
+     * by another thread fails with an {@link SdkException}.
+     *
+     * @param key      The function giving the key of a callback, or {@code null}.
+     * @param listener The listener.
+     * @param <T>      The type of the callbacks.
+     * @return The listener skipping duplicates.
+     */
+    public <T> CallbackListener<T> deduplicate(Function<T, String> key, CallbackListener<T> listener) {
+        return callback -> {
+            String callbackKey = key.apply(callback);
+            if (callbackKey == null) {
+                listener.onCallback(callback);
+                return;
+            }
+            if (inFlight.putIfAbsent(callbackKey, Boolean.TRUE) != null) {
+                // the first attempt may still fail, so this delivery must not be acknowledged as processed
+                String detail = "Callback " + callbackKey + " is being processed";
+                throw new SdkException(
+                        detail,
+                        Error.builder()
+                                .title(GENERIC_EXCEPTION_MESSAGE)
+                                .detail(detail)
+                                .build()
+                );
+            }
+            try {
+                if (isProcessed(callbackKey)) {
+                    skip(callbackKey);
+                    return;
+                }
+                listener.onCallback(callback);
+                markProcessed(callbackKey);
+            } finally {
+                inFlight.remove(callbackKey);
+            }
+        };
+    }
+
+    /**
+     * Tells whether a key was already processed.
+     *
+     * @param key The key.
+     * @return {@code true} if the key is among the recent keys, or found in the Bloom filters and confirmed by the
+     * processed check of the policy.
+     */
+    public boolean isProcessed(String key) {
+        if (recent.containsKey(key)) {
+            return true;
+        }
+        Predicate<String> processedCheck = policy.getProcessedCheck();
+        if (!filtered || processedCheck == null) {
+            return false;
+        }
+        Generations current = rotate();
+        if (!current.current.mightContain(key) && !current.previous.mightContain(key)) {
+            return false;
+        }
+        // a Bloom hit may be a false positive: dropping a real callback is worse than processing one again
+        return processedCheck.test(key);
+    }
+
+    /**
+     * Remembers a key as processed.
+     *
+     * @param key The key.
+     */
+    public void markProcessed(String key) {
+        if (filtered) {
+            rotate().current.add(key);
+        }
+        if (recent.put(key, Boolean.TRUE) == null) {
+            recentOrder.add(key);
+            while (recent.size() > policy.getRecentKeys()) {
+                String oldest = recentOrder.poll();
+                if (oldest == null) {
+                    break;
+                }
+                recent.remove(oldest);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of callbacks skipped as duplicates.
+     *
+     * @return The number of duplicates.
+     */
+    public long getDuplicateCount() {
+        return duplicates.get();
+    }
+
+    /**
+     * Returns the key of a Pix callback: the end-to-end ID of the Pix, or its txid, followed by the
+     * number of devolutions, so a devolution of a Pix is a new callback.
+     *
+     * @param pix The callback.
+     * @return The key, or {@code null} if the Pix has no ID.
+     */
+    public static String pixKey(ItemPayload pix) {
+        String id = pix.getEndToEndId() != null ? pix.getEndToEndId() : pix.getTxid();
+        if (id == null) {
+            return null;
+        }
+        return "pix:" + id + ":" + (pix.getDevolutions() != null ? pix.getDevolutions().size() : 0);
+    }
+
+    /**
+     * Returns the key of a banking callback: the transaction code of the payment, or its end-to-end ID,
+     * followed by its status, so each change of status is a new callback.
+     *
+     * @param payment The callback.
+     * @return The key, or {@code null} if the payment has no ID.
+     */
+    public static String bankingKey(Payload payment) {
+        String id = payment.getTransactionCode() != null ? payment.getTransactionCode() : payment.getEndToEndId();
+        if (id == null) {
+            return null;
+        }
+        return "banking:" + id + ":" + payment.getStatus();
+    }
+
+    /**
+     * Returns the key of a billing callback: the request code of the billing followed by its situation,
+     * so each change of situation is a new callback.
+     *
+     * @param billing The callback.
+     * @return The key, or {@code null} if the billing has no request code.
+     */
+    public static String billingKey(BillingPayload billing) {
+        if (billing.getRequestCode() == null) {
+            return null;
+        }
+        return "billing:" + billing.getRequestCode() + ":" + billing.getSituation();
+    }
+
+    /**
+     * Counts a skipped duplicate.
+     *
+     * @param key The key of the duplicate.
+     */
+    private void skip(String key) {
+        duplicates.incrementAndGet();
+        log.debug("Callback {} already processed, skipped", key);
+    }
+
+    /**
+     * Returns the current Bloom filters, replacing the previous filter by the current one and starting
+     * a new current filter when the window elapsed.
+     *
+     * @return The current Bloom filters.
+     */
+    private Generations rotate() {
+        Generations current = generations;
+        long window = policy.getWindowMillis() * 1000000L;
+        if (System.nanoTime() - current.startedAt < window || !rotationLock.tryLock()) {
+            return current;
+        }
+        try {
+            current = generations;
+            if (System.nanoTime() - current.startedAt >= window) {
+                current = new Generations(newFilter(), current.current, System.nanoTime());
+                generations = current;
+            }
+            return current;
+        } finally {
+            rotationLock.unlock();
+        }
+    }
+
+    /**
+     * Creates an empty Bloom filter sized by the policy.
+     *
+     * @return The filter.
+     */
+    private BloomFilter newFilter() {
+        return new BloomFilter(policy.getExpectedKeys(), policy.getFalsePositiveRate());
+    }
+
+    /**
+     * The current and previous Bloom filters, and when the current one was started.
+     */
+    private static final class Generations {
+        private final BloomFilter current;
+        private final BloomFilter previous;
+        private final long startedAt;
+
+        private Generations(BloomFilter current, BloomFilter previous, long startedAt) {
+            this.current = current;
+            this.previous = previous;
+            this.startedAt = startedAt;
+        }
+    }
+}
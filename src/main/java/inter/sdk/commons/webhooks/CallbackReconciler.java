@@ -0,0 +1,329 @@
+package inter.sdk.commons.webhooks;
+
+import inter.sdk.banking.models.Payload;
+import inter.sdk.banking.models.RetrieveCallbackResponse;
+import inter.sdk.banking.webhooks.BankingWebhookClient;
+import inter.sdk.billing.models.BillingPayload;
+import inter.sdk.billing.models.BillingRetrieveCallbackResponse;
+import inter.sdk.billing.webhooks.BillingWebhookClient;
+import inter.sdk.commons.exceptions.SdkException;
+import inter.sdk.commons.models.CallbackListener;
+import inter.sdk.commons.models.Config;
+import inter.sdk.commons.models.Error;
+import inter.sdk.commons.models.ReconciliationPolicy;
+import inter.sdk.commons.models.WebhookReceiverConfig;
+import inter.sdk.commons.utils.ExecutorUtils;
+import inter.sdk.pix.models.ItemPayload;
+import inter.sdk.pix.webhooks.PixWebhookSdk;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
+
+/**
+ * The {@code CallbackReconciler} class replays the callbacks the webhook receiver missed, e.g. while it
+ * was down, by retrieving them from the callback APIs.
+ * <p>
+ * For each webhook type with a listener in the {@link WebhookReceiverConfig}, the reconciler keeps in a
+ * {@link CheckpointStore} the time up to which all callbacks were processed. Each reconciliation retrieves
+ * only the callbacks sent since that checkpoint, in windows that advance the checkpoint as they are
+ * processed, so the work is proportional to the gap rather than to the history. The webhook types are
+ * reconciled in parallel, and the pages of each window are retrieved as configured by
+ * {@link Config#getPageConcurrency()}.
+ * </p>
+ * <p>
+ * By default every callback of a window is replayed once to the listeners of the receiver, including the
+ * ones it acknowledged, since a receiver acknowledging before processing loses the callbacks whose listener
+ * fails; the {@link CallbackDeduplicator} shared with the receiver skips the ones already processed. With
+ * {@link ReconciliationPolicy#isReplayDelivered()} disabled, which is only safe when the receiver
+ * acknowledges after processing, the callbacks the receiver acknowledged, and the attempts of a callback
+ * delivered by another attempt, are skipped. Each reconciliation
+ * starts {@link ReconciliationPolicy#getOverlapMillis()} before the checkpoint, to catch callbacks the API
+ * records late, so listeners should be wrapped by the same
+ * {@link CallbackDeduplicator} as the receiver. A listener failure keeps the checkpoint, so the window is
+ * replayed again by the next reconciliation.
+ * </p>
+ */
+@Slf4j
+public class CallbackReconciler implements Closeable {
+    private static final DateTimeFormatter DATE_HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm");
+
+    private final PixWebhookSdk pixWebhookSdk = new PixWebhookSdk();
+    private final BankingWebhookClient bankingWebhookClient = new BankingWebhookClient();
+    private final BillingWebhookClient billingWebhookClient = new BillingWebhookClient();
+    private final Config config;
+    private final WebhookReceiverConfig listeners;
+    private final ReconciliationPolicy policy;
+    private final CheckpointStore store;
+    private final DateTimeFormatter dateHourFormat;
+    private final AtomicReference<CompletableFuture<Map<String, Integer>>> running = new AtomicReference<>();
+    private volatile ScheduledFuture<?> schedule;
+
+    /**
+     * Creates a reconciler.
+     *
+     * @param config    The configuration object containing client information.
+     * @param listeners The configuration of the webhook receiver, providing the listeners.
+     * @param policy    The policy for scheduling and splitting the reconciliations.
+     * @param store     The store of the checkpoints.
+     */
+    public CallbackReconciler(Config config, WebhookReceiverConfig listeners, ReconciliationPolicy policy, CheckpointStore store) {
+        this.config = config;
+        this.listeners = listeners;
+        this.policy = policy;
+        this.store = store;
+        this.dateHourFormat = DATE_HOUR_FORMAT.withZone(ZoneId.of(policy.getZoneId()));
+    }
+
+    /**
+     * Starts reconciling at once and then every {@link ReconciliationPolicy#getIntervalMillis()}.
+     */
+    public void start() {
+        if (schedule == null) {
+            schedule = ExecutorUtils.scheduler().scheduleWithFixedDelay(() -> reconcile().whenComplete((replayed, throwable) -> {
+                if (throwable != null) {
+                    log.warn("Callback reconciliation {} failed", config.getClientId(), throwable);
+                }
+            }), 0, policy.getIntervalMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stops the scheduled reconciliations; a reconciliation in progress completes.
+     */
+    @Override
+    public void close() {
+        if (schedule != null) {
+            schedule.cancel(false);
+        }
+    }
+
+    /**
+     * Reconciles all webhook types with a listener, up to now. A reconciliation already in progress is
+     * returned instead of starting another one.
+     *
+     * @return A {@link CompletableFuture} completed with the number of callbacks replayed per webhook type,
+     * e.g. {@code pix} or {@code banking:boleto-pagamento}, or exceptionally when a type could not be reconciled.
+     */
+    public CompletableFuture<Map<String, Integer>> reconcile() {
+        CompletableFuture<Map<String, Integer>> reconciliation = new CompletableFuture<>();
+        if (!running.compareAndSet(null, reconciliation)) {
+            CompletableFuture<Map<String, Integer>> current = running.get();
+            return current != null ? current : reconcile();
+        }
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MINUTES);
+        Map<String, Integer> replayed = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> types = new ArrayList<>();
+        if (listeners.getPixListener() != null) {
+            types.add(reconcile(new CallbackType<>("pix",
+                    (from, to) -> pixWebhookSdk.retrieveCallbackInRangeAsync(config, from, to, null),
+                    inter.sdk.pix.models.RetrieveCallbackResponse::getSuccess,
+                    callback -> callback.getPayload() != null ? callback.getPayload().getPixItems() : null,
+                    CallbackDeduplicator::pixKey,
+                    listeners.getPixListener()), now, replayed));
+        }
+        if (listeners.getBankingListener() != null) {
+            for (String webhookType : policy.getBankingWebhookTypes()) {
+                types.add(reconcile(new CallbackType<RetrieveCallbackResponse, Payload>("banking:" + webhookType,
+                        (from, to) -> bankingWebhookClient.retrieveCallbacksInRangeAsync(config, webhookType, from, to, null),
+                        RetrieveCallbackResponse::getSuccess,
+                        RetrieveCallbackResponse::getPayload,
+                        CallbackDeduplicator::bankingKey,
+                        listeners.getBankingListener()), now, replayed));
+            }
+        }
+        if (listeners.getBillingListener() != null) {
+            types.add(reconcile(new CallbackType<BillingRetrieveCallbackResponse, BillingPayload>("billing",
+                    (from, to) -> billingWebhookClient.retrieveCallbacksInRangeAsync(config, from, to, null),
+                    BillingRetrieveCallbackResponse::getSuccess,
+                    BillingRetrieveCallbackResponse::getPayload,
+                    CallbackDeduplicator::billingKey,
+                    listeners.getBillingListener()), now, replayed));
+        }
+        CompletableFuture.allOf(types.toArray(new CompletableFuture[0])).whenComplete((ignored, throwable) -> {
+            running.set(null);
+            if (throwable != null) {
+                reconciliation.completeExceptionally(throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable);
+            } else {
+                log.info("Callback reconciliation {} replayed {}", config.getClientId(), replayed);
+                reconciliation.complete(new TreeMap<>(replayed));
+            }
+        });
+        return reconciliation;
+    }
+
+    /**
+     * Reconciles a webhook type from its checkpoint up to the given time.
+     *
+     * @param type     The webhook type.
+     * @param end      The end of the reconciliation.
+     * @param replayed The number of callbacks replayed per webhook type.
+     * @param <C>      The type of the retrieved callbacks.
+     * @param <T>      The type of the payloads.
+     * @return A {@link CompletableFuture} completed once the type is reconciled.
+     */
+    private <C, T> CompletableFuture<Void> reconcile(CallbackType<C, T> type, Instant end, Map<String, Integer> replayed) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return store.load(type.name);
+            } catch (SdkException e) {
+                throw new CompletionException(e);
+            }
+        }, ExecutorUtils.worker()).thenCompose(checkpoint -> {
+            Instant start = checkpoint != null
+                    ? checkpoint.minusMillis(policy.getOverlapMillis())
+                    : end.minusMillis(policy.getInitialLookbackMillis());
+            replayed.put(type.name, 0);
+            return reconcileWindows(type, start, end, replayed);
+        });
+    }
+
+    /**
+     * Retrieves and replays the callbacks of a webhook type window by window, saving the checkpoint after each window.
+     *
+     * @param type     The webhook type.
+     * @param start    The start of the next window.
+     * @param end      The end of the reconciliation.
+     * @param replayed The number of callbacks replayed per webhook type.
+     * @param <C>      The type of the retrieved callbacks.
+     * @param <T>      The type of the payloads.
+     * @return A {@link CompletableFuture} completed once all windows are replayed.
+     */
+    private <C, T> CompletableFuture<Void> reconcileWindows(CallbackType<C, T> type, Instant start, Instant end, Map<String, Integer> replayed) {
+        if (!start.isBefore(end)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        Instant windowEnd = start.plusMillis(policy.getWindowMillis());
+        Instant finalEnd = windowEnd.isBefore(end) ? windowEnd : end;
+        return type.fetcher.apply(dateHourFormat.format(start), dateHourFormat.format(finalEnd))
+                .thenApplyAsync(callbacks -> {
+                    int count = replay(type, callbacks);
+                    try {
+                        store.save(type.name, finalEnd);
+                    } catch (SdkException e) {
+                        throw new CompletionException(e);
+                    }
+                    return count;
+                }, ExecutorUtils.worker())
+                .thenCompose(count -> {
+                    replayed.merge(type.name, count, Integer::sum);
+                    if (!finalEnd.isBefore(end)) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    return reconcileWindows(type, finalEnd, end, replayed);
+                });
+    }
+
+    /**
+     * Replays the callbacks of a window, only the ones not delivered to the receiver unless delivered ones are replayed.
+     *
+     * @param type      The webhook type.
+     * @param callbacks The callbacks of the window.
+     * @param <C>       The type of the retrieved callbacks.
+     * @param <T>       The type of the payloads.
+     * @return The number of payloads replayed.
+     * @throws CompletionException If a listener failed.
+     */
+    private <C, T> int replay(CallbackType<C, T> type, List<C> callbacks) {
+        Set<String> handled = new HashSet<>();
+        if (!policy.isReplayDelivered()) {
+            for (C callback : callbacks) {
+                if (Boolean.TRUE.equals(type.success.apply(callback))) {
+                    for (T payload : payloads(type, callback)) {
+                        handled.add(type.key.apply(payload));
+                    }
+                }
+            }
+        }
+        int count = 0;
+        int failures = 0;
+        for (C callback : callbacks) {
+            if (!policy.isReplayDelivered() && Boolean.TRUE.equals(type.success.apply(callback))) {
+                continue;
+            }
+            for (T payload : payloads(type, callback)) {
+                String key = type.key.apply(payload);
+                if (key != null && !handled.add(key)) {
+                    continue;
+                }
+                try {
+                    type.listener.onCallback(payload);
+                    count++;
+                } catch (Exception e) {
+                    failures++;
+                    log.error("Error replaying {} callback", type.name, e);
+                }
+            }
+        }
+        if (failures > 0) {
+            String detail = failures + " " + type.name + " callbacks could not be replayed";
+            throw new CompletionException(new SdkException(
+                    detail,
+                    Error.builder()
+                            .title(GENERIC_EXCEPTION_MESSAGE)
+                            .detail(detail)
+                            .build()
+            ));
+        }
+        return count;
+    }
+
+    /**
+     * Returns the payloads of a retrieved callback.
+     *
+     * @param type     The webhook type.
+     * @param callback The callback.
+     * @param <C>      The type of the retrieved callbacks.
+     * @param <T>      The type of the payloads.
+     * @return The payloads, possibly empty.
+     */
+    private static <C, T> List<T> payloads(CallbackType<C, T> type, C callback) {
+        List<T> payloads = type.payloads.apply(callback);
+        return payloads != null ? payloads : Collections.emptyList();
+    }
+
+    /**
+     * How the callbacks of a webhook type are retrieved, interpreted and replayed.
+     *
+     * @param <C> The type of the retrieved callbacks.
+     * @param <T> The type of the payloads.
+     */
+    private static final class CallbackType<C, T> {
+        private final String name;
+        private final BiFunction<String, String, CompletableFuture<List<C>>> fetcher;
+        private final Function<C, Boolean> success;
+        private final Function<C, List<T>> payloads;
+        private final Function<T, String> key;
+        private final CallbackListener<T> listener;
+
+        private CallbackType(String name, BiFunction<String, String, CompletableFuture<List<C>>> fetcher, Function<C, Boolean> success,
+                             Function<C, List<T>> payloads, Function<T, String> key, CallbackListener<T> listener) {
+            this.name = name;
+            this.fetcher = fetcher;
+            this.success = success;
+            this.payloads = payloads;
+            this.key = key;
+            this.listener = listener;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package inter.sdk.commons.webhooks;
+
+import inter.sdk.commons.exceptions.SdkException;
+
+import java.time.Instant;
+
+/**
+ * Persists the checkpoints of the callback reconciliation between runs: for each webhook type, the
+ * time up to which all callbacks were processed.
+ * <p>
+ * Implementations may keep the checkpoints in files, a database or any other storage.
+ * </p>
+ *
+ * @see FileCheckpointStore
+ * @see CallbackReconciler
+ */
+public interface CheckpointStore {
+
+    /**
+     * Loads a checkpoint.
+     *
+     * @param key The key of the checkpoint, e.g. {@code pix}.
+     * @return The checkpoint, or {@code null} if none was saved under the key.
+     * @throws SdkException If the checkpoint cannot be loaded.
+     */
+    Instant load(String key) throws SdkException;
+
+    /**
+     * Saves a checkpoint, replacing the one saved under the same key.
+     *
+     * @param key The key of the checkpoint.
+     * @param checkpoint The checkpoint.
+     * @throws SdkException If the checkpoint cannot be saved.
+     */
+    void save(String key, Instant checkpoint) throws SdkException;
+}
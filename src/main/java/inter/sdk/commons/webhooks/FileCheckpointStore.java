@@ -0,0 +1,103 @@
+package inter.sdk.commons.webhooks;
+
+import inter.sdk.commons.exceptions.SdkException;
+import inter.sdk.commons.models.Error;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
+
+/**
+ * The {@code FileCheckpointStore} class keeps each checkpoint in a file of a directory, as an ISO-8601 instant.
+ * <p>
+ * Checkpoints are written to a temporary file that then replaces the previous one, so a reconciliation
+ * interrupted while saving leaves the previous checkpoint intact.
+ * </p>
+ */
+@Slf4j
+public class FileCheckpointStore implements CheckpointStore {
+    /**
+     * The directory used by default, relative to the working directory.
+     */
+    public static final String DEFAULT_DIRECTORY = "callback-checkpoints";
+
+    private final Path directory;
+
+    /**
+     * Creates a store keeping the checkpoints in {@link #DEFAULT_DIRECTORY}.
+     */
+    public FileCheckpointStore() {
+        this(Paths.get(DEFAULT_DIRECTORY));
+    }
+
+    /**
+     * Creates a store keeping the checkpoints in the given directory, which is created when needed.
+     *
+     * @param directory The directory of the checkpoint files.
+     */
+    public FileCheckpointStore(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public Instant load(String key) throws SdkException {
+        try {
+            return Instant.parse(new String(Files.readAllBytes(file(key)), StandardCharsets.UTF_8).trim());
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException ioException) {
+            throw toSdkException(ioException.getMessage(), ioException);
+        } catch (DateTimeParseException e) {
+            throw toSdkException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void save(String key, Instant checkpoint) throws SdkException {
+        try {
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, ".checkpoint", ".tmp");
+            Files.write(temporary, checkpoint.toString().getBytes(StandardCharsets.UTF_8));
+            Files.move(temporary, file(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ioException) {
+            throw toSdkException(ioException.getMessage(), ioException);
+        }
+    }
+
+    /**
+     * Returns the file of a checkpoint, named after its key with the characters not allowed in file names replaced.
+     *
+     * @param key The key of the checkpoint.
+     * @return The path of the file.
+     */
+    private Path file(String key) {
+        return directory.resolve(key.replaceAll("[^A-Za-z0-9._-]", "_") + ".checkpoint");
+    }
+
+    /**
+     * Converts an error of the store into a {@link SdkException}.
+     *
+     * @param detail The detail of the error.
+     * @param exception The error.
+     * @return The exception to throw.
+     */
+    private static SdkException toSdkException(String detail, Exception exception) {
+        log.error(GENERIC_EXCEPTION_MESSAGE, exception);
+        return new SdkException(
+                detail,
+                Error.builder()
+                        .title(GENERIC_EXCEPTION_MESSAGE)
+                        .detail(detail)
+                        .build()
+        );
+    }
+}
@@ -0,0 +1,448 @@
+package inter.sdk.commons.webhooks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsParameters;
+import com.sun.net.httpserver.HttpsServer;
+import inter.sdk.banking.models.Payload;
+import inter.sdk.billing.models.BillingPayload;
+import inter.sdk.commons.exceptions.SdkException;
+import inter.sdk.commons.models.CallbackListener;
+import inter.sdk.commons.models.Error;
+import inter.sdk.commons.models.WebhookReceiverConfig;
+import inter.sdk.commons.utils.ExecutorUtils;
+import inter.sdk.commons.utils.JsonUtils;
+import inter.sdk.commons.utils.SslUtils;
+import inter.sdk.pix.models.ItemPayload;
+import inter.sdk.pix.models.PixPayload;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
+
+/**
+ * The {@code WebhookReceiver} class receives the callbacks of the Pix, banking and billing webhooks
+ * and hands them to the listeners of {@link WebhookReceiverConfig}.
+ * <p>
+ * The receiver is an HTTP server, HTTPS with optional client certificates when configured, built on the
+ * server of the JDK. A request is only read and decoded on the I/O threads: the decoded callbacks are
+ * queued for the listener threads and, by default, the request is answered at once, so Inter is never
+ * kept waiting for the listeners. When the queue is full, requests are answered with 503 and Inter sends
+ * them again later; malformed requests are answered with 400, and requests to other paths with 404.
+ * </p>
+ * <p>
+ * Answering at once delivers callbacks at most once: a callback whose listener throws, or that is still
+ * queued when the process stops, is not delivered again. With
+ * {@link WebhookReceiverConfig#isAcknowledgeAfterProcessing()}, a request is answered only once the
+ * listener processed its callbacks, and with 500 when the listener throws, so Inter delivers it again
+ * and callbacks are delivered at least once.
+ * </p>
+ * <p>
+ * Pix callbacks are delivered one per received Pix, and banking and billing callbacks one per payment or
+ * billing, whether the body holds one or a list of them. Inter delivers a callback again when its
+ * delivery fails, so listeners should be wrapped by a {@link CallbackDeduplicator} when each callback
+ * must be processed once.
+ * </p>
+ */
+@Slf4j
+public class WebhookReceiver implements Closeable {
+    private static final TypeReference<List<Payload>> BANKING_CALLBACKS = new TypeReference<List<Payload>>() {
+    };
+    private static final TypeReference<List<BillingPayload>> BILLING_CALLBACKS = new TypeReference<List<BillingPayload>>() {
+    };
+    private static final int STOP_DELAY_SECONDS = 1;
+    private static final int LISTENER_TERMINATION_SECONDS = 30;
+
+    private final WebhookReceiverConfig config;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private HttpServer server;
+    private ExecutorService ioExecutor;
+    private ThreadPoolExecutor listenerExecutor;
+
+    /**
+     * Creates a receiver, which only listens once started.
+     *
+     * @param config The configuration of the receiver.
+     */
+    public WebhookReceiver(WebhookReceiverConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Starts listening for callbacks.
+     *
+     * @throws SdkException If the receiver is already started, its certificates cannot be loaded or the port cannot be bound.
+     */
+    public void start() throws SdkException {
+        if (!started.compareAndSet(false, true)) {
+            throw error("Webhook receiver already started");
+        }
+        InetSocketAddress address = config.getHost() != null
+                ? new InetSocketAddress(config.getHost(), config.getPort())
+                : new InetSocketAddress(config.getPort());
+        try {
+            server = config.getCertificate() != null ? createHttpsServer(address) : HttpServer.create(address, config.getBacklog());
+        } catch (IOException e) {
+            log.error(GENERIC_EXCEPTION_MESSAGE, e);
+            throw error("Error starting webhook receiver on " + address + ": " + e.getMessage());
+        }
+        listenerExecutor = new ThreadPoolExecutor(config.getListenerThreads(), config.getListenerThreads(), 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(config.getQueueCapacity(), 1)), ExecutorUtils.daemonThreadFactory("inter-sdk-webhook-listener"));
+        ioExecutor = Executors.newFixedThreadPool(config.getIoThreads(), ExecutorUtils.daemonThreadFactory("inter-sdk-webhook-io"));
+        if (config.getPixListener() != null) {
+            server.createContext(config.getPixPath(), exchange -> handle(exchange, "pix", WebhookReceiver::decodePix, config.getPixListener()));
+        }
+        if (config.getBankingListener() != null) {
+            server.createContext(config.getBankingPath(), exchange -> handle(exchange, "banking", WebhookReceiver::decodeBanking, config.getBankingListener()));
+        }
+        if (config.getBillingListener() != null) {
+            server.createContext(config.getBillingPath(), exchange -> handle(exchange, "billing", WebhookReceiver::decodeBilling, config.getBillingListener()));
+        }
+        server.createContext("/", WebhookReceiver::notFound);
+        server.setExecutor(ioExecutor);
+        server.start();
+        log.info("Webhook receiver listening on {}", server.getAddress());
+    }
+
+    /**
+     * Returns the port the receiver listens on, useful when configured with port 0.
+     *
+     * @return The port.
+     * @throws IllegalStateException If the receiver is not started.
+     */
+    public int getPort() {
+        if (server == null) {
+            throw new IllegalStateException("Webhook receiver not started");
+        }
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops listening, then waits for the listeners to process the callbacks already received.
+     */
+    @Override
+    public void close() {
+        if (server == null) {
+            return;
+        }
+        server.stop(STOP_DELAY_SECONDS);
+        ioExecutor.shutdown();
+        listenerExecutor.shutdown();
+        try {
+            if (!listenerExecutor.awaitTermination(LISTENER_TERMINATION_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("Webhook receiver closed with {} requests not processed", listenerExecutor.getQueue().size());
+                discardQueued();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            discardQueued();
+        }
+        log.info("Webhook receiver stopped");
+    }
+
+    /**
+     * Stops the listener threads and cancels the requests still queued, so the requests waiting to be
+     * acknowledged after processing are answered with 503.
+     */
+    private void discardQueued() {
+        for (Runnable queued : listenerExecutor.shutdownNow()) {
+            if (queued instanceof Future) {
+                ((Future<?>) queued).cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Creates the HTTPS server, requiring client certificates when trusted certificates are configured.
+     * <p>
+     * Client certificates are verified once per TLS session, and the sessions are kept for resumption,
+     * so callbacks from a known client are accepted without validating its certificate again.
+     * </p>
+     *
+     * @param address The address to listen on.
+     * @return The server.
+     * @throws IOException    If the port cannot be bound.
+     * @throws SdkException If the certificates cannot be loaded.
+     */
+    private HttpsServer createHttpsServer(InetSocketAddress address) throws IOException, SdkException {
+        SSLContext sslContext = SslUtils.buildServerSslContext(config.getCertificate(), config.getPassword(),
+                config.getTrustedCertificates(), config.getAllowedClientNames());
+        sslContext.getServerSessionContext().setSessionCacheSize(config.getSessionCacheSize());
+        sslContext.getServerSessionContext().setSessionTimeout(config.getSessionTimeoutSeconds());
+        boolean clientAuth = config.getTrustedCertificates() != null;
+        HttpsServer httpsServer = HttpsServer.create(address, config.getBacklog());
+        httpsServer.setHttpsConfigurator(new HttpsConfigurator(sslContext) {
+            @Override
+            public void configure(HttpsParameters params) {
+                SSLParameters sslParameters = getSSLContext().getDefaultSSLParameters();
+                sslParameters.setNeedClientAuth(clientAuth);
+                params.setSSLParameters(sslParameters);
+            }
+        });
+        return httpsServer;
+    }
+
+    /**
+     * Reads and decodes a request, queues its callbacks for the listener and answers it, once they are
+     * processed when acknowledging after processing.
+     *
+     * @param exchange The request.
+     * @param type     The type of the callbacks, for logging.
+     * @param decoder  The decoder of the body.
+     * @param listener The listener of the callbacks.
+     * @param <T>      The type of the callbacks.
+     */
+    private <T> void handle(HttpExchange exchange, String type, Decoder<T> decoder, CallbackListener<T> listener) {
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                respond(exchange, 405);
+                return;
+            }
+            byte[] body = readBody(exchange.getRequestBody());
+            if (body == null) {
+                log.warn("Webhook {} request from {} larger than {} bytes", type, exchange.getRemoteAddress(), config.getMaxBodyBytes());
+                respond(exchange, 413);
+                return;
+            }
+            List<T> callbacks;
+            try {
+                callbacks = decoder.decode(body);
+            } catch (IOException e) {
+                log.warn("Webhook {} request from {} could not be decoded: {}", type, exchange.getRemoteAddress(), e.getMessage());
+                respond(exchange, 400);
+                return;
+            }
+            Future<?> processing;
+            try {
+                processing = config.isAcknowledgeAfterProcessing()
+                        ? listenerExecutor.submit(() -> process(listener, callbacks))
+                        : listenerExecutor.submit(() -> dispatch(type, listener, callbacks));
+            } catch (RejectedExecutionException e) {
+                log.warn("Webhook {} queue full, request from {} refused", type, exchange.getRemoteAddress());
+                respond(exchange, 503);
+                return;
+            }
+            if (config.isAcknowledgeAfterProcessing()) {
+                respond(exchange, await(type, processing));
+                return;
+            }
+            respond(exchange, 200);
+        } catch (IOException e) {
+            log.debug("Webhook {} request from {} failed", type, exchange.getRemoteAddress(), e);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Refuses a request to a path without listener.
+     *
+     * @param exchange The request.
+     */
+    private static void notFound(HttpExchange exchange) {
+        try {
+            respond(exchange, 404);
+        } catch (IOException e) {
+            log.debug("Webhook request from {} failed", exchange.getRemoteAddress(), e);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Hands the callbacks of a request to the listener, one at a time.
+     *
+     * @param type      The type of the callbacks, for logging.
+     * @param listener  The listener.
+     * @param callbacks The callbacks.
+     * @param <T>       The type of the callbacks.
+     */
+    private static <T> void dispatch(String type, CallbackListener<T> listener, List<T> callbacks) {
+        for (T callback : callbacks) {
+            try {
+                listener.onCallback(callback);
+            } catch (Exception e) {
+                log.error("Error processing webhook {} callback", type, e);
+            }
+        }
+    }
+
+    /**
+     * Hands the callbacks of a request to the listener, one at a time, stopping at the first one it fails to process.
+     *
+     * @param listener  The listener.
+     * @param callbacks The callbacks.
+     * @param <T>       The type of the callbacks.
+     * @return {@code null}.
+     * @throws Exception The error of the listener.
+     */
+    private static <T> Void process(CallbackListener<T> listener, List<T> callbacks) throws Exception {
+        for (T callback : callbacks) {
+            listener.onCallback(callback);
+        }
+        return null;
+    }
+
+    /**
+     * Waits for the listener to process the callbacks of a request.
+     *
+     * @param type       The type of the callbacks, for logging.
+     * @param processing The processing of the callbacks.
+     * @return The HTTP status of the answer: 200 once processed, 500 if the listener failed, or 503 if the
+     * receiver is closing.
+     */
+    private static int await(String type, Future<?> processing) {
+        try {
+            processing.get();
+            return 200;
+        } catch (ExecutionException e) {
+            log.error("Error processing webhook {} callback, answering 500 so it is delivered again", type, e.getCause());
+            return 500;
+        } catch (CancellationException e) {
+            return 503;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 503;
+        }
+    }
+
+    /**
+     * Reads the body of a request, up to the maximum size.
+     *
+     * @param inputStream The body.
+     * @return The bytes of the body, or {@code null} if it exceeds the maximum size.
+     * @throws IOException If the body cannot be read.
+     */
+    private byte[] readBody(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            if (body.size() + read > config.getMaxBodyBytes()) {
+                return null;
+            }
+            body.write(buffer, 0, read);
+        }
+        return body.toByteArray();
+    }
+
+    /**
+     * Answers a request with an empty body.
+     * <p>
+     * The server of the JDK does not read further requests of a connection once a request is refused,
+     * so refusals close the connection explicitly, letting the client open a new one.
+     * </p>
+     *
+     * @param exchange The request.
+     * @param status   The HTTP status.
+     * @throws IOException If the answer cannot be sent.
+     */
+    private static void respond(HttpExchange exchange, int status) throws IOException {
+        if (status >= 400) {
+            exchange.getResponseHeaders().set("Connection", "close");
+        }
+        exchange.sendResponseHeaders(status, -1);
+    }
+
+    /**
+     * Decodes the body of a Pix callback, {@code {"pix": [...]}}.
+     *
+     * @param body The body.
+     * @return The received Pix.
+     * @throws IOException If the body is not a Pix callback.
+     */
+    private static List<ItemPayload> decodePix(byte[] body) throws IOException {
+        PixPayload payload = JsonUtils.reader(PixPayload.class).readValue(body);
+        return payload != null && payload.getPixItems() != null ? payload.getPixItems() : Collections.emptyList();
+    }
+
+    /**
+     * Decodes the body of a banking callback, a payment or a list of payments.
+     *
+     * @param body The body.
+     * @return The payments.
+     * @throws IOException If the body is not a banking callback.
+     */
+    private static List<Payload> decodeBanking(byte[] body) throws IOException {
+        if (isArray(body)) {
+            return JsonUtils.reader(BANKING_CALLBACKS).readValue(body);
+        }
+        return Collections.singletonList(JsonUtils.reader(Payload.class).readValue(body));
+    }
+
+    /**
+     * Decodes the body of a billing callback, a billing or a list of billings.
+     *
+     * @param body The body.
+     * @return The billings.
+     * @throws IOException If the body is not a billing callback.
+     */
+    private static List<BillingPayload> decodeBilling(byte[] body) throws IOException {
+        if (isArray(body)) {
+            return JsonUtils.reader(BILLING_CALLBACKS).readValue(body);
+        }
+        return Collections.singletonList(JsonUtils.reader(BillingPayload.class).readValue(body));
+    }
+
+    /**
+     * Tells whether a JSON body is an array.
+     *
+     * @param body The body.
+     * @return {@code true} if the first character of the body, other than whitespace, opens an array.
+     */
+    private static boolean isArray(byte[] body) {
+        for (byte b : body) {
+            if (!Character.isWhitespace(b)) {
+                return b == '[';
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Builds an exception of the receiver.
+     *
+     * @param detail The detail of the error.
+     * @return The exception.
+     */
+    private static SdkException error(String detail) {
+        return new SdkException(
+                detail,
+                Error.builder()
+                        .title(GENERIC_EXCEPTION_MESSAGE)
+                        .detail(detail)
+                        .build()
+        );
+    }
+
+    /**
+     * Decodes the body of a request into callbacks.
+     *
+     * @param <T> The type of the callbacks.
+     */
+    @FunctionalInterface
+    private interface Decoder<T> {
+        List<T> decode(byte[] body) throws IOException;
+    }
+}
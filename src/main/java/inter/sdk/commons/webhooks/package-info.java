@@ -0,0 +1 @@
+package inter.sdk.commons.webhooks;
\ No newline at end of file
@@ -0,0 +1,605 @@
+package inter.sdk.pix;
+
+import inter.sdk.commons.exceptions.SdkException;
+import inter.sdk.commons.models.BatchPolicy;
+import inter.sdk.commons.models.Config;
+import inter.sdk.commons.models.Webhook;
+import inter.sdk.pix.duebilling.DueBillingClient;
+import inter.sdk.pix.duebillingbatch.DueBillingBatchClient;
+import inter.sdk.pix.enums.ImmediateBillingType;
+import inter.sdk.pix.immediatebillings.ImmediateBillingClient;
+import inter.sdk.pix.locations.LocationClient;
+import inter.sdk.pix.models.BillingPage;
+import inter.sdk.pix.models.PixCallbackPage;
+import inter.sdk.pix.models.CallbackRetrieveFilter;
+import inter.sdk.pix.models.DetailedDevolution;
+import inter.sdk.pix.models.DetailedDuePixBilling;
+import inter.sdk.pix.models.DetailedImmediatePixBilling;
+import inter.sdk.pix.models.DevolutionRequestBody;
+import inter.sdk.pix.models.DueBilling;
+import inter.sdk.pix.models.DueBillingBatch;
+import inter.sdk.pix.models.DueBillingBatchPage;
+import inter.sdk.pix.models.DueBillingBatchSummary;
+import inter.sdk.pix.models.DueBillingPage;
+import inter.sdk.pix.models.GeneratedDueBilling;
+import inter.sdk.pix.models.GeneratedImmediateBilling;
+import inter.sdk.pix.models.IncludeDueBillingBatchRequest;
+import inter.sdk.pix.models.Location;
+import inter.sdk.pix.models.LocationPage;
+import inter.sdk.pix.models.Pix;
+import inter.sdk.pix.models.PixBilling;
+import inter.sdk.pix.models.PixPage;
+import inter.sdk.pix.models.RetrieveCallbackResponse;
+import inter.sdk.pix.models.RetrieveDueBillingFilter;
+import inter.sdk.pix.models.RetrieveImmediateBillingsFilter;
+import inter.sdk.pix.models.RetrieveLocationFilter;
+import inter.sdk.pix.models.RetrievedPixFilter;
+import inter.sdk.pix.pix.PixClient;
+import inter.sdk.pix.webhooks.PixWebhookSdk;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The asynchronous version of {@link PixSdk}, obtained with {@link PixSdk#async()}.
+ * <p>
+ * Methods return immediately with a {@link CompletableFuture}, which is completed with the result of the call,
+ * or exceptionally with a {@link SdkException}. Calls are made through the non-blocking transport of the SDK,
+ * so no thread is held while waiting for the API.
+ * </p>
+ */
+public class PixAsyncSdk {
+    private final Config config;
+    private DueBillingClient dueBillingClient;
+    private DueBillingBatchClient dueBillingBatchClient;
+    private ImmediateBillingClient immediateBillingClient;
+    private LocationClient locationClient;
+    private PixClient pixClient;
+    private PixWebhookSdk pixWebhookSdk;
+
+    public PixAsyncSdk(Config config) {
+        this.config = config;
+    }
+
+    /**
+     * Includes a due billing entry for a PIX transaction.
+     *
+     * @param txid   The transaction ID associated with the due billing.
+     * @param billing The DueBilling object containing the billing details to be included.
+     * @return A {@link CompletableFuture} completed with the GeneratedDueBilling object containing the details of the included due billing.
+     */
+    public CompletableFuture<GeneratedDueBilling> includeDuePixBilling(String txid, DueBilling billing) {
+        if (dueBillingClient == null) {
+            dueBillingClient = new DueBillingClient();
+        }
+
+        return dueBillingClient.includeDueBillingAsync(config, txid, billing);
+    }
+
+    /**
+     * Retrieves the detailed due billing information for a specific PIX transaction.
+     *
+     * @param txid The transaction ID associated with the due billing to be retrieved.
+     * @return A {@link CompletableFuture} completed with the DetailedDuePixBilling object containing the details of the retrieved due billing.
+     */
+    public CompletableFuture<DetailedDuePixBilling> retrieveDuePixBilling(String txid) {
+        if (dueBillingClient == null) {
+            dueBillingClient = new DueBillingClient();
+        }
+
+        return dueBillingClient.retrieveDueBillingAsync(config, txid);
+    }
+
+    /**
+     * Retrieves a list of detailed due billing entries for a specified period, applying optional filters.
+     *
+     * @param initialDate The starting date for the billing collection retrieval. Format: YYYY-MM-DD.
+     * @param finalDate   The ending date for the billing collection retrieval. Format: YYYY-MM-DD.
+     * @param filter      Optional filter criteria to refine the billing collection retrieval.
+     * @return A {@link CompletableFuture} completed with the list of DetailedDuePixBilling objects containing the retrieved billing information.
+     */
+    public CompletableFuture<List<DetailedDuePixBilling>> retrieveBillingCollection(String initialDate, String finalDate,
+                                                                                    RetrieveDueBillingFilter filter) {
+        if (dueBillingClient == null) {
+            dueBillingClient = new DueBillingClient();
+        }
+
+        return dueBillingClient.retrieveDuePixBillingInRangeAsync(config, initialDate, finalDate, filter);
+    }
+
+    /**
+     * Retrieves the due billing entries for a specified period asynchronously, splitting the period into windows of days
+     * retrieved in parallel, see {@link Config#getShardPolicy()}. Suited to long periods; the due billing entries
+     * are returned in chronological order, without duplicates by txid.
+     *
+     * @param initialDate The starting date of the period. Format: YYYY-MM-DD.
+     * @param finalDate   The ending date of the period. Format: YYYY-MM-DD.
+     * @param filter      Optional filter criteria to refine the billing collection retrieval.
+     * @return A {@link CompletableFuture} completed with the list of retrieved DetailedDuePixBilling objects.
+     */
+    public CompletableFuture<List<DetailedDuePixBilling>> retrieveBillingCollectionSharded(String initialDate, String finalDate, RetrieveDueBillingFilter filter) {
+        if (dueBillingClient == null) {
+            dueBillingClient = new DueBillingClient();
+        }
+        return dueBillingClient.retrieveDuePixBillingInRangeShardedAsync(config, initialDate, finalDate, filter);
+    }
+
+    /**
+     * Retrieves a paginated collection of due billing entries for a specified period, applying optional filters.
+     *
+     * @param initialDate The starting date for the billing collection retrieval. Format: YYYY-MM-DD.
+     * @param finalDate   The ending date for the billing collection retrieval. Format: YYYY-MM-DD.
+     * @param page        The page number for pagination.
+     * @param pageSize    The number of items per page. If null, a default size will be used.
+     * @param filter      Optional filter criteria to refine the billing collection retrieval.
+     * @return A {@link CompletableFuture} completed with the DueBillingPage object containing the paginated list of retrieved due billing entries.
+     */
+    public CompletableFuture<DueBillingPage> retrieveBillingCollection(String initialDate, String finalDate,
+                                                                       int page, Integer pageSize, RetrieveDueBillingFilter filter) {
+        if (dueBillingClient == null) {
+            dueBillingClient = new DueBillingClient();
+        }
+
+        return dueBillingClient.retrieveDueBillingPageAsync(config, initialDate, finalDate, page, pageSize, filter);
+    }
+
+    /**
+     * Reviews a due billing entry for a PIX transaction.
+     *
+     * @param txid   The transaction ID associated with the due billing to be reviewed.
+     * @param billing The DueBilling object containing the billing details to be reviewed.
+     * @return A {@link CompletableFuture} completed with the GeneratedDueBilling object containing the details of the reviewed due billing.
+     */
+    public CompletableFuture<GeneratedDueBilling> reviewDuePixBilling(String txid, DueBilling billing) {
+        if (dueBillingClient == null) {
+            dueBillingClient = new DueBillingClient();
+        }
+
+        return dueBillingClient.reviewDueBillingAsync(config, txid, billing);
+    }
+
+    /**
+     * Includes a batch of due billing entries for a specific PIX transaction.
+     *
+     * @param txid        The transaction ID associated with the due billing batch.
+     * @param batchRequest The IncludeDueBillingBatchRequest object containing the details of the billing batch to be included.
+     * @return A {@link CompletableFuture} completed with {@code null} when the operation finishes.
+     */
+    public CompletableFuture<Void> includeDueBillingBatch(String txid, IncludeDueBillingBatchRequest batchRequest) {
+        if (dueBillingBatchClient == null) {
+            dueBillingBatchClient = new DueBillingBatchClient();
+        }
+
+        return dueBillingBatchClient.includeDueBillingBatchAsync(config, txid, batchRequest);
+    }
+
+    /**
+     * Retrieves a due billing batch by its identifier.
+     *
+     * @param id The identifier of the billing batch to be retrieved.
+     * @return A {@link CompletableFuture} completed with the DueBillingBatch object containing the details of the retrieved billing batch.
+     */
+    public CompletableFuture<DueBillingBatch> retrieveDueBillingBatch(String id) {
+        if (dueBillingBatchClient == null) {
+            dueBillingBatchClient = new DueBillingBatchClient();
+        }
+
+        return dueBillingBatchClient.retrieveDueBillingBatchAsync(config, id);
+    }
+
+    /**
+     * Retrieves a paginated collection of due billing batches for a specified period.
+     *
+     * @param initialDate The starting date for the billing batch collection retrieval. Format: YYYY-MM-DD.
+     * @param finalDate   The ending date for the billing batch collection retrieval. Format: YYYY-MM-DD.
+     * @param page        The page number for pagination.
+     * @param pageSize    The number of items per page. If null, a default size will be used.
+     * @return A {@link CompletableFuture} completed with the DueBillingBatchPage object containing the paginated list of retrieved due billing batches.
+     */
+    public CompletableFuture<DueBillingBatchPage> retrieveDueBillingBatchCollection(String initialDate, String finalDate, int page, Integer pageSize) {
+        if (dueBillingBatchClient == null) {
+            dueBillingBatchClient = new DueBillingBatchClient();
+        }
+
+        return dueBillingBatchClient.retrieveDueBillingBatchPageAsync(config, initialDate, finalDate, page, pageSize);
+    }
+
+    /**
+     * Retrieves a list of due billing batches for a specified period.
+     *
+     * @param initialDate The starting date for the billing batch collection retrieval. Format: YYYY-MM-DD.
+     * @param finalDate   The ending date for the billing batch collection retrieval. Format: YYYY-MM-DD.
+     * @return A {@link CompletableFuture} completed with the list of DueBillingBatch objects containing the retrieved billing batches.
+     */
+    public CompletableFuture<List<DueBillingBatch>> retrieveDueBillingBatchCollection(String initialDate, String finalDate) {
+        if (dueBillingBatchClient == null) {
+            dueBillingBatchClient = new DueBillingBatchClient();
+        }
+
+        return dueBillingBatchClient.retrieveDueBillingBatchInRangeAsync(config, initialDate, finalDate);
+    }
+
+    /**
+     * Retrieves the situation of a specific due billing batch by its identifier.
+     *
+     * @param id       The identifier of the billing batch whose situation is to be retrieved.
+     * @param situation The specific situation to filter the results.
+     * @return A {@link CompletableFuture} completed with the DueBillingBatch object containing the details of the retrieved billing batch situation.
+     */
+    public CompletableFuture<DueBillingBatch> retrieveDueBillingBatchBySituation(String id, String situation) {
+        if (dueBillingBatchClient == null) {
+            dueBillingBatchClient = new DueBillingBatchClient();
+        }
+
+        return dueBillingBatchClient.retrieveDueBillingBatchBySituationAsync(config, id, situation);
+    }
+
+    /**
+     * Retrieves the summary of a specific due billing batch by its identifier.
+     *
+     * @param id The identifier of the billing batch whose summary is to be retrieved.
+     * @return A {@link CompletableFuture} completed with the DueBillingBatchSummary object containing the summary details of the retrieved billing batch.
+     */
+    public CompletableFuture<DueBillingBatchSummary> retrieveDueBillingBatchSummary(String id) {
+        if (dueBillingBatchClient == null) {
+            dueBillingBatchClient = new DueBillingBatchClient();
+        }
+
+        return dueBillingBatchClient.retrieveDueBillingBatchSummaryAsync(config, id);
+    }
+
+    /**
+     * Follows a due billing batch until all its billings are created or denied, with the default {@link BatchPolicy}.
+     * The batch is polled on the shared scheduler, so no thread is held while it is pending.
+     *
+     * @param id The identifier of the billing batch.
+     * @return A {@link CompletableFuture} completed with the final summary of the billing batch.
+     */
+    public CompletableFuture<DueBillingBatchSummary> trackDueBillingBatch(String id) {
+        return trackDueBillingBatch(id, BatchPolicy.builder().build());
+    }
+
+    /**
+     * Follows a due billing batch until all its billings are created or denied.
+     * The batch is polled on the shared scheduler, so no thread is held while it is pending.
+     *
+     * @param id     The identifier of the billing batch.
+     * @param policy Bounds of the poll intervals and timeout.
+     * @return A {@link CompletableFuture} completed with the final summary of the billing batch.
+     */
+    public CompletableFuture<DueBillingBatchSummary> trackDueBillingBatch(String id, BatchPolicy policy) {
+        if (dueBillingBatchClient == null) {
+            dueBillingBatchClient = new DueBillingBatchClient();
+        }
+
+        return dueBillingBatchClient.trackDueBillingBatch(config, id, policy);
+    }
+
+    /**
+     * Reviews a due billing batch identified by its ID.
+     *
+     * @param id      The identifier of the billing batch to be reviewed.
+     * @param request The IncludeDueBillingBatchRequest object containing details for the review process.
+     * @return A {@link CompletableFuture} completed with {@code null} when the operation finishes.
+     */
+    public CompletableFuture<Void> reviewDueBillingBatch(String id, IncludeDueBillingBatchRequest request) {
+        if (dueBillingBatchClient == null) {
+            dueBillingBatchClient = new DueBillingBatchClient();
+        }
+
+        return dueBillingBatchClient.reviewDueBillingBatchAsync(config, id, request);
+    }
+
+    /**
+     * Includes an immediate billing entry for a PIX transaction.
+     *
+     * @param billing The PixBilling object containing the details of the immediate billing to be included.
+     * @return A {@link CompletableFuture} completed with the GeneratedImmediateBilling object containing the details of the included immediate billing.
+     */
+    public CompletableFuture<GeneratedImmediateBilling> includeImmediateBilling(PixBilling billing) {
+        if (immediateBillingClient == null) {
+            immediateBillingClient = new ImmediateBillingClient();
+        }
+        return immediateBillingClient.includeImmediateBillingAsync(config, billing);
+    }
+
+    /**
+     * Retrieves the details of an immediate billing entry by its transaction ID.
+     *
+     * @param txid The transaction ID associated with the immediate billing to be retrieved.
+     * @return A {@link CompletableFuture} completed with the DetailedImmediatePixBilling object containing the details of the retrieved immediate billing.
+     */
+    public CompletableFuture<DetailedImmediatePixBilling> retrieveImmediateBilling(String txid) {
+        if (immediateBillingClient == null) {
+            immediateBillingClient = new ImmediateBillingClient();
+        }
+        return immediateBillingClient.retrieveImmediateBillingAsync(config, txid);
+    }
+
+    /**
+     * Retrieves a list of detailed immediate billing entries for a specified period, optionally filtered.
+     *
+     * @param initialDate The starting date for the retrieval of immediate billings. Format: YYYY-MM-DD.
+     * @param finalDate   The ending date for the retrieval of immediate billings. Format: YYYY-MM-DD.
+     * @param filter      The filter criteria for retrieving the immediate billings.
+     * @return A {@link CompletableFuture} completed with the list of DetailedImmediatePixBilling objects containing the details of the retrieved immediate billings.
+     */
+    public CompletableFuture<List<DetailedImmediatePixBilling>> retrieveImmediateBillingList(String initialDate, String finalDate,
+                                                                                             RetrieveImmediateBillingsFilter filter) {
+        if (immediateBillingClient == null) {
+            immediateBillingClient = new ImmediateBillingClient();
+        }
+        return immediateBillingClient.retrieveImmediateBillingInRangeAsync(config, initialDate, finalDate, filter);
+    }
+
+    /**
+     * Retrieves a paginated list of immediate billing entries for a specified period, optionally filtered.
+     *
+     * @param initialDate The starting date for the retrieval of immediate billings. Format: YYYY-MM-DD.
+     * @param finalDate   The ending date for the retrieval of immediate billings. Format: YYYY-MM-DD.
+     * @param page        The page number for pagination.
+     * @param pageSize    The number of items per page. If null, a default size will be used.
+     * @param filter      The filter criteria for retrieving the immediate billings.
+     * @return A {@link CompletableFuture} completed with the BillingPage object containing the paginated list of retrieved immediate billings.
+     */
+    public CompletableFuture<BillingPage> retrieveImmediateBillingList(String initialDate, String finalDate,
+                                                                       int page, Integer pageSize, RetrieveImmediateBillingsFilter filter) {
+        if (immediateBillingClient == null) {
+            immediateBillingClient = new ImmediateBillingClient();
+        }
+        return immediateBillingClient.retrieveImmediateBillingPageAsync(config, initialDate, finalDate, page, pageSize, filter);
+    }
+
+    /**
+     * Reviews an immediate billing entry for a PIX transaction.
+     *
+     * @param billing The PixBilling object containing the details of the immediate billing to be reviewed.
+     * @return A {@link CompletableFuture} completed with the GeneratedImmediateBilling object containing the details of the reviewed immediate billing.
+     */
+    public CompletableFuture<GeneratedImmediateBilling> reviewImmediateBilling(PixBilling billing) {
+        if (immediateBillingClient == null) {
+            immediateBillingClient = new ImmediateBillingClient();
+        }
+        return immediateBillingClient.reviewImmediateBillingAsync(config, billing);
+    }
+
+    /**
+     * Includes a location associated with an immediate billing type.
+     *
+     * @param immediateBillingType The ImmediateBillingType object containing the details of the location to be included.
+     * @return A {@link CompletableFuture} completed with the Location object containing the details of the included location.
+     */
+    public CompletableFuture<Location> includeLocation(ImmediateBillingType immediateBillingType) {
+        if (locationClient == null) {
+            locationClient = new LocationClient();
+        }
+        return locationClient.includeLocationAsync(config, immediateBillingType);
+    }
+
+    /**
+     * Retrieves a location by its identifier.
+     *
+     * @param locationId The identifier of the location to be retrieved.
+     * @return A {@link CompletableFuture} completed with the Location object containing the details of the retrieved location.
+     */
+    public CompletableFuture<Location> retrieveLocation(String locationId) {
+        if (locationClient == null) {
+            locationClient = new LocationClient();
+        }
+        return locationClient.retrieveLocationAsync(config, locationId);
+    }
+
+    /**
+     * Retrieves a list of locations for a specified period, optionally filtered.
+     *
+     * @param initialDate The starting date for the retrieval of locations. Format: YYYY-MM-DD.
+     * @param finalDate   The ending date for the retrieval of locations. Format: YYYY-MM-DD.
+     * @param filter      The filter criteria for retrieving the locations.
+     * @return A {@link CompletableFuture} completed with the list of Location objects containing the details of the retrieved locations.
+     */
+    public CompletableFuture<List<Location>> retrieveLocationsList(String initialDate, String finalDate,
+                                                                   RetrieveLocationFilter filter) {
+        if (locationClient == null) {
+            locationClient = new LocationClient();
+        }
+        return locationClient.retrieveLocationInRangeAsync(config, initialDate, finalDate, filter);
+    }
+
+    /**
+     * Retrieves a paginated list of locations for a specified period, optionally filtered.
+     *
+     * @param initialDate The starting date for the retrieval of locations. Format: YYYY-MM-DD.
+     * @param finalDate   The ending date for the retrieval of locations. Format: YYYY-MM-DD.
+     * @param page        The page number for pagination.
+     * @param pageSize    The number of items per page. If null, a default size will be used.
+     * @param filter      The filter criteria for retrieving the locations.
+     * @return A {@link CompletableFuture} completed with the LocationPage object containing the paginated list of retrieved locations.
+     */
+    public CompletableFuture<LocationPage> retrieveLocationsList(String initialDate, String finalDate,
+                                                                 int page, Integer pageSize, RetrieveLocationFilter filter) {
+        if (locationClient == null) {
+            locationClient = new LocationClient();
+        }
+        return locationClient.retrieveLocationPageAsync(config, initialDate, finalDate, page, pageSize, filter);
+    }
+
+    /**
+     * Unlinks a location by its identifier.
+     *
+     * @param id The identifier of the location to be unlinked.
+     * @return A {@link CompletableFuture} completed with the Location object containing the details of the unlinked location.
+     */
+    public CompletableFuture<Location> unlinkLocation(String id) {
+        if (locationClient == null) {
+            locationClient = new LocationClient();
+        }
+        return locationClient.unlinkLocationAsync(config, id);
+    }
+
+    /**
+     * Requests a devolution for a specific transaction.
+     *
+     * @param e2eId              The end-to-end identifier for the transaction.
+     * @param id                 The identifier of the devolution request.
+     * @param devolutionRequestBody The body containing the details for the devolution request.
+     * @return A {@link CompletableFuture} completed with the DetailedDevolution object containing the details of the requested devolution.
+     */
+    public CompletableFuture<DetailedDevolution> requestDevolution(String e2eId, String id, DevolutionRequestBody devolutionRequestBody) {
+        if (pixClient == null) {
+            pixClient = new PixClient();
+        }
+        return pixClient.requestDevolutionAsync(config, e2eId, id, devolutionRequestBody);
+    }
+
+    /**
+     * Retrieves the details of a specific devolution by its identifiers.
+     *
+     * @param e2eId The end-to-end identifier for the transaction.
+     * @param id    The identifier of the devolution to be retrieved.
+     * @return A {@link CompletableFuture} completed with the DetailedDevolution object containing the details of the retrieved devolution.
+     */
+    public CompletableFuture<DetailedDevolution> retrieveDevolution(String e2eId, String id) {
+        if (pixClient == null) {
+            pixClient = new PixClient();
+        }
+        return pixClient.retrieveDevolutionAsync(config, e2eId, id);
+    }
+
+    /**
+     * Retrieves a list of PIX transactions for a specified period, optionally filtered.
+     *
+     * @param initialDate The starting date for the retrieval of PIX transactions. Format: YYYY-MM-DD.
+     * @param finalDate   The ending date for the retrieval of PIX transactions. Format: YYYY-MM-DD.
+     * @param filter      The filter criteria for retrieving the PIX transactions.
+     * @return A {@link CompletableFuture} completed with the list of Pix objects containing the details of the retrieved PIX transactions.
+     */
+    public CompletableFuture<List<Pix>> retrievePixList(String initialDate, String finalDate,
+                                                        RetrievedPixFilter filter) {
+        if (pixClient == null) {
+            pixClient = new PixClient();
+        }
+        return pixClient.retrievePixInRangeAsync(config, initialDate, finalDate, filter);
+    }
+
+    /**
+     * Retrieves the PIX transactions for a specified period asynchronously, splitting the period into windows of days
+     * retrieved in parallel, see {@link Config#getShardPolicy()}. Suited to long periods; the PIX transactions
+     * are returned in chronological order, without duplicates by endToEndId.
+     *
+     * @param initialDate The starting date of the period. Format: YYYY-MM-DD.
+     * @param finalDate   The ending date of the period. Format: YYYY-MM-DD.
+     * @param filter      The filter criteria for retrieving the PIX transactions.
+     * @return A {@link CompletableFuture} completed with the list of retrieved Pix objects.
+     */
+    public CompletableFuture<List<Pix>> retrievePixListSharded(String initialDate, String finalDate, RetrievedPixFilter filter) {
+        if (pixClient == null) {
+            pixClient = new PixClient();
+        }
+        return pixClient.retrievePixInRangeShardedAsync(config, initialDate, finalDate, filter);
+    }
+
+    /**
+     * Retrieves a paginated list of PIX transactions for a specified period, optionally filtered.
+     *
+     * @param initialDate The starting date for the retrieval of PIX transactions. Format: YYYY-MM-DD.
+     * @param finalDate   The ending date for the retrieval of PIX transactions. Format: YYYY-MM-DD.
+     * @param page        The page number for pagination.
+     * @param pageSize    The number of items per page. If null, a default size will be used.
+     * @param filter      The filter criteria for retrieving the PIX transactions.
+     * @return A {@link CompletableFuture} completed with the PixPage object containing the paginated list of retrieved PIX transactions.
+     */
+    public CompletableFuture<PixPage> retrievePixList(String initialDate, String finalDate,
+                                                      int page, Integer pageSize, RetrievedPixFilter filter) {
+        if (pixClient == null) {
+            pixClient = new PixClient();
+        }
+        return pixClient.retrievePixPageAsync(config, initialDate, finalDate, page, pageSize, filter);
+    }
+
+    /**
+     * Retrieves the details of a specific PIX transaction by its end-to-end identifier.
+     *
+     * @param e2eId The end-to-end identifier for the PIX transaction.
+     * @return A {@link CompletableFuture} completed with the Pix object containing the details of the retrieved PIX transaction.
+     */
+    public CompletableFuture<Pix> retrievePix(String e2eId) {
+        if (pixClient == null) {
+            pixClient = new PixClient();
+        }
+        return pixClient.retrievePixTransactionAsync(config, e2eId);
+    }
+
+    /**
+     * Retrieves a list of callback responses for a specified period, optionally filtered.
+     *
+     * @param initialDateHour The starting date and hour for the retrieval of callbacks. Format: YYYY-MM-DD HH:mm.
+     * @param finalDateHour   The ending date and hour for the retrieval of callbacks. Format: YYYY-MM-DD HH:mm.
+     * @param filter          The filter criteria for retrieving the callback responses.
+     * @return A {@link CompletableFuture} completed with the list of RetrieveCallbackResponse objects containing the details of the retrieved callbacks.
+     */
+    public CompletableFuture<List<RetrieveCallbackResponse>> retrieveCallbacks(String initialDateHour, String finalDateHour,
+                                                                               CallbackRetrieveFilter filter) {
+        if (pixWebhookSdk == null) {
+            pixWebhookSdk = new PixWebhookSdk();
+        }
+        return pixWebhookSdk.retrieveCallbackInRangeAsync(config, initialDateHour, finalDateHour, filter);
+    }
+
+    /**
+     * Retrieves a paginated list of callback responses for a specified period, optionally filtered.
+     *
+     * @param initialDateHour The starting date and hour for the retrieval of callbacks. Format: YYYY-MM-DD HH:mm.
+     * @param finalDateHour   The ending date and hour for the retrieval of callbacks. Format: YYYY-MM-DD HH:mm.
+     * @param page            The page number for pagination.
+     * @param pageSize        The number of items per page. If null, a default size will be used.
+     * @param filter          The filter criteria for retrieving the callback responses.
+     * @return A {@link CompletableFuture} completed with the CallbackPage object containing the paginated list of retrieved callbacks.
+     */
+    public CompletableFuture<PixCallbackPage> retrieveCallbacks(String initialDateHour, String finalDateHour,
+                                                                int page, Integer pageSize, CallbackRetrieveFilter filter) {
+        if (pixWebhookSdk == null) {
+            pixWebhookSdk = new PixWebhookSdk();
+        }
+        return pixWebhookSdk.retrieveCallbackPageAsync(config, initialDateHour, finalDateHour, page, pageSize, filter);
+    }
+
+    /**
+     * Includes a new webhook for a specified key.
+     *
+     * @param key       The identifier key for which the webhook is being included.
+     * @param webhookUrl The URL of the webhook to be included.
+     * @return A {@link CompletableFuture} completed with {@code null} when the operation finishes.
+     */
+    public CompletableFuture<Void> includeWebhook(String key, String webhookUrl) {
+        if (pixWebhookSdk == null) {
+            pixWebhookSdk = new PixWebhookSdk();
+        }
+        return pixWebhookSdk.includeWebhookAsync(config, key, webhookUrl);
+    }
+
+    /**
+     * Retrieves the details of a specific webhook by its identifier key.
+     *
+     * @param key The identifier key for the webhook to be retrieved.
+     * @return A {@link CompletableFuture} completed with the Webhook object containing the details of the retrieved webhook.
+     */
+    public CompletableFuture<Webhook> retrieveWebhook(String key) {
+        if (pixWebhookSdk == null) {
+            pixWebhookSdk = new PixWebhookSdk();
+        }
+        return pixWebhookSdk.retrieveWebhookAsync(config, key);
+    }
+
+    /**
+     * Deletes a specific webhook identified by its key.
+     *
+     * @param key The identifier key for the webhook to be deleted.
+     * @return A {@link CompletableFuture} completed with {@code null} when the operation finishes.
+     */
+    public CompletableFuture<Void> deleteWebhook(String key) {
+        if (pixWebhookSdk == null) {
+            pixWebhookSdk = new PixWebhookSdk();
+        }
+        return pixWebhookSdk.deleteWebhookAsync(config, key);
+    }
+}
@@ -1,10 +1,12 @@
 package inter.sdk.pix;
 
 import inter.sdk.commons.exceptions.SdkException;
+import inter.sdk.commons.models.BatchPolicy;
 import inter.sdk.commons.models.Config;
 import inter.sdk.commons.models.Webhook;
 import inter.sdk.pix.duebilling.DueBillingClient;
 import inter.sdk.pix.duebillingbatch.DueBillingBatchClient;
+import inter.sdk.pix.duebillingbatch.DueBillingBatchPipeline;
 import inter.sdk.pix.enums.ImmediateBillingType;
 import inter.sdk.pix.immediatebillings.ImmediateBillingClient;
 import inter.sdk.pix.locations.LocationClient;
@@ -37,6 +39,8 @@ import inter.sdk.pix.pix.PixClient;
 import inter.sdk.pix.webhooks.PixWebhookSdk;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 public class PixSdk {
     private final Config config;
@@ -53,10 +57,26 @@ public class PixSdk {
 
     private PixWebhookSdk pixWebhookSdk;
 
+    private PixAsyncSdk pixAsyncSdk;
+
     public PixSdk(Config config) {
         this.config = config;
     }
 
+    /**
+     * Returns the asynchronous version of this SDK, whose methods return a {@link CompletableFuture}
+     * instead of waiting for the response.
+     *
+     * @return The {@link PixAsyncSdk} using the same configuration.
+     */
+    public PixAsyncSdk async() {
+        if (pixAsyncSdk == null) {
+            pixAsyncSdk = new PixAsyncSdk(config);
+        }
+
+        return pixAsyncSdk;
+    }
+
     /**
      * Includes a due billing entry for a PIX transaction.
      *
@@ -106,6 +126,42 @@ public class PixSdk {
         return dueBillingClient.retrieveDuePixBillingInRange(config, initialDate, finalDate, filter);
     }
 
+    /**
+     * Retrieves the due billing entries for a specified period, splitting the period into windows of days
+     * retrieved in parallel, see {@link Config#getShardPolicy()}. Suited to long periods; the due billing entries
+     * are returned in chronological order, without duplicates by txid.
+     *
+     * @param initialDate The starting date of the period. Format: YYYY-MM-DD.
+     * @param finalDate   The ending date of the period. Format: YYYY-MM-DD.
+     * @param filter      Optional filter criteria to refine the billing collection retrieval.
+     * @return A list of DetailedDuePixBilling objects containing the retrieved due billing entries.
+     * @throws SdkException if an error occurs during the retrieval process.
+     */
+    public List<DetailedDuePixBilling> retrieveBillingCollectionSharded(String initialDate, String finalDate, RetrieveDueBillingFilter filter) throws SdkException {
+        if (dueBillingClient == null) {
+            dueBillingClient = new DueBillingClient();
+        }
+        return dueBillingClient.retrieveDuePixBillingInRangeSharded(config, initialDate, finalDate, filter);
+    }
+
+    /**
+     * Streams the detailed due billing entries for a specified period, applying optional filters.
+     * The pages are fetched as the stream is consumed, see {@link Config#getPagePrefetch()}.
+     *
+     * @param initialDate The starting date for the billing collection retrieval. Format: YYYY-MM-DD.
+     * @param finalDate   The ending date for the billing collection retrieval. Format: YYYY-MM-DD.
+     * @param filter      Optional filter criteria to refine the billing collection retrieval.
+     * @return A lazy stream of DetailedDuePixBilling objects containing the retrieved billing information.
+     */
+    public Stream<DetailedDuePixBilling> streamBillingCollection(String initialDate, String finalDate,
+                                                                 RetrieveDueBillingFilter filter) {
+        if (dueBillingClient == null) {
+            dueBillingClient = new DueBillingClient();
+        }
+
+        return dueBillingClient.streamDuePixBillingInRange(config, initialDate, finalDate, filter);
+    }
+
     /**
      * Retrieves a paginated collection of due billing entries for a specified period, applying optional filters.
      *
@@ -157,6 +213,25 @@ public class PixSdk {
         dueBillingBatchClient.includeDueBillingBatch(config, txid, batchRequest);
     }
 
+    /**
+     * Creates a pipeline submitting any number of due billings as batches, split with the default policy.
+     *
+     * @return The due billing batch pipeline.
+     */
+    public DueBillingBatchPipeline dueBillingBatchPipeline() {
+        return new DueBillingBatchPipeline(config);
+    }
+
+    /**
+     * Creates a pipeline submitting any number of due billings as batches, split with the given policy.
+     *
+     * @param policy Policy for splitting the due billings and following the batches.
+     * @return The due billing batch pipeline.
+     */
+    public DueBillingBatchPipeline dueBillingBatchPipeline(BatchPolicy policy) {
+        return new DueBillingBatchPipeline(config, policy);
+    }
+
     /**
      * Retrieves a due billing batch by its identifier.
      *
@@ -206,6 +281,22 @@ public class PixSdk {
         return dueBillingBatchClient.retrieveDueBillingBatchInRange(config, initialDate, finalDate);
     }
 
+    /**
+     * Streams the due billing batches for a specified period.
+     * The pages are fetched as the stream is consumed, see {@link Config#getPagePrefetch()}.
+     *
+     * @param initialDate The starting date for the billing batch collection retrieval. Format: YYYY-MM-DD.
+     * @param finalDate   The ending date for the billing batch collection retrieval. Format: YYYY-MM-DD.
+     * @return A lazy stream of DueBillingBatch objects containing the retrieved billing batches.
+     */
+    public Stream<DueBillingBatch> streamDueBillingBatchCollection(String initialDate, String finalDate) {
+        if (dueBillingBatchClient == null) {
+            dueBillingBatchClient = new DueBillingBatchClient();
+        }
+
+        return dueBillingBatchClient.streamDueBillingBatchInRange(config, initialDate, finalDate);
+    }
+
     /**
      * Retrieves the situation of a specific due billing batch by its identifier.
      *
@@ -297,6 +388,23 @@ public class PixSdk {
         return immediateBillingClient.retrieveImmediateBillingInRange(config, initialDate, finalDate, filter);
     }
 
+    /**
+     * Streams the detailed immediate billing entries for a specified period, optionally filtered.
+     * The pages are fetched as the stream is consumed, see {@link Config#getPagePrefetch()}.
+     *
+     * @param initialDate The starting date for the retrieval of immediate billings. Format: YYYY-MM-DD.
+     * @param finalDate   The ending date for the retrieval of immediate billings. Format: YYYY-MM-DD.
+     * @param filter      The filter criteria for retrieving the immediate billings.
+     * @return A lazy stream of DetailedImmediatePixBilling objects containing the details of the retrieved immediate billings.
+     */
+    public Stream<DetailedImmediatePixBilling> streamImmediateBillingList(String initialDate, String finalDate,
+                                                                          RetrieveImmediateBillingsFilter filter) {
+        if (immediateBillingClient == null) {
+            immediateBillingClient = new ImmediateBillingClient();
+        }
+        return immediateBillingClient.streamImmediateBillingInRange(config, initialDate, finalDate, filter);
+    }
+
     /**
      * Retrieves a paginated list of immediate billing entries for a specified period, optionally filtered.
      *
@@ -375,6 +483,23 @@ public class PixSdk {
         return locationClient.retrieveLocationInRange(config, initialDate, finalDate, filter);
     }
 
+    /**
+     * Streams the locations for a specified period, optionally filtered.
+     * The pages are fetched as the stream is consumed, see {@link Config#getPagePrefetch()}.
+     *
+     * @param initialDate The starting date for the retrieval of locations. Format: YYYY-MM-DD.
+     * @param finalDate   The ending date for the retrieval of locations. Format: YYYY-MM-DD.
+     * @param filter      The filter criteria for retrieving the locations.
+     * @return A lazy stream of Location objects containing the details of the retrieved locations.
+     */
+    public Stream<Location> streamLocationsList(String initialDate, String finalDate,
+                                                RetrieveLocationFilter filter) {
+        if (locationClient == null) {
+            locationClient = new LocationClient();
+        }
+        return locationClient.streamLocationInRange(config, initialDate, finalDate, filter);
+    }
+
     /**
      * Retrieves a paginated list of locations for a specified period, optionally filtered.
      *
@@ -456,6 +581,41 @@ public class PixSdk {
         return pixClient.retrievePixInRange(config, initialDate, finalDate, filter);
     }
 
+    /**
+     * Retrieves the PIX transactions for a specified period, splitting the period into windows of days
+     * retrieved in parallel, see {@link Config#getShardPolicy()}. Suited to long periods; the PIX transactions
+     * are returned in chronological order, without duplicates by endToEndId.
+     *
+     * @param initialDate The starting date of the period. Format: YYYY-MM-DD.
+     * @param finalDate   The ending date of the period. Format: YYYY-MM-DD.
+     * @param filter      The filter criteria for retrieving the PIX transactions.
+     * @return A list of Pix objects containing the retrieved PIX transactions.
+     * @throws SdkException if an error occurs during the retrieval process.
+     */
+    public List<Pix> retrievePixListSharded(String initialDate, String finalDate, RetrievedPixFilter filter) throws SdkException {
+        if (pixClient == null) {
+            pixClient = new PixClient();
+        }
+        return pixClient.retrievePixInRangeSharded(config, initialDate, finalDate, filter);
+    }
+
+    /**
+     * Streams the PIX transactions for a specified period, optionally filtered.
+     * The pages are fetched as the stream is consumed, see {@link Config#getPagePrefetch()}.
+     *
+     * @param initialDate The starting date for the retrieval of PIX transactions. Format: YYYY-MM-DD.
+     * @param finalDate   The ending date for the retrieval of PIX transactions. Format: YYYY-MM-DD.
+     * @param filter      The filter criteria for retrieving the PIX transactions.
+     * @return A lazy stream of Pix objects containing the details of the retrieved PIX transactions.
+     */
+    public Stream<Pix> streamPixList(String initialDate, String finalDate,
+                                     RetrievedPixFilter filter) {
+        if (pixClient == null) {
+            pixClient = new PixClient();
+        }
+        return pixClient.streamPixInRange(config, initialDate, finalDate, filter);
+    }
+
     /**
      * Retrieves a paginated list of PIX transactions for a specified period, optionally filtered.
      *
@@ -506,6 +666,23 @@ public class PixSdk {
         return pixWebhookSdk.retrieveCallbackInRange(config, initialDateHour, finalDateHour, filter);
     }
 
+    /**
+     * Streams the callback responses for a specified period, optionally filtered.
+     * The pages are fetched as the stream is consumed, see {@link Config#getPagePrefetch()}.
+     *
+     * @param initialDateHour The starting date and hour for the retrieval of callbacks. Format: YYYY-MM-DD HH:mm.
+     * @param finalDateHour   The ending date and hour for the retrieval of callbacks. Format: YYYY-MM-DD HH:mm.
+     * @param filter          The filter criteria for retrieving the callback responses.
+     * @return A lazy stream of RetrieveCallbackResponse objects containing the details of the retrieved callbacks.
+     */
+    public Stream<RetrieveCallbackResponse> streamCallbacks(String initialDateHour, String finalDateHour,
+                                                            CallbackRetrieveFilter filter) {
+        if (pixWebhookSdk == null) {
+            pixWebhookSdk = new PixWebhookSdk();
+        }
+        return pixWebhookSdk.streamCallbackInRange(config, initialDateHour, finalDateHour, filter);
+    }
+
     /**
      * Retrieves a paginated list of callback responses for a specified period, optionally filtered.
      *
@@ -1,10 +1,13 @@
 package inter.sdk.pix.duebilling;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import inter.sdk.commons.exceptions.SdkException;
 import inter.sdk.commons.models.Config;
 import inter.sdk.commons.models.Error;
+import inter.sdk.commons.utils.AsyncHttpUtils;
 import inter.sdk.commons.utils.HttpUtils;
+import inter.sdk.commons.utils.JsonUtils;
+import inter.sdk.commons.utils.PageUtils;
+import inter.sdk.commons.utils.ShardUtils;
 import inter.sdk.commons.utils.UrlUtils;
 import inter.sdk.pix.models.DetailedDuePixBilling;
 import inter.sdk.pix.models.DueBilling;
@@ -16,6 +19,8 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import static inter.sdk.commons.structures.Constants.CERTIFICATE_EXCEPTION_MESSAGE;
 import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
@@ -44,9 +49,9 @@ public class DueBillingClient {
         log.info("IncludeDueBilling {} {}", config.getClientId(), txid);
         String url = UrlUtils.buildUrl(config, URL_PIX_SCHEDULED_BILLINGS) + "/" + txid;
         try {
-            String json = new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(billing);
+            String json = JsonUtils.writeValueAsString(billing);
             json = HttpUtils.callPut(config, url, PIX_SCHEDULED_BILLING_WRITE_SCOPE, "Error including due billing", json);
-            return new ObjectMapper().readValue(json, GeneratedDueBilling.class);
+            return JsonUtils.readValue(json, GeneratedDueBilling.class);
         } catch (IOException ioException) {
             log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
             throw new SdkException(
@@ -59,6 +64,21 @@ public class DueBillingClient {
         }
     }
 
+    /**
+     * Includes a due billing asynchronously.
+     *
+     * @param config  The configuration object containing client information.
+     * @param txid    The transaction ID associated with the due billing.
+     * @param billing The {@link DueBilling} object containing the billing details to be included.
+     * @return A {@link CompletableFuture} completed with the {@link GeneratedDueBilling}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<GeneratedDueBilling> includeDueBillingAsync(Config config, String txid, DueBilling billing) {
+        log.info("IncludeDueBilling {} {}", config.getClientId(), txid);
+        String url = UrlUtils.buildUrl(config, URL_PIX_SCHEDULED_BILLINGS) + "/" + txid;
+        return AsyncHttpUtils.callPut(config, url, PIX_SCHEDULED_BILLING_WRITE_SCOPE, "Error including due billing", billing)
+                .thenApply(json -> AsyncHttpUtils.readValue(json, GeneratedDueBilling.class));
+    }
+
     /**
      * Retrieves detailed information about a scheduled Pix billing using the provided transaction ID.
      *
@@ -71,19 +91,20 @@ public class DueBillingClient {
     public DetailedDuePixBilling retrieveDueBilling(Config config, String txid) throws SdkException {
         log.info("RetrieveDueBilling {} txId={}", config.getClientId(), txid);
         String url = UrlUtils.buildUrl(config, URL_PIX_SCHEDULED_BILLINGS) + "/" + txid;
-        String json = HttpUtils.callGet(config, url, PIX_SCHEDULED_BILLING_READ_SCOPE, "Error retrieving due billing");
-        try {
-            return new ObjectMapper().readValue(json, DetailedDuePixBilling.class);
-        } catch (IOException ioException) {
-            log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
-            throw new SdkException(
-                    ioException.getMessage(),
-                    Error.builder()
-                            .title(CERTIFICATE_EXCEPTION_MESSAGE)
-                            .detail(ioException.getMessage())
-                            .build()
-            );
-        }
+        return HttpUtils.callGet(config, url, PIX_SCHEDULED_BILLING_READ_SCOPE, "Error retrieving due billing", DetailedDuePixBilling.class);
+    }
+
+    /**
+     * Retrieves the details of a due billing asynchronously.
+     *
+     * @param config The configuration object containing client information.
+     * @param txid   The transaction ID associated with the scheduled Pix billing.
+     * @return A {@link CompletableFuture} completed with the {@link DetailedDuePixBilling}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<DetailedDuePixBilling> retrieveDueBillingAsync(Config config, String txid) {
+        log.info("RetrieveDueBilling {} txId={}", config.getClientId(), txid);
+        String url = UrlUtils.buildUrl(config, URL_PIX_SCHEDULED_BILLINGS) + "/" + txid;
+        return AsyncHttpUtils.callGet(config, url, PIX_SCHEDULED_BILLING_READ_SCOPE, "Error retrieving due billing", DetailedDuePixBilling.class);
     }
 
     /**
@@ -104,6 +125,22 @@ public class DueBillingClient {
         return getPage(config, initialDate, finalDate, page, pageSize, filter);
     }
 
+    /**
+     * Retrieves a page of due billings asynchronously.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive).
+     * @param finalDate   The end date for the retrieval range (inclusive).
+     * @param page        The page number to retrieve.
+     * @param pageSize    The number of items per page (optional).
+     * @param filter      Optional filters to be applied during retrieval.
+     * @return A {@link CompletableFuture} completed with the {@link DueBillingPage}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<DueBillingPage> retrieveDueBillingPageAsync(Config config, String initialDate, String finalDate, int page, Integer pageSize, RetrieveDueBillingFilter filter) {
+        log.info("RetrieveDueBillingList {} {}-{} page={}", config.getClientId(), initialDate, finalDate, page);
+        return getPageAsync(config, initialDate, finalDate, page, pageSize, filter);
+    }
+
     /**
      * Retrieves all scheduled Pix billings within a specified date range and applies the given filters.
      *
@@ -117,6 +154,13 @@ public class DueBillingClient {
      */
     public List<DetailedDuePixBilling> retrieveDuePixBillingInRange(Config config, String initialDate, String finalDate, RetrieveDueBillingFilter filter) throws SdkException {
         log.info("RetrieveDueBillingList {} {}-{}", config.getClientId(), initialDate, finalDate);
+        if (config.getPageConcurrency() > 1) {
+            return AsyncHttpUtils.join(AsyncHttpUtils.collectPages(
+                    page -> getPageAsync(config, initialDate, finalDate, page, null, filter),
+                    DueBillingPage::getTotalPages,
+                    DueBillingPage::getDueBillings,
+                    config.getPageConcurrency()));
+        }
         int page = 0;
         DueBillingPage dueBillingPage;
         List<DetailedDuePixBilling> billings = new ArrayList<>();
@@ -128,6 +172,81 @@ public class DueBillingClient {
         return billings;
     }
 
+    /**
+     * Retrieves all due billings within the specified date range asynchronously.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive).
+     * @param finalDate   The end date for the retrieval range (inclusive).
+     * @param filter      Optional filters to be applied during retrieval.
+     * @return A {@link CompletableFuture} completed with all retrieved {@link DetailedDuePixBilling} billings, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<List<DetailedDuePixBilling>> retrieveDuePixBillingInRangeAsync(Config config, String initialDate, String finalDate, RetrieveDueBillingFilter filter) {
+        log.info("RetrieveDueBillingList {} {}-{}", config.getClientId(), initialDate, finalDate);
+        return AsyncHttpUtils.collectPages(
+                page -> getPageAsync(config, initialDate, finalDate, page, null, filter),
+                DueBillingPage::getTotalPages,
+                DueBillingPage::getDueBillings,
+                config.getPageConcurrency());
+    }
+
+    /**
+     * Streams all due billings within the specified date range, fetching the pages as the stream is consumed.
+     * Up to {@link Config#getPagePrefetch()} pages are requested ahead; errors are thrown when the stream
+     * reaches the failed page, as a {@link java.util.concurrent.CompletionException} wrapping the {@link SdkException}.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive).
+     * @param finalDate   The end date for the retrieval range (inclusive).
+     * @param filter      Optional filters to be applied during retrieval.
+     * @return A lazy {@link Stream} of all retrieved {@link DetailedDuePixBilling} billings, in page order.
+     */
+    public Stream<DetailedDuePixBilling> streamDuePixBillingInRange(Config config, String initialDate, String finalDate, RetrieveDueBillingFilter filter) {
+        log.info("RetrieveDueBillingList {} {}-{}", config.getClientId(), initialDate, finalDate);
+        return PageUtils.stream(
+                page -> getPageAsync(config, initialDate, finalDate, page, null, filter),
+                DueBillingPage::getTotalPages,
+                DueBillingPage::getDueBillings,
+                config.getPagePrefetch());
+    }
+
+    /**
+     * Retrieves all due billings within the specified date range, splitting the range into windows of days
+     * according to {@link Config#getShardPolicy()} and retrieving the windows in parallel. The due billings
+     * are returned in chronological order of the windows, without duplicates by their {@code txid}.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive). Format: YYYY-MM-DD.
+     * @param finalDate   The end date for the retrieval range (inclusive). Format: YYYY-MM-DD.
+     * @param filter      Optional filters to be applied during retrieval.
+     * @return A list of all retrieved {@link DetailedDuePixBilling} due billings.
+     * @throws SdkException If there is an error during the retrieval process, such as network issues
+     *                      or API response errors.
+     */
+    public List<DetailedDuePixBilling> retrieveDuePixBillingInRangeSharded(Config config, String initialDate, String finalDate, RetrieveDueBillingFilter filter) throws SdkException {
+        return AsyncHttpUtils.join(retrieveDuePixBillingInRangeShardedAsync(config, initialDate, finalDate, filter));
+    }
+
+    /**
+     * Retrieves all due billings within the specified date range asynchronously, splitting the range into windows
+     * of days according to {@link Config#getShardPolicy()} and retrieving the windows in parallel. The due billings
+     * are returned in chronological order of the windows, without duplicates by their {@code txid}.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive). Format: YYYY-MM-DD.
+     * @param finalDate   The end date for the retrieval range (inclusive). Format: YYYY-MM-DD.
+     * @param filter      Optional filters to be applied during retrieval.
+     * @return A {@link CompletableFuture} completed with all retrieved {@link DetailedDuePixBilling} due billings, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<List<DetailedDuePixBilling>> retrieveDuePixBillingInRangeShardedAsync(Config config, String initialDate, String finalDate, RetrieveDueBillingFilter filter) {
+        log.info("RetrieveDueBillingList {} {}-{} sharded", config.getClientId(), initialDate, finalDate);
+        return ShardUtils.collectByDay(config, initialDate, finalDate,
+                (windowInitialDate, windowFinalDate, page) -> getPageAsync(config, windowInitialDate, windowFinalDate, page, null, filter),
+                DueBillingPage::getTotalPages,
+                DueBillingPage::getDueBillings,
+                DetailedDuePixBilling::getTxid);
+    }
+
     /**
      * Reviews a scheduled Pix billing entry based on the specified transaction ID.
      *
@@ -142,9 +261,9 @@ public class DueBillingClient {
         log.info("ReviewDueBilling {} {}", config.getClientId(), txid);
         try {
             String url = UrlUtils.buildUrl(config, URL_PIX_SCHEDULED_BILLINGS) + "/" + txid;
-            String json = new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(billing);
+            String json = JsonUtils.writeValueAsString(billing);
             json = HttpUtils.callPatch(config, url, PIX_SCHEDULED_BILLING_WRITE_SCOPE, "Error retrieving due billing", json);
-            return new ObjectMapper().readValue(json, GeneratedDueBilling.class);
+            return JsonUtils.readValue(json, GeneratedDueBilling.class);
         } catch (IOException ioException) {
             log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
             throw new SdkException(
@@ -157,6 +276,21 @@ public class DueBillingClient {
         }
     }
 
+    /**
+     * Reviews a due billing asynchronously.
+     *
+     * @param config  The configuration object containing client information.
+     * @param txid    The transaction ID associated with the due billing to be reviewed.
+     * @param billing The {@link DueBilling} object containing the updated billing details.
+     * @return A {@link CompletableFuture} completed with the {@link GeneratedDueBilling}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<GeneratedDueBilling> reviewDueBillingAsync(Config config, String txid, DueBilling billing) {
+        log.info("ReviewDueBilling {} {}", config.getClientId(), txid);
+        String url = UrlUtils.buildUrl(config, URL_PIX_SCHEDULED_BILLINGS) + "/" + txid;
+        return AsyncHttpUtils.callPatch(config, url, PIX_SCHEDULED_BILLING_WRITE_SCOPE, "Error retrieving due billing", billing)
+                .thenApply(json -> AsyncHttpUtils.readValue(json, GeneratedDueBilling.class));
+    }
+
     /**
      * Retrieves a specific page of scheduled Pix billings based on the provided criteria.
      *
@@ -171,26 +305,45 @@ public class DueBillingClient {
      *                      or API response errors.
      */
     private DueBillingPage getPage(Config config, String initialDate, String finalDate, int page, Integer pageSize, RetrieveDueBillingFilter filter) throws SdkException {
-        String url = UrlUtils.buildUrl(config, URL_PIX_SCHEDULED_BILLINGS)
+        String url = pageUrl(config, initialDate, finalDate, page, pageSize, filter);
+
+        return HttpUtils.callGet(config, url, PIX_SCHEDULED_BILLING_READ_SCOPE, "Error retrieving due billing", DueBillingPage.class);
+    }
+
+    /**
+     * Retrieves a specific page of due billings asynchronously.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive).
+     * @param finalDate   The end date for the retrieval range (inclusive).
+     * @param page        The page number to retrieve.
+     * @param pageSize    The number of items per page (optional).
+     * @param filter      Optional filters to be applied during retrieval.
+     * @return A {@link CompletableFuture} completed with the {@link DueBillingPage}.
+     */
+    private CompletableFuture<DueBillingPage> getPageAsync(Config config, String initialDate, String finalDate, int page, Integer pageSize, RetrieveDueBillingFilter filter) {
+        String url = pageUrl(config, initialDate, finalDate, page, pageSize, filter);
+        return AsyncHttpUtils.callGet(config, url, PIX_SCHEDULED_BILLING_READ_SCOPE, "Error retrieving due billing", DueBillingPage.class);
+    }
+
+    /**
+     * Builds the URL of a page of due billings.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive).
+     * @param finalDate   The end date for the retrieval range (inclusive).
+     * @param page        The page number to retrieve.
+     * @param pageSize    The number of items per page (optional).
+     * @param filter      Optional filters to be applied during retrieval.
+     * @return The URL of the page.
+     */
+    private String pageUrl(Config config, String initialDate, String finalDate, int page, Integer pageSize, RetrieveDueBillingFilter filter) {
+        return UrlUtils.buildUrl(config, URL_PIX_SCHEDULED_BILLINGS)
                 + "?inicio="
                 + initialDate + "&fim=" + finalDate
                 + "&paginacao.paginaAtual=" + page
                 + (pageSize != null ? "&paginacao.itensPorPagina=" + pageSize : "")
                 + addfilters(filter);
-
-        String json = HttpUtils.callGet(config, url, PIX_SCHEDULED_BILLING_READ_SCOPE, "Error retrieving due billing");
-        try {
-            return new ObjectMapper().readValue(json, DueBillingPage.class);
-        } catch (IOException ioException) {
-            log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
-            throw new SdkException(
-                    ioException.getMessage(),
-                    Error.builder()
-                            .title(CERTIFICATE_EXCEPTION_MESSAGE)
-                            .detail(ioException.getMessage())
-                            .build()
-            );
-        }
     }
 
     /**
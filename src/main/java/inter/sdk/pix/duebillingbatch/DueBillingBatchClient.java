@@ -1,10 +1,14 @@
 package inter.sdk.pix.duebillingbatch;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import inter.sdk.commons.exceptions.SdkException;
+import inter.sdk.commons.models.BatchPolicy;
 import inter.sdk.commons.models.Config;
 import inter.sdk.commons.models.Error;
+import inter.sdk.commons.utils.AsyncHttpUtils;
 import inter.sdk.commons.utils.HttpUtils;
+import inter.sdk.commons.utils.JsonUtils;
+import inter.sdk.commons.utils.PageUtils;
+import inter.sdk.commons.utils.PollingUtils;
 import inter.sdk.commons.utils.UrlUtils;
 import inter.sdk.pix.models.DueBillingBatch;
 import inter.sdk.pix.models.DueBillingBatchPage;
@@ -15,11 +19,14 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import static inter.sdk.commons.structures.Constants.CERTIFICATE_EXCEPTION_MESSAGE;
 import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
 import static inter.sdk.commons.structures.Constants.PIX_SCHEDULED_BILLING_BATCH_READ_SCOPE;
 import static inter.sdk.commons.structures.Constants.PIX_SCHEDULED_BILLING_BATCH_WRITE_SCOPE;
+import static inter.sdk.commons.structures.Constants.POLL_DUE_BILLING_BATCH;
 import static inter.sdk.commons.structures.Constants.URL_PIX_SCHEDULED_BILLINGS_BATCH;
 
 /**
@@ -28,6 +35,19 @@ import static inter.sdk.commons.structures.Constants.URL_PIX_SCHEDULED_BILLINGS_
  */
 @Slf4j
 public class DueBillingBatchClient {
+    private static final PollingUtils.StatusReader<DueBillingBatchSummary> SUMMARY_STATUS = new PollingUtils.StatusReader<DueBillingBatchSummary>() {
+        @Override
+        public boolean isDone(DueBillingBatchSummary summary) {
+            return summary.getTotalBilling() != null && processed(summary) >= summary.getTotalBilling();
+        }
+
+        @Override
+        public Double progress(DueBillingBatchSummary summary) {
+            return summary.getTotalBilling() != null && summary.getTotalBilling() > 0
+                    ? (double) processed(summary) / summary.getTotalBilling() : null;
+        }
+    };
+
     /**
      * Includes a batch request for due billing based on the provided configuration,
      * batch ID, and request details.
@@ -43,7 +63,7 @@ public class DueBillingBatchClient {
         log.info("IncludeDueBillingBatch {} {}", config.getClientId(), request);
         String url = UrlUtils.buildUrl(config, URL_PIX_SCHEDULED_BILLINGS_BATCH) + "/" + id;
         try {
-            String json = new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(request);
+            String json = JsonUtils.writeValueAsString(request);
             HttpUtils.callPut(config, url, PIX_SCHEDULED_BILLING_BATCH_WRITE_SCOPE, "Error including due billing in batch", json);
         } catch (IOException ioException) {
             log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
@@ -57,6 +77,37 @@ public class DueBillingBatchClient {
         }
     }
 
+    /**
+     * Includes a batch of due billings asynchronously.
+     *
+     * @param config  The configuration object containing client information.
+     * @param id      The unique identifier for the batch of due billings to be included.
+     * @param request The {@link IncludeDueBillingBatchRequest} object containing the details
+     *                of the due billing batch request to be included.
+     * @return A {@link CompletableFuture} completed with {@code null} once the batch is included, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<Void> includeDueBillingBatchAsync(Config config, String id, IncludeDueBillingBatchRequest request) {
+        log.info("IncludeDueBillingBatch {} {}", config.getClientId(), request);
+        String url = UrlUtils.buildUrl(config, URL_PIX_SCHEDULED_BILLINGS_BATCH) + "/" + id;
+        return AsyncHttpUtils.callPut(config, url, PIX_SCHEDULED_BILLING_BATCH_WRITE_SCOPE, "Error including due billing in batch", request)
+                .thenApply(json -> null);
+    }
+
+    /**
+     * Includes a batch of due billings whose request was already serialized, asynchronously.
+     *
+     * @param config  The configuration object containing client information.
+     * @param id      The unique identifier for the batch of due billings to be included.
+     * @param request The {@link IncludeDueBillingBatchRequest} serialized as UTF-8 JSON.
+     * @return A {@link CompletableFuture} completed with {@code null} once the batch is included, or exceptionally with a {@link SdkException}.
+     */
+    CompletableFuture<Void> includeDueBillingBatchAsync(Config config, String id, byte[] request) {
+        log.info("IncludeDueBillingBatch {} {} {} bytes", config.getClientId(), id, request.length);
+        String url = UrlUtils.buildUrl(config, URL_PIX_SCHEDULED_BILLINGS_BATCH) + "/" + id;
+        return AsyncHttpUtils.callPutJson(config, url, PIX_SCHEDULED_BILLING_BATCH_WRITE_SCOPE, "Error including due billing in batch", request)
+                .thenApply(json -> null);
+    }
+
     /**
      * Retrieves a due billing batch based on the provided configuration and batch ID.
      *
@@ -69,19 +120,20 @@ public class DueBillingBatchClient {
     public DueBillingBatch retrieveDueBillingBatch(Config config, String id) throws SdkException {
         log.info("RetrieveDueBillingBatch {} id={}", config.getClientId(), id);
         String url = UrlUtils.buildUrl(config, URL_PIX_SCHEDULED_BILLINGS_BATCH) + "/" + id;
-        String json = HttpUtils.callGet(config, url, PIX_SCHEDULED_BILLING_BATCH_READ_SCOPE, "Error retrieving due billing batch");
-        try {
-            return new ObjectMapper().readValue(json, DueBillingBatch.class);
-        } catch (IOException ioException) {
-            log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
-            throw new SdkException(
-                    ioException.getMessage(),
-                    Error.builder()
-                            .title(CERTIFICATE_EXCEPTION_MESSAGE)
-                            .detail(ioException.getMessage())
-                            .build()
-            );
-        }
+        return HttpUtils.callGet(config, url, PIX_SCHEDULED_BILLING_BATCH_READ_SCOPE, "Error retrieving due billing batch", DueBillingBatch.class);
+    }
+
+    /**
+     * Retrieves a batch of due billings asynchronously.
+     *
+     * @param config The configuration object containing client information.
+     * @param id     The unique identifier for the due billing batch to be retrieved.
+     * @return A {@link CompletableFuture} completed with the {@link DueBillingBatch}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<DueBillingBatch> retrieveDueBillingBatchAsync(Config config, String id) {
+        log.info("RetrieveDueBillingBatch {} id={}", config.getClientId(), id);
+        String url = UrlUtils.buildUrl(config, URL_PIX_SCHEDULED_BILLINGS_BATCH) + "/" + id;
+        return AsyncHttpUtils.callGet(config, url, PIX_SCHEDULED_BILLING_BATCH_READ_SCOPE, "Error retrieving due billing batch", DueBillingBatch.class);
     }
 
     /**
@@ -101,6 +153,21 @@ public class DueBillingBatchClient {
         return getPage(config, initialDate, finalDate, page, pageSize);
     }
 
+    /**
+     * Retrieves a page of due billing batches asynchronously.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive).
+     * @param finalDate   The end date for the retrieval range (inclusive).
+     * @param page        The page number to retrieve.
+     * @param pageSize    The number of items per page (optional).
+     * @return A {@link CompletableFuture} completed with the {@link DueBillingBatchPage}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<DueBillingBatchPage> retrieveDueBillingBatchPageAsync(Config config, String initialDate, String finalDate, int page, Integer pageSize) {
+        log.info("RetrieveDueBillingBatchList {} {}-{} page={}", config.getClientId(), initialDate, finalDate, page);
+        return getPageAsync(config, initialDate, finalDate, page, pageSize);
+    }
+
     /**
      * Retrieves all due billing batches within the specified date range.
      *
@@ -113,6 +180,13 @@ public class DueBillingBatchClient {
      */
     public List<DueBillingBatch> retrieveDueBillingBatchInRange(Config config, String initialDate, String finalDate) throws SdkException {
         log.info("RetrieveDueBillingBatchList {} {}-{}", config.getClientId(), initialDate, finalDate);
+        if (config.getPageConcurrency() > 1) {
+            return AsyncHttpUtils.join(AsyncHttpUtils.collectPages(
+                    page -> getPageAsync(config, initialDate, finalDate, page, null),
+                    DueBillingBatchPage::getTotalPages,
+                    DueBillingBatchPage::getBatches,
+                    config.getPageConcurrency()));
+        }
         int page = 0;
         DueBillingBatchPage dueBillingPage;
         List<DueBillingBatch> batches = new ArrayList<>();
@@ -124,6 +198,42 @@ public class DueBillingBatchClient {
         return batches;
     }
 
+    /**
+     * Retrieves all due billing batches within the specified date range asynchronously.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive).
+     * @param finalDate   The end date for the retrieval range (inclusive).
+     * @return A {@link CompletableFuture} completed with all retrieved {@link DueBillingBatch} batches, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<List<DueBillingBatch>> retrieveDueBillingBatchInRangeAsync(Config config, String initialDate, String finalDate) {
+        log.info("RetrieveDueBillingBatchList {} {}-{}", config.getClientId(), initialDate, finalDate);
+        return AsyncHttpUtils.collectPages(
+                page -> getPageAsync(config, initialDate, finalDate, page, null),
+                DueBillingBatchPage::getTotalPages,
+                DueBillingBatchPage::getBatches,
+                config.getPageConcurrency());
+    }
+
+    /**
+     * Streams all due billing batches within the specified date range, fetching the pages as the stream is consumed.
+     * Up to {@link Config#getPagePrefetch()} pages are requested ahead; errors are thrown when the stream
+     * reaches the failed page, as a {@link java.util.concurrent.CompletionException} wrapping the {@link SdkException}.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive).
+     * @param finalDate   The end date for the retrieval range (inclusive).
+     * @return A lazy {@link Stream} of all retrieved {@link DueBillingBatch} batches, in page order.
+     */
+    public Stream<DueBillingBatch> streamDueBillingBatchInRange(Config config, String initialDate, String finalDate) {
+        log.info("RetrieveDueBillingBatchList {} {}-{}", config.getClientId(), initialDate, finalDate);
+        return PageUtils.stream(
+                page -> getPageAsync(config, initialDate, finalDate, page, null),
+                DueBillingBatchPage::getTotalPages,
+                DueBillingBatchPage::getBatches,
+                config.getPagePrefetch());
+    }
+
     /**
      * Reviews a due billing batch based on the provided configuration, batch ID, and review request details.
      *
@@ -137,7 +247,7 @@ public class DueBillingBatchClient {
         log.info("IncludeDueBillingBatch {} {}", config.getClientId(), request);
         String url = UrlUtils.buildUrl(config, URL_PIX_SCHEDULED_BILLINGS_BATCH) + "/" + id;
         try {
-            String json = new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(request);
+            String json = JsonUtils.writeValueAsString(request);
             HttpUtils.callPatch(config, url, PIX_SCHEDULED_BILLING_BATCH_WRITE_SCOPE, "Error reviewing due billing in batch", json);
         } catch (IOException ioException) {
             log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
@@ -151,6 +261,21 @@ public class DueBillingBatchClient {
         }
     }
 
+    /**
+     * Reviews a batch of due billings asynchronously.
+     *
+     * @param config  The configuration object containing client information.
+     * @param id      The unique identifier for the due billing batch to be reviewed.
+     * @param request The {@link IncludeDueBillingBatchRequest} object containing the details to update the review.
+     * @return A {@link CompletableFuture} completed with {@code null} once the batch is reviewed, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<Void> reviewDueBillingBatchAsync(Config config, String id, IncludeDueBillingBatchRequest request) {
+        log.info("IncludeDueBillingBatch {} {}", config.getClientId(), request);
+        String url = UrlUtils.buildUrl(config, URL_PIX_SCHEDULED_BILLINGS_BATCH) + "/" + id;
+        return AsyncHttpUtils.callPatch(config, url, PIX_SCHEDULED_BILLING_BATCH_WRITE_SCOPE, "Error reviewing due billing in batch", request)
+                .thenApply(json -> null);
+    }
+
     /**
      * Retrieves the summary of a due billing batch based on the provided configuration and batch ID.
      *
@@ -163,19 +288,20 @@ public class DueBillingBatchClient {
     public DueBillingBatchSummary retrieveDueBillingBatchSummary(Config config, String id) throws SdkException {
         log.info("RetrieveDueBillingBatch {} id={}", config.getClientId(), id);
         String url = UrlUtils.buildUrl(config, URL_PIX_SCHEDULED_BILLINGS_BATCH) + "/" + id + "/sumario";
-        String json = HttpUtils.callGet(config, url, PIX_SCHEDULED_BILLING_BATCH_READ_SCOPE, "Error retrieving due billing batch summary");
-        try {
-            return new ObjectMapper().readValue(json, DueBillingBatchSummary.class);
-        } catch (IOException ioException) {
-            log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
-            throw new SdkException(
-                    ioException.getMessage(),
-                    Error.builder()
-                            .title(CERTIFICATE_EXCEPTION_MESSAGE)
-                            .detail(ioException.getMessage())
-                            .build()
-            );
-        }
+        return HttpUtils.callGet(config, url, PIX_SCHEDULED_BILLING_BATCH_READ_SCOPE, "Error retrieving due billing batch summary", DueBillingBatchSummary.class);
+    }
+
+    /**
+     * Retrieves the summary of a batch of due billings asynchronously.
+     *
+     * @param config The configuration object containing client information.
+     * @param id     The unique identifier for the due billing batch to be retrieved.
+     * @return A {@link CompletableFuture} completed with the {@link DueBillingBatchSummary}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<DueBillingBatchSummary> retrieveDueBillingBatchSummaryAsync(Config config, String id) {
+        log.info("RetrieveDueBillingBatch {} id={}", config.getClientId(), id);
+        String url = UrlUtils.buildUrl(config, URL_PIX_SCHEDULED_BILLINGS_BATCH) + "/" + id + "/sumario";
+        return AsyncHttpUtils.callGet(config, url, PIX_SCHEDULED_BILLING_BATCH_READ_SCOPE, "Error retrieving due billing batch summary", DueBillingBatchSummary.class);
     }
 
     /**
@@ -195,19 +321,47 @@ public class DueBillingBatchClient {
     public DueBillingBatch retrieveDueBillingBatchBySituation(Config config, String id, String situation) throws SdkException {
         log.info("RetrieveDueBillingBatchSituation {} id={}", config.getClientId(), id);
         String url = UrlUtils.buildUrl(config, URL_PIX_SCHEDULED_BILLINGS_BATCH) + "/" + id + "/situacao/" + situation;
-        String json = HttpUtils.callGet(config, url, PIX_SCHEDULED_BILLING_BATCH_READ_SCOPE, "Error retrieving due billing batch by situation");
-        try {
-            return new ObjectMapper().readValue(json, DueBillingBatch.class);
-        } catch (IOException ioException) {
-            log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
-            throw new SdkException(
-                    ioException.getMessage(),
-                    Error.builder()
-                            .title(CERTIFICATE_EXCEPTION_MESSAGE).
-                            detail(ioException.getMessage())
-                            .build()
-            );
-        }
+        return HttpUtils.callGet(config, url, PIX_SCHEDULED_BILLING_BATCH_READ_SCOPE, "Error retrieving due billing batch by situation", DueBillingBatch.class);
+    }
+
+    /**
+     * Retrieves the due billings of a batch in a given situation asynchronously.
+     *
+     * @param config    The configuration object containing client information for making the request.
+     * @param id        The unique identifier of the due billing batch to retrieve.
+     * @param situation The situation status to filter the due billing batch.
+     * @return A {@link CompletableFuture} completed with the {@link DueBillingBatch}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<DueBillingBatch> retrieveDueBillingBatchBySituationAsync(Config config, String id, String situation) {
+        log.info("RetrieveDueBillingBatchSituation {} id={}", config.getClientId(), id);
+        String url = UrlUtils.buildUrl(config, URL_PIX_SCHEDULED_BILLINGS_BATCH) + "/" + id + "/situacao/" + situation;
+        return AsyncHttpUtils.callGet(config, url, PIX_SCHEDULED_BILLING_BATCH_READ_SCOPE, "Error retrieving due billing batch by situation", DueBillingBatch.class);
+    }
+
+    /**
+     * Follows a batch of due billings until all its billings are either created or denied, polling
+     * its summary on the shared scheduler at intervals adapted to its progress and to the observed
+     * processing times, see {@link PollingUtils}.
+     *
+     * @param config The configuration object containing client information.
+     * @param id     The unique identifier of the due billing batch.
+     * @param policy The bounds of the poll intervals and the timeout.
+     * @return A {@link CompletableFuture} completed with the final {@link DueBillingBatchSummary}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<DueBillingBatchSummary> trackDueBillingBatch(Config config, String id, BatchPolicy policy) {
+        log.info("TrackDueBillingBatch {} id={}", config.getClientId(), id);
+        return PollingUtils.track(config, POLL_DUE_BILLING_BATCH, id, () -> retrieveDueBillingBatchSummaryAsync(config, id), SUMMARY_STATUS, policy);
+    }
+
+    /**
+     * Returns the number of billings of a batch already created or denied.
+     *
+     * @param summary The summary of the batch.
+     * @return The number of processed billings.
+     */
+    private static int processed(DueBillingBatchSummary summary) {
+        return (summary.getTotalBillingCreated() != null ? summary.getTotalBillingCreated() : 0)
+                + (summary.getTotalBillingDenied() != null ? summary.getTotalBillingDenied() : 0);
     }
 
 
@@ -224,21 +378,38 @@ public class DueBillingBatchClient {
      *                      or API response errors.
      */
     private DueBillingBatchPage getPage(Config config, String initialDate, String finalDate, int page, Integer pageSize) throws SdkException {
-        String url = UrlUtils.buildUrl(config, URL_PIX_SCHEDULED_BILLINGS_BATCH) + "?inicio=" + initialDate + "&fim=" + finalDate
+        String url = pageUrl(config, initialDate, finalDate, page, pageSize);
+        return HttpUtils.callGet(config, url, PIX_SCHEDULED_BILLING_BATCH_READ_SCOPE, "Error retrieving due billing batch", DueBillingBatchPage.class);
+    }
+
+    /**
+     * Retrieves a specific page of due billing batches asynchronously.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive).
+     * @param finalDate   The end date for the retrieval range (inclusive).
+     * @param page        The page number to retrieve.
+     * @param pageSize    The number of items per page (optional).
+     * @return A {@link CompletableFuture} completed with the {@link DueBillingBatchPage}.
+     */
+    private CompletableFuture<DueBillingBatchPage> getPageAsync(Config config, String initialDate, String finalDate, int page, Integer pageSize) {
+        String url = pageUrl(config, initialDate, finalDate, page, pageSize);
+        return AsyncHttpUtils.callGet(config, url, PIX_SCHEDULED_BILLING_BATCH_READ_SCOPE, "Error retrieving due billing batch", DueBillingBatchPage.class);
+    }
+
+    /**
+     * Builds the URL of a page of due billing batches.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive).
+     * @param finalDate   The end date for the retrieval range (inclusive).
+     * @param page        The page number to retrieve.
+     * @param pageSize    The number of items per page (optional).
+     * @return The URL of the page.
+     */
+    private String pageUrl(Config config, String initialDate, String finalDate, int page, Integer pageSize) {
+        return UrlUtils.buildUrl(config, URL_PIX_SCHEDULED_BILLINGS_BATCH) + "?inicio=" + initialDate + "&fim=" + finalDate
                 + "&paginacao.paginaAtual=" + page
                 + (pageSize != null ? "&paginacao.itensPorPagina=" + pageSize : "");
-        String json = HttpUtils.callGet(config, url, PIX_SCHEDULED_BILLING_BATCH_READ_SCOPE, "Error retrieving due billing batch");
-        try {
-            return new ObjectMapper().readValue(json, DueBillingBatchPage.class);
-        } catch (IOException ioException) {
-            log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
-            throw new SdkException(
-                    ioException.getMessage(),
-                    Error.builder()
-                            .title(CERTIFICATE_EXCEPTION_MESSAGE)
-                            .detail(ioException.getMessage())
-                            .build()
-            );
-        }
     }
 }
\ No newline at end of file
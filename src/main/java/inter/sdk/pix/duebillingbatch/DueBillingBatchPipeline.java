@@ -0,0 +1,233 @@
+package inter.sdk.pix.duebillingbatch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import inter.sdk.commons.exceptions.SdkException;
+import inter.sdk.commons.models.BatchPolicy;
+import inter.sdk.commons.models.Config;
+import inter.sdk.commons.utils.BatchUtils;
+import inter.sdk.commons.utils.JsonUtils;
+import inter.sdk.pix.models.DueBilling;
+import inter.sdk.pix.models.DueBillingBatch;
+import inter.sdk.pix.models.DueBillingBatchOutcome;
+import inter.sdk.pix.models.DueBillingBatchReport;
+import inter.sdk.pix.models.DueBillingEntity;
+import inter.sdk.pix.models.IncludeDueBillingBatchRequest;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static inter.sdk.commons.structures.Constants.DUE_BILLING_DENIED_SITUATION;
+
+/**
+ * The {@code DueBillingBatchPipeline} class submits any number of due billings (cobv) as due billing batches.
+ * <p>
+ * Due billings are read from an iterator or a stream and grouped into batches of
+ * {@link BatchPolicy#getChunkSize()} billings, identified by the given prefix followed by the number of
+ * the batch, e.g. {@code cobv202405} gives {@code cobv2024051}, {@code cobv2024052}. Each batch is
+ * serialized straight to the bytes of the request body, and the next batch is read and serialized
+ * while up to {@link BatchPolicy#getConcurrency()} batches are being submitted, so the billings are
+ * never all held in memory.
+ * </p>
+ * <p>
+ * The body of each batch is fully buffered, not streamed: it is kept until the batch is included,
+ * so retries can send it again. At most {@link BatchPolicy#getConcurrency()} + 1 bodies are held at
+ * the same time, so {@link BatchPolicy#getChunkSize()} bounds the memory used per batch.
+ * </p>
+ * <p>
+ * Each included batch is then followed with {@link DueBillingBatchClient#trackDueBillingBatch}, until
+ * all its billings are created or denied or the timeout of the policy elapses. The denied billings
+ * of a batch are then retrieved, so the report lists them with their problems. A failed batch does
+ * not stop the submission: it is reported with the error. Only a batch rejected by the API with a
+ * client error is counted as an error. A batch that was included but could not be followed to its final
+ * state, or whose inclusion failed without an answer from the API, e.g. on a timeout, or with a server
+ * error, is reported as pending, since its billings may still be created. A batch that finished
+ * processing is counted by its summary, even if its denied billings could not be retrieved.
+ * </p>
+ */
+@Slf4j
+public class DueBillingBatchPipeline {
+    private final DueBillingBatchClient dueBillingBatchClient = new DueBillingBatchClient();
+    private final Config config;
+    private final BatchPolicy policy;
+
+    /**
+     * Creates a pipeline with the default {@link BatchPolicy}.
+     *
+     * @param config The configuration object containing client information.
+     */
+    public DueBillingBatchPipeline(Config config) {
+        this(config, BatchPolicy.builder().build());
+    }
+
+    /**
+     * Creates a pipeline.
+     *
+     * @param config The configuration object containing client information.
+     * @param policy The policy for splitting the billings and following the batches.
+     */
+    public DueBillingBatchPipeline(Config config, BatchPolicy policy) {
+        this.config = config;
+        this.policy = policy;
+    }
+
+    /**
+     * Submits the due billings of a stream and waits until all batches are processed.
+     *
+     * @param idPrefix    The prefix of the IDs of the batches, followed by the number of each batch.
+     * @param description The description of the batches.
+     * @param dueBillings The due billings.
+     * @return The report with the outcome of each batch.
+     * @throws SdkException If the thread is interrupted while submitting or waiting.
+     */
+    public DueBillingBatchReport submit(String idPrefix, String description, Stream<DueBilling> dueBillings) throws SdkException {
+        return submit(idPrefix, description, dueBillings.iterator());
+    }
+
+    /**
+     * Submits the due billings of an iterator and waits until all batches are processed.
+     *
+     * @param idPrefix    The prefix of the IDs of the batches, followed by the number of each batch.
+     * @param description The description of the batches.
+     * @param dueBillings The due billings.
+     * @return The report with the outcome of each batch.
+     * @throws SdkException If the thread is interrupted while submitting or waiting.
+     */
+    public DueBillingBatchReport submit(String idPrefix, String description, Iterator<DueBilling> dueBillings) throws SdkException {
+        int chunkSize = Math.max(policy.getChunkSize(), 1);
+        Semaphore submissions = new Semaphore(Math.max(policy.getConcurrency(), 1));
+        List<CompletableFuture<DueBillingBatchOutcome>> batches = new ArrayList<>();
+        int billingQuantity = 0;
+        while (dueBillings.hasNext()) {
+            List<DueBilling> chunk = new ArrayList<>(chunkSize);
+            while (chunk.size() < chunkSize && dueBillings.hasNext()) {
+                chunk.add(dueBillings.next());
+            }
+            String id = idPrefix + (batches.size() + 1);
+            IncludeDueBillingBatchRequest request = IncludeDueBillingBatchRequest.builder()
+                    .description(description)
+                    .dueBillings(chunk)
+                    .build();
+            DueBillingBatchOutcome.DueBillingBatchOutcomeBuilder<?, ?> outcome = DueBillingBatchOutcome.builder()
+                    .id(id)
+                    .description(description)
+                    .billingQuantity(chunk.size());
+            billingQuantity += chunk.size();
+            byte[] body;
+            try {
+                body = JsonUtils.writer(IncludeDueBillingBatchRequest.class).writeValueAsBytes(request);
+            } catch (JsonProcessingException e) {
+                log.warn("DueBillingBatch {} could not be serialized", id, e);
+                batches.add(CompletableFuture.completedFuture(outcome.error(e.getOriginalMessage()).build()));
+                continue;
+            }
+            BatchUtils.acquire(submissions, "submitting due billings");
+            batches.add(submitBatch(id, body, outcome, submissions));
+        }
+        log.info("DueBillingBatchPipeline {} {} billings in {} batches", config.getClientId(), billingQuantity, batches.size());
+
+        List<DueBillingBatchOutcome> outcomes = new ArrayList<>(batches.size());
+        int createdQuantity = 0;
+        int deniedQuantity = 0;
+        int errorQuantity = 0;
+        int pendingQuantity = 0;
+        for (CompletableFuture<DueBillingBatchOutcome> batch : batches) {
+            DueBillingBatchOutcome outcome = BatchUtils.await(batch, "submitting due billings");
+            outcomes.add(outcome);
+            if (Boolean.TRUE.equals(outcome.getPending())) {
+                pendingQuantity += outcome.getBillingQuantity();
+            } else if (outcome.getError() != null && outcome.getSummary() == null) {
+                errorQuantity += outcome.getBillingQuantity();
+            }
+            if (outcome.getSummary() != null) {
+                createdQuantity += valueOf(outcome.getSummary().getTotalBillingCreated());
+                deniedQuantity += valueOf(outcome.getSummary().getTotalBillingDenied());
+            }
+        }
+        return DueBillingBatchReport.builder()
+                .outcomes(outcomes)
+                .billingQuantity(billingQuantity)
+                .createdQuantity(createdQuantity)
+                .deniedQuantity(deniedQuantity)
+                .errorQuantity(errorQuantity)
+                .pendingQuantity(pendingQuantity)
+                .build();
+    }
+
+    /**
+     * Submits a batch, releasing its submission slot once the API answers, and follows it until processed.
+     *
+     * @param id          The ID of the batch.
+     * @param body        The serialized request of the batch.
+     * @param outcome     The builder of the outcome of the batch.
+     * @param submissions The slots of the submissions in progress.
+     * @return A {@link CompletableFuture} completed with the outcome of the batch; it never completes exceptionally.
+     */
+    private CompletableFuture<DueBillingBatchOutcome> submitBatch(String id, byte[] body,
+                                                                 DueBillingBatchOutcome.DueBillingBatchOutcomeBuilder<?, ?> outcome,
+                                                                 Semaphore submissions) {
+        AtomicBoolean included = new AtomicBoolean();
+        AtomicBoolean summarized = new AtomicBoolean();
+        CompletableFuture<DueBillingBatchOutcome> processed;
+        try {
+            processed = dueBillingBatchClient.includeDueBillingBatchAsync(config, id, body)
+                    .whenComplete((ignored, throwable) -> submissions.release())
+                    .thenCompose(ignored -> {
+                        included.set(true);
+                        return dueBillingBatchClient.trackDueBillingBatch(config, id, policy);
+                    })
+                    .thenCompose(summary -> {
+                        outcome.summary(summary);
+                        summarized.set(true);
+                        if (valueOf(summary.getTotalBillingDenied()) == 0) {
+                            return CompletableFuture.completedFuture(outcome.build());
+                        }
+                        return dueBillingBatchClient.retrieveDueBillingBatchBySituationAsync(config, id, DUE_BILLING_DENIED_SITUATION)
+                                .thenApply(batch -> outcome.deniedBillings(deniedBillings(batch)).build());
+                    });
+        } catch (RuntimeException e) {
+            submissions.release();
+            log.warn("DueBillingBatch {} failed", id, e);
+            return CompletableFuture.completedFuture(outcome.error(BatchUtils.errorMessage(e)).build());
+        }
+        return processed.exceptionally(throwable -> {
+            outcome.error(BatchUtils.errorMessage(throwable));
+            if (summarized.get()) {
+                log.warn("DueBillingBatch {} processed, denied billings not retrieved", id, throwable);
+            } else if (included.get() || !BatchUtils.isRejected(throwable)) {
+                // the billings may still be created, so the batch is reported as pending rather than failed
+                log.warn("DueBillingBatch {} may have been included, final state unknown", id, throwable);
+                outcome.pending(true);
+            } else {
+                log.warn("DueBillingBatch {} rejected", id, throwable);
+            }
+            return outcome.build();
+        });
+    }
+
+    /**
+     * Returns the denied billings of a batch retrieved by situation.
+     *
+     * @param batch The batch, or {@code null}.
+     * @return The denied billings.
+     */
+    private static List<DueBillingEntity> deniedBillings(DueBillingBatch batch) {
+        return batch != null && batch.getDueBillingEntities() != null ? batch.getDueBillingEntities() : Collections.emptyList();
+    }
+
+    /**
+     * Returns the value of a total of a summary, which the API may omit.
+     *
+     * @param value The total, or {@code null}.
+     * @return The total, or 0.
+     */
+    private static int valueOf(Integer value) {
+        return value != null ? value : 0;
+    }
+}
@@ -1,10 +1,12 @@
 package inter.sdk.pix.immediatebillings;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import inter.sdk.commons.exceptions.SdkException;
 import inter.sdk.commons.models.Config;
 import inter.sdk.commons.models.Error;
+import inter.sdk.commons.utils.AsyncHttpUtils;
 import inter.sdk.commons.utils.HttpUtils;
+import inter.sdk.commons.utils.JsonUtils;
+import inter.sdk.commons.utils.PageUtils;
 import inter.sdk.commons.utils.UrlUtils;
 import inter.sdk.pix.models.BillingPage;
 import inter.sdk.pix.models.DetailedImmediatePixBilling;
@@ -16,6 +18,8 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import static inter.sdk.commons.structures.Constants.CERTIFICATE_EXCEPTION_MESSAGE;
 import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
@@ -43,14 +47,14 @@ public class ImmediateBillingClient {
         log.info("IncludeImmediateBilling {} {}", config.getClientId(), billing.getTxid());
         String url = UrlUtils.buildUrl(config, URL_PIX_IMMEDIATE_BILLINGS);
         try {
-            String json = new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(billing);
+            String json = JsonUtils.writeValueAsString(billing);
             if (billing.getTxid() == null) {
                 json = HttpUtils.callPost(config, url, PIX_IMMEDIATE_BILLING_WRITE_SCOPE, "Error including immediate billing", json);
             } else {
                 url += "/" + billing.getTxid();
                 json = HttpUtils.callPut(config, url, PIX_IMMEDIATE_BILLING_WRITE_SCOPE, "Error including immediate billing", json);
             }
-            return new ObjectMapper().readValue(json, GeneratedImmediateBilling.class);
+            return JsonUtils.readValue(json, GeneratedImmediateBilling.class);
         } catch (IOException ioException) {
             log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
             throw new SdkException(
@@ -63,6 +67,22 @@ public class ImmediateBillingClient {
         }
     }
 
+    /**
+     * Includes an immediate billing asynchronously. The billing is created with a POST when it has no txid, and with a PUT otherwise.
+     *
+     * @param config  The configuration object containing client information.
+     * @param billing The {@link PixBilling} object containing the details of the billing to be included.
+     * @return A {@link CompletableFuture} completed with the {@link GeneratedImmediateBilling}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<GeneratedImmediateBilling> includeImmediateBillingAsync(Config config, PixBilling billing) {
+        log.info("IncludeImmediateBilling {} {}", config.getClientId(), billing.getTxid());
+        String url = UrlUtils.buildUrl(config, URL_PIX_IMMEDIATE_BILLINGS);
+        CompletableFuture<String> response = billing.getTxid() == null
+                ? AsyncHttpUtils.callPost(config, url, PIX_IMMEDIATE_BILLING_WRITE_SCOPE, "Error including immediate billing", billing)
+                : AsyncHttpUtils.callPut(config, url + "/" + billing.getTxid(), PIX_IMMEDIATE_BILLING_WRITE_SCOPE, "Error including immediate billing", billing);
+        return response.thenApply(json -> AsyncHttpUtils.readValue(json, GeneratedImmediateBilling.class));
+    }
+
     /**
      * Retrieves the details of an immediate billing based on the provided configuration and transaction ID.
      *
@@ -75,19 +95,20 @@ public class ImmediateBillingClient {
     public DetailedImmediatePixBilling retrieveImmediateBilling(Config config, String txId) throws SdkException {
         log.info("RetrieveImmediateBilling {} txId={}", config.getClientId(), txId);
         String url = UrlUtils.buildUrl(config, URL_PIX_IMMEDIATE_BILLINGS) + "/" + txId;
-        String json = HttpUtils.callGet(config, url, PIX_IMMEDIATE_BILLING_READ_SCOPE, "Error retrieving immediate billing");
-        try {
-            return new ObjectMapper().readValue(json, DetailedImmediatePixBilling.class);
-        } catch (IOException ioException) {
-            log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
-            throw new SdkException(
-                    ioException.getMessage(),
-                    Error.builder()
-                            .title(CERTIFICATE_EXCEPTION_MESSAGE)
-                            .detail(ioException.getMessage())
-                            .build()
-            );
-        }
+        return HttpUtils.callGet(config, url, PIX_IMMEDIATE_BILLING_READ_SCOPE, "Error retrieving immediate billing", DetailedImmediatePixBilling.class);
+    }
+
+    /**
+     * Retrieves an immediate billing asynchronously.
+     *
+     * @param config The configuration object containing client information.
+     * @param txId   The unique transaction ID for the immediate billing to be retrieved.
+     * @return A {@link CompletableFuture} completed with the {@link DetailedImmediatePixBilling}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<DetailedImmediatePixBilling> retrieveImmediateBillingAsync(Config config, String txId) {
+        log.info("RetrieveImmediateBilling {} txId={}", config.getClientId(), txId);
+        String url = UrlUtils.buildUrl(config, URL_PIX_IMMEDIATE_BILLINGS) + "/" + txId;
+        return AsyncHttpUtils.callGet(config, url, PIX_IMMEDIATE_BILLING_READ_SCOPE, "Error retrieving immediate billing", DetailedImmediatePixBilling.class);
     }
 
     /**
@@ -108,6 +129,22 @@ public class ImmediateBillingClient {
         return getPage(config, initialDate, finalDate, page, pageSize, filter);
     }
 
+    /**
+     * Retrieves a page of immediate billings asynchronously.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive).
+     * @param finalDate   The end date for the retrieval range (inclusive).
+     * @param page        The page number to retrieve.
+     * @param pageSize    The number of items per page (optional).
+     * @param filter      A {@link RetrieveImmediateBillingsFilter} object containing filter criteria.
+     * @return A {@link CompletableFuture} completed with the {@link BillingPage}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<BillingPage> retrieveImmediateBillingPageAsync(Config config, String initialDate, String finalDate, int page, Integer pageSize, RetrieveImmediateBillingsFilter filter) {
+        log.info("RetrieveImmediateBillingList {} {}-{} page={}", config.getClientId(), initialDate, finalDate, page);
+        return getPageAsync(config, initialDate, finalDate, page, pageSize, filter);
+    }
+
     /**
      * Retrieves all immediate billings within the specified date range and filters.
      *
@@ -121,6 +158,13 @@ public class ImmediateBillingClient {
      */
     public List<DetailedImmediatePixBilling> retrieveImmediateBillingInRange(Config config, String initialDate, String finalDate, RetrieveImmediateBillingsFilter filter) throws SdkException {
         log.info("RetrieveImmediateBillingList {} {}-{}", config.getClientId(), initialDate, finalDate);
+        if (config.getPageConcurrency() > 1) {
+            return AsyncHttpUtils.join(AsyncHttpUtils.collectPages(
+                    page -> getPageAsync(config, initialDate, finalDate, page, null, filter),
+                    BillingPage::getTotalPages,
+                    BillingPage::getBillings,
+                    config.getPageConcurrency()));
+        }
         int page = 0;
         BillingPage billingPage;
         List<DetailedImmediatePixBilling> cobrancas = new ArrayList<>();
@@ -132,6 +176,44 @@ public class ImmediateBillingClient {
         return cobrancas;
     }
 
+    /**
+     * Retrieves all immediate billings within the specified date range asynchronously.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive).
+     * @param finalDate   The end date for the retrieval range (inclusive).
+     * @param filter      A {@link RetrieveImmediateBillingsFilter} object containing filter criteria.
+     * @return A {@link CompletableFuture} completed with all retrieved {@link DetailedImmediatePixBilling} billings, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<List<DetailedImmediatePixBilling>> retrieveImmediateBillingInRangeAsync(Config config, String initialDate, String finalDate, RetrieveImmediateBillingsFilter filter) {
+        log.info("RetrieveImmediateBillingList {} {}-{}", config.getClientId(), initialDate, finalDate);
+        return AsyncHttpUtils.collectPages(
+                page -> getPageAsync(config, initialDate, finalDate, page, null, filter),
+                BillingPage::getTotalPages,
+                BillingPage::getBillings,
+                config.getPageConcurrency());
+    }
+
+    /**
+     * Streams all immediate billings within the specified date range, fetching the pages as the stream is consumed.
+     * Up to {@link Config#getPagePrefetch()} pages are requested ahead; errors are thrown when the stream
+     * reaches the failed page, as a {@link java.util.concurrent.CompletionException} wrapping the {@link SdkException}.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive).
+     * @param finalDate   The end date for the retrieval range (inclusive).
+     * @param filter      A {@link RetrieveImmediateBillingsFilter} object containing filter criteria.
+     * @return A lazy {@link Stream} of all retrieved {@link DetailedImmediatePixBilling} billings, in page order.
+     */
+    public Stream<DetailedImmediatePixBilling> streamImmediateBillingInRange(Config config, String initialDate, String finalDate, RetrieveImmediateBillingsFilter filter) {
+        log.info("RetrieveImmediateBillingList {} {}-{}", config.getClientId(), initialDate, finalDate);
+        return PageUtils.stream(
+                page -> getPageAsync(config, initialDate, finalDate, page, null, filter),
+                BillingPage::getTotalPages,
+                BillingPage::getBillings,
+                config.getPagePrefetch());
+    }
+
     /**
      * Reviews an immediate billing based on the provided configuration and billing details.
      *
@@ -145,9 +227,9 @@ public class ImmediateBillingClient {
         log.info("ReviewImmediateBilling {} {}", config.getClientId(), cobranca.getTxid());
         try {
             String url = UrlUtils.buildUrl(config, URL_PIX_IMMEDIATE_BILLINGS) + "/" + cobranca.getTxid();
-            String json = new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(cobranca);
+            String json = JsonUtils.writeValueAsString(cobranca);
             json = HttpUtils.callPatch(config, url, PIX_IMMEDIATE_BILLING_WRITE_SCOPE, "Error reviewing immediate billing", json);
-            return new ObjectMapper().readValue(json, GeneratedImmediateBilling.class);
+            return JsonUtils.readValue(json, GeneratedImmediateBilling.class);
         } catch (IOException ioException) {
             log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
             throw new SdkException(
@@ -160,6 +242,20 @@ public class ImmediateBillingClient {
         }
     }
 
+    /**
+     * Reviews an immediate billing asynchronously.
+     *
+     * @param config   The configuration object containing client information.
+     * @param cobranca The {@link PixBilling} object containing the details of the billing to be reviewed.
+     * @return A {@link CompletableFuture} completed with the {@link GeneratedImmediateBilling}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<GeneratedImmediateBilling> reviewImmediateBillingAsync(Config config, PixBilling cobranca) {
+        log.info("ReviewImmediateBilling {} {}", config.getClientId(), cobranca.getTxid());
+        String url = UrlUtils.buildUrl(config, URL_PIX_IMMEDIATE_BILLINGS) + "/" + cobranca.getTxid();
+        return AsyncHttpUtils.callPatch(config, url, PIX_IMMEDIATE_BILLING_WRITE_SCOPE, "Error reviewing immediate billing", cobranca)
+                .thenApply(json -> AsyncHttpUtils.readValue(json, GeneratedImmediateBilling.class));
+    }
+
     /**
      * Retrieves a specific page of immediate billings based on the provided criteria.
      *
@@ -174,23 +270,42 @@ public class ImmediateBillingClient {
      *                      or API response errors.
      */
     private BillingPage getPage(Config config, String initialDate, String finalDate, int page, Integer pageSize, RetrieveImmediateBillingsFilter filter) throws SdkException {
-        String url = UrlUtils.buildUrl(config, URL_PIX_IMMEDIATE_BILLINGS) + "?inicio=" + initialDate + "&fim=" + finalDate
+        String url = pageUrl(config, initialDate, finalDate, page, pageSize, filter);
+        return HttpUtils.callGet(config, url, PIX_IMMEDIATE_BILLING_READ_SCOPE, "Error retrieving list of immediate billings", BillingPage.class);
+    }
+
+    /**
+     * Retrieves a specific page of immediate billings asynchronously.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive).
+     * @param finalDate   The end date for the retrieval range (inclusive).
+     * @param page        The page number to retrieve.
+     * @param pageSize    The number of items per page (optional).
+     * @param filter      A {@link RetrieveImmediateBillingsFilter} object containing filter criteria.
+     * @return A {@link CompletableFuture} completed with the {@link BillingPage}.
+     */
+    private CompletableFuture<BillingPage> getPageAsync(Config config, String initialDate, String finalDate, int page, Integer pageSize, RetrieveImmediateBillingsFilter filter) {
+        String url = pageUrl(config, initialDate, finalDate, page, pageSize, filter);
+        return AsyncHttpUtils.callGet(config, url, PIX_IMMEDIATE_BILLING_READ_SCOPE, "Error retrieving list of immediate billings", BillingPage.class);
+    }
+
+    /**
+     * Builds the URL of a page of immediate billings.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive).
+     * @param finalDate   The end date for the retrieval range (inclusive).
+     * @param page        The page number to retrieve.
+     * @param pageSize    The number of items per page (optional).
+     * @param filter      A {@link RetrieveImmediateBillingsFilter} object containing filter criteria.
+     * @return The URL of the page.
+     */
+    private String pageUrl(Config config, String initialDate, String finalDate, int page, Integer pageSize, RetrieveImmediateBillingsFilter filter) {
+        return UrlUtils.buildUrl(config, URL_PIX_IMMEDIATE_BILLINGS) + "?inicio=" + initialDate + "&fim=" + finalDate
                 + "&paginacao.paginaAtual=" + page
                 + (pageSize != null ? "&paginacao.itensPorPagina=" + pageSize : "")
                 + addfilters(filter);
-        String json = HttpUtils.callGet(config, url, PIX_IMMEDIATE_BILLING_READ_SCOPE, "Error retrieving list of immediate billings");
-        try {
-            return new ObjectMapper().readValue(json, BillingPage.class);
-        } catch (IOException ioException) {
-            log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
-            throw new SdkException(
-                    ioException.getMessage(),
-                    Error.builder()
-                            .title(CERTIFICATE_EXCEPTION_MESSAGE)
-                            .detail(ioException.getMessage())
-                            .build()
-            );
-        }
     }
 
     /**
@@ -1,10 +1,12 @@
 package inter.sdk.pix.locations;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import inter.sdk.commons.exceptions.SdkException;
 import inter.sdk.commons.models.Config;
 import inter.sdk.commons.models.Error;
+import inter.sdk.commons.utils.AsyncHttpUtils;
 import inter.sdk.commons.utils.HttpUtils;
+import inter.sdk.commons.utils.JsonUtils;
+import inter.sdk.commons.utils.PageUtils;
 import inter.sdk.commons.utils.UrlUtils;
 import inter.sdk.pix.enums.ImmediateBillingType;
 import inter.sdk.pix.models.IncludeLocationRequest;
@@ -16,6 +18,8 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import static inter.sdk.commons.structures.Constants.CERTIFICATE_EXCEPTION_MESSAGE;
 import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
@@ -44,9 +48,9 @@ public class LocationClient {
         String url = UrlUtils.buildUrl(config, URL_PIX_LOCATIONS);
         IncludeLocationRequest request = IncludeLocationRequest.builder().immediateBillingType(immediateBillingType).build();
         try {
-            String json = new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(request);
+            String json = JsonUtils.writeValueAsString(request);
             json = HttpUtils.callPost(config, url, PIX_LOCATION_WRITE_SCOPE, "Error including location", json);
-            return new ObjectMapper().readValue(json, Location.class);
+            return JsonUtils.readValue(json, Location.class);
         } catch (IOException ioException) {
             log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
             throw new SdkException(
@@ -59,6 +63,21 @@ public class LocationClient {
         }
     }
 
+    /**
+     * Includes a location asynchronously.
+     *
+     * @param config               The configuration object containing client information.
+     * @param immediateBillingType The {@link ImmediateBillingType} indicating the type of immediate billing.
+     * @return A {@link CompletableFuture} completed with the included {@link Location}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<Location> includeLocationAsync(Config config, ImmediateBillingType immediateBillingType) {
+        log.info("IncludeLocation pix {} {}", config.getClientId(), immediateBillingType);
+        String url = UrlUtils.buildUrl(config, URL_PIX_LOCATIONS);
+        IncludeLocationRequest request = IncludeLocationRequest.builder().immediateBillingType(immediateBillingType).build();
+        return AsyncHttpUtils.callPost(config, url, PIX_LOCATION_WRITE_SCOPE, "Error including location", request)
+                .thenApply(json -> AsyncHttpUtils.readValue(json, Location.class));
+    }
+
     /**
      * Retrieves the details of a location based on the provided configuration and location ID.
      *
@@ -71,19 +90,20 @@ public class LocationClient {
     public Location retrieveLocation(Config config, String id) throws SdkException {
         log.info("RetrieveLocation {} id={}", config.getClientId(), id);
         String url = UrlUtils.buildUrl(config, URL_PIX_LOCATIONS) + "/" + id;
-        String json = HttpUtils.callGet(config, url, PIX_LOCATION_READ_SCOPE, "Error retrieving location");
-        try {
-            return new ObjectMapper().readValue(json, Location.class);
-        } catch (IOException ioException) {
-            log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
-            throw new SdkException(
-                    ioException.getMessage(),
-                    Error.builder()
-                            .title(CERTIFICATE_EXCEPTION_MESSAGE)
-                            .detail(ioException.getMessage())
-                            .build()
-            );
-        }
+        return HttpUtils.callGet(config, url, PIX_LOCATION_READ_SCOPE, "Error retrieving location", Location.class);
+    }
+
+    /**
+     * Retrieves a location asynchronously.
+     *
+     * @param config The configuration object containing client information.
+     * @param id     The unique identifier for the location to be retrieved.
+     * @return A {@link CompletableFuture} completed with the {@link Location}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<Location> retrieveLocationAsync(Config config, String id) {
+        log.info("RetrieveLocation {} id={}", config.getClientId(), id);
+        String url = UrlUtils.buildUrl(config, URL_PIX_LOCATIONS) + "/" + id;
+        return AsyncHttpUtils.callGet(config, url, PIX_LOCATION_READ_SCOPE, "Error retrieving location", Location.class);
     }
 
     /**
@@ -104,6 +124,22 @@ public class LocationClient {
         return getPage(config, initialDate, finalDate, page, pageSize, filter);
     }
 
+    /**
+     * Retrieves a page of locations asynchronously.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive).
+     * @param finalDate   The end date for the retrieval range (inclusive).
+     * @param page        The page number to retrieve.
+     * @param pageSize    The number of items per page (optional).
+     * @param filter      A {@link RetrieveLocationFilter} object containing filter criteria.
+     * @return A {@link CompletableFuture} completed with the {@link LocationPage}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<LocationPage> retrieveLocationPageAsync(Config config, String initialDate, String finalDate, int page, Integer pageSize, RetrieveLocationFilter filter) {
+        log.info("RetrieveLocationsList {} {}-{} pagina={}", config.getClientId(), initialDate, finalDate, page);
+        return getPageAsync(config, initialDate, finalDate, page, pageSize, filter);
+    }
+
     /**
      * Retrieves all locations within the specified date range and filters.
      *
@@ -117,6 +153,13 @@ public class LocationClient {
      */
     public List<Location> retrieveLocationInRange(Config config, String initialDate, String finalDate, RetrieveLocationFilter filter) throws SdkException {
         log.info("RetrieveLocationsList {} {}-{}", config.getClientId(), initialDate, finalDate);
+        if (config.getPageConcurrency() > 1) {
+            return AsyncHttpUtils.join(AsyncHttpUtils.collectPages(
+                    page -> getPageAsync(config, initialDate, finalDate, page, null, filter),
+                    LocationPage::getTotalPages,
+                    LocationPage::getLocations,
+                    config.getPageConcurrency()));
+        }
         int page = 0;
         LocationPage locationPage;
         List<Location> locs = new ArrayList<>();
@@ -128,6 +171,44 @@ public class LocationClient {
         return locs;
     }
 
+    /**
+     * Retrieves all locations within the specified date range asynchronously.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive).
+     * @param finalDate   The end date for the retrieval range (inclusive).
+     * @param filter      A {@link RetrieveLocationFilter} object containing filter criteria.
+     * @return A {@link CompletableFuture} completed with all retrieved {@link Location} objects, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<List<Location>> retrieveLocationInRangeAsync(Config config, String initialDate, String finalDate, RetrieveLocationFilter filter) {
+        log.info("RetrieveLocationsList {} {}-{}", config.getClientId(), initialDate, finalDate);
+        return AsyncHttpUtils.collectPages(
+                page -> getPageAsync(config, initialDate, finalDate, page, null, filter),
+                LocationPage::getTotalPages,
+                LocationPage::getLocations,
+                config.getPageConcurrency());
+    }
+
+    /**
+     * Streams all locations within the specified date range, fetching the pages as the stream is consumed.
+     * Up to {@link Config#getPagePrefetch()} pages are requested ahead; errors are thrown when the stream
+     * reaches the failed page, as a {@link java.util.concurrent.CompletionException} wrapping the {@link SdkException}.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive).
+     * @param finalDate   The end date for the retrieval range (inclusive).
+     * @param filter      A {@link RetrieveLocationFilter} object containing filter criteria.
+     * @return A lazy {@link Stream} of all retrieved {@link Location} objects, in page order.
+     */
+    public Stream<Location> streamLocationInRange(Config config, String initialDate, String finalDate, RetrieveLocationFilter filter) {
+        log.info("RetrieveLocationsList {} {}-{}", config.getClientId(), initialDate, finalDate);
+        return PageUtils.stream(
+                page -> getPageAsync(config, initialDate, finalDate, page, null, filter),
+                LocationPage::getTotalPages,
+                LocationPage::getLocations,
+                config.getPagePrefetch());
+    }
+
     /**
      * Unlinks a location based on the provided configuration and location ID.
      *
@@ -142,7 +223,7 @@ public class LocationClient {
         String url = UrlUtils.buildUrl(config, URL_PIX_LOCATIONS) + "/" + id + "/txid";
         String json = HttpUtils.callDelete(config, url, PIX_LOCATION_WRITE_SCOPE, "Error unlinking location");
         try {
-            return new ObjectMapper().readValue(json, Location.class);
+            return JsonUtils.readValue(json, Location.class);
         } catch (IOException ioException) {
             log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
             throw new SdkException(
@@ -155,6 +236,20 @@ public class LocationClient {
         }
     }
 
+    /**
+     * Unlinks a location from its billing asynchronously.
+     *
+     * @param config The configuration object containing client information.
+     * @param id     The unique identifier for the location to be unlinked.
+     * @return A {@link CompletableFuture} completed with the unlinked {@link Location}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<Location> unlinkLocationAsync(Config config, String id) {
+        log.info("UnlinkLocation {} id={}", config.getClientId(), id);
+        String url = UrlUtils.buildUrl(config, URL_PIX_LOCATIONS) + "/" + id + "/txid";
+        return AsyncHttpUtils.callDelete(config, url, PIX_LOCATION_WRITE_SCOPE, "Error unlinking location")
+                .thenApply(json -> AsyncHttpUtils.readValue(json, Location.class));
+    }
+
     /**
      * Retrieves a specific page of locations based on the provided criteria.
      *
@@ -169,23 +264,42 @@ public class LocationClient {
      *                      or API response errors.
      */
     private LocationPage getPage(Config config, String initialDate, String finalDate, int page, Integer pageSize, RetrieveLocationFilter filter) throws SdkException {
-        String url = UrlUtils.buildUrl(config, URL_PIX_LOCATIONS) + "?inicio=" + initialDate + "&fim=" + finalDate
+        String url = pageUrl(config, initialDate, finalDate, page, pageSize, filter);
+        return HttpUtils.callGet(config, url, PIX_LOCATION_READ_SCOPE, "Error retrieving locations", LocationPage.class);
+    }
+
+    /**
+     * Retrieves a specific page of locations asynchronously.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive).
+     * @param finalDate   The end date for the retrieval range (inclusive).
+     * @param page        The page number to retrieve.
+     * @param pageSize    The number of items per page (optional).
+     * @param filter      A {@link RetrieveLocationFilter} object containing filter criteria.
+     * @return A {@link CompletableFuture} completed with the {@link LocationPage}.
+     */
+    private CompletableFuture<LocationPage> getPageAsync(Config config, String initialDate, String finalDate, int page, Integer pageSize, RetrieveLocationFilter filter) {
+        String url = pageUrl(config, initialDate, finalDate, page, pageSize, filter);
+        return AsyncHttpUtils.callGet(config, url, PIX_LOCATION_READ_SCOPE, "Error retrieving locations", LocationPage.class);
+    }
+
+    /**
+     * Builds the URL of a page of locations.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive).
+     * @param finalDate   The end date for the retrieval range (inclusive).
+     * @param page        The page number to retrieve.
+     * @param pageSize    The number of items per page (optional).
+     * @param filter      A {@link RetrieveLocationFilter} object containing filter criteria.
+     * @return The URL of the page.
+     */
+    private String pageUrl(Config config, String initialDate, String finalDate, int page, Integer pageSize, RetrieveLocationFilter filter) {
+        return UrlUtils.buildUrl(config, URL_PIX_LOCATIONS) + "?inicio=" + initialDate + "&fim=" + finalDate
                 + "&paginacao.paginaAtual=" + page
                 + (pageSize != null ? "&paginacao.itensPorPagina=" + pageSize : "")
                 + addfilters(filter);
-        String json = HttpUtils.callGet(config, url, PIX_LOCATION_READ_SCOPE, "Error retrieving locations");
-        try {
-            return new ObjectMapper().readValue(json, LocationPage.class);
-        } catch (IOException ioException) {
-            log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
-            throw new SdkException(
-                    ioException.getMessage(),
-                    Error.builder()
-                            .title(CERTIFICATE_EXCEPTION_MESSAGE)
-                            .detail(ioException.getMessage())
-                            .build()
-            );
-        }
     }
 
     /**
@@ -0,0 +1,107 @@
+package inter.sdk.pix.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import inter.sdk.commons.models.AbstractModel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+import java.util.List;
+
+/**
+ * Represents the outcome of one batch of a pipelined due billing submission.
+ * <p>
+ * The outcome carries the ID of the batch, the number of due billings submitted in it, its last
+ * processing summary, the due billings denied by the API and the error that prevented the batch
+ * from being submitted or followed, if any. A batch that was, or may have been, included but could
+ * not be followed to its final state is {@code pending}: its billings may still be created.
+ *
+ * @see AbstractModel
+ * @since 1.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@SuperBuilder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class DueBillingBatchOutcome extends AbstractModel {
+
+    /**
+     * The ID of the batch.
+     */
+    @JsonProperty("id")
+    private String id;
+
+    /**
+     * The description of the batch.
+     */
+    @JsonProperty("description")
+    private String description;
+
+    /**
+     * The number of due billings submitted in the batch.
+     */
+    @JsonProperty("billingQuantity")
+    private Integer billingQuantity;
+
+    /**
+     * The last processing summary of the batch.
+     */
+    @JsonProperty("summary")
+    private DueBillingBatchSummary summary;
+
+    /**
+     * The due billings of the batch denied by the API.
+     */
+    @JsonProperty("deniedBillings")
+    private List<DueBillingEntity> deniedBillings;
+
+    /**
+     * The error that prevented the batch from being submitted or processed, if any.
+     */
+    @JsonProperty("error")
+    private String error;
+
+    /**
+     * Whether the batch was, or may have been, included but its final state is unknown, because
+     * including it failed without an answer from the API, or following it failed or timed out.
+     */
+    @JsonProperty("pending")
+    private Boolean pending;
+
+    /**
+     * Constructs a new DueBillingBatchOutcome with specified values.
+     *
+     * @param id              The ID of the batch
+     * @param description     The description of the batch
+     * @param billingQuantity The number of due billings submitted in the batch
+     * @param summary         The last processing summary of the batch
+     * @param deniedBillings  The due billings of the batch denied by the API
+     * @param error           The error of the batch
+     * @param pending         Whether the final state of the batch is unknown
+     */
+    public DueBillingBatchOutcome(String id,
+                                  String description,
+                                  Integer billingQuantity,
+                                  DueBillingBatchSummary summary,
+                                  List<DueBillingEntity> deniedBillings,
+                                  String error,
+                                  Boolean pending) {
+        super();
+        this.id = id;
+        this.description = description;
+        this.billingQuantity = billingQuantity;
+        this.summary = summary;
+        this.deniedBillings = deniedBillings;
+        this.error = error;
+        this.pending = pending;
+    }
+}
@@ -0,0 +1,98 @@
+package inter.sdk.pix.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import inter.sdk.commons.models.AbstractModel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+import java.util.List;
+
+/**
+ * Represents the result of a pipelined due billing submission.
+ * <p>
+ * The report lists the outcome of every submitted batch, in submission order, and the totals of
+ * due billings submitted, created, denied, in batches that failed and in batches whose final state is unknown.
+ *
+ * @see DueBillingBatchOutcome
+ * @see AbstractModel
+ * @since 1.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@SuperBuilder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class DueBillingBatchReport extends AbstractModel {
+
+    /**
+     * The outcome of each batch, in submission order.
+     */
+    @JsonProperty("outcomes")
+    private List<DueBillingBatchOutcome> outcomes;
+
+    /**
+     * The number of due billings submitted.
+     */
+    @JsonProperty("billingQuantity")
+    private Integer billingQuantity;
+
+    /**
+     * The number of due billings created.
+     */
+    @JsonProperty("createdQuantity")
+    private Integer createdQuantity;
+
+    /**
+     * The number of due billings denied.
+     */
+    @JsonProperty("deniedQuantity")
+    private Integer deniedQuantity;
+
+    /**
+     * The number of due billings whose batch could not be submitted.
+     */
+    @JsonProperty("errorQuantity")
+    private Integer errorQuantity;
+
+    /**
+     * The number of due billings whose batch was, or may have been, included but whose final state is unknown,
+     * because including it failed without an answer from the API, or following it failed or timed out.
+     * These billings may still be created.
+     */
+    @JsonProperty("pendingQuantity")
+    private Integer pendingQuantity;
+
+    /**
+     * Constructs a new DueBillingBatchReport with specified values.
+     *
+     * @param outcomes        The outcome of each batch
+     * @param billingQuantity The number of due billings submitted
+     * @param createdQuantity The number of due billings created
+     * @param deniedQuantity  The number of due billings denied
+     * @param errorQuantity   The number of due billings with an error
+     * @param pendingQuantity The number of due billings whose final state is unknown
+     */
+    public DueBillingBatchReport(List<DueBillingBatchOutcome> outcomes,
+                                 Integer billingQuantity,
+                                 Integer createdQuantity,
+                                 Integer deniedQuantity,
+                                 Integer errorQuantity,
+                                 Integer pendingQuantity) {
+        super();
+        this.outcomes = outcomes;
+        this.billingQuantity = billingQuantity;
+        this.createdQuantity = createdQuantity;
+        this.deniedQuantity = deniedQuantity;
+        this.errorQuantity = errorQuantity;
+        this.pendingQuantity = pendingQuantity;
+    }
+}
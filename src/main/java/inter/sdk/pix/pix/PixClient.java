@@ -1,11 +1,16 @@
 package inter.sdk.pix.pix;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import inter.sdk.commons.exceptions.SdkException;
 import inter.sdk.commons.models.Config;
 import inter.sdk.commons.models.Error;
+import inter.sdk.commons.utils.AsyncHttpUtils;
+import inter.sdk.commons.utils.CacheUtils;
 import inter.sdk.commons.utils.HttpUtils;
+import inter.sdk.commons.utils.JsonUtils;
+import inter.sdk.commons.utils.PageUtils;
+import inter.sdk.commons.utils.ShardUtils;
 import inter.sdk.commons.utils.UrlUtils;
+import inter.sdk.pix.enums.PixBillingStatus;
 import inter.sdk.pix.models.DetailedDevolution;
 import inter.sdk.pix.models.DevolutionRequestBody;
 import inter.sdk.pix.models.Pix;
@@ -14,9 +19,14 @@ import inter.sdk.pix.models.RetrievedPixFilter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
+import static inter.sdk.commons.structures.Constants.CACHE_PIX;
 import static inter.sdk.commons.structures.Constants.CERTIFICATE_EXCEPTION_MESSAGE;
 import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
 import static inter.sdk.commons.structures.Constants.PIX_READ_SCOPE;
@@ -29,6 +39,10 @@ import static inter.sdk.commons.structures.Constants.URL_PIX_PIX;
  */
 @Slf4j
 public class PixClient {
+    /**
+     * The number of days after a Pix during which devolutions can be requested for it.
+     */
+    private static final int DEVOLUTION_WINDOW_DAYS = 90;
 
     /**
      * Requests a devolution for a transaction identified by its end-to-end ID and the specific ID.
@@ -45,9 +59,10 @@ public class PixClient {
         log.info("RequestDevolution {} e2eId={} id={}", config.getClientId(), e2eId, id);
         String url = UrlUtils.buildUrl(config, URL_PIX_PIX) + "/" + e2eId + "/devolucao/" + id;
         try {
-            String json = new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(devolutionRequestBody);
+            String json = JsonUtils.writeValueAsString(devolutionRequestBody);
             json = HttpUtils.callPut(config, url, PIX_WRITE_SCOPE, "Error requesting devolution", json);
-            return new ObjectMapper().readValue(json, DetailedDevolution.class);
+            CacheUtils.invalidate(config, CACHE_PIX, e2eId);
+            return JsonUtils.readValue(json, DetailedDevolution.class);
         } catch (IOException ioException) {
             log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
             throw new SdkException(
@@ -60,6 +75,25 @@ public class PixClient {
         }
     }
 
+    /**
+     * Requests a devolution for a transaction asynchronously.
+     *
+     * @param config                The configuration object containing client information.
+     * @param e2eId                 The end-to-end ID of the transaction for which the devolution is being requested.
+     * @param id                    The unique identifier for the devolution request.
+     * @param devolutionRequestBody The {@link DevolutionRequestBody} containing details for the devolution request.
+     * @return A {@link CompletableFuture} completed with the {@link DetailedDevolution}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<DetailedDevolution> requestDevolutionAsync(Config config, String e2eId, String id, DevolutionRequestBody devolutionRequestBody) {
+        log.info("RequestDevolution {} e2eId={} id={}", config.getClientId(), e2eId, id);
+        String url = UrlUtils.buildUrl(config, URL_PIX_PIX) + "/" + e2eId + "/devolucao/" + id;
+        return AsyncHttpUtils.callPut(config, url, PIX_WRITE_SCOPE, "Error requesting devolution", devolutionRequestBody)
+                .thenApply(json -> {
+                    CacheUtils.invalidate(config, CACHE_PIX, e2eId);
+                    return AsyncHttpUtils.readValue(json, DetailedDevolution.class);
+                });
+    }
+
     /**
      * Retrieves the details of a devolution based on the provided end-to-end ID and specific ID.
      *
@@ -73,19 +107,21 @@ public class PixClient {
     public DetailedDevolution retrieveDevolution(Config config, String e2eId, String id) throws SdkException {
         log.info("RetrieveDevolution {} e2eId={} id={}", config.getClientId(), e2eId, id);
         String url = UrlUtils.buildUrl(config, URL_PIX_PIX) + "/" + e2eId + "/devolucao/" + id;
-        String json = HttpUtils.callGet(config, url, PIX_READ_SCOPE, "Error retrieving devolution");
-        try {
-            return new ObjectMapper().readValue(json, DetailedDevolution.class);
-        } catch (IOException ioException) {
-            log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
-            throw new SdkException(
-                    ioException.getMessage(),
-                    Error.builder()
-                            .title(CERTIFICATE_EXCEPTION_MESSAGE)
-                            .detail(ioException.getMessage())
-                            .build()
-            );
-        }
+        return HttpUtils.callGet(config, url, PIX_READ_SCOPE, "Error retrieving devolution", DetailedDevolution.class);
+    }
+
+    /**
+     * Retrieves the details of a devolution asynchronously.
+     *
+     * @param config The configuration object containing client information.
+     * @param e2eId  The end-to-end ID of the transaction for which the devolution details are requested.
+     * @param id     The unique identifier for the devolution to be retrieved.
+     * @return A {@link CompletableFuture} completed with the {@link DetailedDevolution}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<DetailedDevolution> retrieveDevolutionAsync(Config config, String e2eId, String id) {
+        log.info("RetrieveDevolution {} e2eId={} id={}", config.getClientId(), e2eId, id);
+        String url = UrlUtils.buildUrl(config, URL_PIX_PIX) + "/" + e2eId + "/devolucao/" + id;
+        return AsyncHttpUtils.callGet(config, url, PIX_READ_SCOPE, "Error retrieving devolution", DetailedDevolution.class);
     }
 
     /**
@@ -100,19 +136,39 @@ public class PixClient {
     public Pix retrievePixTransaction(Config config, String e2eId) throws SdkException {
         log.info("RetrievePix {} e2eId={}", config.getClientId(), e2eId);
         String url = UrlUtils.buildUrl(config, URL_PIX_PIX) + "/" + e2eId;
-        String json = HttpUtils.callGet(config, url, PIX_READ_SCOPE, "Error retrieving pix");
-        try {
-            return new ObjectMapper().readValue(json, Pix.class);
-        } catch (IOException ioException) {
-            log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
-            throw new SdkException(
-                    ioException.getMessage(),
-                    Error.builder()
-                            .title(CERTIFICATE_EXCEPTION_MESSAGE)
-                            .detail(ioException.getMessage())
-                            .build()
-            );
+        return CacheUtils.get(config, CACHE_PIX, e2eId, Pix.class, PixClient::isSettled,
+                () -> HttpUtils.callGet(config, url, PIX_READ_SCOPE, "Error retrieving pix", Pix.class));
+    }
+
+    /**
+     * Retrieves the details of a Pix transaction asynchronously.
+     *
+     * @param config The configuration object containing client information.
+     * @param e2eId  The end-to-end ID of the Pix transaction to be retrieved.
+     * @return A {@link CompletableFuture} completed with the {@link Pix} transaction, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<Pix> retrievePixTransactionAsync(Config config, String e2eId) {
+        log.info("RetrievePix {} e2eId={}", config.getClientId(), e2eId);
+        String url = UrlUtils.buildUrl(config, URL_PIX_PIX) + "/" + e2eId;
+        return CacheUtils.getAsync(config, CACHE_PIX, e2eId, Pix.class, PixClient::isSettled,
+                () -> AsyncHttpUtils.callGet(config, url, PIX_READ_SCOPE, "Error retrieving pix", Pix.class));
+    }
+
+    /**
+     * Tells whether a Pix no longer changes: it is older than the {@value #DEVOLUTION_WINDOW_DAYS}-day window in
+     * which devolutions can be requested, and none of its devolutions is still being processed. Other Pix are
+     * cached only for {@code ttlSeconds}, since devolutions can be requested outside this client.
+     *
+     * @param pix The Pix transaction.
+     * @return {@code true} if the Pix can be cached indefinitely.
+     */
+    private static boolean isSettled(Pix pix) {
+        if (pix.getTimestamp() == null
+                || pix.getTimestamp().toInstant().isAfter(Instant.now().minus(DEVOLUTION_WINDOW_DAYS, ChronoUnit.DAYS))) {
+            return false;
         }
+        return pix.getRefunds() == null || pix.getRefunds().stream()
+                .noneMatch(refund -> refund.getStatus() == null || PixBillingStatus.EM_PROCESSAMENTO.name().equals(refund.getStatus()));
     }
 
     /**
@@ -133,6 +189,22 @@ public class PixClient {
         return getPage(config, initialDate, finalDate, page, pageSize, filter);
     }
 
+    /**
+     * Retrieves a page of Pix transactions asynchronously.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive).
+     * @param finalDate   The end date for the retrieval range (inclusive).
+     * @param page        The page number to retrieve.
+     * @param pageSize    The number of items per page (optional).
+     * @param filter      A {@link RetrievedPixFilter} object containing filter criteria.
+     * @return A {@link CompletableFuture} completed with the {@link PixPage}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<PixPage> retrievePixPageAsync(Config config, String initialDate, String finalDate, int page, Integer pageSize, RetrievedPixFilter filter) {
+        log.info("RetrievePixList {} {}-{} page={}", config.getClientId(), initialDate, finalDate, page);
+        return getPageAsync(config, initialDate, finalDate, page, pageSize, filter);
+    }
+
     /**
      * Retrieves all Pix transactions within the specified date range and filters.
      *
@@ -146,6 +218,13 @@ public class PixClient {
      */
     public List<Pix> retrievePixInRange(Config config, String initialDate, String finalDate, RetrievedPixFilter filter) throws SdkException {
         log.info("RetrievePixList {} {}-{}", config.getClientId(), initialDate, finalDate);
+        if (config.getPageConcurrency() > 1) {
+            return AsyncHttpUtils.join(AsyncHttpUtils.collectPages(
+                    page -> getPageAsync(config, initialDate, finalDate, page, null, filter),
+                    PixPage::getTotalPages,
+                    PixPage::getPixList,
+                    config.getPageConcurrency()));
+        }
         int page = 0;
         PixPage pixPage;
         List<Pix> listaPix = new ArrayList<>();
@@ -157,6 +236,81 @@ public class PixClient {
         return listaPix;
     }
 
+    /**
+     * Retrieves all Pix transactions within the specified date range and filters asynchronously.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive).
+     * @param finalDate   The end date for the retrieval range (inclusive).
+     * @param filter      A {@link RetrievedPixFilter} object containing filter criteria.
+     * @return A {@link CompletableFuture} completed with all retrieved {@link Pix} transactions, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<List<Pix>> retrievePixInRangeAsync(Config config, String initialDate, String finalDate, RetrievedPixFilter filter) {
+        log.info("RetrievePixList {} {}-{}", config.getClientId(), initialDate, finalDate);
+        return AsyncHttpUtils.collectPages(
+                page -> getPageAsync(config, initialDate, finalDate, page, null, filter),
+                PixPage::getTotalPages,
+                PixPage::getPixList,
+                config.getPageConcurrency());
+    }
+
+    /**
+     * Streams all Pix transactions within the specified date range and filters, fetching the pages as the stream is consumed.
+     * Up to {@link Config#getPagePrefetch()} pages are requested ahead; errors are thrown when the stream
+     * reaches the failed page, as a {@link java.util.concurrent.CompletionException} wrapping the {@link SdkException}.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive).
+     * @param finalDate   The end date for the retrieval range (inclusive).
+     * @param filter      A {@link RetrievedPixFilter} object containing filter criteria.
+     * @return A lazy {@link Stream} of all retrieved {@link Pix} transactions, in page order.
+     */
+    public Stream<Pix> streamPixInRange(Config config, String initialDate, String finalDate, RetrievedPixFilter filter) {
+        log.info("RetrievePixList {} {}-{}", config.getClientId(), initialDate, finalDate);
+        return PageUtils.stream(
+                page -> getPageAsync(config, initialDate, finalDate, page, null, filter),
+                PixPage::getTotalPages,
+                PixPage::getPixList,
+                config.getPagePrefetch());
+    }
+
+    /**
+     * Retrieves all Pix transactions within the specified date range, splitting the range into windows of days
+     * according to {@link Config#getShardPolicy()} and retrieving the windows in parallel. The Pix transactions
+     * are returned in chronological order of the windows, without duplicates by their {@code endToEndId}.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive). Format: YYYY-MM-DD.
+     * @param finalDate   The end date for the retrieval range (inclusive). Format: YYYY-MM-DD.
+     * @param filter      A {@link RetrievedPixFilter} object containing filter criteria.
+     * @return A list of all retrieved {@link Pix} Pix transactions.
+     * @throws SdkException If there is an error during the retrieval process, such as network issues
+     *                      or API response errors.
+     */
+    public List<Pix> retrievePixInRangeSharded(Config config, String initialDate, String finalDate, RetrievedPixFilter filter) throws SdkException {
+        return AsyncHttpUtils.join(retrievePixInRangeShardedAsync(config, initialDate, finalDate, filter));
+    }
+
+    /**
+     * Retrieves all Pix transactions within the specified date range asynchronously, splitting the range into windows
+     * of days according to {@link Config#getShardPolicy()} and retrieving the windows in parallel. The Pix transactions
+     * are returned in chronological order of the windows, without duplicates by their {@code endToEndId}.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive). Format: YYYY-MM-DD.
+     * @param finalDate   The end date for the retrieval range (inclusive). Format: YYYY-MM-DD.
+     * @param filter      A {@link RetrievedPixFilter} object containing filter criteria.
+     * @return A {@link CompletableFuture} completed with all retrieved {@link Pix} Pix transactions, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<List<Pix>> retrievePixInRangeShardedAsync(Config config, String initialDate, String finalDate, RetrievedPixFilter filter) {
+        log.info("RetrievePixList {} {}-{} sharded", config.getClientId(), initialDate, finalDate);
+        return ShardUtils.collectByDay(config, initialDate, finalDate,
+                (windowInitialDate, windowFinalDate, page) -> getPageAsync(config, windowInitialDate, windowFinalDate, page, null, filter),
+                PixPage::getTotalPages,
+                PixPage::getPixList,
+                Pix::getEndToEndId);
+    }
+
     /**
      * Retrieves a specific page of Pix transactions based on the provided criteria.
      *
@@ -171,23 +325,42 @@ public class PixClient {
      *                      or API response errors.
      */
     private PixPage getPage(Config config, String initialDate, String finalDate, int page, Integer pageSize, RetrievedPixFilter filter) throws SdkException {
-        String url = UrlUtils.buildUrl(config, URL_PIX_PIX) + "?inicio=" + initialDate + "&fim=" + finalDate
+        String url = pageUrl(config, initialDate, finalDate, page, pageSize, filter);
+        return HttpUtils.callGet(config, url, PIX_READ_SCOPE, "Error retrieving pix", PixPage.class);
+    }
+
+    /**
+     * Retrieves a specific page of Pix transactions asynchronously.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive).
+     * @param finalDate   The end date for the retrieval range (inclusive).
+     * @param page        The page number to retrieve.
+     * @param pageSize    The number of items per page (optional).
+     * @param filter      A {@link RetrievedPixFilter} object containing filter criteria.
+     * @return A {@link CompletableFuture} completed with the {@link PixPage}.
+     */
+    private CompletableFuture<PixPage> getPageAsync(Config config, String initialDate, String finalDate, int page, Integer pageSize, RetrievedPixFilter filter) {
+        String url = pageUrl(config, initialDate, finalDate, page, pageSize, filter);
+        return AsyncHttpUtils.callGet(config, url, PIX_READ_SCOPE, "Error retrieving pix", PixPage.class);
+    }
+
+    /**
+     * Builds the URL of a page of Pix transactions.
+     *
+     * @param config      The configuration object containing client information.
+     * @param initialDate The start date for the retrieval range (inclusive).
+     * @param finalDate   The end date for the retrieval range (inclusive).
+     * @param page        The page number to retrieve.
+     * @param pageSize    The number of items per page (optional).
+     * @param filter      A {@link RetrievedPixFilter} object containing filter criteria.
+     * @return The URL of the page.
+     */
+    private String pageUrl(Config config, String initialDate, String finalDate, int page, Integer pageSize, RetrievedPixFilter filter) {
+        return UrlUtils.buildUrl(config, URL_PIX_PIX) + "?inicio=" + initialDate + "&fim=" + finalDate
                 + "&paginacao.paginaAtual=" + page
                 + (pageSize != null ? "&paginacao.itensPorPagina=" + pageSize : "")
                 + addfilters(filter);
-        String json = HttpUtils.callGet(config, url, PIX_READ_SCOPE, "Error retrieving pix");
-        try {
-            return new ObjectMapper().readValue(json, PixPage.class);
-        } catch (IOException ioException) {
-            log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
-            throw new SdkException(
-                    ioException.getMessage(),
-                    Error.builder()
-                            .title(CERTIFICATE_EXCEPTION_MESSAGE)
-                            .detail(ioException.getMessage())
-                            .build()
-            );
-        }
     }
 
     /**
@@ -1,12 +1,12 @@
 package inter.sdk.pix.webhooks;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import inter.sdk.commons.exceptions.SdkException;
 import inter.sdk.commons.models.Config;
-import inter.sdk.commons.models.Error;
 import inter.sdk.commons.models.IncludeWebhookRequest;
 import inter.sdk.commons.models.Webhook;
+import inter.sdk.commons.utils.AsyncHttpUtils;
 import inter.sdk.commons.utils.HttpUtils;
+import inter.sdk.commons.utils.PageUtils;
 import inter.sdk.commons.utils.UrlUtils;
 import inter.sdk.commons.utils.WebhookUtil;
 import inter.sdk.pix.models.PixCallbackPage;
@@ -14,12 +14,11 @@ import inter.sdk.pix.models.CallbackRetrieveFilter;
 import inter.sdk.pix.models.RetrieveCallbackResponse;
 import lombok.extern.slf4j.Slf4j;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
-import static inter.sdk.commons.structures.Constants.CERTIFICATE_EXCEPTION_MESSAGE;
-import static inter.sdk.commons.structures.Constants.GENERIC_EXCEPTION_MESSAGE;
 import static inter.sdk.commons.structures.Constants.PIX_WEBHOOK_READ_SCOPE;
 import static inter.sdk.commons.structures.Constants.PIX_WEBHOOK_WRITE_SCOPE;
 import static inter.sdk.commons.structures.Constants.URL_PIX_WEBHOOK;
@@ -47,6 +46,21 @@ public class PixWebhookSdk {
         HttpUtils.callDelete(config, url, PIX_WEBHOOK_WRITE_SCOPE, "Error deleting webhook");
     }
 
+    /**
+     * Deletes the webhook of a Pix key asynchronously.
+     *
+     * @param config The configuration object containing client information.
+     * @param key    The unique key of the webhook to be deleted.
+     * @return A {@link CompletableFuture} completed with {@code null} once the webhook is deleted, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<Void> deleteWebhookAsync(Config config, String key) {
+        log.info("DeleteWebhook pix {} {}", config.getClientId(), key);
+        String url = UrlUtils.buildUrl(config, URL_PIX_WEBHOOK) + "/" + key;
+
+        return AsyncHttpUtils.callDelete(config, url, PIX_WEBHOOK_WRITE_SCOPE, "Error deleting webhook")
+                .thenApply(json -> null);
+    }
+
     /**
      * Includes a webhook for the specified key and webhook URL.
      *
@@ -64,6 +78,22 @@ public class PixWebhookSdk {
         WebhookUtil.includeWebhook(config, url, request, PIX_WEBHOOK_WRITE_SCOPE);
     }
 
+    /**
+     * Includes the webhook of a Pix key asynchronously.
+     *
+     * @param config     The configuration object containing client information.
+     * @param key        The unique key for which the webhook is being included.
+     * @param webhookUrl The URL of the webhook to be included.
+     * @return A {@link CompletableFuture} completed with {@code null} once the webhook is included, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<Void> includeWebhookAsync(Config config, String key, String webhookUrl) {
+        log.info("IncludeWebhook pix {} {} {}", config.getClientId(), key, webhookUrl);
+        String url = UrlUtils.buildUrl(config, URL_PIX_WEBHOOK) + "/" + key;
+        IncludeWebhookRequest request = IncludeWebhookRequest.builder().webhookUrl(webhookUrl).build();
+
+        return WebhookUtil.includeWebhookAsync(config, url, request, PIX_WEBHOOK_WRITE_SCOPE);
+    }
+
     /**
      * Retrieves a paginated list of callback notifications based on specified date range and filters.
      *
@@ -82,6 +112,22 @@ public class PixWebhookSdk {
         return getPage(config, initialDateHour, finalDateHour, page, pageSize, filter);
     }
 
+    /**
+     * Retrieves a page of webhook callbacks asynchronously.
+     *
+     * @param config          The configuration object containing client information.
+     * @param initialDateHour The start date and time for the retrieval range (inclusive).
+     * @param finalDateHour   The end date and time for the retrieval range (inclusive).
+     * @param page            The page number to retrieve.
+     * @param pageSize        The number of items per page (optional).
+     * @param filter          A {@link CallbackRetrieveFilter} object containing filter criteria.
+     * @return A {@link CompletableFuture} completed with the {@link PixCallbackPage}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<PixCallbackPage> retrieveCallbackPageAsync(Config config, String initialDateHour, String finalDateHour, int page, Integer pageSize, CallbackRetrieveFilter filter) {
+        log.info("RetrieveCallbacks pix {} {}-{}", config.getClientId(), initialDateHour, finalDateHour);
+        return getPageAsync(config, initialDateHour, finalDateHour, page, pageSize, filter);
+    }
+
     /**
      * Retrieves all callback notifications within the specified date range and filters.
      *
@@ -95,6 +141,13 @@ public class PixWebhookSdk {
      */
     public List<RetrieveCallbackResponse> retrieveCallbackInRange(Config config, String initialDateHour, String finalDateHour, CallbackRetrieveFilter filter) throws SdkException {
         log.info("RetrieveCallbacks pix {} {}-{}", config.getClientId(), initialDateHour, finalDateHour);
+        if (config.getPageConcurrency() > 1) {
+            return AsyncHttpUtils.join(AsyncHttpUtils.collectPages(
+                    page -> getPageAsync(config, initialDateHour, finalDateHour, page, null, filter),
+                    PixCallbackPage::getTotalPages,
+                    PixCallbackPage::getData,
+                    config.getPageConcurrency()));
+        }
         int page = 0;
         PixCallbackPage callbackPage;
         List<RetrieveCallbackResponse> callbacks = new ArrayList<>();
@@ -106,6 +159,44 @@ public class PixWebhookSdk {
         return callbacks;
     }
 
+    /**
+     * Retrieves all webhook callbacks within the specified period asynchronously.
+     *
+     * @param config          The configuration object containing client information.
+     * @param initialDateHour The start date and time for the retrieval range (inclusive).
+     * @param finalDateHour   The end date and time for the retrieval range (inclusive).
+     * @param filter          A {@link CallbackRetrieveFilter} object containing filter criteria.
+     * @return A {@link CompletableFuture} completed with all retrieved {@link RetrieveCallbackResponse} callbacks, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<List<RetrieveCallbackResponse>> retrieveCallbackInRangeAsync(Config config, String initialDateHour, String finalDateHour, CallbackRetrieveFilter filter) {
+        log.info("RetrieveCallbacks pix {} {}-{}", config.getClientId(), initialDateHour, finalDateHour);
+        return AsyncHttpUtils.collectPages(
+                page -> getPageAsync(config, initialDateHour, finalDateHour, page, null, filter),
+                PixCallbackPage::getTotalPages,
+                PixCallbackPage::getData,
+                config.getPageConcurrency());
+    }
+
+    /**
+     * Streams all webhook callbacks within the specified period, fetching the pages as the stream is consumed.
+     * Up to {@link Config#getPagePrefetch()} pages are requested ahead; errors are thrown when the stream
+     * reaches the failed page, as a {@link java.util.concurrent.CompletionException} wrapping the {@link SdkException}.
+     *
+     * @param config          The configuration object containing client information.
+     * @param initialDateHour The start date and time for the retrieval range (inclusive).
+     * @param finalDateHour   The end date and time for the retrieval range (inclusive).
+     * @param filter          A {@link CallbackRetrieveFilter} object containing filter criteria.
+     * @return A lazy {@link Stream} of all retrieved {@link RetrieveCallbackResponse} callbacks, in page order.
+     */
+    public Stream<RetrieveCallbackResponse> streamCallbackInRange(Config config, String initialDateHour, String finalDateHour, CallbackRetrieveFilter filter) {
+        log.info("RetrieveCallbacks pix {} {}-{}", config.getClientId(), initialDateHour, finalDateHour);
+        return PageUtils.stream(
+                page -> getPageAsync(config, initialDateHour, finalDateHour, page, null, filter),
+                PixCallbackPage::getTotalPages,
+                PixCallbackPage::getData,
+                config.getPagePrefetch());
+    }
+
     /**
      * Retrieves a webhook identified by the provided key.
      *
@@ -122,6 +213,20 @@ public class PixWebhookSdk {
         return WebhookUtil.retrieveWebhook(config, url, PIX_WEBHOOK_READ_SCOPE);
     }
 
+    /**
+     * Retrieves the webhook of a Pix key asynchronously.
+     *
+     * @param config The configuration object containing client information.
+     * @param key    The unique key of the webhook to be retrieved.
+     * @return A {@link CompletableFuture} completed with the {@link Webhook}, or exceptionally with a {@link SdkException}.
+     */
+    public CompletableFuture<Webhook> retrieveWebhookAsync(Config config, String key) {
+        log.info("RetrieveWebhook pix {} {}", config.getClientId(), key);
+        String url = UrlUtils.buildUrl(config, URL_PIX_WEBHOOK) + "/" + key;
+
+        return WebhookUtil.retrieveWebhookAsync(config, url, PIX_WEBHOOK_READ_SCOPE);
+    }
+
     /**
      * Retrieves a specific page of callback notifications based on the provided date range and filters.
      *
@@ -136,25 +241,44 @@ public class PixWebhookSdk {
      *                      or API response errors.
      */
     private PixCallbackPage getPage(Config config, String initialDateHour, String finalDateHour, int page, Integer pageSize, CallbackRetrieveFilter filter) throws SdkException {
-        String url = UrlUtils.buildUrl(config, URL_PIX_WEBHOOK_CALLBACKS)
+        String url = pageUrl(config, initialDateHour, finalDateHour, page, pageSize, filter);
+        return HttpUtils.callGet(config, url, PIX_WEBHOOK_READ_SCOPE, "Error retrieving callbacks", PixCallbackPage.class);
+    }
+
+    /**
+     * Retrieves a specific page of webhook callbacks asynchronously.
+     *
+     * @param config          The configuration object containing client information.
+     * @param initialDateHour The start date and time for the retrieval range (inclusive).
+     * @param finalDateHour   The end date and time for the retrieval range (inclusive).
+     * @param page            The page number to retrieve.
+     * @param pageSize        The number of items per page (optional).
+     * @param filter          A {@link CallbackRetrieveFilter} object containing filter criteria.
+     * @return A {@link CompletableFuture} completed with the {@link PixCallbackPage}.
+     */
+    private CompletableFuture<PixCallbackPage> getPageAsync(Config config, String initialDateHour, String finalDateHour, int page, Integer pageSize, CallbackRetrieveFilter filter) {
+        String url = pageUrl(config, initialDateHour, finalDateHour, page, pageSize, filter);
+        return AsyncHttpUtils.callGet(config, url, PIX_WEBHOOK_READ_SCOPE, "Error retrieving callbacks", PixCallbackPage.class);
+    }
+
+    /**
+     * Builds the URL of a page of webhook callbacks.
+     *
+     * @param config          The configuration object containing client information.
+     * @param initialDateHour The start date and time for the retrieval range (inclusive).
+     * @param finalDateHour   The end date and time for the retrieval range (inclusive).
+     * @param page            The page number to retrieve.
+     * @param pageSize        The number of items per page (optional).
+     * @param filter          A {@link CallbackRetrieveFilter} object containing filter criteria.
+     * @return The URL of the page.
+     */
+    private String pageUrl(Config config, String initialDateHour, String finalDateHour, int page, Integer pageSize, CallbackRetrieveFilter filter) {
+        return UrlUtils.buildUrl(config, URL_PIX_WEBHOOK_CALLBACKS)
                 + "?dataHoraInicio=" + initialDateHour
                 + "&dataHoraFim=" + finalDateHour
                 + "&pagina=" + page
                 + (pageSize != null ? "&tamanhoPagina=" + pageSize : "")
                 + addfilters(filter);
-        String json = HttpUtils.callGet(config, url, PIX_WEBHOOK_READ_SCOPE, "Error retrieving callbacks");
-        try {
-            return new ObjectMapper().readValue(json, PixCallbackPage.class);
-        } catch (IOException ioException) {
-            log.error(GENERIC_EXCEPTION_MESSAGE, ioException);
-            throw new SdkException(
-                    ioException.getMessage(),
-                    Error.builder()
-                            .title(CERTIFICATE_EXCEPTION_MESSAGE)
-                            .detail(ioException.getMessage())
-                            .build()
-            );
-        }
     }
 
     /**
@@ -0,0 +1,151 @@
+package inter.sdk.banking.bankstatement;
+
+import inter.sdk.banking.models.EnrichedTransaction;
+import inter.sdk.commons.exceptions.SdkException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+/**
+ * Test class for {@link ColumnarStatementStore}.
+ * This class contains unit tests to verify the files of the store, including:
+ * <ul>
+ *     <li>Transactions read back after the store is opened again</li>
+ *     <li>Values left by an interrupted append discarded when the store is opened again</li>
+ *     <li>Appends with an invalid transaction discarded as a whole, dictionaries included</li>
+ * </ul>
+ *
+ * @see ColumnarStatementStore
+ * @since 1.0
+ */
+public class ColumnarStatementStoreTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+    /**
+     * Tests that appended transactions are read back, with missing fields, after the store is opened again.
+     */
+    @Test
+    public void testAppendAndReopen() throws Exception {
+        Path directory = folder.getRoot().toPath();
+        try (ColumnarStatementStore store = new ColumnarStatementStore(directory)) {
+            assertEquals(2, store.append(Arrays.asList(
+                    transaction("2024-05-02", "PIX", "C", "150.25"),
+                    transaction("2024-05-03", "BOLETO", "D", "-20.10"))));
+            assertEquals(1, store.append(Collections.singletonList(transaction("2024-05-03", "PIX", null, null))));
+        }
+        try (ColumnarStatementStore store = new ColumnarStatementStore(directory)) {
+            assertEquals(3, store.size());
+            StatementColumns columns = store.columns();
+            assertEquals(3, columns.size());
+            assertEquals(Arrays.asList("PIX", "BOLETO"), columns.getTransactionTypes());
+            EnrichedTransaction first = columns.transaction(0);
+            assertEquals("2024-05-02", first.getTransactionDate());
+            assertEquals("150.25", first.getValue());
+            assertEquals("C", first.getOperationType());
+            EnrichedTransaction last = columns.transaction(2);
+            assertNull(last.getValue());
+            assertNull(last.getOperationType());
+            assertEquals(15025, columns.sumValueCents(LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 31), "C"));
+        }
+    }
+    /**
+     * Tests that values written after the last header, as left by an interrupted append, are discarded
+     * when the store is opened again, and that the next append starts after the counted transactions.
+     */
+    @Test
+    public void testInterruptedAppendDiscarded() throws Exception {
+        Path directory = folder.getRoot().toPath();
+        try (ColumnarStatementStore store = new ColumnarStatementStore(directory)) {
+            store.append(Collections.singletonList(transaction("2024-05-02", "PIX", "C", "10.00")));
+        }
+        appendBytes(directory.resolve("value.col"), new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9});
+        appendBytes(directory.resolve("transaction-date.col"), new byte[]{1, 2});
+        // a dictionary entry announcing 10 bytes with only 3 written
+        appendBytes(directory.resolve("transaction-type.dict"), new byte[]{0, 10, 'T', 'E', 'D'});
+        try (ColumnarStatementStore store = new ColumnarStatementStore(directory)) {
+            assertEquals(1, store.size());
+            assertEquals(Collections.singletonList("PIX"), store.columns().getTransactionTypes());
+            store.append(Collections.singletonList(transaction("2024-05-03", "TED", "D", "-5.00")));
+        }
+        try (ColumnarStatementStore store = new ColumnarStatementStore(directory)) {
+            StatementColumns columns = store.columns();
+            assertEquals(2, columns.size());
+            assertEquals(1000, columns.valueCents(0));
+            assertEquals(-500, columns.valueCents(1));
+            assertEquals("TED", columns.transaction(1).getTransactionType());
+        }
+    }
+    /**
+     * Tests that an append with an invalid transaction fails without appending any of its transactions,
+     * or adding their values to the dictionaries, and that the store remains usable.
+     */
+    @Test
+    public void testInvalidTransactionDiscardsAppend() throws Exception {
+        Path directory = folder.getRoot().toPath();
+        try (ColumnarStatementStore store = new ColumnarStatementStore(directory)) {
+            store.append(Collections.singletonList(transaction("2024-05-02", "PIX", "C", "10.00")));
+            try {
+                store.append(Arrays.asList(
+                        transaction("2024-05-03", "BOLETO", "D", "-1.00"),
+                        transaction("2024-05-32", "TED", "D", "-2.00")));
+                fail("An invalid date should fail the append");
+            } catch (SdkException e) {
+                assertEquals(1, store.size());
+            }
+            try {
+                store.append(Collections.singletonList(transaction("2024-05-03", "TED", "D", "abc")));
+                fail("An invalid value should fail the append");
+            } catch (SdkException e) {
+                assertEquals(1, store.size());
+            }
+            assertEquals(Collections.singletonList("PIX"), store.columns().getTransactionTypes());
+            store.append(Collections.singletonList(transaction("2024-05-04", "PIX", "C", "3.00")));
+        }
+        try (ColumnarStatementStore store = new ColumnarStatementStore(directory)) {
+            StatementColumns columns = store.columns();
+            assertEquals(2, columns.size());
+            assertEquals(Collections.singletonList("PIX"), columns.getTransactionTypes());
+            assertEquals(1300, columns.sumValueCents(LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 31), null));
+        }
+    }
+    /**
+     * Builds a transaction.
+     *
+     * @param date            The transaction and inclusion date.
+     * @param transactionType The transaction type.
+     * @param operationType   The operation type.
+     * @param value           The value.
+     * @return The transaction.
+     */
+    private static EnrichedTransaction transaction(String date, String transactionType, String operationType, String value) {
+        return EnrichedTransaction.builder()
+                .transactionDate(date)
+                .inclusionDate(date + " 10:15:00")
+                .transactionType(transactionType)
+                .operationType(operationType)
+                .value(value)
+                .title(transactionType)
+                .build();
+    }
+    /**
+     * Appends bytes to a file, as an interrupted write would leave them.
+     *
+     * @param file  The file.
+     * @param bytes The bytes.
+     * @throws IOException If the file cannot be written.
+     */
+    private static void appendBytes(Path file, byte[] bytes) throws IOException {
+        Files.write(file, bytes, StandardOpenOption.APPEND);
+    }
+}
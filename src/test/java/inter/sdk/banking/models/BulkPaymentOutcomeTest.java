@@ -0,0 +1,196 @@
+package inter.sdk.banking.models;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for {@link BulkPaymentOutcome}.
+ * This class contains unit tests to verify the functionality of the BulkPaymentOutcome POJO.
+ * It tests all aspects of the BulkPaymentOutcome class, including:
+ * <ul>
+ *     <li>Constructors (No-args and All-args)</li>
+ *     <li>Builder pattern</li>
+ *     <li>Getters and Setters for all fields</li>
+ *     <li>Handling of additional fields</li>
+ *     <li>toString() method</li>
+ *     <li>equals() and hashCode() methods</li>
+ * </ul>
+ *
+ * @see BulkPaymentOutcome
+ * @since 1.0
+ */
+public class BulkPaymentOutcomeTest {
+
+    Integer index;
+    String batchId;
+    String myIdentifier;
+    String paymentType;
+    String transactionId;
+    String status;
+    String detail;
+    String error;
+    Boolean pending;
+
+    Map<String, String> additionalFields;
+
+    private BulkPaymentOutcome bulkPaymentOutcome;
+
+    /**
+     * Sets up the test environment before each test method.
+     * Initializes a new BulkPaymentOutcome object for use in tests.
+     */
+    @Before
+    public void setUp() {
+        index = 3;
+        batchId = "batch-1";
+        myIdentifier = "payroll-1";
+        paymentType = "BOLETO";
+        transactionId = "tx-1";
+        status = "PAGO";
+        detail = "Pagamento realizado";
+        error = null;
+        pending = false;
+
+        additionalFields = new HashMap<>();
+        additionalFields.put("customField", "customValue");
+
+        bulkPaymentOutcome = new BulkPaymentOutcome();
+    }
+
+    /**
+     * Tests the no-args constructor of the BulkPaymentOutcome class.
+     */
+    @Test
+    public void testNoArgsConstructor() {
+        assertNotNull("BulkPaymentOutcome object should not be null", bulkPaymentOutcome);
+    }
+
+    /**
+     * Tests the all-args constructor of the BulkPaymentOutcome class.
+     * <p>
+     * This test verifies that all fields are correctly initialized with the provided values
+     * and that the additionalFields map is correctly set and can be retrieved.
+     */
+    @Test
+    public void testAllArgsConstructor() {
+        BulkPaymentOutcome outcome = new BulkPaymentOutcome(index, batchId, myIdentifier, paymentType, transactionId, status, detail, error, pending);
+        outcome.setAdditionalFields(additionalFields);
+
+        assertEquals(index, outcome.getIndex());
+        assertEquals(batchId, outcome.getBatchId());
+        assertEquals(myIdentifier, outcome.getMyIdentifier());
+        assertEquals(paymentType, outcome.getPaymentType());
+        assertEquals(transactionId, outcome.getTransactionId());
+        assertEquals(status, outcome.getStatus());
+        assertEquals(detail, outcome.getDetail());
+        assertEquals(error, outcome.getError());
+        assertEquals(pending, outcome.getPending());
+        assertEquals(additionalFields, outcome.getAdditionalFields());
+    }
+
+    /**
+     * Tests the builder pattern of the BulkPaymentOutcome class.
+     */
+    @Test
+    public void testBulkPaymentOutcomeBuilder() {
+        BulkPaymentOutcome builtOutcome = BulkPaymentOutcome.builder()
+                .index(index)
+                .batchId(batchId)
+                .myIdentifier(myIdentifier)
+                .paymentType(paymentType)
+                .transactionId(transactionId)
+                .status(status)
+                .detail(detail)
+                .error("Timed out")
+                .pending(true)
+                .additionalFields(additionalFields)
+                .build();
+
+        assertEquals("Index should match", index, builtOutcome.getIndex());
+        assertEquals("Batch ID should match", batchId, builtOutcome.getBatchId());
+        assertEquals("My identifier should match", myIdentifier, builtOutcome.getMyIdentifier());
+        assertEquals("Payment type should match", paymentType, builtOutcome.getPaymentType());
+        assertEquals("Transaction ID should match", transactionId, builtOutcome.getTransactionId());
+        assertEquals("Status should match", status, builtOutcome.getStatus());
+        assertEquals("Detail should match", detail, builtOutcome.getDetail());
+        assertEquals("Error should match", "Timed out", builtOutcome.getError());
+        assertEquals("Pending should match", true, builtOutcome.getPending());
+        assertEquals("Additional fields should match", additionalFields, builtOutcome.getAdditionalFields());
+    }
+
+    /**
+     * Tests the setters and getters for all fields in the BulkPaymentOutcome class.
+     */
+    @Test
+    public void testGettersAndSetters() {
+        bulkPaymentOutcome.setIndex(index);
+        bulkPaymentOutcome.setBatchId(batchId);
+        bulkPaymentOutcome.setMyIdentifier(myIdentifier);
+        bulkPaymentOutcome.setPaymentType(paymentType);
+        bulkPaymentOutcome.setTransactionId(transactionId);
+        bulkPaymentOutcome.setStatus(status);
+        bulkPaymentOutcome.setDetail(detail);
+        bulkPaymentOutcome.setError(error);
+        bulkPaymentOutcome.setPending(pending);
+
+        assertEquals("Index should match", index, bulkPaymentOutcome.getIndex());
+        assertEquals("Batch ID should match", batchId, bulkPaymentOutcome.getBatchId());
+        assertEquals("My identifier should match", myIdentifier, bulkPaymentOutcome.getMyIdentifier());
+        assertEquals("Payment type should match", paymentType, bulkPaymentOutcome.getPaymentType());
+        assertEquals("Transaction ID should match", transactionId, bulkPaymentOutcome.getTransactionId());
+        assertEquals("Status should match", status, bulkPaymentOutcome.getStatus());
+        assertEquals("Detail should match", detail, bulkPaymentOutcome.getDetail());
+        assertEquals("Error should match", error, bulkPaymentOutcome.getError());
+        assertEquals("Pending should match", pending, bulkPaymentOutcome.getPending());
+    }
+
+    /**
+     * Tests the ability to set and retrieve a single additional field.
+     */
+    @Test
+    public void testAdditionalField() {
+        bulkPaymentOutcome.setAdditionalField("customField", "customValue");
+        Map<String, String> fields = bulkPaymentOutcome.getAdditionalFields();
+        assertTrue("Additional fields should contain the custom field", fields.containsKey("customField"));
+        assertEquals("Custom field value should match", "customValue", fields.get("customField"));
+    }
+
+    /**
+     * Tests the toString() method of the BulkPaymentOutcome class.
+     */
+    @Test
+    public void testToString() {
+        BulkPaymentOutcome outcome = BulkPaymentOutcome.builder()
+                .batchId(batchId)
+                .status(status)
+                .build();
+
+        String toStringResult = outcome.toString();
+
+        assertTrue("toString should contain batch ID", toStringResult.contains("batchId=batch-1"));
+        assertTrue("toString should contain status", toStringResult.contains("status=PAGO"));
+    }
+
+    /**
+     * Tests the equals() and hashCode() methods of the BulkPaymentOutcome class.
+     */
+    @Test
+    public void testEqualsAndHashCode() {
+        BulkPaymentOutcome outcome1 = new BulkPaymentOutcome(index, batchId, myIdentifier, paymentType, transactionId, status, detail, error, pending);
+        BulkPaymentOutcome outcome2 = new BulkPaymentOutcome(index, batchId, myIdentifier, paymentType, transactionId, status, detail, error, pending);
+        BulkPaymentOutcome outcome3 = new BulkPaymentOutcome(4, batchId, myIdentifier, paymentType, "tx-2", status, detail, error, pending);
+
+        assertEquals("The same outcome should be equal", outcome1, outcome1);
+        assertEquals("Equal outcomes should be equal", outcome1, outcome2);
+        assertEquals("Equal outcomes should have the same hash code", outcome1.hashCode(), outcome2.hashCode());
+        assertNotEquals("Different outcomes should not be equal", outcome1, outcome3);
+    }
+}
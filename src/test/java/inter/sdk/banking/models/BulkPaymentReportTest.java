@@ -0,0 +1,170 @@
+package inter.sdk.banking.models;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for {@link BulkPaymentReport}.
+ * This class contains unit tests to verify the functionality of the BulkPaymentReport POJO.
+ * It tests all aspects of the BulkPaymentReport class, including:
+ * <ul>
+ *     <li>Constructors (No-args and All-args)</li>
+ *     <li>Builder pattern</li>
+ *     <li>Getters and Setters for all fields</li>
+ *     <li>Handling of additional fields</li>
+ *     <li>toString() method</li>
+ *     <li>equals() and hashCode() methods</li>
+ * </ul>
+ *
+ * @see BulkPaymentReport
+ * @since 1.0
+ */
+public class BulkPaymentReportTest {
+
+    List<BatchProcessing> batches;
+    List<BulkPaymentOutcome> outcomes;
+    Integer paymentQuantity;
+    Integer errorQuantity;
+    Integer pendingQuantity;
+
+    Map<String, String> additionalFields;
+
+    private BulkPaymentReport bulkPaymentReport;
+
+    /**
+     * Sets up the test environment before each test method.
+     * Initializes a new BulkPaymentReport object for use in tests.
+     */
+    @Before
+    public void setUp() {
+        batches = Collections.singletonList(BatchProcessing.builder().batchId("batch-1").status("PROCESSADO").build());
+        outcomes = Collections.singletonList(BulkPaymentOutcome.builder().index(0).batchId("batch-1").status("PAGO").build());
+        paymentQuantity = 1;
+        errorQuantity = 0;
+        pendingQuantity = 0;
+
+        additionalFields = new HashMap<>();
+        additionalFields.put("customField", "customValue");
+
+        bulkPaymentReport = new BulkPaymentReport();
+    }
+
+    /**
+     * Tests the no-args constructor of the BulkPaymentReport class.
+     */
+    @Test
+    public void testNoArgsConstructor() {
+        assertNotNull("BulkPaymentReport object should not be null", bulkPaymentReport);
+    }
+
+    /**
+     * Tests the all-args constructor of the BulkPaymentReport class.
+     * <p>
+     * This test verifies that all fields are correctly initialized with the provided values
+     * and that the additionalFields map is correctly set and can be retrieved.
+     */
+    @Test
+    public void testAllArgsConstructor() {
+        BulkPaymentReport report = new BulkPaymentReport(batches, outcomes, paymentQuantity, errorQuantity, pendingQuantity);
+        report.setAdditionalFields(additionalFields);
+
+        assertEquals(batches, report.getBatches());
+        assertEquals(outcomes, report.getOutcomes());
+        assertEquals(paymentQuantity, report.getPaymentQuantity());
+        assertEquals(errorQuantity, report.getErrorQuantity());
+        assertEquals(pendingQuantity, report.getPendingQuantity());
+        assertEquals(additionalFields, report.getAdditionalFields());
+    }
+
+    /**
+     * Tests the builder pattern of the BulkPaymentReport class.
+     */
+    @Test
+    public void testBulkPaymentReportBuilder() {
+        BulkPaymentReport builtReport = BulkPaymentReport.builder()
+                .batches(batches)
+                .outcomes(outcomes)
+                .paymentQuantity(paymentQuantity)
+                .errorQuantity(errorQuantity)
+                .pendingQuantity(pendingQuantity)
+                .additionalFields(additionalFields)
+                .build();
+
+        assertEquals("Batches should match", batches, builtReport.getBatches());
+        assertEquals("Outcomes should match", outcomes, builtReport.getOutcomes());
+        assertEquals("Payment quantity should match", paymentQuantity, builtReport.getPaymentQuantity());
+        assertEquals("Error quantity should match", errorQuantity, builtReport.getErrorQuantity());
+        assertEquals("Pending quantity should match", pendingQuantity, builtReport.getPendingQuantity());
+        assertEquals("Additional fields should match", additionalFields, builtReport.getAdditionalFields());
+    }
+
+    /**
+     * Tests the setters and getters for all fields in the BulkPaymentReport class.
+     */
+    @Test
+    public void testGettersAndSetters() {
+        bulkPaymentReport.setBatches(batches);
+        bulkPaymentReport.setOutcomes(outcomes);
+        bulkPaymentReport.setPaymentQuantity(paymentQuantity);
+        bulkPaymentReport.setErrorQuantity(errorQuantity);
+        bulkPaymentReport.setPendingQuantity(pendingQuantity);
+
+        assertEquals("Batches should match", batches, bulkPaymentReport.getBatches());
+        assertEquals("Outcomes should match", outcomes, bulkPaymentReport.getOutcomes());
+        assertEquals("Payment quantity should match", paymentQuantity, bulkPaymentReport.getPaymentQuantity());
+        assertEquals("Error quantity should match", errorQuantity, bulkPaymentReport.getErrorQuantity());
+        assertEquals("Pending quantity should match", pendingQuantity, bulkPaymentReport.getPendingQuantity());
+    }
+
+    /**
+     * Tests the ability to set and retrieve a single additional field.
+     */
+    @Test
+    public void testAdditionalField() {
+        bulkPaymentReport.setAdditionalField("customField", "customValue");
+        Map<String, String> fields = bulkPaymentReport.getAdditionalFields();
+        assertTrue("Additional fields should contain the custom field", fields.containsKey("customField"));
+        assertEquals("Custom field value should match", "customValue", fields.get("customField"));
+    }
+
+    /**
+     * Tests the toString() method of the BulkPaymentReport class.
+     */
+    @Test
+    public void testToString() {
+        BulkPaymentReport report = BulkPaymentReport.builder()
+                .paymentQuantity(paymentQuantity)
+                .errorQuantity(errorQuantity)
+                .build();
+
+        String toStringResult = report.toString();
+
+        assertTrue("toString should contain payment quantity", toStringResult.contains("paymentQuantity=1"));
+        assertTrue("toString should contain error quantity", toStringResult.contains("errorQuantity=0"));
+    }
+
+    /**
+     * Tests the equals() and hashCode() methods of the BulkPaymentReport class.
+     */
+    @Test
+    public void testEqualsAndHashCode() {
+        BulkPaymentReport report1 = new BulkPaymentReport(batches, outcomes, paymentQuantity, errorQuantity, pendingQuantity);
+        BulkPaymentReport report2 = new BulkPaymentReport(batches, outcomes, paymentQuantity, errorQuantity, pendingQuantity);
+        BulkPaymentReport report3 = new BulkPaymentReport(batches, outcomes, 2, 1, 1);
+
+        assertEquals("The same report should be equal", report1, report1);
+        assertEquals("Equal reports should be equal", report1, report2);
+        assertEquals("Equal reports should have the same hash code", report1.hashCode(), report2.hashCode());
+        assertNotEquals("Different reports should not be equal", report1, report3);
+    }
+}
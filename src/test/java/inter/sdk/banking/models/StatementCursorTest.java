@@ -0,0 +1,163 @@
+package inter.sdk.banking.models;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for {@link StatementCursor}.
+ * This class contains unit tests to verify the functionality of the StatementCursor POJO.
+ * It tests all aspects of the StatementCursor class, including:
+ * <ul>
+ *     <li>Constructors (No-args and All-args)</li>
+ *     <li>Builder pattern</li>
+ *     <li>Getters and Setters for all fields</li>
+ *     <li>Handling of additional fields</li>
+ *     <li>toString() method</li>
+ *     <li>equals() and hashCode() methods</li>
+ * </ul>
+ *
+ * @see StatementCursor
+ * @since 1.0
+ */
+public class StatementCursorTest {
+
+    String lastTransactionId;
+    String lastInclusionDate;
+    String lastQueryDate;
+    List<String> seenTransactions;
+
+    Map<String, String> additionalFields;
+
+    private StatementCursor statementCursor;
+
+    /**
+     * Sets up the test environment before each test method.
+     * Initializes a new StatementCursor object for use in tests.
+     */
+    @Before
+    public void setUp() {
+        lastTransactionId = "tx-2";
+        lastInclusionDate = "2024-05-10 10:15:00";
+        lastQueryDate = "2024-05-10";
+        seenTransactions = Arrays.asList("tx-1", "tx-2");
+
+        additionalFields = new HashMap<>();
+        additionalFields.put("customField", "customValue");
+
+        statementCursor = new StatementCursor();
+    }
+
+    /**
+     * Tests the no-args constructor of the StatementCursor class.
+     */
+    @Test
+    public void testNoArgsConstructor() {
+        assertNotNull("StatementCursor object should not be null", statementCursor);
+    }
+
+    /**
+     * Tests the all-args constructor of the StatementCursor class.
+     * <p>
+     * This test verifies that all fields are correctly initialized with the provided values
+     * and that the additionalFields map is correctly set and can be retrieved.
+     */
+    @Test
+    public void testAllArgsConstructor() {
+        StatementCursor cursor = new StatementCursor(lastTransactionId, lastInclusionDate, lastQueryDate, seenTransactions);
+        cursor.setAdditionalFields(additionalFields);
+
+        assertEquals(lastTransactionId, cursor.getLastTransactionId());
+        assertEquals(lastInclusionDate, cursor.getLastInclusionDate());
+        assertEquals(lastQueryDate, cursor.getLastQueryDate());
+        assertEquals(seenTransactions, cursor.getSeenTransactions());
+        assertEquals(additionalFields, cursor.getAdditionalFields());
+    }
+
+    /**
+     * Tests the builder pattern of the StatementCursor class.
+     */
+    @Test
+    public void testStatementCursorBuilder() {
+        StatementCursor builtCursor = StatementCursor.builder()
+                .lastTransactionId(lastTransactionId)
+                .lastInclusionDate(lastInclusionDate)
+                .lastQueryDate(lastQueryDate)
+                .seenTransactions(seenTransactions)
+                .additionalFields(additionalFields)
+                .build();
+
+        assertEquals("Last transaction ID should match", lastTransactionId, builtCursor.getLastTransactionId());
+        assertEquals("Last inclusion date should match", lastInclusionDate, builtCursor.getLastInclusionDate());
+        assertEquals("Last query date should match", lastQueryDate, builtCursor.getLastQueryDate());
+        assertEquals("Seen transactions should match", seenTransactions, builtCursor.getSeenTransactions());
+        assertEquals("Additional fields should match", additionalFields, builtCursor.getAdditionalFields());
+    }
+
+    /**
+     * Tests the setters and getters for all fields in the StatementCursor class.
+     */
+    @Test
+    public void testGettersAndSetters() {
+        statementCursor.setLastTransactionId(lastTransactionId);
+        statementCursor.setLastInclusionDate(lastInclusionDate);
+        statementCursor.setLastQueryDate(lastQueryDate);
+        statementCursor.setSeenTransactions(seenTransactions);
+
+        assertEquals("Last transaction ID should match", lastTransactionId, statementCursor.getLastTransactionId());
+        assertEquals("Last inclusion date should match", lastInclusionDate, statementCursor.getLastInclusionDate());
+        assertEquals("Last query date should match", lastQueryDate, statementCursor.getLastQueryDate());
+        assertEquals("Seen transactions should match", seenTransactions, statementCursor.getSeenTransactions());
+    }
+
+    /**
+     * Tests the ability to set and retrieve a single additional field.
+     */
+    @Test
+    public void testAdditionalField() {
+        statementCursor.setAdditionalField("customField", "customValue");
+        Map<String, String> fields = statementCursor.getAdditionalFields();
+        assertTrue("Additional fields should contain the custom field", fields.containsKey("customField"));
+        assertEquals("Custom field value should match", "customValue", fields.get("customField"));
+    }
+
+    /**
+     * Tests the toString() method of the StatementCursor class.
+     */
+    @Test
+    public void testToString() {
+        StatementCursor cursor = StatementCursor.builder()
+                .lastTransactionId(lastTransactionId)
+                .lastQueryDate(lastQueryDate)
+                .build();
+
+        String toStringResult = cursor.toString();
+
+        assertTrue("toString should contain last transaction ID", toStringResult.contains("lastTransactionId=tx-2"));
+        assertTrue("toString should contain last query date", toStringResult.contains("lastQueryDate=2024-05-10"));
+    }
+
+    /**
+     * Tests the equals() and hashCode() methods of the StatementCursor class.
+     */
+    @Test
+    public void testEqualsAndHashCode() {
+        StatementCursor cursor1 = new StatementCursor(lastTransactionId, lastInclusionDate, lastQueryDate, seenTransactions);
+        StatementCursor cursor2 = new StatementCursor(lastTransactionId, lastInclusionDate, lastQueryDate, seenTransactions);
+        StatementCursor cursor3 = new StatementCursor("tx-3", lastInclusionDate, "2024-05-11", seenTransactions);
+
+        assertEquals("The same cursor should be equal", cursor1, cursor1);
+        assertEquals("Equal cursors should be equal", cursor1, cursor2);
+        assertEquals("Equal cursors should have the same hash code", cursor1.hashCode(), cursor2.hashCode());
+        assertNotEquals("Different cursors should not be equal", cursor1, cursor3);
+    }
+}
@@ -0,0 +1,124 @@
+package inter.sdk.commons.models;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+/**
+ * Test class for {@link BatchPolicy}.
+ * This class contains unit tests to verify the functionality of the BatchPolicy class.
+ * It tests all aspects of the BatchPolicy class, including:
+ * <ul>
+ *     <li>Constructors (No-args and All-args)</li>
+ *     <li>Builder pattern and default values</li>
+ *     <li>Getters and Setters for all fields</li>
+ * </ul>
+ *
+ * @see BatchPolicy
+ * @since 1.0
+ */
+public class BatchPolicyTest {
+    private static final double DELTA = 0.0001;
+    private int chunkSize;
+    private int concurrency;
+    private long initialPollDelayMillis;
+    private long maxPollDelayMillis;
+    private double multiplier;
+    private long timeoutMillis;
+    private BatchPolicy batchPolicy;
+    /**
+     * Sets up the test environment before each test method.
+     * Initializes a new BatchPolicy object for use in tests.
+     */
+    @Before
+    public void setUp() {
+        chunkSize = 50;
+        concurrency = 2;
+        initialPollDelayMillis = 500;
+        maxPollDelayMillis = 10000;
+        multiplier = 1.5;
+        timeoutMillis = 60000;
+        batchPolicy = new BatchPolicy();
+    }
+    /**
+     * Tests the no-args constructor of the BatchPolicy class.
+     * <p>
+     * This test ensures that:
+     * <ul>
+     *     <li>A BatchPolicy object can be created without any arguments</li>
+     *     <li>The created object is not null</li>
+     * </ul>
+     */
+    @Test
+    public void testNoArgsConstructor() {
+        assertNotNull("BatchPolicy object should not be null", batchPolicy);
+    }
+    /**
+     * Tests the all-args constructor of the BatchPolicy class.
+     * <p>
+     * This test verifies that all fields are correctly initialized with the provided values.
+     */
+    @Test
+    public void testAllArgsConstructor() {
+        BatchPolicy testPolicy = new BatchPolicy(chunkSize, concurrency, initialPollDelayMillis, maxPollDelayMillis, multiplier, timeoutMillis);
+        assertEquals(chunkSize, testPolicy.getChunkSize());
+        assertEquals(concurrency, testPolicy.getConcurrency());
+        assertEquals(initialPollDelayMillis, testPolicy.getInitialPollDelayMillis());
+        assertEquals(maxPollDelayMillis, testPolicy.getMaxPollDelayMillis());
+        assertEquals(multiplier, testPolicy.getMultiplier(), DELTA);
+        assertEquals(timeoutMillis, testPolicy.getTimeoutMillis());
+    }
+    /**
+     * Tests the builder pattern of the BatchPolicy class.
+     * <p>
+     * This test ensures that:
+     * <ul>
+     *     <li>Fields not set on the builder keep their default values</li>
+     *     <li>All fields are correctly set when using the builder</li>
+     * </ul>
+     */
+    @Test
+    public void testBatchPolicyBuilder() {
+        BatchPolicy defaultPolicy = BatchPolicy.builder().build();
+        assertEquals("Default chunk size should match", 100, defaultPolicy.getChunkSize());
+        assertEquals("Default concurrency should match", 4, defaultPolicy.getConcurrency());
+        assertEquals("Default initial poll delay should match", 2000, defaultPolicy.getInitialPollDelayMillis());
+        assertEquals("Default max poll delay should match", 30000, defaultPolicy.getMaxPollDelayMillis());
+        assertEquals("Default multiplier should match", 2.0, defaultPolicy.getMultiplier(), DELTA);
+        assertEquals("Default timeout should match", 1800000, defaultPolicy.getTimeoutMillis());
+
+        BatchPolicy builtPolicy = BatchPolicy.builder()
+                .chunkSize(chunkSize)
+                .concurrency(concurrency)
+                .initialPollDelayMillis(initialPollDelayMillis)
+                .maxPollDelayMillis(maxPollDelayMillis)
+                .multiplier(multiplier)
+                .timeoutMillis(timeoutMillis)
+                .build();
+        assertEquals("Chunk size should match", chunkSize, builtPolicy.getChunkSize());
+        assertEquals("Concurrency should match", concurrency, builtPolicy.getConcurrency());
+        assertEquals("Initial poll delay should match", initialPollDelayMillis, builtPolicy.getInitialPollDelayMillis());
+        assertEquals("Max poll delay should match", maxPollDelayMillis, builtPolicy.getMaxPollDelayMillis());
+        assertEquals("Multiplier should match", multiplier, builtPolicy.getMultiplier(), DELTA);
+        assertEquals("Timeout should match", timeoutMillis, builtPolicy.getTimeoutMillis());
+    }
+    /**
+     * Tests the getters and setters for all fields in the BatchPolicy class.
+     */
+    @Test
+    public void testGettersAndSetters() {
+        batchPolicy.setChunkSize(chunkSize);
+        batchPolicy.setConcurrency(concurrency);
+        batchPolicy.setInitialPollDelayMillis(initialPollDelayMillis);
+        batchPolicy.setMaxPollDelayMillis(maxPollDelayMillis);
+        batchPolicy.setMultiplier(multiplier);
+        batchPolicy.setTimeoutMillis(timeoutMillis);
+        assertEquals(chunkSize, batchPolicy.getChunkSize());
+        assertEquals(concurrency, batchPolicy.getConcurrency());
+        assertEquals(initialPollDelayMillis, batchPolicy.getInitialPollDelayMillis());
+        assertEquals(maxPollDelayMillis, batchPolicy.getMaxPollDelayMillis());
+        assertEquals(multiplier, batchPolicy.getMultiplier(), DELTA);
+        assertEquals(timeoutMillis, batchPolicy.getTimeoutMillis());
+    }
+}
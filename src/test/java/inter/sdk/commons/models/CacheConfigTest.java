@@ -0,0 +1,100 @@
+package inter.sdk.commons.models;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+/**
+ * Test class for {@link CacheConfig}.
+ * This class contains unit tests to verify the functionality of the CacheConfig class.
+ * It tests all aspects of the CacheConfig class, including:
+ * <ul>
+ *     <li>Constructors (No-args and All-args)</li>
+ *     <li>Builder pattern and default values</li>
+ *     <li>Getters and Setters for all fields</li>
+ * </ul>
+ *
+ * @see CacheConfig
+ * @since 1.0
+ */
+public class CacheConfigTest {
+    private int maximumSize;
+    private long ttlSeconds;
+    private String directory;
+    private CacheConfig cacheConfig;
+    /**
+     * Sets up the test environment before each test method.
+     * Initializes a new CacheConfig object for use in tests.
+     */
+    @Before
+    public void setUp() {
+        maximumSize = 500;
+        ttlSeconds = 30;
+        directory = "cache";
+        cacheConfig = new CacheConfig();
+    }
+    /**
+     * Tests the no-args constructor of the CacheConfig class.
+     * <p>
+     * This test ensures that:
+     * <ul>
+     *     <li>A CacheConfig object can be created without any arguments</li>
+     *     <li>The created object is not null</li>
+     * </ul>
+     */
+    @Test
+    public void testNoArgsConstructor() {
+        assertNotNull("CacheConfig object should not be null", cacheConfig);
+    }
+    /**
+     * Tests the all-args constructor of the CacheConfig class.
+     * <p>
+     * This test verifies that all fields are correctly initialized with the provided values.
+     */
+    @Test
+    public void testAllArgsConstructor() {
+        CacheConfig testConfig = new CacheConfig(maximumSize, ttlSeconds, directory);
+        assertEquals(maximumSize, testConfig.getMaximumSize());
+        assertEquals(ttlSeconds, testConfig.getTtlSeconds());
+        assertEquals(directory, testConfig.getDirectory());
+    }
+    /**
+     * Tests the builder pattern of the CacheConfig class.
+     * <p>
+     * This test ensures that:
+     * <ul>
+     *     <li>Fields not set on the builder keep their default values</li>
+     *     <li>All fields are correctly set when using the builder</li>
+     * </ul>
+     */
+    @Test
+    public void testCacheConfigBuilder() {
+        CacheConfig defaultConfig = CacheConfig.builder().build();
+        assertEquals("Default maximum size should match", 10000, defaultConfig.getMaximumSize());
+        assertEquals("Default TTL should match", 0, defaultConfig.getTtlSeconds());
+        assertNull("Default directory should be null", defaultConfig.getDirectory());
+
+        CacheConfig builtConfig = CacheConfig.builder()
+                .maximumSize(maximumSize)
+                .ttlSeconds(ttlSeconds)
+                .directory(directory)
+                .build();
+        assertEquals("Maximum size should match", maximumSize, builtConfig.getMaximumSize());
+        assertEquals("TTL should match", ttlSeconds, builtConfig.getTtlSeconds());
+        assertEquals("Directory should match", directory, builtConfig.getDirectory());
+    }
+    /**
+     * Tests the getters and setters for all fields in the CacheConfig class.
+     */
+    @Test
+    public void testGettersAndSetters() {
+        cacheConfig.setMaximumSize(maximumSize);
+        cacheConfig.setTtlSeconds(ttlSeconds);
+        cacheConfig.setDirectory(directory);
+        assertEquals(maximumSize, cacheConfig.getMaximumSize());
+        assertEquals(ttlSeconds, cacheConfig.getTtlSeconds());
+        assertEquals(directory, cacheConfig.getDirectory());
+    }
+}
@@ -4,6 +4,11 @@ import inter.sdk.commons.enums.EnvironmentEnum;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -32,6 +37,17 @@ public class ConfigTest {
     private boolean debug;
     private String account;
     private boolean rateLimitControl;
+    private ConnectionPoolConfig connectionPool;
+    private int tokenRefreshMargin;
+    private RetryPolicy retryPolicy;
+    private Map<String, RateLimit> rateLimits;
+    private List<String> scopes;
+    private HttpCallListener callListener;
+    private int pagePrefetch;
+    private int pageConcurrency;
+    private ShardPolicy shardPolicy;
+    private CacheConfig cache;
+    private boolean coalesceRequests;
     private Config config;
     private EnvironmentEnum environmentEnum;
     /**
@@ -48,6 +64,17 @@ public class ConfigTest {
         account = "client-account";
         rateLimitControl = false;
         environmentEnum = EnvironmentEnum.SANDBOX;
+        connectionPool = ConnectionPoolConfig.builder().maxConnectionsPerRoute(5).build();
+        tokenRefreshMargin = 120;
+        retryPolicy = RetryPolicy.builder().maxAttempts(2).build();
+        rateLimits = Collections.singletonMap("/pix/v2/cob", RateLimit.builder().permitsPerSecond(10).build());
+        scopes = Arrays.asList("cob.read", "pix.read");
+        callListener = (context, exception) -> { };
+        pagePrefetch = 4;
+        pageConcurrency = 3;
+        shardPolicy = ShardPolicy.builder().concurrency(2).build();
+        cache = CacheConfig.builder().maximumSize(100).build();
+        coalesceRequests = false;
 
         config = new Config(
                 environmentEnum,
@@ -57,7 +84,18 @@ public class ConfigTest {
                 password,
                 debug,
                 account,
-                rateLimitControl
+                rateLimitControl,
+                connectionPool,
+                tokenRefreshMargin,
+                retryPolicy,
+                rateLimits,
+                scopes,
+                callListener,
+                pagePrefetch,
+                pageConcurrency,
+                shardPolicy,
+                cache,
+                coalesceRequests
         );
     }
     /**
@@ -84,7 +122,7 @@ public class ConfigTest {
      */
     @Test
     public void testAllArgsConstructor() {
-        Config testConfig = new Config(environmentEnum, clientId, clientSecret, certificate, password, debug, account, rateLimitControl);
+        Config testConfig = new Config(environmentEnum, clientId, clientSecret, certificate, password, debug, account, rateLimitControl, connectionPool, tokenRefreshMargin, retryPolicy, rateLimits, scopes, callListener, pagePrefetch, pageConcurrency, shardPolicy, cache, coalesceRequests);
         assertEquals(environmentEnum, testConfig.getEnvironment());
         assertEquals(clientId, testConfig.getClientId());
         assertEquals(clientSecret, testConfig.getClientSecret());
@@ -93,6 +131,17 @@ public class ConfigTest {
         assertEquals(debug, testConfig.isDebug());
         assertEquals(account, testConfig.getAccount());
         assertEquals(rateLimitControl, testConfig.isRateLimitControl());
+        assertEquals(connectionPool, testConfig.getConnectionPool());
+        assertEquals(tokenRefreshMargin, testConfig.getTokenRefreshMargin());
+        assertEquals(retryPolicy, testConfig.getRetryPolicy());
+        assertEquals(rateLimits, testConfig.getRateLimits());
+        assertEquals(scopes, testConfig.getScopes());
+        assertEquals(callListener, testConfig.getCallListener());
+        assertEquals(pagePrefetch, testConfig.getPagePrefetch());
+        assertEquals(pageConcurrency, testConfig.getPageConcurrency());
+        assertEquals(shardPolicy, testConfig.getShardPolicy());
+        assertEquals(cache, testConfig.getCache());
+        assertEquals(coalesceRequests, testConfig.isCoalesceRequests());
     }
     /**
      * Tests the builder pattern of the Config class.
@@ -114,6 +163,17 @@ public class ConfigTest {
                 .debug(debug)
                 .account(account)
                 .rateLimitControl(rateLimitControl)
+                .connectionPool(connectionPool)
+                .tokenRefreshMargin(tokenRefreshMargin)
+                .retryPolicy(retryPolicy)
+                .rateLimits(rateLimits)
+                .scopes(scopes)
+                .callListener(callListener)
+                .pagePrefetch(pagePrefetch)
+                .pageConcurrency(pageConcurrency)
+                .shardPolicy(shardPolicy)
+                .cache(cache)
+                .coalesceRequests(coalesceRequests)
                 .build();
         assertEquals("Environment should match", environmentEnum, builtConfig.getEnvironment());
         assertEquals("Client ID should match", clientId, builtConfig.getClientId());
@@ -123,6 +183,21 @@ public class ConfigTest {
         assertTrue("Debug should match", builtConfig.isDebug());
         assertEquals("Account should match", account, builtConfig.getAccount());
         assertFalse("Rate limit control should match", builtConfig.isRateLimitControl());
+        assertEquals("Connection pool should match", connectionPool, builtConfig.getConnectionPool());
+        assertEquals("Token refresh margin should match", tokenRefreshMargin, builtConfig.getTokenRefreshMargin());
+        assertEquals("Retry policy should match", retryPolicy, builtConfig.getRetryPolicy());
+        assertEquals("Rate limits should match", rateLimits, builtConfig.getRateLimits());
+        assertEquals("Scopes should match", scopes, builtConfig.getScopes());
+        assertEquals("Call listener should match", callListener, builtConfig.getCallListener());
+        assertEquals("Page prefetch should match", pagePrefetch, builtConfig.getPagePrefetch());
+        assertEquals("Default page prefetch should match", 2, Config.builder().build().getPagePrefetch());
+        assertEquals("Page concurrency should match", pageConcurrency, builtConfig.getPageConcurrency());
+        assertEquals("Default page concurrency should match", 1, Config.builder().build().getPageConcurrency());
+        assertEquals("Shard policy should match", shardPolicy, builtConfig.getShardPolicy());
+        assertEquals("Default shard policy should match", ShardPolicy.builder().build(), Config.builder().build().getShardPolicy());
+        assertEquals("Cache should match", cache, builtConfig.getCache());
+        assertFalse("Request coalescing should match", builtConfig.isCoalesceRequests());
+        assertTrue("Request coalescing should be enabled by default", Config.builder().build().isCoalesceRequests());
     }
     /**
      * Tests the getters and setters for all fields in the Config class.
@@ -138,8 +213,30 @@ public class ConfigTest {
         config.setDebug(debug);
         config.setAccount(account);
         config.setRateLimitControl(rateLimitControl);
+        config.setConnectionPool(connectionPool);
+        config.setTokenRefreshMargin(tokenRefreshMargin);
+        config.setRetryPolicy(retryPolicy);
+        config.setRateLimits(rateLimits);
+        config.setScopes(scopes);
+        config.setCallListener(callListener);
+        config.setPagePrefetch(pagePrefetch);
+        config.setPageConcurrency(pageConcurrency);
+        config.setShardPolicy(shardPolicy);
+        config.setCache(cache);
+        config.setCoalesceRequests(coalesceRequests);
         assertTrue(config.isDebug());
         assertEquals(account, config.getAccount());
         assertFalse(config.isRateLimitControl());
+        assertEquals(connectionPool, config.getConnectionPool());
+        assertEquals(tokenRefreshMargin, config.getTokenRefreshMargin());
+        assertEquals(retryPolicy, config.getRetryPolicy());
+        assertEquals(rateLimits, config.getRateLimits());
+        assertEquals(scopes, config.getScopes());
+        assertEquals(callListener, config.getCallListener());
+        assertEquals(pagePrefetch, config.getPagePrefetch());
+        assertEquals(pageConcurrency, config.getPageConcurrency());
+        assertEquals(shardPolicy, config.getShardPolicy());
+        assertEquals(cache, config.getCache());
+        assertFalse(config.isCoalesceRequests());
     }
 }
\ No newline at end of file
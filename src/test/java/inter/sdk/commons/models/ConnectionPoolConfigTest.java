@@ -0,0 +1,107 @@
+package inter.sdk.commons.models;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+/**
+ * Test class for {@link ConnectionPoolConfig}.
+ * This class contains unit tests to verify the functionality of the ConnectionPoolConfig class.
+ * It tests all aspects of the ConnectionPoolConfig class, including:
+ * <ul>
+ *     <li>Constructors (No-args and All-args)</li>
+ *     <li>Builder pattern and default values</li>
+ *     <li>Getters and Setters for all fields</li>
+ * </ul>
+ *
+ * @see ConnectionPoolConfig
+ * @since 1.0
+ */
+public class ConnectionPoolConfigTest {
+    private int maxConnectionsPerRoute;
+    private int maxConnectionsTotal;
+    private long keepAliveSeconds;
+    private long idleTimeoutSeconds;
+    private ConnectionPoolConfig connectionPool;
+    /**
+     * Sets up the test environment before each test method.
+     * Initializes a new ConnectionPoolConfig object for use in tests.
+     */
+    @Before
+    public void setUp() {
+        maxConnectionsPerRoute = 10;
+        maxConnectionsTotal = 40;
+        keepAliveSeconds = 15;
+        idleTimeoutSeconds = 120;
+        connectionPool = new ConnectionPoolConfig();
+    }
+    /**
+     * Tests the no-args constructor of the ConnectionPoolConfig class.
+     * <p>
+     * This test ensures that:
+     * <ul>
+     *     <li>A ConnectionPoolConfig object can be created without any arguments</li>
+     *     <li>The created object is not null</li>
+     * </ul>
+     */
+    @Test
+    public void testNoArgsConstructor() {
+        assertNotNull("ConnectionPoolConfig object should not be null", connectionPool);
+    }
+    /**
+     * Tests the all-args constructor of the ConnectionPoolConfig class.
+     * <p>
+     * This test verifies that all fields are correctly initialized with the provided values.
+     */
+    @Test
+    public void testAllArgsConstructor() {
+        ConnectionPoolConfig testPool = new ConnectionPoolConfig(maxConnectionsPerRoute, maxConnectionsTotal, keepAliveSeconds, idleTimeoutSeconds);
+        assertEquals(maxConnectionsPerRoute, testPool.getMaxConnectionsPerRoute());
+        assertEquals(maxConnectionsTotal, testPool.getMaxConnectionsTotal());
+        assertEquals(keepAliveSeconds, testPool.getKeepAliveSeconds());
+        assertEquals(idleTimeoutSeconds, testPool.getIdleTimeoutSeconds());
+    }
+    /**
+     * Tests the builder pattern of the ConnectionPoolConfig class.
+     * <p>
+     * This test ensures that:
+     * <ul>
+     *     <li>Fields not set on the builder keep their default values</li>
+     *     <li>All fields are correctly set when using the builder</li>
+     * </ul>
+     */
+    @Test
+    public void testConnectionPoolConfigBuilder() {
+        ConnectionPoolConfig defaultPool = ConnectionPoolConfig.builder().build();
+        assertEquals("Default max connections per route should match", 20, defaultPool.getMaxConnectionsPerRoute());
+        assertEquals("Default max connections should match", 50, defaultPool.getMaxConnectionsTotal());
+        assertEquals("Default keep-alive should match", 30, defaultPool.getKeepAliveSeconds());
+        assertEquals("Default idle timeout should match", 60, defaultPool.getIdleTimeoutSeconds());
+
+        ConnectionPoolConfig builtPool = ConnectionPoolConfig.builder()
+                .maxConnectionsPerRoute(maxConnectionsPerRoute)
+                .maxConnectionsTotal(maxConnectionsTotal)
+                .keepAliveSeconds(keepAliveSeconds)
+                .idleTimeoutSeconds(idleTimeoutSeconds)
+                .build();
+        assertEquals("Max connections per route should match", maxConnectionsPerRoute, builtPool.getMaxConnectionsPerRoute());
+        assertEquals("Max connections should match", maxConnectionsTotal, builtPool.getMaxConnectionsTotal());
+        assertEquals("Keep-alive should match", keepAliveSeconds, builtPool.getKeepAliveSeconds());
+        assertEquals("Idle timeout should match", idleTimeoutSeconds, builtPool.getIdleTimeoutSeconds());
+    }
+    /**
+     * Tests the getters and setters for all fields in the ConnectionPoolConfig class.
+     */
+    @Test
+    public void testGettersAndSetters() {
+        connectionPool.setMaxConnectionsPerRoute(maxConnectionsPerRoute);
+        connectionPool.setMaxConnectionsTotal(maxConnectionsTotal);
+        connectionPool.setKeepAliveSeconds(keepAliveSeconds);
+        connectionPool.setIdleTimeoutSeconds(idleTimeoutSeconds);
+        assertEquals(maxConnectionsPerRoute, connectionPool.getMaxConnectionsPerRoute());
+        assertEquals(maxConnectionsTotal, connectionPool.getMaxConnectionsTotal());
+        assertEquals(keepAliveSeconds, connectionPool.getKeepAliveSeconds());
+        assertEquals(idleTimeoutSeconds, connectionPool.getIdleTimeoutSeconds());
+    }
+}
@@ -0,0 +1,119 @@
+package inter.sdk.commons.models;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.function.Predicate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+/**
+ * Test class for {@link DeduplicationPolicy}.
+ * This class contains unit tests to verify the functionality of the DeduplicationPolicy class.
+ * It tests all aspects of the DeduplicationPolicy class, including:
+ * <ul>
+ *     <li>Constructors (No-args and All-args)</li>
+ *     <li>Builder pattern and default values</li>
+ *     <li>Getters and Setters for all fields</li>
+ * </ul>
+ *
+ * @see DeduplicationPolicy
+ * @since 1.0
+ */
+public class DeduplicationPolicyTest {
+    private static final double DELTA = 0.0000001;
+    private long windowMillis;
+    private int expectedKeys;
+    private double falsePositiveRate;
+    private int recentKeys;
+    private Predicate<String> processedCheck;
+    private DeduplicationPolicy deduplicationPolicy;
+    /**
+     * Sets up the test environment before each test method.
+     * Initializes a new DeduplicationPolicy object for use in tests.
+     */
+    @Before
+    public void setUp() {
+        windowMillis = 3600000;
+        expectedKeys = 50000;
+        falsePositiveRate = 0.001;
+        recentKeys = 1000;
+        processedCheck = key -> true;
+        deduplicationPolicy = new DeduplicationPolicy();
+    }
+    /**
+     * Tests the no-args constructor of the DeduplicationPolicy class.
+     * <p>
+     * This test ensures that:
+     * <ul>
+     *     <li>A DeduplicationPolicy object can be created without any arguments</li>
+     *     <li>The created object is not null</li>
+     * </ul>
+     */
+    @Test
+    public void testNoArgsConstructor() {
+        assertNotNull("DeduplicationPolicy object should not be null", deduplicationPolicy);
+    }
+    /**
+     * Tests the all-args constructor of the DeduplicationPolicy class.
+     * <p>
+     * This test verifies that all fields are correctly initialized with the provided values.
+     */
+    @Test
+    public void testAllArgsConstructor() {
+        DeduplicationPolicy testPolicy = new DeduplicationPolicy(windowMillis, expectedKeys, falsePositiveRate, recentKeys, processedCheck);
+        assertEquals(windowMillis, testPolicy.getWindowMillis());
+        assertEquals(expectedKeys, testPolicy.getExpectedKeys());
+        assertEquals(falsePositiveRate, testPolicy.getFalsePositiveRate(), DELTA);
+        assertEquals(recentKeys, testPolicy.getRecentKeys());
+        assertEquals(processedCheck, testPolicy.getProcessedCheck());
+    }
+    /**
+     * Tests the builder pattern of the DeduplicationPolicy class.
+     * <p>
+     * This test ensures that:
+     * <ul>
+     *     <li>Fields not set on the builder keep their default values</li>
+     *     <li>All fields are correctly set when using the builder</li>
+     * </ul>
+     */
+    @Test
+    public void testDeduplicationPolicyBuilder() {
+        DeduplicationPolicy defaultPolicy = DeduplicationPolicy.builder().build();
+        assertEquals("Default window should match", 86400000, defaultPolicy.getWindowMillis());
+        assertEquals("Default expected keys should match", 1000000, defaultPolicy.getExpectedKeys());
+        assertEquals("Default false positive rate should match", 0.000001, defaultPolicy.getFalsePositiveRate(), DELTA);
+        assertEquals("Default recent keys should match", 100000, defaultPolicy.getRecentKeys());
+        assertNull("Default processed check should be null", defaultPolicy.getProcessedCheck());
+
+        DeduplicationPolicy builtPolicy = DeduplicationPolicy.builder()
+                .windowMillis(windowMillis)
+                .expectedKeys(expectedKeys)
+                .falsePositiveRate(falsePositiveRate)
+                .recentKeys(recentKeys)
+                .processedCheck(processedCheck)
+                .build();
+        assertEquals("Window should match", windowMillis, builtPolicy.getWindowMillis());
+        assertEquals("Expected keys should match", expectedKeys, builtPolicy.getExpectedKeys());
+        assertEquals("False positive rate should match", falsePositiveRate, builtPolicy.getFalsePositiveRate(), DELTA);
+        assertEquals("Recent keys should match", recentKeys, builtPolicy.getRecentKeys());
+        assertEquals("Processed check should match", processedCheck, builtPolicy.getProcessedCheck());
+    }
+    /**
+     * Tests the getters and setters for all fields in the DeduplicationPolicy class.
+     */
+    @Test
+    public void testGettersAndSetters() {
+        deduplicationPolicy.setWindowMillis(windowMillis);
+        deduplicationPolicy.setExpectedKeys(expectedKeys);
+        deduplicationPolicy.setFalsePositiveRate(falsePositiveRate);
+        deduplicationPolicy.setRecentKeys(recentKeys);
+        deduplicationPolicy.setProcessedCheck(processedCheck);
+        assertEquals(windowMillis, deduplicationPolicy.getWindowMillis());
+        assertEquals(expectedKeys, deduplicationPolicy.getExpectedKeys());
+        assertEquals(falsePositiveRate, deduplicationPolicy.getFalsePositiveRate(), DELTA);
+        assertEquals(recentKeys, deduplicationPolicy.getRecentKeys());
+        assertEquals(processedCheck, deduplicationPolicy.getProcessedCheck());
+    }
+}
@@ -0,0 +1,91 @@
+package inter.sdk.commons.models;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+/**
+ * Test class for {@link HttpCallContext}.
+ * This class contains unit tests to verify the functionality of the HttpCallContext class.
+ * It tests all aspects of the HttpCallContext class, including:
+ * <ul>
+ *     <li>Builder pattern</li>
+ *     <li>Getters for all fields</li>
+ *     <li>Equality of contexts with the same values</li>
+ * </ul>
+ *
+ * @see HttpCallContext
+ * @since 1.0
+ */
+public class HttpCallContextTest {
+    private String method;
+    private String url;
+    private String requestBody;
+    private Integer status;
+    private int attempts;
+    private long durationMillis;
+    private HttpCallContext context;
+    /**
+     * Sets up the test environment before each test method.
+     * Initializes a new HttpCallContext object for use in tests.
+     */
+    @Before
+    public void setUp() {
+        method = "POST";
+        url = "https://cdpj.partners.bancointer.com.br/cobranca/v3/cobrancas";
+        requestBody = "{\"seuNumero\":\"12345\"}";
+        status = 200;
+        attempts = 2;
+        durationMillis = 350;
+        context = HttpCallContext.builder()
+                .method(method)
+                .url(url)
+                .requestBody(requestBody)
+                .status(status)
+                .attempts(attempts)
+                .durationMillis(durationMillis)
+                .build();
+    }
+    /**
+     * Tests the builder pattern of the HttpCallContext class.
+     * <p>
+     * This test ensures that:
+     * <ul>
+     *     <li>All fields are correctly set when using the builder</li>
+     *     <li>Fields not set on the builder are empty</li>
+     * </ul>
+     */
+    @Test
+    public void testHttpCallContextBuilder() {
+        assertEquals("Method should match", method, context.getMethod());
+        assertEquals("URL should match", url, context.getUrl());
+        assertEquals("Request body should match", requestBody, context.getRequestBody());
+        assertEquals("Status should match", status, context.getStatus());
+        assertEquals("Attempts should match", attempts, context.getAttempts());
+        assertEquals("Duration should match", durationMillis, context.getDurationMillis());
+
+        HttpCallContext emptyContext = HttpCallContext.builder().method("GET").url(url).build();
+        assertNull("Request body should be empty", emptyContext.getRequestBody());
+        assertNull("Status should be empty", emptyContext.getStatus());
+    }
+    /**
+     * Tests the equals and hashCode methods of the HttpCallContext class.
+     */
+    @Test
+    public void testEqualsAndHashCode() {
+        HttpCallContext sameContext = HttpCallContext.builder()
+                .method(method)
+                .url(url)
+                .requestBody(requestBody)
+                .status(status)
+                .attempts(attempts)
+                .durationMillis(durationMillis)
+                .build();
+        HttpCallContext otherContext = HttpCallContext.builder().method("GET").url(url).attempts(1).build();
+        assertEquals(context, sameContext);
+        assertEquals(context.hashCode(), sameContext.hashCode());
+        assertNotEquals(context, otherContext);
+    }
+}
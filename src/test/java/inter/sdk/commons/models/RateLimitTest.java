@@ -0,0 +1,80 @@
+package inter.sdk.commons.models;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+/**
+ * Test class for {@link RateLimit}.
+ * This class contains unit tests to verify the functionality of the RateLimit class.
+ * It tests all aspects of the RateLimit class, including:
+ * <ul>
+ *     <li>Constructors (No-args and All-args)</li>
+ *     <li>Builder pattern and default values</li>
+ *     <li>Getters and Setters for all fields</li>
+ * </ul>
+ *
+ * @see RateLimit
+ * @since 1.0
+ */
+public class RateLimitTest {
+    private double permitsPerSecond;
+    private int burst;
+    private RateLimit rateLimit;
+    /**
+     * Sets up the test environment before each test method.
+     * Initializes a new RateLimit object for use in tests.
+     */
+    @Before
+    public void setUp() {
+        permitsPerSecond = 2.5;
+        burst = 10;
+        rateLimit = new RateLimit();
+    }
+    /**
+     * Tests the no-args constructor of the RateLimit class.
+     */
+    @Test
+    public void testNoArgsConstructor() {
+        assertNotNull("RateLimit object should not be null", rateLimit);
+    }
+    /**
+     * Tests the all-args constructor of the RateLimit class.
+     */
+    @Test
+    public void testAllArgsConstructor() {
+        RateLimit testRateLimit = new RateLimit(permitsPerSecond, burst);
+        assertEquals(permitsPerSecond, testRateLimit.getPermitsPerSecond(), 0);
+        assertEquals(burst, testRateLimit.getBurst());
+    }
+    /**
+     * Tests the builder pattern of the RateLimit class.
+     * <p>
+     * This test ensures that:
+     * <ul>
+     *     <li>The burst defaults to a single call</li>
+     *     <li>All fields are correctly set when using the builder</li>
+     * </ul>
+     */
+    @Test
+    public void testRateLimitBuilder() {
+        assertEquals("Default burst should match", 1, RateLimit.builder().permitsPerSecond(permitsPerSecond).build().getBurst());
+        RateLimit builtRateLimit = RateLimit.builder()
+                .permitsPerSecond(permitsPerSecond)
+                .burst(burst)
+                .build();
+        assertEquals("Permits per second should match", permitsPerSecond, builtRateLimit.getPermitsPerSecond(), 0);
+        assertEquals("Burst should match", burst, builtRateLimit.getBurst());
+    }
+    /**
+     * Tests the getters and setters for all fields in the RateLimit class.
+     */
+    @Test
+    public void testGettersAndSetters() {
+        rateLimit.setPermitsPerSecond(permitsPerSecond);
+        rateLimit.setBurst(burst);
+        assertEquals(permitsPerSecond, rateLimit.getPermitsPerSecond(), 0);
+        assertEquals(burst, rateLimit.getBurst());
+    }
+}
@@ -0,0 +1,139 @@
+package inter.sdk.commons.models;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+/**
+ * Test class for {@link ReconciliationPolicy}.
+ * This class contains unit tests to verify the functionality of the ReconciliationPolicy class.
+ * It tests all aspects of the ReconciliationPolicy class, including:
+ * <ul>
+ *     <li>Constructors (No-args and All-args)</li>
+ *     <li>Builder pattern and default values</li>
+ *     <li>Getters and Setters for all fields</li>
+ * </ul>
+ *
+ * @see ReconciliationPolicy
+ * @since 1.0
+ */
+public class ReconciliationPolicyTest {
+    private long intervalMillis;
+    private long overlapMillis;
+    private long initialLookbackMillis;
+    private long windowMillis;
+    private String zoneId;
+    private List<String> bankingWebhookTypes;
+    private boolean replayDelivered;
+    private ReconciliationPolicy reconciliationPolicy;
+    /**
+     * Sets up the test environment before each test method.
+     * Initializes a new ReconciliationPolicy object for use in tests.
+     */
+    @Before
+    public void setUp() {
+        intervalMillis = 60000;
+        overlapMillis = 120000;
+        initialLookbackMillis = 3600000;
+        windowMillis = 1800000;
+        zoneId = "UTC";
+        bankingWebhookTypes = Collections.singletonList("pix-pagamento");
+        replayDelivered = false;
+        reconciliationPolicy = new ReconciliationPolicy();
+    }
+    /**
+     * Tests the no-args constructor of the ReconciliationPolicy class.
+     * <p>
+     * This test ensures that:
+     * <ul>
+     *     <li>A ReconciliationPolicy object can be created without any arguments</li>
+     *     <li>The created object is not null</li>
+     * </ul>
+     */
+    @Test
+    public void testNoArgsConstructor() {
+        assertNotNull("ReconciliationPolicy object should not be null", reconciliationPolicy);
+    }
+    /**
+     * Tests the all-args constructor of the ReconciliationPolicy class.
+     * <p>
+     * This test verifies that all fields are correctly initialized with the provided values.
+     */
+    @Test
+    public void testAllArgsConstructor() {
+        ReconciliationPolicy testPolicy = new ReconciliationPolicy(intervalMillis, overlapMillis, initialLookbackMillis,
+                windowMillis, zoneId, bankingWebhookTypes, replayDelivered);
+        assertEquals(intervalMillis, testPolicy.getIntervalMillis());
+        assertEquals(overlapMillis, testPolicy.getOverlapMillis());
+        assertEquals(initialLookbackMillis, testPolicy.getInitialLookbackMillis());
+        assertEquals(windowMillis, testPolicy.getWindowMillis());
+        assertEquals(zoneId, testPolicy.getZoneId());
+        assertEquals(bankingWebhookTypes, testPolicy.getBankingWebhookTypes());
+        assertEquals(replayDelivered, testPolicy.isReplayDelivered());
+    }
+    /**
+     * Tests the builder pattern of the ReconciliationPolicy class.
+     * <p>
+     * This test ensures that:
+     * <ul>
+     *     <li>Fields not set on the builder keep their default values</li>
+     *     <li>All fields are correctly set when using the builder</li>
+     * </ul>
+     */
+    @Test
+    public void testReconciliationPolicyBuilder() {
+        ReconciliationPolicy defaultPolicy = ReconciliationPolicy.builder().build();
+        assertEquals("Default interval should match", 300000, defaultPolicy.getIntervalMillis());
+        assertEquals("Default overlap should match", 600000, defaultPolicy.getOverlapMillis());
+        assertEquals("Default initial lookback should match", 86400000, defaultPolicy.getInitialLookbackMillis());
+        assertEquals("Default window should match", 21600000, defaultPolicy.getWindowMillis());
+        assertEquals("Default zone should match", "America/Sao_Paulo", defaultPolicy.getZoneId());
+        assertEquals("Default banking webhook types should match", Arrays.asList("boleto-pagamento", "pix-pagamento"),
+                defaultPolicy.getBankingWebhookTypes());
+        assertTrue("Delivered callbacks should be replayed by default", defaultPolicy.isReplayDelivered());
+
+        ReconciliationPolicy builtPolicy = ReconciliationPolicy.builder()
+                .intervalMillis(intervalMillis)
+                .overlapMillis(overlapMillis)
+                .initialLookbackMillis(initialLookbackMillis)
+                .windowMillis(windowMillis)
+                .zoneId(zoneId)
+                .bankingWebhookTypes(bankingWebhookTypes)
+                .replayDelivered(replayDelivered)
+                .build();
+        assertEquals("Interval should match", intervalMillis, builtPolicy.getIntervalMillis());
+        assertEquals("Overlap should match", overlapMillis, builtPolicy.getOverlapMillis());
+        assertEquals("Initial lookback should match", initialLookbackMillis, builtPolicy.getInitialLookbackMillis());
+        assertEquals("Window should match", windowMillis, builtPolicy.getWindowMillis());
+        assertEquals("Zone should match", zoneId, builtPolicy.getZoneId());
+        assertEquals("Banking webhook types should match", bankingWebhookTypes, builtPolicy.getBankingWebhookTypes());
+        assertFalse("Delivered callbacks should not be replayed", builtPolicy.isReplayDelivered());
+    }
+    /**
+     * Tests the getters and setters for all fields in the ReconciliationPolicy class.
+     */
+    @Test
+    public void testGettersAndSetters() {
+        reconciliationPolicy.setIntervalMillis(intervalMillis);
+        reconciliationPolicy.setOverlapMillis(overlapMillis);
+        reconciliationPolicy.setInitialLookbackMillis(initialLookbackMillis);
+        reconciliationPolicy.setWindowMillis(windowMillis);
+        reconciliationPolicy.setZoneId(zoneId);
+        reconciliationPolicy.setBankingWebhookTypes(bankingWebhookTypes);
+        reconciliationPolicy.setReplayDelivered(replayDelivered);
+        assertEquals(intervalMillis, reconciliationPolicy.getIntervalMillis());
+        assertEquals(overlapMillis, reconciliationPolicy.getOverlapMillis());
+        assertEquals(initialLookbackMillis, reconciliationPolicy.getInitialLookbackMillis());
+        assertEquals(windowMillis, reconciliationPolicy.getWindowMillis());
+        assertEquals(zoneId, reconciliationPolicy.getZoneId());
+        assertEquals(bankingWebhookTypes, reconciliationPolicy.getBankingWebhookTypes());
+        assertEquals(replayDelivered, reconciliationPolicy.isReplayDelivered());
+    }
+}
@@ -0,0 +1,148 @@
+package inter.sdk.commons.models;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+/**
+ * Test class for {@link RetryPolicy}.
+ * This class contains unit tests to verify the functionality of the RetryPolicy class.
+ * It tests all aspects of the RetryPolicy class, including:
+ * <ul>
+ *     <li>Constructors (No-args and All-args)</li>
+ *     <li>Builder pattern and default values</li>
+ *     <li>Getters and Setters for all fields</li>
+ * </ul>
+ *
+ * @see RetryPolicy
+ * @since 1.0
+ */
+public class RetryPolicyTest {
+    private int maxAttempts;
+    private long initialBackoffMillis;
+    private long maxBackoffMillis;
+    private double multiplier;
+    private double jitter;
+    private boolean honorRetryAfter;
+    private long maxRetryAfterMillis;
+    private boolean retryOnServerError;
+    private boolean retryOnIoError;
+    private RetryPolicy retryPolicy;
+    /**
+     * Sets up the test environment before each test method.
+     * Initializes a new RetryPolicy object for use in tests.
+     */
+    @Before
+    public void setUp() {
+        maxAttempts = 3;
+        initialBackoffMillis = 200;
+        maxBackoffMillis = 5000;
+        multiplier = 1.5;
+        jitter = 0.2;
+        honorRetryAfter = false;
+        maxRetryAfterMillis = 10000;
+        retryOnServerError = false;
+        retryOnIoError = false;
+        retryPolicy = new RetryPolicy();
+    }
+    /**
+     * Tests the no-args constructor of the RetryPolicy class.
+     * <p>
+     * This test ensures that:
+     * <ul>
+     *     <li>A RetryPolicy object can be created without any arguments</li>
+     *     <li>The created object is not null</li>
+     * </ul>
+     */
+    @Test
+    public void testNoArgsConstructor() {
+        assertNotNull("RetryPolicy object should not be null", retryPolicy);
+    }
+    /**
+     * Tests the all-args constructor of the RetryPolicy class.
+     * <p>
+     * This test verifies that all fields are correctly initialized with the provided values.
+     */
+    @Test
+    public void testAllArgsConstructor() {
+        RetryPolicy testPolicy = new RetryPolicy(maxAttempts, initialBackoffMillis, maxBackoffMillis, multiplier, jitter,
+                honorRetryAfter, maxRetryAfterMillis, retryOnServerError, retryOnIoError);
+        assertEquals(maxAttempts, testPolicy.getMaxAttempts());
+        assertEquals(initialBackoffMillis, testPolicy.getInitialBackoffMillis());
+        assertEquals(maxBackoffMillis, testPolicy.getMaxBackoffMillis());
+        assertEquals(multiplier, testPolicy.getMultiplier(), 0);
+        assertEquals(jitter, testPolicy.getJitter(), 0);
+        assertEquals(honorRetryAfter, testPolicy.isHonorRetryAfter());
+        assertEquals(maxRetryAfterMillis, testPolicy.getMaxRetryAfterMillis());
+        assertEquals(retryOnServerError, testPolicy.isRetryOnServerError());
+        assertEquals(retryOnIoError, testPolicy.isRetryOnIoError());
+    }
+    /**
+     * Tests the builder pattern of the RetryPolicy class.
+     * <p>
+     * This test ensures that:
+     * <ul>
+     *     <li>Fields not set on the builder keep their default values</li>
+     *     <li>All fields are correctly set when using the builder</li>
+     * </ul>
+     */
+    @Test
+    public void testRetryPolicyBuilder() {
+        RetryPolicy defaultPolicy = RetryPolicy.builder().build();
+        assertEquals("Default max attempts should match", 5, defaultPolicy.getMaxAttempts());
+        assertEquals("Default initial backoff should match", 1000, defaultPolicy.getInitialBackoffMillis());
+        assertEquals("Default max backoff should match", 30000, defaultPolicy.getMaxBackoffMillis());
+        assertTrue("Retry-After should be honored by default", defaultPolicy.isHonorRetryAfter());
+        assertEquals("Default max Retry-After should match", 60000, defaultPolicy.getMaxRetryAfterMillis());
+        assertTrue("Server errors should be retried by default", defaultPolicy.isRetryOnServerError());
+        assertTrue("I/O errors should be retried by default", defaultPolicy.isRetryOnIoError());
+
+        RetryPolicy builtPolicy = RetryPolicy.builder()
+                .maxAttempts(maxAttempts)
+                .initialBackoffMillis(initialBackoffMillis)
+                .maxBackoffMillis(maxBackoffMillis)
+                .multiplier(multiplier)
+                .jitter(jitter)
+                .honorRetryAfter(honorRetryAfter)
+                .maxRetryAfterMillis(maxRetryAfterMillis)
+                .retryOnServerError(retryOnServerError)
+                .retryOnIoError(retryOnIoError)
+                .build();
+        assertEquals("Max attempts should match", maxAttempts, builtPolicy.getMaxAttempts());
+        assertEquals("Initial backoff should match", initialBackoffMillis, builtPolicy.getInitialBackoffMillis());
+        assertEquals("Max backoff should match", maxBackoffMillis, builtPolicy.getMaxBackoffMillis());
+        assertEquals("Multiplier should match", multiplier, builtPolicy.getMultiplier(), 0);
+        assertEquals("Jitter should match", jitter, builtPolicy.getJitter(), 0);
+        assertFalse("Honor Retry-After should match", builtPolicy.isHonorRetryAfter());
+        assertEquals("Max Retry-After should match", maxRetryAfterMillis, builtPolicy.getMaxRetryAfterMillis());
+        assertFalse("Retry on server error should match", builtPolicy.isRetryOnServerError());
+        assertFalse("Retry on I/O error should match", builtPolicy.isRetryOnIoError());
+    }
+    /**
+     * Tests the getters and setters for all fields in the RetryPolicy class.
+     */
+    @Test
+    public void testGettersAndSetters() {
+        retryPolicy.setMaxAttempts(maxAttempts);
+        retryPolicy.setInitialBackoffMillis(initialBackoffMillis);
+        retryPolicy.setMaxBackoffMillis(maxBackoffMillis);
+        retryPolicy.setMultiplier(multiplier);
+        retryPolicy.setJitter(jitter);
+        retryPolicy.setHonorRetryAfter(honorRetryAfter);
+        retryPolicy.setMaxRetryAfterMillis(maxRetryAfterMillis);
+        retryPolicy.setRetryOnServerError(retryOnServerError);
+        retryPolicy.setRetryOnIoError(retryOnIoError);
+        assertEquals(maxAttempts, retryPolicy.getMaxAttempts());
+        assertEquals(initialBackoffMillis, retryPolicy.getInitialBackoffMillis());
+        assertEquals(maxBackoffMillis, retryPolicy.getMaxBackoffMillis());
+        assertEquals(multiplier, retryPolicy.getMultiplier(), 0);
+        assertEquals(jitter, retryPolicy.getJitter(), 0);
+        assertFalse(retryPolicy.isHonorRetryAfter());
+        assertEquals(maxRetryAfterMillis, retryPolicy.getMaxRetryAfterMillis());
+        assertFalse(retryPolicy.isRetryOnServerError());
+        assertFalse(retryPolicy.isRetryOnIoError());
+    }
+}
@@ -0,0 +1,99 @@
+package inter.sdk.commons.models;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+/**
+ * Test class for {@link ShardPolicy}.
+ * This class contains unit tests to verify the functionality of the ShardPolicy class.
+ * It tests all aspects of the ShardPolicy class, including:
+ * <ul>
+ *     <li>Constructors (No-args and All-args)</li>
+ *     <li>Builder pattern and default values</li>
+ *     <li>Getters and Setters for all fields</li>
+ * </ul>
+ *
+ * @see ShardPolicy
+ * @since 1.0
+ */
+public class ShardPolicyTest {
+    private int initialWindowDays;
+    private int maxPagesPerWindow;
+    private int concurrency;
+    private ShardPolicy shardPolicy;
+    /**
+     * Sets up the test environment before each test method.
+     * Initializes a new ShardPolicy object for use in tests.
+     */
+    @Before
+    public void setUp() {
+        initialWindowDays = 7;
+        maxPagesPerWindow = 5;
+        concurrency = 8;
+        shardPolicy = new ShardPolicy();
+    }
+    /**
+     * Tests the no-args constructor of the ShardPolicy class.
+     * <p>
+     * This test ensures that:
+     * <ul>
+     *     <li>A ShardPolicy object can be created without any arguments</li>
+     *     <li>The created object is not null</li>
+     * </ul>
+     */
+    @Test
+    public void testNoArgsConstructor() {
+        assertNotNull("ShardPolicy object should not be null", shardPolicy);
+    }
+    /**
+     * Tests the all-args constructor of the ShardPolicy class.
+     * <p>
+     * This test verifies that all fields are correctly initialized with the provided values.
+     */
+    @Test
+    public void testAllArgsConstructor() {
+        ShardPolicy testPolicy = new ShardPolicy(initialWindowDays, maxPagesPerWindow, concurrency);
+        assertEquals(initialWindowDays, testPolicy.getInitialWindowDays());
+        assertEquals(maxPagesPerWindow, testPolicy.getMaxPagesPerWindow());
+        assertEquals(concurrency, testPolicy.getConcurrency());
+    }
+    /**
+     * Tests the builder pattern of the ShardPolicy class.
+     * <p>
+     * This test ensures that:
+     * <ul>
+     *     <li>Fields not set on the builder keep their default values</li>
+     *     <li>All fields are correctly set when using the builder</li>
+     * </ul>
+     */
+    @Test
+    public void testShardPolicyBuilder() {
+        ShardPolicy defaultPolicy = ShardPolicy.builder().build();
+        assertEquals("Default initial window should match", 1, defaultPolicy.getInitialWindowDays());
+        assertEquals("Default max pages per window should match", 10, defaultPolicy.getMaxPagesPerWindow());
+        assertEquals("Default concurrency should match", 4, defaultPolicy.getConcurrency());
+
+        ShardPolicy builtPolicy = ShardPolicy.builder()
+                .initialWindowDays(initialWindowDays)
+                .maxPagesPerWindow(maxPagesPerWindow)
+                .concurrency(concurrency)
+                .build();
+        assertEquals("Initial window should match", initialWindowDays, builtPolicy.getInitialWindowDays());
+        assertEquals("Max pages per window should match", maxPagesPerWindow, builtPolicy.getMaxPagesPerWindow());
+        assertEquals("Concurrency should match", concurrency, builtPolicy.getConcurrency());
+    }
+    /**
+     * Tests the getters and setters for all fields in the ShardPolicy class.
+     */
+    @Test
+    public void testGettersAndSetters() {
+        shardPolicy.setInitialWindowDays(initialWindowDays);
+        shardPolicy.setMaxPagesPerWindow(maxPagesPerWindow);
+        shardPolicy.setConcurrency(concurrency);
+        assertEquals(initialWindowDays, shardPolicy.getInitialWindowDays());
+        assertEquals(maxPagesPerWindow, shardPolicy.getMaxPagesPerWindow());
+        assertEquals(concurrency, shardPolicy.getConcurrency());
+    }
+}
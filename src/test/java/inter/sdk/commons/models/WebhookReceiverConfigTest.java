@@ -0,0 +1,246 @@
+package inter.sdk.commons.models;
+
+import inter.sdk.banking.models.Payload;
+import inter.sdk.billing.models.BillingPayload;
+import inter.sdk.pix.models.ItemPayload;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+/**
+ * Test class for {@link WebhookReceiverConfig}.
+ * This class contains unit tests to verify the functionality of the WebhookReceiverConfig class.
+ * It tests all aspects of the WebhookReceiverConfig class, including:
+ * <ul>
+ *     <li>Constructors (No-args and All-args)</li>
+ *     <li>Builder pattern and default values</li>
+ *     <li>Getters and Setters for all fields</li>
+ * </ul>
+ *
+ * @see WebhookReceiverConfig
+ * @since 1.0
+ */
+public class WebhookReceiverConfigTest {
+    private String host;
+    private int port;
+    private String certificate;
+    private String password;
+    private String trustedCertificates;
+    private List<String> allowedClientNames;
+    private int sessionCacheSize;
+    private int sessionTimeoutSeconds;
+    private String pixPath;
+    private String bankingPath;
+    private String billingPath;
+    private int ioThreads;
+    private int listenerThreads;
+    private int queueCapacity;
+    private int maxBodyBytes;
+    private int backlog;
+    private boolean acknowledgeAfterProcessing;
+    private CallbackListener<ItemPayload> pixListener;
+    private CallbackListener<Payload> bankingListener;
+    private CallbackListener<BillingPayload> billingListener;
+    private WebhookReceiverConfig webhookReceiverConfig;
+    /**
+     * Sets up the test environment before each test method.
+     * Initializes a new WebhookReceiverConfig object for use in tests.
+     */
+    @Before
+    public void setUp() {
+        host = "127.0.0.1";
+        port = 9443;
+        certificate = "certs/server.p12";
+        password = "secret";
+        trustedCertificates = "certs/inter-ca.crt";
+        allowedClientNames = Collections.singletonList("webhook.inter.co");
+        sessionCacheSize = 100;
+        sessionTimeoutSeconds = 3600;
+        pixPath = "/webhooks/pix";
+        bankingPath = "/webhooks/banking";
+        billingPath = "/webhooks/billing";
+        ioThreads = 2;
+        listenerThreads = 8;
+        queueCapacity = 500;
+        maxBodyBytes = 65536;
+        backlog = 128;
+        acknowledgeAfterProcessing = true;
+        pixListener = callback -> {
+        };
+        bankingListener = callback -> {
+        };
+        billingListener = callback -> {
+        };
+        webhookReceiverConfig = new WebhookReceiverConfig();
+    }
+    /**
+     * Tests the no-args constructor of the WebhookReceiverConfig class.
+     * <p>
+     * This test ensures that:
+     * <ul>
+     *     <li>A WebhookReceiverConfig object can be created without any arguments</li>
+     *     <li>The created object is not null</li>
+     * </ul>
+     */
+    @Test
+    public void testNoArgsConstructor() {
+        assertNotNull("WebhookReceiverConfig object should not be null", webhookReceiverConfig);
+    }
+    /**
+     * Tests the all-args constructor of the WebhookReceiverConfig class.
+     * <p>
+     * This test verifies that all fields are correctly initialized with the provided values.
+     */
+    @Test
+    public void testAllArgsConstructor() {
+        WebhookReceiverConfig testConfig = new WebhookReceiverConfig(host, port, certificate, password, trustedCertificates,
+                allowedClientNames, sessionCacheSize, sessionTimeoutSeconds, pixPath, bankingPath, billingPath, ioThreads,
+                listenerThreads, queueCapacity, maxBodyBytes, backlog, acknowledgeAfterProcessing, pixListener, bankingListener, billingListener);
+        assertEquals(host, testConfig.getHost());
+        assertEquals(port, testConfig.getPort());
+        assertEquals(certificate, testConfig.getCertificate());
+        assertEquals(password, testConfig.getPassword());
+        assertEquals(trustedCertificates, testConfig.getTrustedCertificates());
+        assertEquals(allowedClientNames, testConfig.getAllowedClientNames());
+        assertEquals(sessionCacheSize, testConfig.getSessionCacheSize());
+        assertEquals(sessionTimeoutSeconds, testConfig.getSessionTimeoutSeconds());
+        assertEquals(pixPath, testConfig.getPixPath());
+        assertEquals(bankingPath, testConfig.getBankingPath());
+        assertEquals(billingPath, testConfig.getBillingPath());
+        assertEquals(ioThreads, testConfig.getIoThreads());
+        assertEquals(listenerThreads, testConfig.getListenerThreads());
+        assertEquals(queueCapacity, testConfig.getQueueCapacity());
+        assertEquals(maxBodyBytes, testConfig.getMaxBodyBytes());
+        assertEquals(backlog, testConfig.getBacklog());
+        assertEquals(acknowledgeAfterProcessing, testConfig.isAcknowledgeAfterProcessing());
+        assertEquals(pixListener, testConfig.getPixListener());
+        assertEquals(bankingListener, testConfig.getBankingListener());
+        assertEquals(billingListener, testConfig.getBillingListener());
+    }
+    /**
+     * Tests the builder pattern of the WebhookReceiverConfig class.
+     * <p>
+     * This test ensures that:
+     * <ul>
+     *     <li>Fields not set on the builder keep their default values</li>
+     *     <li>All fields are correctly set when using the builder</li>
+     * </ul>
+     */
+    @Test
+    public void testWebhookReceiverConfigBuilder() {
+        WebhookReceiverConfig defaultConfig = WebhookReceiverConfig.builder().build();
+        assertNull("Default host should be null", defaultConfig.getHost());
+        assertEquals("Default port should match", 8443, defaultConfig.getPort());
+        assertNull("Default certificate should be null", defaultConfig.getCertificate());
+        assertNull("Default trusted certificates should be null", defaultConfig.getTrustedCertificates());
+        assertNull("Default allowed client names should be null", defaultConfig.getAllowedClientNames());
+        assertEquals("Default session cache size should match", 10000, defaultConfig.getSessionCacheSize());
+        assertEquals("Default session timeout should match", 86400, defaultConfig.getSessionTimeoutSeconds());
+        assertEquals("Default Pix path should match", "/pix", defaultConfig.getPixPath());
+        assertEquals("Default banking path should match", "/banking", defaultConfig.getBankingPath());
+        assertEquals("Default billing path should match", "/billing", defaultConfig.getBillingPath());
+        assertEquals("Default I/O threads should match", 4, defaultConfig.getIoThreads());
+        assertEquals("Default listener threads should match", Runtime.getRuntime().availableProcessors(), defaultConfig.getListenerThreads());
+        assertEquals("Default queue capacity should match", 10000, defaultConfig.getQueueCapacity());
+        assertEquals("Default max body bytes should match", 1048576, defaultConfig.getMaxBodyBytes());
+        assertEquals("Default backlog should match", 1024, defaultConfig.getBacklog());
+        assertFalse("Requests should be acknowledged before processing by default", defaultConfig.isAcknowledgeAfterProcessing());
+        assertNull("Default Pix listener should be null", defaultConfig.getPixListener());
+
+        WebhookReceiverConfig builtConfig = WebhookReceiverConfig.builder()
+                .host(host)
+                .port(port)
+                .certificate(certificate)
+                .password(password)
+                .trustedCertificates(trustedCertificates)
+                .allowedClientNames(allowedClientNames)
+                .sessionCacheSize(sessionCacheSize)
+                .sessionTimeoutSeconds(sessionTimeoutSeconds)
+                .pixPath(pixPath)
+                .bankingPath(bankingPath)
+                .billingPath(billingPath)
+                .ioThreads(ioThreads)
+                .listenerThreads(listenerThreads)
+                .queueCapacity(queueCapacity)
+                .maxBodyBytes(maxBodyBytes)
+                .backlog(backlog)
+                .acknowledgeAfterProcessing(acknowledgeAfterProcessing)
+                .pixListener(pixListener)
+                .bankingListener(bankingListener)
+                .billingListener(billingListener)
+                .build();
+        assertEquals("Host should match", host, builtConfig.getHost());
+        assertEquals("Port should match", port, builtConfig.getPort());
+        assertEquals("Certificate should match", certificate, builtConfig.getCertificate());
+        assertEquals("Password should match", password, builtConfig.getPassword());
+        assertEquals("Trusted certificates should match", trustedCertificates, builtConfig.getTrustedCertificates());
+        assertEquals("Allowed client names should match", allowedClientNames, builtConfig.getAllowedClientNames());
+        assertEquals("Session cache size should match", sessionCacheSize, builtConfig.getSessionCacheSize());
+        assertEquals("Session timeout should match", sessionTimeoutSeconds, builtConfig.getSessionTimeoutSeconds());
+        assertEquals("Pix path should match", pixPath, builtConfig.getPixPath());
+        assertEquals("Banking path should match", bankingPath, builtConfig.getBankingPath());
+        assertEquals("Billing path should match", billingPath, builtConfig.getBillingPath());
+        assertEquals("I/O threads should match", ioThreads, builtConfig.getIoThreads());
+        assertEquals("Listener threads should match", listenerThreads, builtConfig.getListenerThreads());
+        assertEquals("Queue capacity should match", queueCapacity, builtConfig.getQueueCapacity());
+        assertEquals("Max body bytes should match", maxBodyBytes, builtConfig.getMaxBodyBytes());
+        assertEquals("Backlog should match", backlog, builtConfig.getBacklog());
+        assertTrue("Acknowledge after processing should match", builtConfig.isAcknowledgeAfterProcessing());
+        assertEquals("Pix listener should match", pixListener, builtConfig.getPixListener());
+        assertEquals("Banking listener should match", bankingListener, builtConfig.getBankingListener());
+        assertEquals("Billing listener should match", billingListener, builtConfig.getBillingListener());
+    }
+    /**
+     * Tests the getters and setters for all fields in the WebhookReceiverConfig class.
+     */
+    @Test
+    public void testGettersAndSetters() {
+        webhookReceiverConfig.setHost(host);
+        webhookReceiverConfig.setPort(port);
+        webhookReceiverConfig.setCertificate(certificate);
+        webhookReceiverConfig.setPassword(password);
+        webhookReceiverConfig.setTrustedCertificates(trustedCertificates);
+        webhookReceiverConfig.setAllowedClientNames(allowedClientNames);
+        webhookReceiverConfig.setSessionCacheSize(sessionCacheSize);
+        webhookReceiverConfig.setSessionTimeoutSeconds(sessionTimeoutSeconds);
+        webhookReceiverConfig.setPixPath(pixPath);
+        webhookReceiverConfig.setBankingPath(bankingPath);
+        webhookReceiverConfig.setBillingPath(billingPath);
+        webhookReceiverConfig.setIoThreads(ioThreads);
+        webhookReceiverConfig.setListenerThreads(listenerThreads);
+        webhookReceiverConfig.setQueueCapacity(queueCapacity);
+        webhookReceiverConfig.setMaxBodyBytes(maxBodyBytes);
+        webhookReceiverConfig.setBacklog(backlog);
+        webhookReceiverConfig.setAcknowledgeAfterProcessing(acknowledgeAfterProcessing);
+        webhookReceiverConfig.setPixListener(pixListener);
+        webhookReceiverConfig.setBankingListener(bankingListener);
+        webhookReceiverConfig.setBillingListener(billingListener);
+        assertEquals(host, webhookReceiverConfig.getHost());
+        assertEquals(port, webhookReceiverConfig.getPort());
+        assertEquals(certificate, webhookReceiverConfig.getCertificate());
+        assertEquals(password, webhookReceiverConfig.getPassword());
+        assertEquals(trustedCertificates, webhookReceiverConfig.getTrustedCertificates());
+        assertEquals(allowedClientNames, webhookReceiverConfig.getAllowedClientNames());
+        assertEquals(sessionCacheSize, webhookReceiverConfig.getSessionCacheSize());
+        assertEquals(sessionTimeoutSeconds, webhookReceiverConfig.getSessionTimeoutSeconds());
+        assertEquals(pixPath, webhookReceiverConfig.getPixPath());
+        assertEquals(bankingPath, webhookReceiverConfig.getBankingPath());
+        assertEquals(billingPath, webhookReceiverConfig.getBillingPath());
+        assertEquals(ioThreads, webhookReceiverConfig.getIoThreads());
+        assertEquals(listenerThreads, webhookReceiverConfig.getListenerThreads());
+        assertEquals(queueCapacity, webhookReceiverConfig.getQueueCapacity());
+        assertEquals(maxBodyBytes, webhookReceiverConfig.getMaxBodyBytes());
+        assertEquals(backlog, webhookReceiverConfig.getBacklog());
+        assertEquals(acknowledgeAfterProcessing, webhookReceiverConfig.isAcknowledgeAfterProcessing());
+        assertEquals(pixListener, webhookReceiverConfig.getPixListener());
+        assertEquals(bankingListener, webhookReceiverConfig.getBankingListener());
+        assertEquals(billingListener, webhookReceiverConfig.getBillingListener());
+    }
+}
@@ -0,0 +1,133 @@
+package inter.sdk.commons.utils;
+
+import inter.sdk.banking.models.BatchProcessing;
+import inter.sdk.banking.models.BilletBatch;
+import inter.sdk.banking.models.DarfPaymentBatch;
+import inter.sdk.banking.payments.BankingPaymentClient;
+import inter.sdk.commons.enums.EnvironmentEnum;
+import inter.sdk.commons.exceptions.SdkException;
+import inter.sdk.commons.models.CacheConfig;
+import inter.sdk.commons.models.Config;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static inter.sdk.commons.structures.Constants.CACHE_PAYMENT_BATCH;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+/**
+ * Test class for {@link CacheUtils}.
+ * This class contains unit tests to verify the read-through cache, including:
+ * <ul>
+ *     <li>Resources requested repeatedly kept when many one-off resources are loaded</li>
+ *     <li>Resources not in a terminal state not cached without a time to live</li>
+ *     <li>Payment batches read back from disk with their payments of each type</li>
+ * </ul>
+ *
+ * @see CacheUtils
+ * @since 1.0
+ */
+public class CacheUtilsTest {
+    private static final String NAMESPACE = "test";
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+    private Config config;
+    private AtomicInteger loads;
+    /**
+     * Sets up the test environment before each test method.
+     * Initializes a configuration, with a client of its own so caches are not shared between tests,
+     * caching up to 1000 resources in memory.
+     */
+    @Before
+    public void setUp() {
+        config = Config.builder()
+                .environment(EnvironmentEnum.SANDBOX)
+                .clientId(UUID.randomUUID().toString())
+                .cache(CacheConfig.builder().maximumSize(1000).build())
+                .build();
+        loads = new AtomicInteger();
+    }
+    /**
+     * Tests that resources requested repeatedly are not evicted by a scan of one-off resources
+     * larger than the cache, as they would be under a plain LRU policy.
+     */
+    @Test
+    public void testFrequentResourcesSurviveScan() throws SdkException {
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 50; i++) {
+                load("hot-" + i, true);
+            }
+        }
+        assertEquals("Frequent resources should be loaded once", 50, loads.get());
+        for (int i = 0; i < 1500; i++) {
+            load("scan-" + i, true);
+        }
+        loads.set(0);
+        for (int i = 0; i < 50; i++) {
+            load("hot-" + i, true);
+        }
+        assertEquals("Frequent resources should still be cached", 0, loads.get());
+    }
+    /**
+     * Tests that resources that can still change are loaded on every request without a time to live.
+     */
+    @Test
+    public void testNonTerminalNotCached() throws SdkException {
+        load("pending", false);
+        load("pending", false);
+        assertEquals(2, loads.get());
+    }
+    /**
+     * Tests that a settled payment batch written to disk is read back with its billet and DARF payments,
+     * without calling the API.
+     */
+    @Test
+    public void testPaymentBatchDiskRoundTrip() throws Exception {
+        String directory = folder.getRoot().getAbsolutePath();
+        config.setCache(CacheConfig.builder().maximumSize(100).directory(directory).build());
+        BilletBatch billet = new BilletBatch();
+        billet.setBarcode("03399853012970000024227020901016278150000015000");
+        billet.setAmountToPay(new BigDecimal("150.00"));
+        billet.setTransactionId("transaction-1");
+        DarfPaymentBatch darf = new DarfPaymentBatch();
+        darf.setRevenueCode("0220");
+        darf.setTransactionId("transaction-2");
+        BatchProcessing batch = new BatchProcessing();
+        batch.setBatchId("batch-1");
+        batch.setStatus("PROCESSADO");
+        batch.setPayments(Arrays.asList(billet, darf));
+        CacheUtils.get(config, CACHE_PAYMENT_BATCH, "batch-1", BatchProcessing.class, value -> true, () -> batch);
+
+        // a cache of another size starts with an empty memory tier over the same directory
+        config.setCache(CacheConfig.builder().maximumSize(101).directory(directory).build());
+        BatchProcessing stored = new BankingPaymentClient().retrieveBatch(config, "batch-1");
+
+        assertEquals("PROCESSADO", stored.getStatus());
+        assertEquals(2, stored.getPayments().size());
+        assertTrue(stored.getPayments().get(0) instanceof BilletBatch);
+        assertEquals("transaction-1", ((BilletBatch) stored.getPayments().get(0)).getTransactionId());
+        assertEquals(0, new BigDecimal("150.00").compareTo(((BilletBatch) stored.getPayments().get(0)).getAmountToPay()));
+        assertTrue(stored.getPayments().get(1) instanceof DarfPaymentBatch);
+        assertEquals("0220", ((DarfPaymentBatch) stored.getPayments().get(1)).getRevenueCode());
+    }
+    /**
+     * Requests a resource of the test namespace, counting the loads.
+     *
+     * @param id       The identifier of the resource.
+     * @param terminal Indicates if the resource no longer changes.
+     * @return The resource.
+     * @throws SdkException If the resource cannot be loaded.
+     */
+    private String load(String id, boolean terminal) throws SdkException {
+        return CacheUtils.get(config, NAMESPACE, id, String.class, value -> terminal, () -> {
+            loads.incrementAndGet();
+            return id;
+        });
+    }
+}
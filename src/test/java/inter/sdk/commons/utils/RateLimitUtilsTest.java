@@ -0,0 +1,96 @@
+package inter.sdk.commons.utils;
+
+import inter.sdk.commons.enums.EnvironmentEnum;
+import inter.sdk.commons.models.Config;
+import inter.sdk.commons.models.RateLimit;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static inter.sdk.commons.structures.Constants.URL_BANKING_PAYMENT_PIX;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+/**
+ * Test class for {@link RateLimitUtils}.
+ * This class contains unit tests to verify the pacing of the calls, including:
+ * <ul>
+ *     <li>Calls of the burst sent at once</li>
+ *     <li>Calls beyond the burst spaced by the interval of the rate</li>
+ *     <li>Calls outside the configured endpoint families not paced</li>
+ *     <li>A new bucket when the rate limit of a family changes</li>
+ * </ul>
+ *
+ * @see RateLimitUtils
+ * @since 1.0
+ */
+public class RateLimitUtilsTest {
+    private static final long INTERVAL_MILLIS = 100;
+    private static final long TOLERANCE_MILLIS = 20;
+    private Config config;
+    private String url;
+    /**
+     * Sets up the test environment before each test method.
+     * Initializes a configuration, with a client of its own so buckets are not shared between tests,
+     * limiting the Pix payments to 10 calls per second with a burst of 3.
+     */
+    @Before
+    public void setUp() {
+        config = Config.builder()
+                .environment(EnvironmentEnum.SANDBOX)
+                .clientId(UUID.randomUUID().toString())
+                .build();
+        config.setRateLimits(Collections.singletonMap(URL_BANKING_PAYMENT_PIX,
+                RateLimit.builder().permitsPerSecond(1000.0 / INTERVAL_MILLIS).burst(3).build()));
+        url = EnvironmentEnum.SANDBOX.getUrlBase() + URL_BANKING_PAYMENT_PIX + "/123?page=1";
+    }
+    /**
+     * Tests that the calls of the burst are sent at once and the next ones are spaced by the interval.
+     */
+    @Test
+    public void testBurstThenInterval() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals("Call " + i + " of the burst should not wait", 0, RateLimitUtils.reserve(config, url));
+        }
+        assertWait(INTERVAL_MILLIS, RateLimitUtils.reserve(config, url));
+        assertWait(2 * INTERVAL_MILLIS, RateLimitUtils.reserve(config, url));
+    }
+    /**
+     * Tests that calls to other endpoints are not paced.
+     */
+    @Test
+    public void testOtherFamilyNotPaced() {
+        String other = EnvironmentEnum.SANDBOX.getUrlBase() + "/pix/v2/cob";
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, RateLimitUtils.reserve(config, other));
+        }
+        assertEquals("A family prefix should not match a longer segment", 0,
+                RateLimitUtils.reserve(config, EnvironmentEnum.SANDBOX.getUrlBase() + URL_BANKING_PAYMENT_PIX + "x"));
+    }
+    /**
+     * Tests that changing the rate limit of a family starts a new bucket.
+     */
+    @Test
+    public void testRateLimitChange() {
+        for (int i = 0; i < 3; i++) {
+            RateLimitUtils.reserve(config, url);
+        }
+        assertTrue(RateLimitUtils.reserve(config, url) > 0);
+        config.setRateLimits(Collections.singletonMap(URL_BANKING_PAYMENT_PIX,
+                RateLimit.builder().permitsPerSecond(1).burst(5).build()));
+        assertEquals("A new bucket should start full", 0, RateLimitUtils.reserve(config, url));
+    }
+    /**
+     * Checks that a wait is the expected one, within the time elapsed by the test.
+     *
+     * @param expectedMillis The expected wait, in milliseconds.
+     * @param waitNanos      The wait, in nanoseconds.
+     */
+    private static void assertWait(long expectedMillis, long waitNanos) {
+        long waitMillis = TimeUnit.NANOSECONDS.toMillis(waitNanos);
+        assertTrue("Wait should be about " + expectedMillis + " ms: " + waitMillis,
+                waitMillis <= expectedMillis && waitMillis >= expectedMillis - TOLERANCE_MILLIS);
+    }
+}
@@ -0,0 +1,124 @@
+package inter.sdk.commons.utils;
+
+import inter.sdk.commons.models.RetryPolicy;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+/**
+ * Test class for {@link RetryUtils}.
+ * This class contains unit tests to verify the retry decisions and delays, including:
+ * <ul>
+ *     <li>Exponential backoff, capped by the maximum backoff</li>
+ *     <li>Jitter bounds</li>
+ *     <li>Delays requested by the server, as seconds or as epoch seconds, capped by the policy</li>
+ *     <li>Retry decisions by status, method and attempt</li>
+ * </ul>
+ *
+ * @see RetryUtils
+ * @since 1.0
+ */
+public class RetryUtilsTest {
+    private RetryPolicy retryPolicy;
+    /**
+     * Sets up the test environment before each test method.
+     * Initializes a retry policy without jitter, so delays are deterministic.
+     */
+    @Before
+    public void setUp() {
+        retryPolicy = RetryPolicy.builder()
+                .maxAttempts(5)
+                .initialBackoffMillis(1000)
+                .maxBackoffMillis(5000)
+                .multiplier(2)
+                .jitter(0)
+                .build();
+    }
+    /**
+     * Tests that the backoff grows by the multiplier and is capped by the maximum backoff.
+     */
+    @Test
+    public void testExponentialBackoff() {
+        assertEquals(1000, RetryUtils.getDelay(retryPolicy, 1, null));
+        assertEquals(2000, RetryUtils.getDelay(retryPolicy, 2, null));
+        assertEquals(4000, RetryUtils.getDelay(retryPolicy, 3, null));
+        assertEquals("Backoff should be capped", 5000, RetryUtils.getDelay(retryPolicy, 4, null));
+    }
+    /**
+     * Tests that the jitter only shortens the backoff, by at most its fraction.
+     */
+    @Test
+    public void testJitterBounds() {
+        retryPolicy.setJitter(0.5);
+        for (int i = 0; i < 1000; i++) {
+            long delay = RetryUtils.getDelay(retryPolicy, 2, null);
+            assertTrue("Delay should not exceed the backoff: " + delay, delay <= 2000);
+            assertTrue("Delay should not be shortened beyond the jitter: " + delay, delay >= 1000);
+        }
+    }
+    /**
+     * Tests that a Retry-After in seconds replaces the backoff.
+     */
+    @Test
+    public void testRetryAfterSeconds() {
+        assertEquals(7000, RetryUtils.getDelay(retryPolicy, 1, response("Retry-After", "7")));
+    }
+    /**
+     * Tests that an X-RateLimit-Reset epoch second is read as an absolute time, not as a delta.
+     */
+    @Test
+    public void testRateLimitResetEpochSeconds() {
+        long reset = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 10;
+        long delay = RetryUtils.getDelay(retryPolicy, 1, response("X-RateLimit-Reset", String.valueOf(reset)));
+        assertTrue("Delay should be the time until the reset: " + delay, delay > 8000 && delay <= 10000);
+    }
+    /**
+     * Tests that delays requested by the server are capped by the policy.
+     */
+    @Test
+    public void testRetryAfterCapped() {
+        retryPolicy.setMaxRetryAfterMillis(60000);
+        assertEquals(60000, RetryUtils.getDelay(retryPolicy, 1, response("Retry-After", "3600")));
+    }
+    /**
+     * Tests that the delay requested by the server is ignored when the policy does not honor it.
+     */
+    @Test
+    public void testRetryAfterNotHonored() {
+        retryPolicy.setHonorRetryAfter(false);
+        assertEquals(1000, RetryUtils.getDelay(retryPolicy, 1, response("Retry-After", "7")));
+    }
+    /**
+     * Tests the retry decisions by status, method and attempt.
+     */
+    @Test
+    public void testIsRetryable() {
+        assertTrue("Rate limited calls should be retried", RetryUtils.isRetryable(retryPolicy, "POST", 429, 1, true));
+        assertFalse("Rate limited calls should not be retried without rate limit control", RetryUtils.isRetryable(retryPolicy, "GET", 429, 1, false));
+        assertTrue("Server errors of idempotent calls should be retried", RetryUtils.isRetryable(retryPolicy, "GET", 503, 1, true));
+        assertFalse("Server errors of non-idempotent calls should not be retried", RetryUtils.isRetryable(retryPolicy, "POST", 503, 1, true));
+        assertFalse("Client errors should not be retried", RetryUtils.isRetryable(retryPolicy, "GET", 400, 1, true));
+        assertFalse("The last attempt should not be retried", RetryUtils.isRetryable(retryPolicy, "GET", 503, 5, true));
+        assertTrue("I/O errors of idempotent calls should be retried", RetryUtils.isRetryable(retryPolicy, "PUT", 1));
+        assertFalse("I/O errors of non-idempotent calls should not be retried", RetryUtils.isRetryable(retryPolicy, "POST", 1));
+    }
+    /**
+     * Builds a rate limited response with a header.
+     *
+     * @param header The name of the header.
+     * @param value  The value of the header.
+     * @return The response.
+     */
+    private static HttpResponse response(String header, String value) {
+        HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 429, "Too Many Requests");
+        response.addHeader(header, value);
+        return response;
+    }
+}
@@ -0,0 +1,60 @@
+package inter.sdk.commons.webhooks;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+/**
+ * Test class for {@link BloomFilter}.
+ * This class contains unit tests to verify the membership answers of the filter, including:
+ * <ul>
+ *     <li>No false negatives for the added keys</li>
+ *     <li>A false positive rate close to the configured one</li>
+ * </ul>
+ *
+ * @see BloomFilter
+ * @since 1.0
+ */
+public class BloomFilterTest {
+    private static final int EXPECTED_KEYS = 10000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    /**
+     * Tests that every added key is found.
+     */
+    @Test
+    public void testNoFalseNegatives() {
+        BloomFilter filter = new BloomFilter(EXPECTED_KEYS, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < EXPECTED_KEYS; i++) {
+            filter.add("pix:E" + i + ":0");
+        }
+        for (int i = 0; i < EXPECTED_KEYS; i++) {
+            assertTrue("Added key " + i + " should be found", filter.mightContain("pix:E" + i + ":0"));
+        }
+    }
+    /**
+     * Tests that, once the expected keys are added, keys never added are rarely found.
+     */
+    @Test
+    public void testFalsePositiveRate() {
+        BloomFilter filter = new BloomFilter(EXPECTED_KEYS, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < EXPECTED_KEYS; i++) {
+            filter.add("pix:E" + i + ":0");
+        }
+        int falsePositives = 0;
+        int lookups = 100000;
+        for (int i = 0; i < lookups; i++) {
+            if (filter.mightContain("pix:E" + i + ":1")) {
+                falsePositives++;
+            }
+        }
+        double rate = (double) falsePositives / lookups;
+        assertTrue("False positive rate should be close to the configured one: " + rate, rate < 2 * FALSE_POSITIVE_RATE);
+    }
+    /**
+     * Tests that an empty filter finds no key.
+     */
+    @Test
+    public void testEmpty() {
+        assertFalse(new BloomFilter(EXPECTED_KEYS, FALSE_POSITIVE_RATE).mightContain("pix:E1:0"));
+    }
+}
@@ -0,0 +1,136 @@
+package inter.sdk.commons.webhooks;
+
+import inter.sdk.commons.exceptions.SdkException;
+import inter.sdk.commons.models.CallbackListener;
+import inter.sdk.commons.models.DeduplicationPolicy;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+/**
+ * Test class for {@link CallbackDeduplicator}.
+ * This class contains unit tests to verify which callbacks reach the listener, including:
+ * <ul>
+ *     <li>Duplicates skipped once processed</li>
+ *     <li>Callbacks whose listener failed processed again</li>
+ *     <li>Callbacks delivered again while being processed failing, so they are not acknowledged</li>
+ *     <li>Keys beyond the recent keys recognized only with a processed check, until the filters rotate out</li>
+ * </ul>
+ *
+ * @see CallbackDeduplicator
+ * @since 1.0
+ */
+public class CallbackDeduplicatorTest {
+    private static final Function<String, String> KEY = Function.identity();
+    /**
+     * Tests that a callback delivered again once processed is skipped and counted.
+     */
+    @Test
+    public void testDuplicateSkipped() throws Exception {
+        CallbackDeduplicator deduplicator = new CallbackDeduplicator();
+        AtomicInteger calls = new AtomicInteger();
+        CallbackListener<String> listener = deduplicator.deduplicate(KEY, callback -> calls.incrementAndGet());
+        listener.onCallback("pix:E1:0");
+        listener.onCallback("pix:E1:0");
+        listener.onCallback("pix:E2:0");
+        assertEquals(2, calls.get());
+        assertEquals(1, deduplicator.getDuplicateCount());
+    }
+    /**
+     * Tests that a callback whose listener failed is processed again when delivered again.
+     */
+    @Test
+    public void testFailureProcessedAgain() throws Exception {
+        CallbackDeduplicator deduplicator = new CallbackDeduplicator();
+        AtomicInteger calls = new AtomicInteger();
+        CallbackListener<String> listener = deduplicator.deduplicate(KEY, callback -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("ledger unavailable");
+            }
+        });
+        try {
+            listener.onCallback("pix:E1:0");
+            fail("The error of the listener should be thrown");
+        } catch (IllegalStateException e) {
+            assertFalse(deduplicator.isProcessed("pix:E1:0"));
+        }
+        listener.onCallback("pix:E1:0");
+        assertEquals(2, calls.get());
+        assertTrue(deduplicator.isProcessed("pix:E1:0"));
+    }
+    /**
+     * Tests that a callback delivered again while its first delivery is being processed fails instead of
+     * returning as processed, since the first delivery may still fail.
+     */
+    @Test
+    public void testInFlightRedeliveryFails() throws Exception {
+        CallbackDeduplicator deduplicator = new CallbackDeduplicator();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CallbackListener<String> listener = deduplicator.deduplicate(KEY, callback -> {
+            started.countDown();
+            release.await();
+        });
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> {
+            try {
+                listener.onCallback("pix:E1:0");
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        try {
+            listener.onCallback("pix:E1:0");
+            fail("A delivery of a callback being processed should fail");
+        } catch (SdkException e) {
+            assertEquals(0, deduplicator.getDuplicateCount());
+        } finally {
+            release.countDown();
+        }
+        first.get(5, TimeUnit.SECONDS);
+        assertTrue(deduplicator.isProcessed("pix:E1:0"));
+    }
+    /**
+     * Tests that without a processed check only the recent keys are recognized.
+     */
+    @Test
+    public void testRecentKeysWithoutProcessedCheck() {
+        CallbackDeduplicator deduplicator = new CallbackDeduplicator(DeduplicationPolicy.builder().recentKeys(2).build());
+        deduplicator.markProcessed("pix:E1:0");
+        deduplicator.markProcessed("pix:E2:0");
+        deduplicator.markProcessed("pix:E3:0");
+        assertFalse("The oldest key should be forgotten", deduplicator.isProcessed("pix:E1:0"));
+        assertTrue(deduplicator.isProcessed("pix:E2:0"));
+        assertTrue(deduplicator.isProcessed("pix:E3:0"));
+    }
+    /**
+     * Tests that keys beyond the recent keys are recognized through the Bloom filters and the processed
+     * check, and forgotten once both filters holding them rotated out.
+     */
+    @Test
+    public void testFiltersWithProcessedCheck() throws InterruptedException {
+        long windowMillis = 50;
+        CallbackDeduplicator deduplicator = new CallbackDeduplicator(DeduplicationPolicy.builder()
+                .recentKeys(1)
+                .windowMillis(windowMillis)
+                .expectedKeys(1000)
+                .processedCheck(key -> true)
+                .build());
+        deduplicator.markProcessed("pix:E1:0");
+        deduplicator.markProcessed("pix:E2:0");
+        assertTrue("A key in the current filter should be recognized", deduplicator.isProcessed("pix:E1:0"));
+        assertFalse("A key never processed should not be found", deduplicator.isProcessed("pix:E3:0"));
+        Thread.sleep(windowMillis + 20);
+        assertTrue("A key in the previous filter should be recognized", deduplicator.isProcessed("pix:E1:0"));
+        Thread.sleep(windowMillis + 20);
+        assertFalse("A key older than two windows should be forgotten", deduplicator.isProcessed("pix:E1:0"));
+    }
+}
@@ -0,0 +1,184 @@
+package inter.sdk.pix.models;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for {@link DueBillingBatchOutcome}.
+ * This class contains unit tests to verify the functionality of the DueBillingBatchOutcome POJO.
+ * It tests all aspects of the DueBillingBatchOutcome class, including:
+ * <ul>
+ *     <li>Constructors (No-args and All-args)</li>
+ *     <li>Builder pattern</li>
+ *     <li>Getters and Setters for all fields</li>
+ *     <li>Handling of additional fields</li>
+ *     <li>toString() method</li>
+ *     <li>equals() and hashCode() methods</li>
+ * </ul>
+ *
+ * @see DueBillingBatchOutcome
+ * @since 1.0
+ */
+public class DueBillingBatchOutcomeTest {
+
+    String id;
+    String description;
+    Integer billingQuantity;
+    DueBillingBatchSummary summary;
+    List<DueBillingEntity> deniedBillings;
+    String error;
+    Boolean pending;
+
+    Map<String, String> additionalFields;
+
+    private DueBillingBatchOutcome dueBillingBatchOutcome;
+
+    /**
+     * Sets up the test environment before each test method.
+     * Initializes a new DueBillingBatchOutcome object for use in tests.
+     */
+    @Before
+    public void setUp() {
+        id = "cobv2024051";
+        description = "May billings";
+        billingQuantity = 2;
+        summary = DueBillingBatchSummary.builder().totalBilling(2).totalBillingCreated(1).totalBillingDenied(1).build();
+        deniedBillings = Collections.singletonList(DueBillingEntity.builder().txid("txid1").status("NEGADA").build());
+        error = "Timed out";
+        pending = true;
+
+        additionalFields = new HashMap<>();
+        additionalFields.put("customField", "customValue");
+
+        dueBillingBatchOutcome = new DueBillingBatchOutcome();
+    }
+
+    /**
+     * Tests the no-args constructor of the DueBillingBatchOutcome class.
+     */
+    @Test
+    public void testNoArgsConstructor() {
+        assertNotNull("DueBillingBatchOutcome object should not be null", dueBillingBatchOutcome);
+    }
+
+    /**
+     * Tests the all-args constructor of the DueBillingBatchOutcome class.
+     * <p>
+     * This test verifies that all fields are correctly initialized with the provided values
+     * and that the additionalFields map is correctly set and can be retrieved.
+     */
+    @Test
+    public void testAllArgsConstructor() {
+        DueBillingBatchOutcome model = new DueBillingBatchOutcome(id, description, billingQuantity, summary, deniedBillings, error, pending);
+        model.setAdditionalFields(additionalFields);
+
+        assertEquals(id, model.getId());
+        assertEquals(description, model.getDescription());
+        assertEquals(billingQuantity, model.getBillingQuantity());
+        assertEquals(summary, model.getSummary());
+        assertEquals(deniedBillings, model.getDeniedBillings());
+        assertEquals(error, model.getError());
+        assertEquals(pending, model.getPending());
+        assertEquals(additionalFields, model.getAdditionalFields());
+    }
+
+    /**
+     * Tests the builder pattern of the DueBillingBatchOutcome class.
+     */
+    @Test
+    public void testDueBillingBatchOutcomeBuilder() {
+        DueBillingBatchOutcome builtModel = DueBillingBatchOutcome.builder()
+                .id(id)
+                .description(description)
+                .billingQuantity(billingQuantity)
+                .summary(summary)
+                .deniedBillings(deniedBillings)
+                .error(error)
+                .pending(pending)
+                .additionalFields(additionalFields)
+                .build();
+
+        assertEquals("ID should match", id, builtModel.getId());
+        assertEquals("Description should match", description, builtModel.getDescription());
+        assertEquals("Billing quantity should match", billingQuantity, builtModel.getBillingQuantity());
+        assertEquals("Summary should match", summary, builtModel.getSummary());
+        assertEquals("Denied billings should match", deniedBillings, builtModel.getDeniedBillings());
+        assertEquals("Error should match", error, builtModel.getError());
+        assertEquals("Pending should match", pending, builtModel.getPending());
+        assertEquals("Additional fields should match", additionalFields, builtModel.getAdditionalFields());
+    }
+
+    /**
+     * Tests the setters and getters for all fields in the DueBillingBatchOutcome class.
+     */
+    @Test
+    public void testGettersAndSetters() {
+        dueBillingBatchOutcome.setId(id);
+        dueBillingBatchOutcome.setDescription(description);
+        dueBillingBatchOutcome.setBillingQuantity(billingQuantity);
+        dueBillingBatchOutcome.setSummary(summary);
+        dueBillingBatchOutcome.setDeniedBillings(deniedBillings);
+        dueBillingBatchOutcome.setError(error);
+        dueBillingBatchOutcome.setPending(pending);
+
+        assertEquals("ID should match", id, dueBillingBatchOutcome.getId());
+        assertEquals("Description should match", description, dueBillingBatchOutcome.getDescription());
+        assertEquals("Billing quantity should match", billingQuantity, dueBillingBatchOutcome.getBillingQuantity());
+        assertEquals("Summary should match", summary, dueBillingBatchOutcome.getSummary());
+        assertEquals("Denied billings should match", deniedBillings, dueBillingBatchOutcome.getDeniedBillings());
+        assertEquals("Error should match", error, dueBillingBatchOutcome.getError());
+        assertEquals("Pending should match", pending, dueBillingBatchOutcome.getPending());
+    }
+
+    /**
+     * Tests the ability to set and retrieve a single additional field.
+     */
+    @Test
+    public void testAdditionalField() {
+        dueBillingBatchOutcome.setAdditionalField("customField", "customValue");
+        Map<String, String> fields = dueBillingBatchOutcome.getAdditionalFields();
+        assertTrue("Additional fields should contain the custom field", fields.containsKey("customField"));
+        assertEquals("Custom field value should match", "customValue", fields.get("customField"));
+    }
+
+    /**
+     * Tests the toString() method of the DueBillingBatchOutcome class.
+     */
+    @Test
+    public void testToString() {
+        DueBillingBatchOutcome model = DueBillingBatchOutcome.builder()
+                .id(id)
+                .billingQuantity(billingQuantity)
+                .build();
+
+        String toStringResult = model.toString();
+
+        assertTrue("toString should contain id", toStringResult.contains("id=cobv2024051"));
+        assertTrue("toString should contain billingQuantity", toStringResult.contains("billingQuantity=2"));
+    }
+
+    /**
+     * Tests the equals() and hashCode() methods of the DueBillingBatchOutcome class.
+     */
+    @Test
+    public void testEqualsAndHashCode() {
+        DueBillingBatchOutcome model1 = new DueBillingBatchOutcome(id, description, billingQuantity, summary, deniedBillings, error, pending);
+        DueBillingBatchOutcome model2 = new DueBillingBatchOutcome(id, description, billingQuantity, summary, deniedBillings, error, pending);
+        DueBillingBatchOutcome model3 = new DueBillingBatchOutcome("cobv2024052", description, 3, summary, deniedBillings, null, null);
+
+        assertEquals("The same object should be equal", model1, model1);
+        assertEquals("Equal objects should be equal", model1, model2);
+        assertEquals("Equal objects should have the same hash code", model1.hashCode(), model2.hashCode());
+        assertNotEquals("Different objects should not be equal", model1, model3);
+    }
+}
@@ -0,0 +1,177 @@
+package inter.sdk.pix.models;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for {@link DueBillingBatchReport}.
+ * This class contains unit tests to verify the functionality of the DueBillingBatchReport POJO.
+ * It tests all aspects of the DueBillingBatchReport class, including:
+ * <ul>
+ *     <li>Constructors (No-args and All-args)</li>
+ *     <li>Builder pattern</li>
+ *     <li>Getters and Setters for all fields</li>
+ *     <li>Handling of additional fields</li>
+ *     <li>toString() method</li>
+ *     <li>equals() and hashCode() methods</li>
+ * </ul>
+ *
+ * @see DueBillingBatchReport
+ * @since 1.0
+ */
+public class DueBillingBatchReportTest {
+
+    List<DueBillingBatchOutcome> outcomes;
+    Integer billingQuantity;
+    Integer createdQuantity;
+    Integer deniedQuantity;
+    Integer errorQuantity;
+    Integer pendingQuantity;
+
+    Map<String, String> additionalFields;
+
+    private DueBillingBatchReport dueBillingBatchReport;
+
+    /**
+     * Sets up the test environment before each test method.
+     * Initializes a new DueBillingBatchReport object for use in tests.
+     */
+    @Before
+    public void setUp() {
+        outcomes = Collections.singletonList(DueBillingBatchOutcome.builder().id("cobv2024051").billingQuantity(2).build());
+        billingQuantity = 2;
+        createdQuantity = 1;
+        deniedQuantity = 1;
+        errorQuantity = 0;
+        pendingQuantity = 0;
+
+        additionalFields = new HashMap<>();
+        additionalFields.put("customField", "customValue");
+
+        dueBillingBatchReport = new DueBillingBatchReport();
+    }
+
+    /**
+     * Tests the no-args constructor of the DueBillingBatchReport class.
+     */
+    @Test
+    public void testNoArgsConstructor() {
+        assertNotNull("DueBillingBatchReport object should not be null", dueBillingBatchReport);
+    }
+
+    /**
+     * Tests the all-args constructor of the DueBillingBatchReport class.
+     * <p>
+     * This test verifies that all fields are correctly initialized with the provided values
+     * and that the additionalFields map is correctly set and can be retrieved.
+     */
+    @Test
+    public void testAllArgsConstructor() {
+        DueBillingBatchReport model = new DueBillingBatchReport(outcomes, billingQuantity, createdQuantity, deniedQuantity, errorQuantity, pendingQuantity);
+        model.setAdditionalFields(additionalFields);
+
+        assertEquals(outcomes, model.getOutcomes());
+        assertEquals(billingQuantity, model.getBillingQuantity());
+        assertEquals(createdQuantity, model.getCreatedQuantity());
+        assertEquals(deniedQuantity, model.getDeniedQuantity());
+        assertEquals(errorQuantity, model.getErrorQuantity());
+        assertEquals(pendingQuantity, model.getPendingQuantity());
+        assertEquals(additionalFields, model.getAdditionalFields());
+    }
+
+    /**
+     * Tests the builder pattern of the DueBillingBatchReport class.
+     */
+    @Test
+    public void testDueBillingBatchReportBuilder() {
+        DueBillingBatchReport builtModel = DueBillingBatchReport.builder()
+                .outcomes(outcomes)
+                .billingQuantity(billingQuantity)
+                .createdQuantity(createdQuantity)
+                .deniedQuantity(deniedQuantity)
+                .errorQuantity(errorQuantity)
+                .pendingQuantity(pendingQuantity)
+                .additionalFields(additionalFields)
+                .build();
+
+        assertEquals("Outcomes should match", outcomes, builtModel.getOutcomes());
+        assertEquals("Billing quantity should match", billingQuantity, builtModel.getBillingQuantity());
+        assertEquals("Created quantity should match", createdQuantity, builtModel.getCreatedQuantity());
+        assertEquals("Denied quantity should match", deniedQuantity, builtModel.getDeniedQuantity());
+        assertEquals("Error quantity should match", errorQuantity, builtModel.getErrorQuantity());
+        assertEquals("Pending quantity should match", pendingQuantity, builtModel.getPendingQuantity());
+        assertEquals("Additional fields should match", additionalFields, builtModel.getAdditionalFields());
+    }
+
+    /**
+     * Tests the setters and getters for all fields in the DueBillingBatchReport class.
+     */
+    @Test
+    public void testGettersAndSetters() {
+        dueBillingBatchReport.setOutcomes(outcomes);
+        dueBillingBatchReport.setBillingQuantity(billingQuantity);
+        dueBillingBatchReport.setCreatedQuantity(createdQuantity);
+        dueBillingBatchReport.setDeniedQuantity(deniedQuantity);
+        dueBillingBatchReport.setErrorQuantity(errorQuantity);
+        dueBillingBatchReport.setPendingQuantity(pendingQuantity);
+
+        assertEquals("Outcomes should match", outcomes, dueBillingBatchReport.getOutcomes());
+        assertEquals("Billing quantity should match", billingQuantity, dueBillingBatchReport.getBillingQuantity());
+        assertEquals("Created quantity should match", createdQuantity, dueBillingBatchReport.getCreatedQuantity());
+        assertEquals("Denied quantity should match", deniedQuantity, dueBillingBatchReport.getDeniedQuantity());
+        assertEquals("Error quantity should match", errorQuantity, dueBillingBatchReport.getErrorQuantity());
+        assertEquals("Pending quantity should match", pendingQuantity, dueBillingBatchReport.getPendingQuantity());
+    }
+
+    /**
+     * Tests the ability to set and retrieve a single additional field.
+     */
+    @Test
+    public void testAdditionalField() {
+        dueBillingBatchReport.setAdditionalField("customField", "customValue");
+        Map<String, String> fields = dueBillingBatchReport.getAdditionalFields();
+        assertTrue("Additional fields should contain the custom field", fields.containsKey("customField"));
+        assertEquals("Custom field value should match", "customValue", fields.get("customField"));
+    }
+
+    /**
+     * Tests the toString() method of the DueBillingBatchReport class.
+     */
+    @Test
+    public void testToString() {
+        DueBillingBatchReport model = DueBillingBatchReport.builder()
+                .billingQuantity(billingQuantity)
+                .deniedQuantity(deniedQuantity)
+                .build();
+
+        String toStringResult = model.toString();
+
+        assertTrue("toString should contain billingQuantity", toStringResult.contains("billingQuantity=2"));
+        assertTrue("toString should contain deniedQuantity", toStringResult.contains("deniedQuantity=1"));
+    }
+
+    /**
+     * Tests the equals() and hashCode() methods of the DueBillingBatchReport class.
+     */
+    @Test
+    public void testEqualsAndHashCode() {
+        DueBillingBatchReport model1 = new DueBillingBatchReport(outcomes, billingQuantity, createdQuantity, deniedQuantity, errorQuantity, pendingQuantity);
+        DueBillingBatchReport model2 = new DueBillingBatchReport(outcomes, billingQuantity, createdQuantity, deniedQuantity, errorQuantity, pendingQuantity);
+        DueBillingBatchReport model3 = new DueBillingBatchReport(outcomes, 3, 3, 0, 0, 0);
+
+        assertEquals("The same object should be equal", model1, model1);
+        assertEquals("Equal objects should be equal", model1, model2);
+        assertEquals("Equal objects should have the same hash code", model1.hashCode(), model2.hashCode());
+        assertNotEquals("Different objects should not be equal", model1, model3);
+    }
+}